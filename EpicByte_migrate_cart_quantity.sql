@@ -0,0 +1,26 @@
+# Moves an existing database from one "cart_item" row per unit in the cart to one row per (user, product) with a
+# quantity column. Duplicate rows are merged into one row holding their count, so the unique constraint can be added.
+# Run it once, with the application stopped, before starting the version that uses the quantity column.
+
+# ADD THE QUANTITY COLUMN, EVERY EXISTING ROW IS ONE UNIT
+ALTER TABLE cart_item ADD COLUMN quantity INT NOT NULL DEFAULT 1;
+
+# MERGE THE ROWS OF EACH (USER, PRODUCT) INTO ONE, KEEPING THE SMALLEST ID
+CREATE TEMPORARY TABLE cart_item_merged AS
+SELECT MIN(id) AS id, user_id, product_id, SUM(quantity) AS quantity
+FROM cart_item
+GROUP BY user_id, product_id;
+
+START TRANSACTION;
+
+DELETE FROM cart_item;
+
+INSERT INTO cart_item (id, user_id, product_id, quantity)
+SELECT id, user_id, product_id, quantity FROM cart_item_merged;
+
+COMMIT;
+
+DROP TEMPORARY TABLE cart_item_merged;
+
+# ONLY ONE ROW PER (USER, PRODUCT) FROM NOW ON
+ALTER TABLE cart_item ADD CONSTRAINT uk_cart_item_user_product UNIQUE (user_id, product_id);
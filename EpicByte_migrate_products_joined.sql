@@ -0,0 +1,48 @@
+# Moves an existing database from the old TABLE_PER_CLASS product layout (every products_* table holding all
+# product columns) to the JOINED layout (shared "products" table + type-specific detail tables).
+# Run it once, with the application stopped, before starting the version that uses the JOINED mapping.
+
+CREATE TABLE IF NOT EXISTS products (
+    id BINARY(16) NOT NULL,
+    product_discriminator VARCHAR(31) NOT NULL,
+    date_created DATE,
+    is_new_product BIT NOT NULL,
+    product_type VARCHAR(255),
+    product_image_url VARCHAR(255),
+    product_name VARCHAR(255),
+    product_price DECIMAL(38, 2),
+    description LONGTEXT,
+    PRIMARY KEY (id)
+);
+
+# COPY THE SHARED COLUMNS
+INSERT INTO products (id, product_discriminator, date_created, is_new_product, product_type, product_image_url, product_name, product_price, description)
+SELECT id, 'Book', date_created, is_new_product, product_type, product_image_url, product_name, product_price, description FROM products_books;
+
+INSERT INTO products (id, product_discriminator, date_created, is_new_product, product_type, product_image_url, product_name, product_price, description)
+SELECT id, 'Textbook', date_created, is_new_product, product_type, product_image_url, product_name, product_price, description FROM products_textbooks;
+
+INSERT INTO products (id, product_discriminator, date_created, is_new_product, product_type, product_image_url, product_name, product_price, description)
+SELECT id, 'Music', date_created, is_new_product, product_type, product_image_url, product_name, product_price, description FROM products_music;
+
+INSERT INTO products (id, product_discriminator, date_created, is_new_product, product_type, product_image_url, product_name, product_price, description)
+SELECT id, 'Movie', date_created, is_new_product, product_type, product_image_url, product_name, product_price, description FROM products_movies;
+
+INSERT INTO products (id, product_discriminator, date_created, is_new_product, product_type, product_image_url, product_name, product_price, description)
+SELECT id, 'Toy', date_created, is_new_product, product_type, product_image_url, product_name, product_price, description FROM products_toys;
+
+# DROP THE SHARED COLUMNS FROM THE DETAIL TABLES
+ALTER TABLE products_books DROP COLUMN date_created, DROP COLUMN is_new_product, DROP COLUMN product_type,
+    DROP COLUMN product_image_url, DROP COLUMN product_name, DROP COLUMN product_price, DROP COLUMN description;
+
+ALTER TABLE products_textbooks DROP COLUMN date_created, DROP COLUMN is_new_product, DROP COLUMN product_type,
+    DROP COLUMN product_image_url, DROP COLUMN product_name, DROP COLUMN product_price, DROP COLUMN description;
+
+ALTER TABLE products_music DROP COLUMN date_created, DROP COLUMN is_new_product, DROP COLUMN product_type,
+    DROP COLUMN product_image_url, DROP COLUMN product_name, DROP COLUMN product_price, DROP COLUMN description;
+
+ALTER TABLE products_movies DROP COLUMN date_created, DROP COLUMN is_new_product, DROP COLUMN product_type,
+    DROP COLUMN product_image_url, DROP COLUMN product_name, DROP COLUMN product_price, DROP COLUMN description;
+
+ALTER TABLE products_toys DROP COLUMN date_created, DROP COLUMN is_new_product, DROP COLUMN product_type,
+    DROP COLUMN product_image_url, DROP COLUMN product_name, DROP COLUMN product_price, DROP COLUMN description;
@@ -1,126 +1,245 @@
 # INSERT BOOKS
-INSERT INTO products_books (id, date_created, is_new_product, description, product_image_url, product_name, product_price, product_type, author_name, dimensions, language, print_length, publication_date, publisher)
-VALUES ('cf1e8821-1726-4092-a510-f0edbd480f7e', '2024-06-11', 1, 'Set in 19th-century Russia, The Brothers Karamazov is a passionate philosophical novel that discusses questions of God, free will, and morality.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718627992/81Q2_mMrj0L._SL1500__d1gxzh.jpg', 'The Brothers Karamazov', 12.00, 'BOOK', 'Fyodor Dostoevsky', '20 x 15 x 3', 'English', 1261, '2024-01-24', 'Vintage Dostoevsky'),
-('74480e7e-d420-40c7-b26b-0abd8d3e73f1', '2024-06-11', 1, 'One of the most cherished stories of all time, To Kill a Mockingbird has been translated into more than forty languages, sold more than forty million copies worldwide, served as the basis for an enormously popular motion picture, and was voted one of the best novels of the twentieth century by librarians across the country. A gripping, heart-wrenching, and wholly remarkable tale of coming-of-age in a South poisoned by virulent prejudice, it views a world of great beauty and savage inequities through the eyes of a young girl, as her father—a crusading local lawyer—risks everything to defend a black man unjustly accused of a terrible crime.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628044/81aY1lxk_9L._SL1500__qd66xw.jpg', 'To Kill a Mockingbird', 10.00, 'BOOK', 'Harper Lee', '7.9 x 5.3 x 0.9', 'English', 336, '2002-03-01', 'Harper Perennial Modern Classics'),
-('8a331e43-f858-43db-a6ff-48358911ad5d', '2024-06-11', 1, 'At the dawn of the next world war, a plane crashes on an uncharted island, stranding a group of schoolboys. At first, with no adult supervision, their freedom is something to celebrate. This far from civilization they can do anything they want. Anything. But as order collapses, as strange howls echo in the night, as terror begins its reign, the hope of adventure seems as far removed from reality as the hope of being rescued.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628088/81WUAoL-wFL._SL1500__hnem9y.jpg', 'Lord of the Flies', 6.60, 'BOOK', 'William Golding', '4.31 x 0.59 x 7.5', 'English', 224, '2003-12-16', 'Penguin Books'),
-('d9081d0a-a786-4c9c-9145-3eaa0c165769', '2024-06-11', 1, 'A farm is taken over by its overworked, mistreated animals. With flaming idealism and stirring slogans, they set out to create a paradise of progress, justice, and equality. Thus the stage is set for one of the most telling satiric fables ever penned—a razor-edged fairy tale for grown-ups that records the evolution from revolution against tyranny to a totalitarianism just as terrible.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628129/71je3-DsQEL._SL1500__kfgz81.jpg', 'Animal Farm', 10.00, 'BOOK', 'George Orwell', '4.25 x 0.52 x 7.56', 'English', 140, '2004-04-06', 'Signet'),
-('2fa97b0d-0dea-4648-bea9-c811cf621d8c', '2024-06-11', 1, 'Through circumstances that tend to preclude adult, secondhand description, he leaves his prep school in Pennsylvania and goes underground in New York City for three days. The boy himself is at once too simple and too complex for us to make any final comment about him or his story. Perhaps the safest thing we can say about Holden is that he was born in the world not just strongly attracted to beauty but, almost, hopelessly impaled on it.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628147/71nXPGovoTL._SL1500__m8uv2k.jpg', 'The Catcher in the Rye', 7.60, 'BOOK', 'J. D. Salinger', '5.25 x 0.95 x 10.05', 'English', 288, '2001-01-30', 'Back Bay Books'),
-('c5d50bb0-7950-45a5-8211-73ab4f64a23b', '2024-06-11', 0, 'Here Hemingway recasts, in strikingly contemporary style, the classic theme of courage in the face of defeat, of personal triumph won from loss. Written in 1952, this hugely successful novella confirmed his power and presence in the literary world and played a large part in his winning the 1954 Nobel Prize for Literature.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628164/71RXc0OoEwL._SL1500__kioean.jpg', 'The Old Man and The Sea', 9.60, 'BOOK', 'Ernest Hemingway', '5.25 x 0.3 x 8.0', 'English', 128, '1995-05-05', 'Scribner'),
-('001d566f-5523-40e0-9f35-d411f04ef205', '2024-06-11', 0, 'In Crime and Punishment, when Raskolnikov, an impoverished student living in the St. Petersburg of the tsars, commits an act of murder and theft, he sets into motion a story that is almost unequalled in world literature for its excruciating suspense, its atmospheric vividness, and its depth of characterization and vision. Dostoevsky’s drama of sin, guilt, and redemption transforms the sordid story of an old woman’s murder into the nineteenth century’s profoundest and most compelling philosophical novel.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628260/612KmKeEYEL._SL1500__llvsl0.jpg', 'Crime and Punishment', 10.00, 'BOOK', 'Fyodor Dostoevsky', '5.15 x 1.1 x 7.95', 'English', 565, '1993-03-02', 'Vintage'),
-('654918a9-9b49-4b15-8242-768c8839ca78', '2024-06-11', 0, 'The Little Prince is one of the best-selling and most translated books of all time, universally cherished by children and adults alike, and Richard Howard''s translation of the beloved classic beautifully reflects Saint-Exupéry''s unique and gifted style, bringing the English text as close as possible to the French in language, style, and spirit. In this special edition, the artwork has been restored to match in detail and in color Saint-Exupéry''s original artwork.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628309/71OZY035QKL._SL1500__ghftdb.jpg', 'The Little Prince', 8.99, 'BOOK', 'Antoine de Saint-Exupéry', '8 x 5 x 0.31', 'English', 96, '2000-05-15', 'Clarion Books'),
-('3919de7d-4b9e-4bb8-bdc1-153a953bcd57', '2024-06-11', 0, 'A book that captures the Dirty Old Man of American letters at his fiercest and most vulnerable, on a subject that hits home with all of us. Charles Bukowski was a man of intense emotions, someone an editor once called a “passionate madman.” Alternating between tough and gentle, sensitive and gritty, Bukowski lays bare the myriad facets of love—its selfishness and its narcissism, its randomness, its mystery and its misery, and, ultimately, its true joyfulness, endurance, and redemptive power.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628312/71bqT9pZ5SL._SL1500__ghctgv.jpg', 'Love is a Dog From Hell', 11.82, 'BOOK', 'Charles Bukowski', '5.88 x 0.78 x 8.94', 'English', 312, '2002-05-31', 'Ecco'),
-('82c4dcd2-aebb-45cd-9c6a-678687812daa', '2024-06-11', 0, 'Nothing in the whole of literature compares with The Master and Margarita. One spring afternoon, the Devil, trailing fire and chaos in his wake, weaves himself out of the shadows and into Moscow. Mikhail Bulgakov’s fantastical, funny, and devastating satire of Soviet life combines two distinct yet interwoven parts, one set in contemporary Moscow, the other in ancient Jerusalem, each brimming with historical, imaginary, frightful, and wonderful characters. Written during the darkest days of Stalin’s reign, and finally published in 1966 and 1967, The Master and Margarita became a literary phenomenon, signaling artistic and spiritual freedom for Russians everywhere.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628373/71bZYI9NvpL._SL1200__ayozut.jpg', 'The Master and Margarita', 10.99, 'BOOK', 'Mikhail Bulgakov', '5.65 x 1.15 x 8.34', 'English', 448, '2016-05-03', 'Penguin Classics'),
-('411c4137-b40e-4930-a08b-5b66368d7fe5', '2024-06-11', 0, 'Few have failed to be charmed by the witty and independent spirit of Elizabeth Bennet in Austen’s beloved classic Pride and Prejudice. When Elizabeth Bennet first meets eligible bachelor Fitzwilliam Darcy, she thinks him arrogant and conceited; he is indifferent to her good looks and lively mind. When she later discovers that Darcy has involved himself in the troubled relationship between his friend Bingley and her beloved sister Jane, she is determined to dislike him more than ever. In the sparkling comedy of manners that follows, Jane Austen shows us the folly of judging by first impressions and superbly evokes the friendships, gossip and snobberies of provincial middle-class life. This Penguin Classics edition, based on Austen''s first edition, contains the original Penguin Classics introduction by Tony Tanner and an updated introduction and notes by Viven Jones.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628427/81NLDvyAHrL._SL1500__nnl6vc.jpg', 'Pride and Prejudice', 9.99, 'BOOK', 'Jane Austen', '5.5 x 0.8 x 8.5', 'English', 279, '2020-01-01', 'Penguin Classics'),
-('c90ee62b-696b-4c2c-97d1-ea1721596896', '2024-06-11', 0, 'A masterpiece of storytelling, this epic saga pits Ahab, a brooding and fantastical sea captain, against the great white whale that crippled him. In telling the tale of Ahab''s passion for revenge and the fateful voyage that ensued, Melville produced far more than the narrative of a hair-raising journey; Moby-Dick is a tale for the ages that sounds the deepest depths of the human soul. Interspersed with graphic sketches of life aboard a whaling vessel, and a wealth of information on whales and 19th-century whaling, Melville''s greatest work presents an imaginative and thrilling picture of life at sea, as well as a portrait of heroic determination. The author''s keen powers of observation and firsthand knowledge of shipboard life (he served aboard a whaler himself) were key ingredients in crafting a maritime story that dramatically examines the conflict between man and nature. "A valuable addition to the literature of the day," said American journalist Horace Greeley on the publication of Moby-Dick in 1851 — a classic piece of understatement about a literary classic now considered by many as "the great American novel." Read and pondered by generations, the novel remains an unsurpassed account of the ultimate human struggle against the indifference of nature and the awful power of fate. Much of Moby Dick was inspired by the 1821 work Narratives of the Wreck of the Whale-Ship Essex, which in turn inspired the 2015 movie In the Heart of the Sea, directed by Ron Howard and starring Chris Hemsworth.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628475/71d5wo_-MuL._SL1200__bv2rcv.jpg', 'Moby-Dick', 11.00, 'BOOK', 'Herman Melville', '6.0 x 1.5 x 9.0', 'English', 635, '2018-05-01', 'Harper & Brothers'),
-('f2942192-08a4-4d7c-b1d3-e14b1ba66ef6', '2024-06-11', 0, 'War and Peace centers broadly on Napoleon’s invasion of Russia in 1812 and follows three of the best-known characters in literature: Pierre Bezukhov, the illegitimate son of a count who is fighting for his inheritance and yearning for spiritual fulfillment; Prince Andrei Bolkonsky, who leaves behind his family to fight in the war against Napoleon; and Natasha Rostov, the beautiful young daughter of a nobleman, who intrigues both men. As Napoleon’s army invades, Tolstoy vividly follows characters from diverse backgrounds—peasants and nobility, civilians and soldiers—as they struggle with the problems unique to their era, their history, and their culture. And as the novel progresses, these characters transcend their specificity, becoming some of the most moving—and human—figures in world literature.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628517/71wXZB-VtBL._SL1200__lci70m.jpg', 'War and Peace', 12.50, 'BOOK', 'Leo Tolstoy', '6.2 x 2.0 x 9.2', 'English', 1225, '2015-08-18', 'Vintage Classics'),
-('f8eb47d5-33a6-4d28-8de3-2c9c0b1307d7', '2024-06-11', 0, 'In this unflaggingly suspenseful story of aspirations and moral redemption, humble, orphaned Pip, a ward of his short-tempered older sister and her husband, Joe, is apprenticed to the dirty work of the forge but dares to dream of becoming a gentleman. And, indeed, it seems as though that dream is destined to come to pass — because one day, under sudden and enigmatic circumstances, he finds himself in possession of "great expectations." In telling Pip''s story, Dickens traces a boy''s path from a hardscrabble rural life to the teeming streets of 19th-century London, unfolding a gripping tale of crime and guilt, revenge and reward, and love and loss. Its compelling characters include Magwitch, the fearful and fearsome convict; Estella, whose beauty is excelled only by her haughtiness; and the embittered Miss Havisham, an eccentric jilted bride. Written in the last decade of Dickens'' life, Great Expectations was praised widely and universally admired. It was his last great novel, and many critics believe it to be his finest. Readers and critics alike praised it for its masterful plot, which rises above the melodrama of some of his earlier works, and for its three-dimensional, psychologically realistic characters — characters much deeper and more interesting than the one-note caricatures of earlier novels. "In none of his other works," wrote the reviewer in the 1861 Atlantic, "does he evince a shrewder insight into real life, and a cheaper perception and knowledge of what is called the world." To Swinburne, the novel was unparalleled in all of English fiction, with defects "as nearly imperceptible as spots on the sun or shadows on a sunlit sea." Shaw found it Dickens'' "most completely perfect book." Now this inexpensive edition invites modern readers to savor this timeless masterpiece, teeming with colorful characters, unexpected plot twists, and Dickens'' vivid rendering of the vast tapestry of mid-Victorian England.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628559/81tj5T6nOvL._SL1500__pffnvb.jpg', 'Great Expectations', 10.00, 'BOOK', 'Charles Dickens', '5.2 x 1.0 x 8.0', 'English', 505, '2019-02-05', 'Penguin Classics'),
-('222ea09e-1b67-4650-86dd-44bf8bb43896', '2024-06-11', 0, 'A novel of intense power and intrigue, Jane Eyre has dazzled generations of readers with its depiction of a woman''s quest for freedom. Having grown up an orphan in the home of her cruel aunt and at a harsh charity school, Jane Eyre becomes an independent and spirited survivor-qualities that serve her well as governess at Thornfield Hall. But when she finds love with her sardonic employer, Rochester, the discovery of his terrible secret forces her to make a choice. Should she stay with him whatever the consequences or follow her convictions, even if it means leaving her beloved? This updated Penguin Classics edition features a new introduction by Brontë scholar and award-winning novelist Stevie Davies, as well as comprehensive notes, a chronology, further reading, and an appendix.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628602/81pwJjgcwwL._SL1500__wknlpy.jpg', 'Jane Eyre', 8.99, 'BOOK', 'Charlotte Brontë', '5.1 x 1.3 x 7.8', 'English', 532, '2016-10-06', 'Penguin Classics'),
-('7d40fbb0-5ba3-4ac4-a7ed-1b2d01551b09', '2024-06-11', 0, 'The Great Gatsby is considered F. Scott Fitzgerald’s magnum opus, exploring themes of decadence, idealism, social stigmas, patriarchal norms, and the deleterious effects of unencumbered wealth in capitalistic society, set against the backdrop of the Jazz Age and the Roaring Twenties. At its heart, it’s a cautionary tale, a revealing look into the darker side to the American Dream. When I came back from the East last autumn I felt that I wanted the world to be in uniform and at a sort of moral attention forever; I wanted no more riotous excursions with privileged glimpses into the human heart. Only Gatsby, the man who gives his name to this book, was exempt from my reaction—Gatsby who represented everything for which I have an unaffected scorn. If personality is an unbroken series of successful gestures, then there was something gorgeous about him, some heightened sensitivity to the promises of life, as if he were related to one of those intricate machines that register earthquakes ten thousand miles away. This responsiveness had nothing to do with that flabby impressionability which is dignified under the name of the “creative temperament”—it was an extraordinary gift for hope, a romantic readiness such as I have never found in any other person and which it is not likely I shall ever find again. No—Gatsby turned out all right at the end; it is what preyed on Gatsby, what foul dust floated in the wake of his dreams that temporarily closed out my interest in the abortive sorrows and short-winded elations of men...”', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628654/61dRoDRubtL._SL1500__tpukho.jpg', 'The Great Gatsby', 10.99, 'BOOK', 'F. Scott Fitzgerald', '5.0 x 0.5 x 8.0', 'English', 180, '2018-04-10', 'Scribner'),
-('c75baf24-22b1-44ea-a0c2-c89b015493ab', '2024-06-11', 0, 'Winston Smith toes the Party line, rewriting history to satisfy the demands of the Ministry of Truth. With each lie he writes, Winston grows to hate the Party that seeks power for its own sake and persecutes those who dare to commit thoughtcrimes. But as he starts to think for himself, Winston can’t escape the fact that Big Brother is always watching... A startling and haunting novel, 1984 creates an imaginary world that is completely convincing from start to finish. No one can deny the novel’s hold on the imaginations of whole generations, or the power of its admonitions—a power that seems to grow, not lessen, with the passage of time.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628722/71rpa1-kyvL._SL1500__jr5wvn.jpg', '1984', 9.49, 'BOOK', 'George Orwell', '5.0 x 0.7 x 8.0', 'English', 328, '2017-01-01', 'Signet Classics'),
-('c05163f7-8d1f-4852-a53c-57cd7759c7a7', '2024-06-11', 0, 'Emily Brontë''s only novel endures as a work of tremendous and far-reaching influence. The Penguin Classics edition is the definitive version of the text, edited with an introduction by Pauline Nestor. Lockwood, the new tenant of Thrushcross Grange, situated on the bleak Yorkshire moors, is forced to seek shelter one night at Wuthering Heights, the home of his landlord. There he discovers the history of the tempestuous events that took place years before. What unfolds is the tale of the intense love between the gypsy foundling Heathcliff and Catherine Earnshaw. Catherine, forced to choose between passionate, tortured Heathcliff and gentle, well-bred Edgar Linton, surrendered to the expectations of her class. As Heathcliff''s bitterness and vengeance at his betrayal is visited upon the next generation, their innocent heirs must struggle to escape the legacy of the past. In this edition, a new preface by Lucasta Miller, author of The Brontë Myth, looks at the ways in which the novel has been interpreted, from Charlotte Brontë onwards. This complements Pauline Nestor''s introduction, which discusses changing critical receptions of the novel, as well as Emily Brontë''s influences and background.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629156/81T34Sem-tL._SL1500__fbx6je.jpg', 'Wuthering Heights', 8.49, 'BOOK', 'Emily Brontë', '5.5 x 1.0 x 8.5', 'English', 416, '2016-12-27', 'Penguin Classics'),
-('51dc38f3-fb43-4b14-aa03-fcdd073a3a4b', '2024-06-11', 0, 'Composed at the rosy-fingered dawn of world literature almost three millennia ago, The Odyssey is a poem about violence and the aftermath of war; about wealth, poverty and power; about marriage and family; about travelers, hospitality, and the yearning for home. This fresh, authoritative translation captures the beauty of this ancient poem as well as the drama of its narrative. Its characters are unforgettable, none more so than the “complicated” hero himself, a man of many disguises, many tricks, and many moods, who emerges in this version as a more fully rounded human being than ever before. Written in iambic pentameter verse and a vivid, contemporary idiom, Emily Wilson’s Odyssey sings with a voice that echoes Homer’s music; matching the number of lines in the Greek original, the poem sails along at Homer’s swift, smooth pace. A fascinating, informative introduction explores the Bronze Age milieu that produced the epic, the poem’s major themes, the controversies about its origins, and the unparalleled scope of its impact and influence. Maps drawn especially for this volume, a pronunciation glossary, and extensive notes and summaries of each book make this is an Odyssey that will be treasured by a new generation of readers.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629162/81g0AATkO9L._SL1500__oqqqmx.jpg', 'The Odyssey', 11.49, 'BOOK', 'Homer', '5.2 x 1.0 x 8.0', 'English', 560, '1997-11-01', 'Penguin Classics'),
-('265c4185-0f48-4cf3-9ff1-2633dc3f58f1', '2024-06-11', 0, 'Dating to the ninth century B.C., Homer’s timeless poem still vividly conveys the horror and heroism of men and gods wrestling with towering emotions and battling amidst devastation and destruction, as it moves inexorably to the wrenching, tragic conclusion of the Trojan War. Renowned classicist Bernard Knox observes in his superb introduction that although the violence of the Iliad is grim and relentless, it coexists with both images of civilized life and a poignant yearning for peace.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629219/71FVVdj9w4L._SL1500__u2jo7b.jpg', 'The Iliad', 10.00, 'BOOK', 'Homer', '5.3 x 1.2 x 8.1', 'English', 704, '2003-11-01', 'Penguin Classics'),
-('297b3d06-73c6-4580-8f8a-81dd5875d97b', '2024-06-11', 0, 'Introducing one of the most famous characters in literature, Jean Valjean—the noble peasant imprisoned for stealing a loaf of bread—Les Misérables ranks among the greatest novels of all time. In it, Victor Hugo takes readers deep into the Parisian underworld, immerses them in a battle between good and evil, and carries them to the barricades during the uprising of 1832 with a breathtaking realism that is unsurpassed in modern prose.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629224/81e1NPAQJmL._SL1500__wvz3he.jpg', 'Les Misérables', 14.99, 'BOOK', 'Victor Hugo', '5.5 x 2.0 x 8.5', 'English', 1463, '2015-11-10', 'Penguin Classics'),
-('a1d2fe49-5a80-4040-898a-035ef48b1eb0', '2024-06-11', 0, 'Don Quixote has become so entranced reading tales of chivalry that he decides to turn knight errant himself. In the company of his faithful squire, Sancho Panza, these exploits blossom in all sorts of wonderful ways. While Quixote''s fancy often leads him astray—he tilts at windmills, imagining them to be giants—Sancho acquires cunning and a certain sagacity. Sane madman and wise fool, they roam the world together-and together they have haunted readers'' imaginations for nearly four hundred years.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629280/81kIVgGfc_L._SL1500__gmwdkf.jpg', 'Don Quixote', 13.50, 'BOOK', 'Miguel de Cervantes', '5.5 x 1.8 x 8.5', 'English', 982, '2003-05-01', 'Penguin Classics'),
-('0a3498ab-1ae3-42f8-9729-6ca6e676d7a7', '2024-06-11', 0, 'A new edition of Henry Wadsworth Longfellow''s classic verse translation of Dante Alighieri''s The Divine Comedy, including all three volumes of Dante''s classic trilogy: Inferno, Purgatorio, and Paradiso. The Divine Comedy (or Divina Commedia) is an epic-length narrative poem, written between 1308 and 1320 in the vernacular Tuscan of the era, that is widely considered to be the pre-eminent work in Italian literature and a foundational work of the literary canon. The poem traces the narrator''s journey through the afterlife -- visiting first hell, then purgatory, and then paradise -- and presents an imaginative vision of the afterlife that provides great insight into the medieval Catholic worldview. Longfellow''s verse translation was originally published in 1867 and is considered to be a literary masterpiece in its own right. Dante Alighieri (c.1265 – 1321), was an Italian poet, writer and philosopher, most famous for his Divine Comedy, which is widely considered one of the most important poems of the Middle Ages and the greatest literary work in the Italian language. Dante''s literary output is largely responsible for establishing the use of the vernacular in literature at a time when most poetry was written in Latin, making it more accessible to the larger public and helping establishing the modern-day standardized Italian language. His depictions of Hell, Purgatory, and Heaven in the Divine Comedy were also enduringly influential on the Western literary and artistic imagination, heavily influencing future English-language writers like Geoffrey Chaucer and John Milton, and Italians like Petrarch and Boccaccio.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629321/81-rHfYBAQL._SL1500__u6ts09.jpg', 'The Divine Comedy', 11.00, 'BOOK', 'Dante Alighieri', '5.2 x 1.5 x 8.2', 'English', 798, '2003-05-27', 'Penguin Classics');
+INSERT INTO products (id, product_discriminator, date_created, is_new_product, description, product_image_url, product_name, product_price, product_type)
+VALUES ('cf1e8821-1726-4092-a510-f0edbd480f7e', 'Book', '2024-06-11', 1, 'Set in 19th-century Russia, The Brothers Karamazov is a passionate philosophical novel that discusses questions of God, free will, and morality.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718627992/81Q2_mMrj0L._SL1500__d1gxzh.jpg', 'The Brothers Karamazov', 12.00, 'BOOK'),
+('74480e7e-d420-40c7-b26b-0abd8d3e73f1', 'Book', '2024-06-11', 1, 'One of the most cherished stories of all time, To Kill a Mockingbird has been translated into more than forty languages, sold more than forty million copies worldwide, served as the basis for an enormously popular motion picture, and was voted one of the best novels of the twentieth century by librarians across the country. A gripping, heart-wrenching, and wholly remarkable tale of coming-of-age in a South poisoned by virulent prejudice, it views a world of great beauty and savage inequities through the eyes of a young girl, as her father—a crusading local lawyer—risks everything to defend a black man unjustly accused of a terrible crime.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628044/81aY1lxk_9L._SL1500__qd66xw.jpg', 'To Kill a Mockingbird', 10.00, 'BOOK'),
+('8a331e43-f858-43db-a6ff-48358911ad5d', 'Book', '2024-06-11', 1, 'At the dawn of the next world war, a plane crashes on an uncharted island, stranding a group of schoolboys. At first, with no adult supervision, their freedom is something to celebrate. This far from civilization they can do anything they want. Anything. But as order collapses, as strange howls echo in the night, as terror begins its reign, the hope of adventure seems as far removed from reality as the hope of being rescued.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628088/81WUAoL-wFL._SL1500__hnem9y.jpg', 'Lord of the Flies', 6.60, 'BOOK'),
+('d9081d0a-a786-4c9c-9145-3eaa0c165769', 'Book', '2024-06-11', 1, 'A farm is taken over by its overworked, mistreated animals. With flaming idealism and stirring slogans, they set out to create a paradise of progress, justice, and equality. Thus the stage is set for one of the most telling satiric fables ever penned—a razor-edged fairy tale for grown-ups that records the evolution from revolution against tyranny to a totalitarianism just as terrible.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628129/71je3-DsQEL._SL1500__kfgz81.jpg', 'Animal Farm', 10.00, 'BOOK'),
+('2fa97b0d-0dea-4648-bea9-c811cf621d8c', 'Book', '2024-06-11', 1, 'Through circumstances that tend to preclude adult, secondhand description, he leaves his prep school in Pennsylvania and goes underground in New York City for three days. The boy himself is at once too simple and too complex for us to make any final comment about him or his story. Perhaps the safest thing we can say about Holden is that he was born in the world not just strongly attracted to beauty but, almost, hopelessly impaled on it.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628147/71nXPGovoTL._SL1500__m8uv2k.jpg', 'The Catcher in the Rye', 7.60, 'BOOK'),
+('c5d50bb0-7950-45a5-8211-73ab4f64a23b', 'Book', '2024-06-11', 0, 'Here Hemingway recasts, in strikingly contemporary style, the classic theme of courage in the face of defeat, of personal triumph won from loss. Written in 1952, this hugely successful novella confirmed his power and presence in the literary world and played a large part in his winning the 1954 Nobel Prize for Literature.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628164/71RXc0OoEwL._SL1500__kioean.jpg', 'The Old Man and The Sea', 9.60, 'BOOK'),
+('001d566f-5523-40e0-9f35-d411f04ef205', 'Book', '2024-06-11', 0, 'In Crime and Punishment, when Raskolnikov, an impoverished student living in the St. Petersburg of the tsars, commits an act of murder and theft, he sets into motion a story that is almost unequalled in world literature for its excruciating suspense, its atmospheric vividness, and its depth of characterization and vision. Dostoevsky’s drama of sin, guilt, and redemption transforms the sordid story of an old woman’s murder into the nineteenth century’s profoundest and most compelling philosophical novel.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628260/612KmKeEYEL._SL1500__llvsl0.jpg', 'Crime and Punishment', 10.00, 'BOOK'),
+('654918a9-9b49-4b15-8242-768c8839ca78', 'Book', '2024-06-11', 0, 'The Little Prince is one of the best-selling and most translated books of all time, universally cherished by children and adults alike, and Richard Howard''s translation of the beloved classic beautifully reflects Saint-Exupéry''s unique and gifted style, bringing the English text as close as possible to the French in language, style, and spirit. In this special edition, the artwork has been restored to match in detail and in color Saint-Exupéry''s original artwork.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628309/71OZY035QKL._SL1500__ghftdb.jpg', 'The Little Prince', 8.99, 'BOOK'),
+('3919de7d-4b9e-4bb8-bdc1-153a953bcd57', 'Book', '2024-06-11', 0, 'A book that captures the Dirty Old Man of American letters at his fiercest and most vulnerable, on a subject that hits home with all of us. Charles Bukowski was a man of intense emotions, someone an editor once called a “passionate madman.” Alternating between tough and gentle, sensitive and gritty, Bukowski lays bare the myriad facets of love—its selfishness and its narcissism, its randomness, its mystery and its misery, and, ultimately, its true joyfulness, endurance, and redemptive power.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628312/71bqT9pZ5SL._SL1500__ghctgv.jpg', 'Love is a Dog From Hell', 11.82, 'BOOK'),
+('82c4dcd2-aebb-45cd-9c6a-678687812daa', 'Book', '2024-06-11', 0, 'Nothing in the whole of literature compares with The Master and Margarita. One spring afternoon, the Devil, trailing fire and chaos in his wake, weaves himself out of the shadows and into Moscow. Mikhail Bulgakov’s fantastical, funny, and devastating satire of Soviet life combines two distinct yet interwoven parts, one set in contemporary Moscow, the other in ancient Jerusalem, each brimming with historical, imaginary, frightful, and wonderful characters. Written during the darkest days of Stalin’s reign, and finally published in 1966 and 1967, The Master and Margarita became a literary phenomenon, signaling artistic and spiritual freedom for Russians everywhere.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628373/71bZYI9NvpL._SL1200__ayozut.jpg', 'The Master and Margarita', 10.99, 'BOOK'),
+('411c4137-b40e-4930-a08b-5b66368d7fe5', 'Book', '2024-06-11', 0, 'Few have failed to be charmed by the witty and independent spirit of Elizabeth Bennet in Austen’s beloved classic Pride and Prejudice. When Elizabeth Bennet first meets eligible bachelor Fitzwilliam Darcy, she thinks him arrogant and conceited; he is indifferent to her good looks and lively mind. When she later discovers that Darcy has involved himself in the troubled relationship between his friend Bingley and her beloved sister Jane, she is determined to dislike him more than ever. In the sparkling comedy of manners that follows, Jane Austen shows us the folly of judging by first impressions and superbly evokes the friendships, gossip and snobberies of provincial middle-class life. This Penguin Classics edition, based on Austen''s first edition, contains the original Penguin Classics introduction by Tony Tanner and an updated introduction and notes by Viven Jones.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628427/81NLDvyAHrL._SL1500__nnl6vc.jpg', 'Pride and Prejudice', 9.99, 'BOOK'),
+('c90ee62b-696b-4c2c-97d1-ea1721596896', 'Book', '2024-06-11', 0, 'A masterpiece of storytelling, this epic saga pits Ahab, a brooding and fantastical sea captain, against the great white whale that crippled him. In telling the tale of Ahab''s passion for revenge and the fateful voyage that ensued, Melville produced far more than the narrative of a hair-raising journey; Moby-Dick is a tale for the ages that sounds the deepest depths of the human soul. Interspersed with graphic sketches of life aboard a whaling vessel, and a wealth of information on whales and 19th-century whaling, Melville''s greatest work presents an imaginative and thrilling picture of life at sea, as well as a portrait of heroic determination. The author''s keen powers of observation and firsthand knowledge of shipboard life (he served aboard a whaler himself) were key ingredients in crafting a maritime story that dramatically examines the conflict between man and nature. "A valuable addition to the literature of the day," said American journalist Horace Greeley on the publication of Moby-Dick in 1851 — a classic piece of understatement about a literary classic now considered by many as "the great American novel." Read and pondered by generations, the novel remains an unsurpassed account of the ultimate human struggle against the indifference of nature and the awful power of fate. Much of Moby Dick was inspired by the 1821 work Narratives of the Wreck of the Whale-Ship Essex, which in turn inspired the 2015 movie In the Heart of the Sea, directed by Ron Howard and starring Chris Hemsworth.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628475/71d5wo_-MuL._SL1200__bv2rcv.jpg', 'Moby-Dick', 11.00, 'BOOK'),
+('f2942192-08a4-4d7c-b1d3-e14b1ba66ef6', 'Book', '2024-06-11', 0, 'War and Peace centers broadly on Napoleon’s invasion of Russia in 1812 and follows three of the best-known characters in literature: Pierre Bezukhov, the illegitimate son of a count who is fighting for his inheritance and yearning for spiritual fulfillment; Prince Andrei Bolkonsky, who leaves behind his family to fight in the war against Napoleon; and Natasha Rostov, the beautiful young daughter of a nobleman, who intrigues both men. As Napoleon’s army invades, Tolstoy vividly follows characters from diverse backgrounds—peasants and nobility, civilians and soldiers—as they struggle with the problems unique to their era, their history, and their culture. And as the novel progresses, these characters transcend their specificity, becoming some of the most moving—and human—figures in world literature.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628517/71wXZB-VtBL._SL1200__lci70m.jpg', 'War and Peace', 12.50, 'BOOK'),
+('f8eb47d5-33a6-4d28-8de3-2c9c0b1307d7', 'Book', '2024-06-11', 0, 'In this unflaggingly suspenseful story of aspirations and moral redemption, humble, orphaned Pip, a ward of his short-tempered older sister and her husband, Joe, is apprenticed to the dirty work of the forge but dares to dream of becoming a gentleman. And, indeed, it seems as though that dream is destined to come to pass — because one day, under sudden and enigmatic circumstances, he finds himself in possession of "great expectations." In telling Pip''s story, Dickens traces a boy''s path from a hardscrabble rural life to the teeming streets of 19th-century London, unfolding a gripping tale of crime and guilt, revenge and reward, and love and loss. Its compelling characters include Magwitch, the fearful and fearsome convict; Estella, whose beauty is excelled only by her haughtiness; and the embittered Miss Havisham, an eccentric jilted bride. Written in the last decade of Dickens'' life, Great Expectations was praised widely and universally admired. It was his last great novel, and many critics believe it to be his finest. Readers and critics alike praised it for its masterful plot, which rises above the melodrama of some of his earlier works, and for its three-dimensional, psychologically realistic characters — characters much deeper and more interesting than the one-note caricatures of earlier novels. "In none of his other works," wrote the reviewer in the 1861 Atlantic, "does he evince a shrewder insight into real life, and a cheaper perception and knowledge of what is called the world." To Swinburne, the novel was unparalleled in all of English fiction, with defects "as nearly imperceptible as spots on the sun or shadows on a sunlit sea." Shaw found it Dickens'' "most completely perfect book." Now this inexpensive edition invites modern readers to savor this timeless masterpiece, teeming with colorful characters, unexpected plot twists, and Dickens'' vivid rendering of the vast tapestry of mid-Victorian England.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628559/81tj5T6nOvL._SL1500__pffnvb.jpg', 'Great Expectations', 10.00, 'BOOK'),
+('222ea09e-1b67-4650-86dd-44bf8bb43896', 'Book', '2024-06-11', 0, 'A novel of intense power and intrigue, Jane Eyre has dazzled generations of readers with its depiction of a woman''s quest for freedom. Having grown up an orphan in the home of her cruel aunt and at a harsh charity school, Jane Eyre becomes an independent and spirited survivor-qualities that serve her well as governess at Thornfield Hall. But when she finds love with her sardonic employer, Rochester, the discovery of his terrible secret forces her to make a choice. Should she stay with him whatever the consequences or follow her convictions, even if it means leaving her beloved? This updated Penguin Classics edition features a new introduction by Brontë scholar and award-winning novelist Stevie Davies, as well as comprehensive notes, a chronology, further reading, and an appendix.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628602/81pwJjgcwwL._SL1500__wknlpy.jpg', 'Jane Eyre', 8.99, 'BOOK'),
+('7d40fbb0-5ba3-4ac4-a7ed-1b2d01551b09', 'Book', '2024-06-11', 0, 'The Great Gatsby is considered F. Scott Fitzgerald’s magnum opus, exploring themes of decadence, idealism, social stigmas, patriarchal norms, and the deleterious effects of unencumbered wealth in capitalistic society, set against the backdrop of the Jazz Age and the Roaring Twenties. At its heart, it’s a cautionary tale, a revealing look into the darker side to the American Dream. When I came back from the East last autumn I felt that I wanted the world to be in uniform and at a sort of moral attention forever; I wanted no more riotous excursions with privileged glimpses into the human heart. Only Gatsby, the man who gives his name to this book, was exempt from my reaction—Gatsby who represented everything for which I have an unaffected scorn. If personality is an unbroken series of successful gestures, then there was something gorgeous about him, some heightened sensitivity to the promises of life, as if he were related to one of those intricate machines that register earthquakes ten thousand miles away. This responsiveness had nothing to do with that flabby impressionability which is dignified under the name of the “creative temperament”—it was an extraordinary gift for hope, a romantic readiness such as I have never found in any other person and which it is not likely I shall ever find again. No—Gatsby turned out all right at the end; it is what preyed on Gatsby, what foul dust floated in the wake of his dreams that temporarily closed out my interest in the abortive sorrows and short-winded elations of men...”', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628654/61dRoDRubtL._SL1500__tpukho.jpg', 'The Great Gatsby', 10.99, 'BOOK'),
+('c75baf24-22b1-44ea-a0c2-c89b015493ab', 'Book', '2024-06-11', 0, 'Winston Smith toes the Party line, rewriting history to satisfy the demands of the Ministry of Truth. With each lie he writes, Winston grows to hate the Party that seeks power for its own sake and persecutes those who dare to commit thoughtcrimes. But as he starts to think for himself, Winston can’t escape the fact that Big Brother is always watching... A startling and haunting novel, 1984 creates an imaginary world that is completely convincing from start to finish. No one can deny the novel’s hold on the imaginations of whole generations, or the power of its admonitions—a power that seems to grow, not lessen, with the passage of time.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718628722/71rpa1-kyvL._SL1500__jr5wvn.jpg', '1984', 9.49, 'BOOK'),
+('c05163f7-8d1f-4852-a53c-57cd7759c7a7', 'Book', '2024-06-11', 0, 'Emily Brontë''s only novel endures as a work of tremendous and far-reaching influence. The Penguin Classics edition is the definitive version of the text, edited with an introduction by Pauline Nestor. Lockwood, the new tenant of Thrushcross Grange, situated on the bleak Yorkshire moors, is forced to seek shelter one night at Wuthering Heights, the home of his landlord. There he discovers the history of the tempestuous events that took place years before. What unfolds is the tale of the intense love between the gypsy foundling Heathcliff and Catherine Earnshaw. Catherine, forced to choose between passionate, tortured Heathcliff and gentle, well-bred Edgar Linton, surrendered to the expectations of her class. As Heathcliff''s bitterness and vengeance at his betrayal is visited upon the next generation, their innocent heirs must struggle to escape the legacy of the past. In this edition, a new preface by Lucasta Miller, author of The Brontë Myth, looks at the ways in which the novel has been interpreted, from Charlotte Brontë onwards. This complements Pauline Nestor''s introduction, which discusses changing critical receptions of the novel, as well as Emily Brontë''s influences and background.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629156/81T34Sem-tL._SL1500__fbx6je.jpg', 'Wuthering Heights', 8.49, 'BOOK'),
+('51dc38f3-fb43-4b14-aa03-fcdd073a3a4b', 'Book', '2024-06-11', 0, 'Composed at the rosy-fingered dawn of world literature almost three millennia ago, The Odyssey is a poem about violence and the aftermath of war; about wealth, poverty and power; about marriage and family; about travelers, hospitality, and the yearning for home. This fresh, authoritative translation captures the beauty of this ancient poem as well as the drama of its narrative. Its characters are unforgettable, none more so than the “complicated” hero himself, a man of many disguises, many tricks, and many moods, who emerges in this version as a more fully rounded human being than ever before. Written in iambic pentameter verse and a vivid, contemporary idiom, Emily Wilson’s Odyssey sings with a voice that echoes Homer’s music; matching the number of lines in the Greek original, the poem sails along at Homer’s swift, smooth pace. A fascinating, informative introduction explores the Bronze Age milieu that produced the epic, the poem’s major themes, the controversies about its origins, and the unparalleled scope of its impact and influence. Maps drawn especially for this volume, a pronunciation glossary, and extensive notes and summaries of each book make this is an Odyssey that will be treasured by a new generation of readers.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629162/81g0AATkO9L._SL1500__oqqqmx.jpg', 'The Odyssey', 11.49, 'BOOK'),
+('265c4185-0f48-4cf3-9ff1-2633dc3f58f1', 'Book', '2024-06-11', 0, 'Dating to the ninth century B.C., Homer’s timeless poem still vividly conveys the horror and heroism of men and gods wrestling with towering emotions and battling amidst devastation and destruction, as it moves inexorably to the wrenching, tragic conclusion of the Trojan War. Renowned classicist Bernard Knox observes in his superb introduction that although the violence of the Iliad is grim and relentless, it coexists with both images of civilized life and a poignant yearning for peace.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629219/71FVVdj9w4L._SL1500__u2jo7b.jpg', 'The Iliad', 10.00, 'BOOK'),
+('297b3d06-73c6-4580-8f8a-81dd5875d97b', 'Book', '2024-06-11', 0, 'Introducing one of the most famous characters in literature, Jean Valjean—the noble peasant imprisoned for stealing a loaf of bread—Les Misérables ranks among the greatest novels of all time. In it, Victor Hugo takes readers deep into the Parisian underworld, immerses them in a battle between good and evil, and carries them to the barricades during the uprising of 1832 with a breathtaking realism that is unsurpassed in modern prose.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629224/81e1NPAQJmL._SL1500__wvz3he.jpg', 'Les Misérables', 14.99, 'BOOK'),
+('a1d2fe49-5a80-4040-898a-035ef48b1eb0', 'Book', '2024-06-11', 0, 'Don Quixote has become so entranced reading tales of chivalry that he decides to turn knight errant himself. In the company of his faithful squire, Sancho Panza, these exploits blossom in all sorts of wonderful ways. While Quixote''s fancy often leads him astray—he tilts at windmills, imagining them to be giants—Sancho acquires cunning and a certain sagacity. Sane madman and wise fool, they roam the world together-and together they have haunted readers'' imaginations for nearly four hundred years.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629280/81kIVgGfc_L._SL1500__gmwdkf.jpg', 'Don Quixote', 13.50, 'BOOK'),
+('0a3498ab-1ae3-42f8-9729-6ca6e676d7a7', 'Book', '2024-06-11', 0, 'A new edition of Henry Wadsworth Longfellow''s classic verse translation of Dante Alighieri''s The Divine Comedy, including all three volumes of Dante''s classic trilogy: Inferno, Purgatorio, and Paradiso. The Divine Comedy (or Divina Commedia) is an epic-length narrative poem, written between 1308 and 1320 in the vernacular Tuscan of the era, that is widely considered to be the pre-eminent work in Italian literature and a foundational work of the literary canon. The poem traces the narrator''s journey through the afterlife -- visiting first hell, then purgatory, and then paradise -- and presents an imaginative vision of the afterlife that provides great insight into the medieval Catholic worldview. Longfellow''s verse translation was originally published in 1867 and is considered to be a literary masterpiece in its own right. Dante Alighieri (c.1265 – 1321), was an Italian poet, writer and philosopher, most famous for his Divine Comedy, which is widely considered one of the most important poems of the Middle Ages and the greatest literary work in the Italian language. Dante''s literary output is largely responsible for establishing the use of the vernacular in literature at a time when most poetry was written in Latin, making it more accessible to the larger public and helping establishing the modern-day standardized Italian language. His depictions of Hell, Purgatory, and Heaven in the Divine Comedy were also enduringly influential on the Western literary and artistic imagination, heavily influencing future English-language writers like Geoffrey Chaucer and John Milton, and Italians like Petrarch and Boccaccio.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718629321/81-rHfYBAQL._SL1500__u6ts09.jpg', 'The Divine Comedy', 11.00, 'BOOK');
+
+INSERT INTO products_books (id, author_name, dimensions, language, print_length, publication_date, publisher)
+VALUES ('cf1e8821-1726-4092-a510-f0edbd480f7e', 'Fyodor Dostoevsky', '20 x 15 x 3', 'English', 1261, '2024-01-24', 'Vintage Dostoevsky'),
+('74480e7e-d420-40c7-b26b-0abd8d3e73f1', 'Harper Lee', '7.9 x 5.3 x 0.9', 'English', 336, '2002-03-01', 'Harper Perennial Modern Classics'),
+('8a331e43-f858-43db-a6ff-48358911ad5d', 'William Golding', '4.31 x 0.59 x 7.5', 'English', 224, '2003-12-16', 'Penguin Books'),
+('d9081d0a-a786-4c9c-9145-3eaa0c165769', 'George Orwell', '4.25 x 0.52 x 7.56', 'English', 140, '2004-04-06', 'Signet'),
+('2fa97b0d-0dea-4648-bea9-c811cf621d8c', 'J. D. Salinger', '5.25 x 0.95 x 10.05', 'English', 288, '2001-01-30', 'Back Bay Books'),
+('c5d50bb0-7950-45a5-8211-73ab4f64a23b', 'Ernest Hemingway', '5.25 x 0.3 x 8.0', 'English', 128, '1995-05-05', 'Scribner'),
+('001d566f-5523-40e0-9f35-d411f04ef205', 'Fyodor Dostoevsky', '5.15 x 1.1 x 7.95', 'English', 565, '1993-03-02', 'Vintage'),
+('654918a9-9b49-4b15-8242-768c8839ca78', 'Antoine de Saint-Exupéry', '8 x 5 x 0.31', 'English', 96, '2000-05-15', 'Clarion Books'),
+('3919de7d-4b9e-4bb8-bdc1-153a953bcd57', 'Charles Bukowski', '5.88 x 0.78 x 8.94', 'English', 312, '2002-05-31', 'Ecco'),
+('82c4dcd2-aebb-45cd-9c6a-678687812daa', 'Mikhail Bulgakov', '5.65 x 1.15 x 8.34', 'English', 448, '2016-05-03', 'Penguin Classics'),
+('411c4137-b40e-4930-a08b-5b66368d7fe5', 'Jane Austen', '5.5 x 0.8 x 8.5', 'English', 279, '2020-01-01', 'Penguin Classics'),
+('c90ee62b-696b-4c2c-97d1-ea1721596896', 'Herman Melville', '6.0 x 1.5 x 9.0', 'English', 635, '2018-05-01', 'Harper & Brothers'),
+('f2942192-08a4-4d7c-b1d3-e14b1ba66ef6', 'Leo Tolstoy', '6.2 x 2.0 x 9.2', 'English', 1225, '2015-08-18', 'Vintage Classics'),
+('f8eb47d5-33a6-4d28-8de3-2c9c0b1307d7', 'Charles Dickens', '5.2 x 1.0 x 8.0', 'English', 505, '2019-02-05', 'Penguin Classics'),
+('222ea09e-1b67-4650-86dd-44bf8bb43896', 'Charlotte Brontë', '5.1 x 1.3 x 7.8', 'English', 532, '2016-10-06', 'Penguin Classics'),
+('7d40fbb0-5ba3-4ac4-a7ed-1b2d01551b09', 'F. Scott Fitzgerald', '5.0 x 0.5 x 8.0', 'English', 180, '2018-04-10', 'Scribner'),
+('c75baf24-22b1-44ea-a0c2-c89b015493ab', 'George Orwell', '5.0 x 0.7 x 8.0', 'English', 328, '2017-01-01', 'Signet Classics'),
+('c05163f7-8d1f-4852-a53c-57cd7759c7a7', 'Emily Brontë', '5.5 x 1.0 x 8.5', 'English', 416, '2016-12-27', 'Penguin Classics'),
+('51dc38f3-fb43-4b14-aa03-fcdd073a3a4b', 'Homer', '5.2 x 1.0 x 8.0', 'English', 560, '1997-11-01', 'Penguin Classics'),
+('265c4185-0f48-4cf3-9ff1-2633dc3f58f1', 'Homer', '5.3 x 1.2 x 8.1', 'English', 704, '2003-11-01', 'Penguin Classics'),
+('297b3d06-73c6-4580-8f8a-81dd5875d97b', 'Victor Hugo', '5.5 x 2.0 x 8.5', 'English', 1463, '2015-11-10', 'Penguin Classics'),
+('a1d2fe49-5a80-4040-898a-035ef48b1eb0', 'Miguel de Cervantes', '5.5 x 1.8 x 8.5', 'English', 982, '2003-05-01', 'Penguin Classics'),
+('0a3498ab-1ae3-42f8-9729-6ca6e676d7a7', 'Dante Alighieri', '5.2 x 1.5 x 8.2', 'English', 798, '2003-05-27', 'Penguin Classics');
 
 # INSERT TEXTBOOKS
-INSERT INTO products_textbooks (id, date_created, is_new_product, description, product_image_url, product_name, product_price, product_type, author_name, dimensions, language, print_length, publication_date, publisher)
-VALUES
-('ea437c06-9f92-43e7-af2f-2ab72861d3da', '2024-06-11', 1, 'Combine comprehensive coverage of basic electrical theory with practical "how to" information to prepare students for real practice with DELMAR''S STANDARD TEXTBOOK OF ELECTRICITY, 7E by Stephen Herman. This edition covers all aspects of basic theory with no assumption of prior electrical knowledge. The author also limits math to basic algebra and trigonometry with step-by-step examples. Quality schematics and illustrations guide students through basic electrical circuits; DC and AC theory; and equipment such as meters, transformers and motors. Numerous examples demonstrate how to complete common tasks electricians perform, while succinct units cover only one or two topics each to ensure clarity. In addition, new coverage of spike and surge protection and motor installation complies with the 2017 NEC. MindTap online resources are also available with interactive multimedia and options to customize and track and report progress.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718630133/61uwkXDkF8L._SL1000__ivh0dn.jpg', 'Delmar\'s Standard Textbook of Electricity', 101.61, 'TEXTBOOK', 'Stephen L. Herman', '7.75 x 0.75 x 9.75', 'English', 1024, '2019-01-22', 'Cengage Learning'),
-('01f07cbf-dfb2-4f19-930a-0df9be7def92', '2024-06-11', 1, 'Steven Wasserman is a professor at the University of California, San Diego (UCSD). He earned his A.B. in Biology from Harvard University and his Ph.D. in Biological Sciences from MIT. Through his research on regulatory pathway mechanisms in the fruit fly Drosophila, Steve has contributed to the fields of developmental biology, reproduction, and immunity. As a faculty member at the University of Texas Southwestern Medical Center and UCSD, he has taught genetics, development, and physiology to undergraduate, graduate, and medical students. He has also served as the research mentor for more than a dozen doctoral students and more than 50 aspiring scientists at the undergraduate and high school levels. Steve has been the recipient of distinguished scholar awards from both the Markey Charitable Trust and the David and Lucille Packard Foundation. In 2007, he received UCSD''s Distinguished Teaching Award for undergraduate teaching.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718630140/51NUUODmIiL_nl7uyt.jpg', 'Campbell Biology', 59.99, 'TEXTBOOK', 'Lisa A. Urry', '9.0 x 1.5 x 10.8', 'English', 1488, '2020-01-04', 'Pearson'),
-('c45ee884-f3aa-458b-821b-6b2263477560', '2024-06-11', 0, 'David Myers’ bestselling Psychology has reached a wider audience of students and instructors with each new edition. Myers and his team lead the field in being attuned to psychology’s research and the needs of the instructors and students in the course today. Ten million student class testers and thousands of adopting instructors can attest to the quality of this project. True to form, this landmark new 11th Edition is another vigorous, deeply considered revision.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718630483/71ZC5o3qw9L._SL1200__yizqby.jpg', 'Psychology', 89.99, 'TEXTBOOK', 'David G. Myers', '9.25 x 1.5 x 11.0', 'English', 912, '2018-01-09', 'Worth Publishers'),
-('8090ce85-9a3f-4980-9b8b-6306099cc3a2', '2024-06-11', 0, 'Set apart by its scientific accuracy, clarity, innovative descriptions, and visuals, Chemistry: The Central Science is the most trusted book available. A comprehensive media package that works in tandem with the text helps students practice and learn while providing instructors the tools they need to succeed. Readers are given a consistent structure and guidelines to enhance comprehension. Problem-solving aids are integrated throughout, including Strategies in Chemistry boxes and dual-column problem-solving strategies for selected samples. Emphasizing visualization, the Tenth Edition has been designed expressly to help readers better visualize the chemistry required.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718630804/81ZPfwmNB3L._SL1500__ydscle.jpg', 'Chemistry: The Central Science', 84.99, 'TEXTBOOK', 'Theodore E. Brown', '8.8 x 1.5 x 11.0', 'English', 1248, '2017-01-04', 'Pearson'),
-('a552c140-fb62-496f-8c80-f62ce18b2aa5', '2024-06-11', 0, 'The 10th edition of Halliday''s Fundamentals of Physics, Extended building upon previous issues by offering several new features and additions. The new edition offers most accurate, extensive and varied set of assessment questions of any course management program in addition to all questions including some form of question assistance including answer specific feedback to facilitate success. The text also offers multimedia presentations (videos and animations) of much of the material that provide an alternative pathway through the material for those who struggle with reading scientific exposition. Furthermore, the book includes math review content in both a self-study module for more in-depth review and also in just-in-time math videos for a quick refresher on a specific topic. The Halliday content is widely accepted as clear, correct, and complete. The end-of-chapters problems are without peer. The new design, which was introduced in 9e continues with 10e, making this new edition of Halliday the most accessible and reader-friendly book on the market.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631007/61kOgdXmvuL_uerbhh.jpg', 'Fundamentals of Physics', 75.00, 'TEXTBOOK', 'David Halliday', '8.5 x 1.8 x 11.1', 'English', 1328, '2018-01-01', 'Wiley'),
-('52005b00-4c40-436e-9137-93e324ce6a16', '2024-06-11', 0, 'Some books on algorithms are rigorous but incomplete; others cover masses of material but lack rigor. Introduction to Algorithms uniquely combines rigor and comprehensiveness. It covers a broad range of algorithms in depth, yet makes their design and analysis accessible to all levels of readers, with self-contained chapters and algorithms in pseudocode. Since the publication of the first edition, Introduction to Algorithms has become the leading algorithms text in universities worldwide as well as the standard reference for professionals. This fourth edition has been updated throughout.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631055/61Mw06x2XcL._SL1500__h7e4cv.jpg', 'Introduction to Algorithms', 99.95, 'TEXTBOOK', 'Thomas H. Cormen', '8.5 x 1.5 x 10.0', 'English', 1312, '2009-07-31', 'MIT Press'),
-('3e9a3cd7-112d-4287-8f2d-714c257cc254', '2024-06-11', 0, 'Many instructors of microeconomic theory have been waiting for a text that provides balanced and in-depth analysis of the essentials of microeconomics. Masterfully combining the results of years of teaching microeconomics at Harvard University, Andreu Mas-Colell, Michael Whinston, and Jerry Green have filled that conspicuous vacancy with their groundbreaking text, Microeconomic Theory. The authors set out to create a solid organizational foundation upon which to build the effective teaching tool for microeconomic theory. The result presents unprecedented depth of coverage in all the essential topics, while allowing professors to "tailor-make" their course to suit personal priorities and style. Topics such as noncooperative game theory, information economics, mechanism design, and general equilibrium under uncertainty receive the attention that reflects their stature within the discipline. The authors devote an entire section to game theory alone, making it "free-standing" to allow instructors to return to it throughout the course when convenient. Discussion is clear, accessible, and engaging, enabling the student to gradually acquire confidence as well as proficiency. Extensive exercises within each chapter help students to hone their skills, while the text''s appendix of terms, fully cross-referenced throughout the previous five sections, offers an accessible guide to the subject matter''s terminology. Teachers of microeconomics need no longer rely upon scattered lecture notes to supplement their textbooks. Deftly written by three of the field''s most influential scholars, Microeconomic Theory brings the readability, comprehensiveness, and versatility to the first-year graduate classroom that has long been missing.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631144/61i43CXbEzL_n82lfv.jpg', 'Microeconomic Theory', 68.00, 'TEXTBOOK', 'Andreu Mas-Colell', '7.5 x 1.5 x 10.0', 'English', 1000, '1995-01-01', 'Oxford University Press'),
-('ed037c9c-61e4-4caa-b64b-f8191557725c', '2024-06-11', 0, 'After graduating from the Girls’ Latin School in Boston, Paula Bruice earned an A.B. from Mount Holyoke College and a Ph.D. in chemistry from the University of Virginia. She then received an NIH postdoctoral fellowship for study in the Department of Biochemistry at the University of Virginia Medical School and held a postdoctoral appointment in the Department of Pharmacology at Yale Medical School. Paula has been a member of the faculty at the University of California, Santa Barbara since 1972, where she has received the Associated Students Teacher of the Year Award, the Academic Senate Distinguished Teaching Award, two Mortar Board Professor of the Year Awards, and the UCSB Alumni Association Teaching Award.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631192/810uS9h-DnL._SL1500__tou3ha.jpg', 'Organic Chemistry', 54.99, 'TEXTBOOK', 'Paula Yurkanis Bruice', '8.5 x 1.5 x 11.0', 'English', 1376, '2016-01-08', 'Pearson'),
-('ba08e665-3e58-4465-a0b2-bed50b0770db', '2024-06-11', 0, 'Microeconomics Step-by-Step: Markets, Consumer Behavior, Corporate Strategy, Making Smart Choices & Microeconomic Principles (Step By Step Subject Guides)', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631255/81UPJjLHp8L._SL1500__qxkkhz.jpg', 'Principles of Economics', 74.99, 'TEXTBOOK', 'N. Gregory Mankiw', '8.5 x 1.3 x 10.2', 'English', 888, '2014-01-01', 'Cengage Learning'),
-('ae194243-24d2-45e1-9186-e223fe43ebf4', '2024-06-11', 0, 'Fully updated for the thirteenth edition, the award-winning The Art of Public Speaking offers a time-tested approach that has made it the most widely used college textbook on its subject in the world. Seamlessly coordinated with Connect, McGraw-Hill Education''s pathbreaking online program, it supplies a proven set of teaching and learning tools that is without parallel among public speaking books. For experienced instructors, The Art of Public Speaking presents a solid, fully customizable foundation and an abundance of teaching aids from which to choose, allowing for complete teaching flexibility in the course. For novice instructors, its wisdom, steady hand, and unmatched ancillary package instill confidence and build success in the classroom from day one.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631255/81UPJjLHp8L._SL1500__qxkkhz.jpg', 'The Art of Public Speaking', 65.00, 'TEXTBOOK', 'Stephen E. Lucas', '8.8 x 1.0 x 11.0', 'English', 480, '2014-01-01', 'McGraw-Hill Education'),
-('ca552b97-d396-4604-aca6-0a866c5d6d37', '2024-06-11', 0, 'CALCULUS: EARLY TRANSCENDENTALS, 9th Edition, provides you with the strongest foundation for a STEM future. James Stewarts Calculus series is the top-seller in the world because of its problem-solving focus, mathematical precision and accuracy, and outstanding examples and problem sets. Selected and mentored by Stewart, coauthors Daniel Clegg and Saleem Watson continue his legacy, and their careful refinements retain Stewarts clarity of exposition and make the 9th Edition an even more usable learning tool. The accompanying WebAssign includes helpful learning support and new resources like Explore It interactive learning modules. Showing that Calculus is both practical and beautiful, the Stewart approach and WebAssign resources enhance understanding and build confidence for millions of students worldwide.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631332/81sfhI2TknL._SL1500__ymrr9y.jpg', 'Calculus: Early Transcendentals', 95.00, 'TEXTBOOK', 'James Stewart', '8.5 x 1.5 x 10.0', 'English', 1368, '2015-01-01', 'Cengage Learning'),
-('be09c6f3-068a-4b2e-9234-835e05b008d8', '2024-06-11', 0, 'Statistics for Business and Economics, Global Edition 9th', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631431/71fy-sZjKiL._SL1500__zzhsmm.jpg', 'Statistics for Business and Economics', 79.95, 'TEXTBOOK', 'Paul Newbold', '8.0 x 1.5 x 10.0', 'English', 792, '2012-01-01', 'Pearson'),
-('117aa5f2-a693-46f7-bbdb-509957727b17', '2024-06-11', 0, 'Maximize your course success by making the most of what Serway/Jewett''s PHYSICS FOR SCIENTISTS AND ENGINEERS WITH MODERN PHYSICS, Tenth Edition, has to offer. From a host of in-text features to a range of outstanding technology resources, you''ll have everything you need to understand the natural forces and principles of physics. New context-rich exercises, Think-Pair-Share problems and MCAT-style passage problems enable you to put what you learn into practice. Also available, WebAssign is the world''s easiest to use homework system. Throughout every chapter, the authors have built in a wide range of examples, exercises and illustrations that will help you understand the laws of physics AND succeed in your course!', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631719/71hXyK8kk2L._SL1000__qmy8ya.jpg', 'Physics for Scientists and Engineers', 89.99, 'TEXTBOOK', 'Raymond A. Serway', '9.0 x 1.7 x 10.9', 'English', 1552, '2018-01-01', 'Cengage Learning'),
-('02effc89-c097-4a7b-a234-8502d3768c7f', '2024-06-11', 0, 'The Raven & Johnson''s Biology author team is committed to continually improving the text, keeping the student and learning foremost. The integrated pedagogical features expand the students'' learning process and enhance their learning experience. This latest edition of the text maintains the clear, accessible, and engaging writing style of past editions with the solid framework of pedagogy that highlights an emphasis on evolution and scientific inquiry that have made this a leading textbook for students majoring in biology. This emphasis on the organizing power of evolution is combined with an integration of the importance of cellular, molecular biology and genomics to offer our readers a text that is student friendly and current. Additionally, with McGraw Hill Connect, powerful digital tools augment instruction by helping students think more critically, develop quantitative and graphing skills and apply their knowledge in a laboratory setting. Connect Virtual Labs can be implemented in a hybrid or fully online setting to help students prepare for the wet lab and strengthening their lab experience.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631801/71f9J1H8_iL._SL1216__govygy.jpg', 'Biology', 72.50, 'TEXTBOOK', 'Peter H. Raven', '9.0 x 1.8 x 11.2', 'English', 1408, '2020-01-01', 'McGraw-Hill Education'),
-('4d93fa55-b187-4836-abb5-6877da758ece', '2024-06-11', 0, 'Now you can master the principles of microeconomics with the help of the most popular, widely-used economics textbook by students worldwide -- Mankiw''s PRINCIPLES OF MICROECONOMICS, 8E. With its clear and engaging writing style, this book emphasizes only the material that will help you better understand the world in which you live, will make you a more astute participant in the economy, and will give you a better understanding of both the potential and limits of economic policy. The latest relevant examples bring microeconomic principles to life. Acclaimed text author N. Gregory Mankiw explains, "I have tried to put myself in the position of someone seeing economics for the first time. My goal is to emphasize the material that students should and do find interesting about the study of the economy." The powerful MindTap student-focused digital resource is available and sold separately. Its digital learning and homework solutions reinforce the principles presented in this edition.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631825/81Z3R6g2aSL._SL1500__iztj0h.jpg', 'Principles of Microeconomics', 74.99, 'TEXTBOOK', 'N. Gregory Mankiw', '8.5 x 1.3 x 10.2', 'English', 896, '2014-01-01', 'Cengage Learning'),
-('336fa4b7-a63c-40bf-b383-2899a145643b', '2024-06-11', 0, 'Organic chemistry can be a challenging subject. Most students view organic chemistry as a subject requiring hours upon hours of memorization. Author David Klein''s Second Language books prove this is not true―organic chemistry is one continuous story that actually makes sense if you pay attention. Offering a unique skill-building approach, these market-leading books teach students how to ask the right questions to solve problems, study more efficiently to avoid wasting time, and learn to speak the language of organic chemistry.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631894/715dkQtOO0L._SL1500__e11jvt.jpg', 'Organic Chemistry as a Second Language', 44.99, 'TEXTBOOK', 'David R. Klein', '8.5 x 1.0 x 11.0', 'English', 400, '2016-01-01', 'Wiley'),
-('0cbf187d-e781-4bc6-956b-c6cd496fb365', '2024-06-11', 0, 'Comprehensive and authoritative, yet reader-friendly, Clarkson/Miller/Cross'' BUSINESS LAW: TEXT AND CASES, 15E blends classic "black letter law" with cutting-edge coverage of contemporary issues and cases. This market-leading book offers a strong reader focus designed to make the law accessible, interesting, and relevant. Updated content and features highlight today''s latest developments in business law, while cases range from precedent-setting landmarks to some of today''s most important recent decisions. The authors prioritize ethics with a unique ethical decision-making framework. This edition also integrates global, e-commerce, digital, and corporate themes with insightful features, such as Digital Updates that demonstrate how digital progress is affecting the law. Numerous examples, Case in Points, Concept Summaries and MindTap digital learning solutions help you further apply the law to today''s real issues.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631951/81qJzRZBV9L._SL1500__gypnag.jpg', 'Business Law', 82.00, 'TEXTBOOK', 'Kenneth W. Clarkson', '8.8 x 1.5 x 11.0', 'English', 1248, '2018-01-01', 'Cengage Learning'),
-('367922f2-34b7-4c1d-b61f-e05ce6fb9fef', '2024-06-11', 0, 'Human Anatomy & Physiology by best-selling authors Elaine Marieb and Katja Hoehn motivates and supports learners at every level, from novice to expert, equipping them with 21st century skills to succeed in A&P and beyond. Each carefully paced chapter guides students in advancing from mastering A&P terminology to applying knowledge in clinical scenarios, to practicing the critical thinking and problem-solving skills required for entry to nursing, allied health, and exercise science programs.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718632032/81PtCLyJ0oL._SL1500__cae6o4.jpg', 'Human Anatomy & Physiology', 69.99, 'TEXTBOOK', 'Elaine N. Marieb', '8.5 x 1.5 x 10.8', 'English', 1264, '2018-01-01', 'Pearson'),
-('aade90bd-da04-443c-84b7-cfe272b7dab7', '2024-06-11', 0, 'Engineering Mechanics: Dynamics provides a solid foundation of mechanics principles and helps students develop their problem-solving skills with an extensive variety of engaging problems related to engineering design. More than 50% of the homework problems are new, and there are also a number of new sample problems. To help students build necessary visualization and problem-solving skills, this product strongly emphasizes drawing free–body diagrams, the most important skill needed to solve mechanics problems.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718632039/81gcvOqh32L._SL1500__yjxtob.jpg', 'Engineering Mechanics: Dynamics', 93.50, 'TEXTBOOK', 'J. L. Meriam', '8.2 x 1.0 x 10.3', 'English', 688, '2015-01-01', 'Wiley'),
-('28c5ae69-a679-44eb-98ae-c022bc9ebeb7', '2024-06-11', 0, 'Now you can master the principles of macroeconomics with the help of the most popular economics textbook trusted by students worldwide -- Mankiw''s PRINCIPLES OF MACROECONOMICS, 9E. Using a clear, inviting writing style, this book emphasizes only the material that helps you better understand the world and economy in which you live. You learn to become a more astute participant in today''s economy with a strong understanding of both the potential and limits of economic policy. The latest relevant examples bring macroeconomic principles to life. Acclaimed author Gregory Mankiw explains, "I tried to put myself in the position of someone seeing economics for the first time. My goal is to emphasize the material that students should and do find interesting about the study of the economy." To help you further master the key principles of macroeconomics in this edition, powerful student-focused digital resources are available in the leading MindTap digital learning and homework solution.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718632103/61Gva2BBGgL._SL1500__hds6ri.jpg', 'Principles of Macroeconomics', 74.99, 'TEXTBOOK', 'N. Gregory Mankiw', '8.5 x 1.3 x 10.2', 'English', 576, '2014-01-01', 'Cengage Learning'),
-('999ec368-685e-4e7c-9df7-fa020f1f1793', '2024-06-11', 0, 'Elementary Linear Algebra 11th edition gives an elementary treatment of linear algebra that is suitable for a first course for undergraduate students. The aim is to present the fundamentals of linear algebra in the clearest possible way; pedagogy is the main consideration. Calculus is not a prerequisite, but there are clearly labeled exercises and examples (which can be omitted without loss of continuity) for students who have studied calculus.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718632194/61be5xqYbuL._SL1500__sntfdh.jpg', 'Elementary Linear Algebra', 79.00, 'TEXTBOOK', 'Howard Anton', '8.3 x 1.0 x 10.2', 'English', 576, '2010-01-01', 'Wiley');
+INSERT INTO products (id, product_discriminator, date_created, is_new_product, description, product_image_url, product_name, product_price, product_type)
+VALUES ('ea437c06-9f92-43e7-af2f-2ab72861d3da', 'Textbook', '2024-06-11', 1, 'Combine comprehensive coverage of basic electrical theory with practical "how to" information to prepare students for real practice with DELMAR''S STANDARD TEXTBOOK OF ELECTRICITY, 7E by Stephen Herman. This edition covers all aspects of basic theory with no assumption of prior electrical knowledge. The author also limits math to basic algebra and trigonometry with step-by-step examples. Quality schematics and illustrations guide students through basic electrical circuits; DC and AC theory; and equipment such as meters, transformers and motors. Numerous examples demonstrate how to complete common tasks electricians perform, while succinct units cover only one or two topics each to ensure clarity. In addition, new coverage of spike and surge protection and motor installation complies with the 2017 NEC. MindTap online resources are also available with interactive multimedia and options to customize and track and report progress.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718630133/61uwkXDkF8L._SL1000__ivh0dn.jpg', 'Delmar\'s Standard Textbook of Electricity', 101.61, 'TEXTBOOK'),
+('01f07cbf-dfb2-4f19-930a-0df9be7def92', 'Textbook', '2024-06-11', 1, 'Steven Wasserman is a professor at the University of California, San Diego (UCSD). He earned his A.B. in Biology from Harvard University and his Ph.D. in Biological Sciences from MIT. Through his research on regulatory pathway mechanisms in the fruit fly Drosophila, Steve has contributed to the fields of developmental biology, reproduction, and immunity. As a faculty member at the University of Texas Southwestern Medical Center and UCSD, he has taught genetics, development, and physiology to undergraduate, graduate, and medical students. He has also served as the research mentor for more than a dozen doctoral students and more than 50 aspiring scientists at the undergraduate and high school levels. Steve has been the recipient of distinguished scholar awards from both the Markey Charitable Trust and the David and Lucille Packard Foundation. In 2007, he received UCSD''s Distinguished Teaching Award for undergraduate teaching.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718630140/51NUUODmIiL_nl7uyt.jpg', 'Campbell Biology', 59.99, 'TEXTBOOK'),
+('c45ee884-f3aa-458b-821b-6b2263477560', 'Textbook', '2024-06-11', 0, 'David Myers’ bestselling Psychology has reached a wider audience of students and instructors with each new edition. Myers and his team lead the field in being attuned to psychology’s research and the needs of the instructors and students in the course today. Ten million student class testers and thousands of adopting instructors can attest to the quality of this project. True to form, this landmark new 11th Edition is another vigorous, deeply considered revision.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718630483/71ZC5o3qw9L._SL1200__yizqby.jpg', 'Psychology', 89.99, 'TEXTBOOK'),
+('8090ce85-9a3f-4980-9b8b-6306099cc3a2', 'Textbook', '2024-06-11', 0, 'Set apart by its scientific accuracy, clarity, innovative descriptions, and visuals, Chemistry: The Central Science is the most trusted book available. A comprehensive media package that works in tandem with the text helps students practice and learn while providing instructors the tools they need to succeed. Readers are given a consistent structure and guidelines to enhance comprehension. Problem-solving aids are integrated throughout, including Strategies in Chemistry boxes and dual-column problem-solving strategies for selected samples. Emphasizing visualization, the Tenth Edition has been designed expressly to help readers better visualize the chemistry required.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718630804/81ZPfwmNB3L._SL1500__ydscle.jpg', 'Chemistry: The Central Science', 84.99, 'TEXTBOOK'),
+('a552c140-fb62-496f-8c80-f62ce18b2aa5', 'Textbook', '2024-06-11', 0, 'The 10th edition of Halliday''s Fundamentals of Physics, Extended building upon previous issues by offering several new features and additions. The new edition offers most accurate, extensive and varied set of assessment questions of any course management program in addition to all questions including some form of question assistance including answer specific feedback to facilitate success. The text also offers multimedia presentations (videos and animations) of much of the material that provide an alternative pathway through the material for those who struggle with reading scientific exposition. Furthermore, the book includes math review content in both a self-study module for more in-depth review and also in just-in-time math videos for a quick refresher on a specific topic. The Halliday content is widely accepted as clear, correct, and complete. The end-of-chapters problems are without peer. The new design, which was introduced in 9e continues with 10e, making this new edition of Halliday the most accessible and reader-friendly book on the market.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631007/61kOgdXmvuL_uerbhh.jpg', 'Fundamentals of Physics', 75.00, 'TEXTBOOK'),
+('52005b00-4c40-436e-9137-93e324ce6a16', 'Textbook', '2024-06-11', 0, 'Some books on algorithms are rigorous but incomplete; others cover masses of material but lack rigor. Introduction to Algorithms uniquely combines rigor and comprehensiveness. It covers a broad range of algorithms in depth, yet makes their design and analysis accessible to all levels of readers, with self-contained chapters and algorithms in pseudocode. Since the publication of the first edition, Introduction to Algorithms has become the leading algorithms text in universities worldwide as well as the standard reference for professionals. This fourth edition has been updated throughout.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631055/61Mw06x2XcL._SL1500__h7e4cv.jpg', 'Introduction to Algorithms', 99.95, 'TEXTBOOK'),
+('3e9a3cd7-112d-4287-8f2d-714c257cc254', 'Textbook', '2024-06-11', 0, 'Many instructors of microeconomic theory have been waiting for a text that provides balanced and in-depth analysis of the essentials of microeconomics. Masterfully combining the results of years of teaching microeconomics at Harvard University, Andreu Mas-Colell, Michael Whinston, and Jerry Green have filled that conspicuous vacancy with their groundbreaking text, Microeconomic Theory. The authors set out to create a solid organizational foundation upon which to build the effective teaching tool for microeconomic theory. The result presents unprecedented depth of coverage in all the essential topics, while allowing professors to "tailor-make" their course to suit personal priorities and style. Topics such as noncooperative game theory, information economics, mechanism design, and general equilibrium under uncertainty receive the attention that reflects their stature within the discipline. The authors devote an entire section to game theory alone, making it "free-standing" to allow instructors to return to it throughout the course when convenient. Discussion is clear, accessible, and engaging, enabling the student to gradually acquire confidence as well as proficiency. Extensive exercises within each chapter help students to hone their skills, while the text''s appendix of terms, fully cross-referenced throughout the previous five sections, offers an accessible guide to the subject matter''s terminology. Teachers of microeconomics need no longer rely upon scattered lecture notes to supplement their textbooks. Deftly written by three of the field''s most influential scholars, Microeconomic Theory brings the readability, comprehensiveness, and versatility to the first-year graduate classroom that has long been missing.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631144/61i43CXbEzL_n82lfv.jpg', 'Microeconomic Theory', 68.00, 'TEXTBOOK'),
+('ed037c9c-61e4-4caa-b64b-f8191557725c', 'Textbook', '2024-06-11', 0, 'After graduating from the Girls’ Latin School in Boston, Paula Bruice earned an A.B. from Mount Holyoke College and a Ph.D. in chemistry from the University of Virginia. She then received an NIH postdoctoral fellowship for study in the Department of Biochemistry at the University of Virginia Medical School and held a postdoctoral appointment in the Department of Pharmacology at Yale Medical School. Paula has been a member of the faculty at the University of California, Santa Barbara since 1972, where she has received the Associated Students Teacher of the Year Award, the Academic Senate Distinguished Teaching Award, two Mortar Board Professor of the Year Awards, and the UCSB Alumni Association Teaching Award.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631192/810uS9h-DnL._SL1500__tou3ha.jpg', 'Organic Chemistry', 54.99, 'TEXTBOOK'),
+('ba08e665-3e58-4465-a0b2-bed50b0770db', 'Textbook', '2024-06-11', 0, 'Microeconomics Step-by-Step: Markets, Consumer Behavior, Corporate Strategy, Making Smart Choices & Microeconomic Principles (Step By Step Subject Guides)', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631255/81UPJjLHp8L._SL1500__qxkkhz.jpg', 'Principles of Economics', 74.99, 'TEXTBOOK'),
+('ae194243-24d2-45e1-9186-e223fe43ebf4', 'Textbook', '2024-06-11', 0, 'Fully updated for the thirteenth edition, the award-winning The Art of Public Speaking offers a time-tested approach that has made it the most widely used college textbook on its subject in the world. Seamlessly coordinated with Connect, McGraw-Hill Education''s pathbreaking online program, it supplies a proven set of teaching and learning tools that is without parallel among public speaking books. For experienced instructors, The Art of Public Speaking presents a solid, fully customizable foundation and an abundance of teaching aids from which to choose, allowing for complete teaching flexibility in the course. For novice instructors, its wisdom, steady hand, and unmatched ancillary package instill confidence and build success in the classroom from day one.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631255/81UPJjLHp8L._SL1500__qxkkhz.jpg', 'The Art of Public Speaking', 65.00, 'TEXTBOOK'),
+('ca552b97-d396-4604-aca6-0a866c5d6d37', 'Textbook', '2024-06-11', 0, 'CALCULUS: EARLY TRANSCENDENTALS, 9th Edition, provides you with the strongest foundation for a STEM future. James Stewarts Calculus series is the top-seller in the world because of its problem-solving focus, mathematical precision and accuracy, and outstanding examples and problem sets. Selected and mentored by Stewart, coauthors Daniel Clegg and Saleem Watson continue his legacy, and their careful refinements retain Stewarts clarity of exposition and make the 9th Edition an even more usable learning tool. The accompanying WebAssign includes helpful learning support and new resources like Explore It interactive learning modules. Showing that Calculus is both practical and beautiful, the Stewart approach and WebAssign resources enhance understanding and build confidence for millions of students worldwide.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631332/81sfhI2TknL._SL1500__ymrr9y.jpg', 'Calculus: Early Transcendentals', 95.00, 'TEXTBOOK'),
+('be09c6f3-068a-4b2e-9234-835e05b008d8', 'Textbook', '2024-06-11', 0, 'Statistics for Business and Economics, Global Edition 9th', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631431/71fy-sZjKiL._SL1500__zzhsmm.jpg', 'Statistics for Business and Economics', 79.95, 'TEXTBOOK'),
+('117aa5f2-a693-46f7-bbdb-509957727b17', 'Textbook', '2024-06-11', 0, 'Maximize your course success by making the most of what Serway/Jewett''s PHYSICS FOR SCIENTISTS AND ENGINEERS WITH MODERN PHYSICS, Tenth Edition, has to offer. From a host of in-text features to a range of outstanding technology resources, you''ll have everything you need to understand the natural forces and principles of physics. New context-rich exercises, Think-Pair-Share problems and MCAT-style passage problems enable you to put what you learn into practice. Also available, WebAssign is the world''s easiest to use homework system. Throughout every chapter, the authors have built in a wide range of examples, exercises and illustrations that will help you understand the laws of physics AND succeed in your course!', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631719/71hXyK8kk2L._SL1000__qmy8ya.jpg', 'Physics for Scientists and Engineers', 89.99, 'TEXTBOOK'),
+('02effc89-c097-4a7b-a234-8502d3768c7f', 'Textbook', '2024-06-11', 0, 'The Raven & Johnson''s Biology author team is committed to continually improving the text, keeping the student and learning foremost. The integrated pedagogical features expand the students'' learning process and enhance their learning experience. This latest edition of the text maintains the clear, accessible, and engaging writing style of past editions with the solid framework of pedagogy that highlights an emphasis on evolution and scientific inquiry that have made this a leading textbook for students majoring in biology. This emphasis on the organizing power of evolution is combined with an integration of the importance of cellular, molecular biology and genomics to offer our readers a text that is student friendly and current. Additionally, with McGraw Hill Connect, powerful digital tools augment instruction by helping students think more critically, develop quantitative and graphing skills and apply their knowledge in a laboratory setting. Connect Virtual Labs can be implemented in a hybrid or fully online setting to help students prepare for the wet lab and strengthening their lab experience.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631801/71f9J1H8_iL._SL1216__govygy.jpg', 'Biology', 72.50, 'TEXTBOOK'),
+('4d93fa55-b187-4836-abb5-6877da758ece', 'Textbook', '2024-06-11', 0, 'Now you can master the principles of microeconomics with the help of the most popular, widely-used economics textbook by students worldwide -- Mankiw''s PRINCIPLES OF MICROECONOMICS, 8E. With its clear and engaging writing style, this book emphasizes only the material that will help you better understand the world in which you live, will make you a more astute participant in the economy, and will give you a better understanding of both the potential and limits of economic policy. The latest relevant examples bring microeconomic principles to life. Acclaimed text author N. Gregory Mankiw explains, "I have tried to put myself in the position of someone seeing economics for the first time. My goal is to emphasize the material that students should and do find interesting about the study of the economy." The powerful MindTap student-focused digital resource is available and sold separately. Its digital learning and homework solutions reinforce the principles presented in this edition.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631825/81Z3R6g2aSL._SL1500__iztj0h.jpg', 'Principles of Microeconomics', 74.99, 'TEXTBOOK'),
+('336fa4b7-a63c-40bf-b383-2899a145643b', 'Textbook', '2024-06-11', 0, 'Organic chemistry can be a challenging subject. Most students view organic chemistry as a subject requiring hours upon hours of memorization. Author David Klein''s Second Language books prove this is not true―organic chemistry is one continuous story that actually makes sense if you pay attention. Offering a unique skill-building approach, these market-leading books teach students how to ask the right questions to solve problems, study more efficiently to avoid wasting time, and learn to speak the language of organic chemistry.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631894/715dkQtOO0L._SL1500__e11jvt.jpg', 'Organic Chemistry as a Second Language', 44.99, 'TEXTBOOK'),
+('0cbf187d-e781-4bc6-956b-c6cd496fb365', 'Textbook', '2024-06-11', 0, 'Comprehensive and authoritative, yet reader-friendly, Clarkson/Miller/Cross'' BUSINESS LAW: TEXT AND CASES, 15E blends classic "black letter law" with cutting-edge coverage of contemporary issues and cases. This market-leading book offers a strong reader focus designed to make the law accessible, interesting, and relevant. Updated content and features highlight today''s latest developments in business law, while cases range from precedent-setting landmarks to some of today''s most important recent decisions. The authors prioritize ethics with a unique ethical decision-making framework. This edition also integrates global, e-commerce, digital, and corporate themes with insightful features, such as Digital Updates that demonstrate how digital progress is affecting the law. Numerous examples, Case in Points, Concept Summaries and MindTap digital learning solutions help you further apply the law to today''s real issues.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718631951/81qJzRZBV9L._SL1500__gypnag.jpg', 'Business Law', 82.00, 'TEXTBOOK'),
+('367922f2-34b7-4c1d-b61f-e05ce6fb9fef', 'Textbook', '2024-06-11', 0, 'Human Anatomy & Physiology by best-selling authors Elaine Marieb and Katja Hoehn motivates and supports learners at every level, from novice to expert, equipping them with 21st century skills to succeed in A&P and beyond. Each carefully paced chapter guides students in advancing from mastering A&P terminology to applying knowledge in clinical scenarios, to practicing the critical thinking and problem-solving skills required for entry to nursing, allied health, and exercise science programs.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718632032/81PtCLyJ0oL._SL1500__cae6o4.jpg', 'Human Anatomy & Physiology', 69.99, 'TEXTBOOK'),
+('aade90bd-da04-443c-84b7-cfe272b7dab7', 'Textbook', '2024-06-11', 0, 'Engineering Mechanics: Dynamics provides a solid foundation of mechanics principles and helps students develop their problem-solving skills with an extensive variety of engaging problems related to engineering design. More than 50% of the homework problems are new, and there are also a number of new sample problems. To help students build necessary visualization and problem-solving skills, this product strongly emphasizes drawing free–body diagrams, the most important skill needed to solve mechanics problems.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718632039/81gcvOqh32L._SL1500__yjxtob.jpg', 'Engineering Mechanics: Dynamics', 93.50, 'TEXTBOOK'),
+('28c5ae69-a679-44eb-98ae-c022bc9ebeb7', 'Textbook', '2024-06-11', 0, 'Now you can master the principles of macroeconomics with the help of the most popular economics textbook trusted by students worldwide -- Mankiw''s PRINCIPLES OF MACROECONOMICS, 9E. Using a clear, inviting writing style, this book emphasizes only the material that helps you better understand the world and economy in which you live. You learn to become a more astute participant in today''s economy with a strong understanding of both the potential and limits of economic policy. The latest relevant examples bring macroeconomic principles to life. Acclaimed author Gregory Mankiw explains, "I tried to put myself in the position of someone seeing economics for the first time. My goal is to emphasize the material that students should and do find interesting about the study of the economy." To help you further master the key principles of macroeconomics in this edition, powerful student-focused digital resources are available in the leading MindTap digital learning and homework solution.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718632103/61Gva2BBGgL._SL1500__hds6ri.jpg', 'Principles of Macroeconomics', 74.99, 'TEXTBOOK'),
+('999ec368-685e-4e7c-9df7-fa020f1f1793', 'Textbook', '2024-06-11', 0, 'Elementary Linear Algebra 11th edition gives an elementary treatment of linear algebra that is suitable for a first course for undergraduate students. The aim is to present the fundamentals of linear algebra in the clearest possible way; pedagogy is the main consideration. Calculus is not a prerequisite, but there are clearly labeled exercises and examples (which can be omitted without loss of continuity) for students who have studied calculus.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718632194/61be5xqYbuL._SL1500__sntfdh.jpg', 'Elementary Linear Algebra', 79.00, 'TEXTBOOK');
+
+INSERT INTO products_textbooks (id, author_name, dimensions, language, print_length, publication_date, publisher)
+VALUES ('ea437c06-9f92-43e7-af2f-2ab72861d3da', 'Stephen L. Herman', '7.75 x 0.75 x 9.75', 'English', 1024, '2019-01-22', 'Cengage Learning'),
+('01f07cbf-dfb2-4f19-930a-0df9be7def92', 'Lisa A. Urry', '9.0 x 1.5 x 10.8', 'English', 1488, '2020-01-04', 'Pearson'),
+('c45ee884-f3aa-458b-821b-6b2263477560', 'David G. Myers', '9.25 x 1.5 x 11.0', 'English', 912, '2018-01-09', 'Worth Publishers'),
+('8090ce85-9a3f-4980-9b8b-6306099cc3a2', 'Theodore E. Brown', '8.8 x 1.5 x 11.0', 'English', 1248, '2017-01-04', 'Pearson'),
+('a552c140-fb62-496f-8c80-f62ce18b2aa5', 'David Halliday', '8.5 x 1.8 x 11.1', 'English', 1328, '2018-01-01', 'Wiley'),
+('52005b00-4c40-436e-9137-93e324ce6a16', 'Thomas H. Cormen', '8.5 x 1.5 x 10.0', 'English', 1312, '2009-07-31', 'MIT Press'),
+('3e9a3cd7-112d-4287-8f2d-714c257cc254', 'Andreu Mas-Colell', '7.5 x 1.5 x 10.0', 'English', 1000, '1995-01-01', 'Oxford University Press'),
+('ed037c9c-61e4-4caa-b64b-f8191557725c', 'Paula Yurkanis Bruice', '8.5 x 1.5 x 11.0', 'English', 1376, '2016-01-08', 'Pearson'),
+('ba08e665-3e58-4465-a0b2-bed50b0770db', 'N. Gregory Mankiw', '8.5 x 1.3 x 10.2', 'English', 888, '2014-01-01', 'Cengage Learning'),
+('ae194243-24d2-45e1-9186-e223fe43ebf4', 'Stephen E. Lucas', '8.8 x 1.0 x 11.0', 'English', 480, '2014-01-01', 'McGraw-Hill Education'),
+('ca552b97-d396-4604-aca6-0a866c5d6d37', 'James Stewart', '8.5 x 1.5 x 10.0', 'English', 1368, '2015-01-01', 'Cengage Learning'),
+('be09c6f3-068a-4b2e-9234-835e05b008d8', 'Paul Newbold', '8.0 x 1.5 x 10.0', 'English', 792, '2012-01-01', 'Pearson'),
+('117aa5f2-a693-46f7-bbdb-509957727b17', 'Raymond A. Serway', '9.0 x 1.7 x 10.9', 'English', 1552, '2018-01-01', 'Cengage Learning'),
+('02effc89-c097-4a7b-a234-8502d3768c7f', 'Peter H. Raven', '9.0 x 1.8 x 11.2', 'English', 1408, '2020-01-01', 'McGraw-Hill Education'),
+('4d93fa55-b187-4836-abb5-6877da758ece', 'N. Gregory Mankiw', '8.5 x 1.3 x 10.2', 'English', 896, '2014-01-01', 'Cengage Learning'),
+('336fa4b7-a63c-40bf-b383-2899a145643b', 'David R. Klein', '8.5 x 1.0 x 11.0', 'English', 400, '2016-01-01', 'Wiley'),
+('0cbf187d-e781-4bc6-956b-c6cd496fb365', 'Kenneth W. Clarkson', '8.8 x 1.5 x 11.0', 'English', 1248, '2018-01-01', 'Cengage Learning'),
+('367922f2-34b7-4c1d-b61f-e05ce6fb9fef', 'Elaine N. Marieb', '8.5 x 1.5 x 10.8', 'English', 1264, '2018-01-01', 'Pearson'),
+('aade90bd-da04-443c-84b7-cfe272b7dab7', 'J. L. Meriam', '8.2 x 1.0 x 10.3', 'English', 688, '2015-01-01', 'Wiley'),
+('28c5ae69-a679-44eb-98ae-c022bc9ebeb7', 'N. Gregory Mankiw', '8.5 x 1.3 x 10.2', 'English', 576, '2014-01-01', 'Cengage Learning'),
+('999ec368-685e-4e7c-9df7-fa020f1f1793', 'Howard Anton', '8.3 x 1.0 x 10.2', 'English', 576, '2010-01-01', 'Wiley');
 
 # INSERT MUSIC
-INSERT INTO products_music (id, date_created, is_new_product, description, product_image_url, product_name, product_price, product_type, artist_name, carrier, genre, publication_date, publisher)
-VALUES ('6a65f453-4d4a-41a6-97c9-9e0c4db52eac', '2024-06-11', 1, 'The album was recorded in France, at Château d''Hérouville, also known at the time as "Strawberry Studios", which was how the studio was credited in the album''s sleeve; Honky Château, the previous Elton John album, had been recorded there.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634530/71IOa8a6zDL._SL1200__ymkgft.jpg', 'Don''t Shoot Me I''m Only the Piano Player', 79.99, 'MUSIC', 'Elton John', 'Vinyl', 'Pop Rock', '1972-10-27', 'Mercury'),
-('2dc58abf-b93a-4444-a00d-52c5edc9066e', '2024-06-11', 1, 'Michael Jackson: The Making of "Thriller" is an illustrated tribute to the King of Pop and his groundbreaking music video, with never-before-seen photos of its creation. The book features over 200 exclusive, behind-the-scenes photographs of the artist on set during the 1983 production of the Grammy award winning video directed by John Landis.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634541/81ogsUqshzL._SL1500__qzibwo.jpg', 'Thriller', 19.99, 'MUSIC', 'Michael Jackson', 'Vinyl', 'Pop', '1982-11-30', 'Epic Records'),
-('e0c15ea9-f20c-4a23-a777-b40777b401e9', '2024-06-11', 1, 'From their formation in Sydney, Australia in 1973 by brothers Angus and Malcolm Young, AC/DC have made the most visceral and single-minded rock, and inspired generations of rock icons from Def Leppard to Guns N’ Roses and Metallica. The basic blueprint laid down in their early albums with Bon Scott―hard, no-nonsense, riff-driven rock ’n’ roll― has served them well with more than 200 million records sold, including the best-selling rock album of all time―Back in Black.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634546/61sJIfuUSiL._SL1500__k47o2t.jpg', 'Back in Black', 21.99, 'MUSIC', 'AC/DC', 'Vinyl', 'Rock', '1980-07-25', 'Atlantic Records'),
-('31a80708-5da8-4e61-9833-c0c4f8175378', '2024-06-11', 1, 'March 2023 marks fifty years since the release of Pink Floyd''s classic album The Dark Side Of The Moon. Designed by Pentagram to high specifications, this celebratory publication brims with rare and unseen photographs and reveals the visual conception of the original iconic album artwork. It will be a covetable package for the legions of Floyd fans out there―new and old.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634552/61OBOiVbkeL._SL1500__p1t5xv.jpg', 'The Dark Side of the Moon', 22.99, 'MUSIC', 'Pink Floyd', 'Vinyl', 'Progressive Rock', '1973-03-01', 'Harvest Records'),
-('d2ec7f33-265e-4d34-83ac-2dafece70b0f', '2024-06-11', 1, 'One of the great rock classics! This multi-platinum folio includes eleven songs: Second-Hand News * Dreams * The Chain * Oh Daddy * Don''t Stop and more. Plus photos.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634555/819aRTepoJL._SL1500__wwvwat.jpg', 'Rumours', 18.99, 'MUSIC', 'Fleetwood Mac', 'CD', 'Rock', '1977-02-04', 'Warner Bros. Records'),
-('6b2a9858-32a5-4f47-bd33-ca69b18059fe', '2024-06-11', 1, 'In this wickedly entertaining and thoroughly informed homage to one of rock music''s towering pinnacles, Erik Davis investigates the magic-black or otherwise-that surrounds this album. Carefully peeling the layers from each song, Davis reveals their dark and often mystical roots-and leaves the reader to decide whether [FOUR SYMBOLS] is some form of occult induction or just an inspired, brilliantly played rock album.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634559/81x364UAGAL._SL1425__bwr2zp.jpg', 'Led Zeppelin IV', 23.99, 'MUSIC', 'Led Zeppelin', 'Vinyl', 'Hard Rock', '1971-11-08', 'Atlantic Records'),
-('9eb77cce-6be0-4e2c-acff-45e5cb6fe1d1', '2024-06-11', 1, '(Piano/Vocal/Guitar Artist Songbook). The Classic Album Editions series highlights the most important albums of our time. A true classic has lasting significance; it may establish a new style or direction, and often, a true classic album may help define an era. Hotel California is a pivotal album in the collection, obtaining overnight popularity and success with album sales reaching over 16 million in the U.S. alone since its debut in 1976. Hotel California became the Eagles'' fifth album to hit the charts, with the singles "New Kid in Town," and "Hotel California," reaching number one on the Billboard Hot 100 chart. To this day, the album receives top rankings on virtually every publication''s list of top albums of all time, including VH1 and Rolling Stone magazine. This songbook features lyrics, melody line, and chord changes with professionally-arranged piano accompaniment. Songs include: Hotel California * New Kid in Town * Life in the Fast Lane * Wasted Time * Wasted Time (Reprise) * Victim of Love * Pretty Maids All in a Row * Try and Love Again * The Last Resort.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634562/71pctS7lG1L._SL1425__ydp7ec.jpg', 'Hotel California', 20.99, 'MUSIC', 'Eagles', 'Vinyl', 'Rock', '1976-12-08', 'Asylum Records'),
-('f384b6d6-d0e5-4ce9-ac27-ade1452470d0', '2024-06-11', 1, '(Guitar Recorded Versions). Guitar tab transcriptions for 12 songs from the legendary smash hit album: Breed * Come As You Are * Drain You * In Bloom * Lithium * Lounge Act * On a Plain * (New Wave) Polly * Smells Like Teen Spirit * Something in the Way * Stay Away * Territorial Pissings.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634566/91G5ndi8yFL._SL1500__ymj7g2.jpg', 'Nevermind', 21.99, 'MUSIC', 'Nirvana', 'Vinyl', 'Grunge', '1991-09-24', 'DGC Records'),
-('c34d4d2b-9017-4460-b0f1-412b118a3855', '2024-06-11', 0, '(Guitar Recorded Versions). This iconic concept album by British rock band Pink Floyd spent a staggering 14 years on the Billboard album charts! It''s certainly an album that musicians continue to study and learn from. This folio includes new authentic transcriptions with notes and tablature for all 26 songs from the album, including: Another Brick in the Wall * Bring the Boys Back Home * Comfortably Numb * Empty Spaces * Goodbye Cruel World * Hey You * Is There Anybody Out There? * Nobody Home * Run like Hell * Stop * The Thin Ice * Waiting for the Worms * Young Lust * and more.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634569/71PLBJbUHlL._SL1500__zvd1zs.jpg', 'The Wall', 24.99, 'MUSIC', 'Pink Floyd', 'Vinyl', 'Progressive Rock', '1979-11-30', 'Columbia Records'),
-('ead64b97-0533-4a49-a3ed-75de5d25ede0', '2024-06-11', 0, 'Born to Run will be revelatory for anyone who has ever enjoyed Bruce Springsteen, but this book is much more than a legendary rock star''s memoir. This is a book for workers and dreamers, parents and children, lovers and loners, artists, freaks, or anyone who has ever wanted to be baptized in the holy river of rock and roll. Rarely has a performer told his own story with such force and sweep. Like many of his songs ("Thunder Road", "Badlands", "Darkness on the Edge of Town", "The River", "Born in the U.S.A.", "The Rising", and "The Ghost of Tom Joad", to name just a few), Bruce Springsteen''s autobiography is written with the lyricism of a singular songwriter and the wisdom of a man who has thought deeply about his experiences.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634571/71C4fRmt1tS._SL1500__fryew7.jpg', 'Born to Run', 19.99, 'MUSIC', 'Bruce Springsteen', 'CD', 'Rock', '1975-08-25', 'Columbia Records'),
-('717fc12a-e655-4ade-89cd-59433060379e', '2024-06-11', 0, 'Alongside the 11-track album, the 2CD deluxe edition includes a live recording of The Joshua Tree Tour 1987 MSG concert. Featuring the hit singles "With Or Without You", "I Still Haven''t Found What I''m Looking For" and "Where The Streets Have No Name", The Joshua Tree went to #1 in the U.S and around the world, selling over 25 million albums.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634575/71VmUBCMvfL._SL1500__qcyxf3.jpg', 'The Joshua Tree', 22.50, 'MUSIC', 'U2', 'Vinyl', 'Rock', '1987-03-09', 'Island Records'),
-('83505d51-8535-42ef-a0be-b4bdd4af8606', '2024-06-11', 0, 'Prince designed "Purple Rain" as the project that would make him a superstar, and surprisingly, that is exactly what happened. Simultaneously more focused and ambitious than any of his previous records, "Purple Rain" finds Prince consolidating his funk and R&B roots while moving boldly into pop, rock, and heavy metal with nine superbly crafted songs. Although Prince''s songwriting is at a peak, the presence of the Revolution pulls the music into sharper focus, giving it a tougher, more aggressive edge. Even with all of his new, but uncompromising, forays into pop Prince hasn''t abandoned funk. Taken together, all of the stylistic experiments add up to a stunning statement of purpose that remains one of the most exciting rock & roll albums ever created.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634578/81twmQBBnQL._SL1500__xcgj96.jpg', 'Purple Rain', 20.00, 'MUSIC', 'Prince', 'Vinyl', 'Pop', '1984-06-25', 'Warner Bros. Records'),
-('eb4d5230-21be-4f77-8eed-e7601d411465', '2024-06-11', 0, '2014 version of the iconic 1973 Goodbye Yellow Brick Road album mastered for vinyl by Doug Sax and Robert Hadley at the Mastering Lab, California. This is two discs of heavy 180GM audiophile quality vinyl. Selling over 31 million albums worldwide and going platinum in the US seven times over, Goodbye Yellow Brick Road is widely regarded as the album that made Elton John a household name. Includes ''Benny and the Jets'', ''Goodbye Yellow Brick Road'', ''Candle in the Wind'', ''Saturday Night''s All Right for Fighting'' and ''Harmony''.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634581/91zrpOF_aiL._SL1500__o4aktf.jpg', 'Goodbye Yellow Brick Road', 18.50, 'MUSIC', 'Elton John', 'CD', 'Rock', '1973-10-05', 'MCA Records'),
-('21f4ce6d-6253-472c-aad0-8be48789da66', '2024-06-11', 0, 'Queen''s fourth studio album, A Night at the Opera, was originally released in 1975. It peaked at #4 on the Billboard Albums chart and was their first to be platinum-certified. It includes the iconic singles, "Bohemian Rhapsody," and "You''re My Best Friend," which reached #2 and #7 respectively on the Billboard Hot 100. This LP reissue is pressed on 180-gram vinyl.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634583/71tMvc0xDPL._SL1500__p3vq3p.jpg', 'A Night at the Opera', 22.00, 'MUSIC', 'Queen', 'Vinyl', 'Rock', '1975-11-21', 'EMI Records'),
-('7b3e8b4f-4371-4ad1-88df-2233c93d0c96', '2024-06-11', 0, 'Paul Simon''s 1986 masterpiece, Graceland, took home that year''s Album of the Year Grammy on the strength of a collection that included "The Boy In The Bubble," "Diamonds on the Soles of Her Shoes," "You Can Call Me Al," and a title song that won the Record of the Year Grammy. The CD''s bonuses include a demo version of "Homeless," an alternate version of "Diamonds on the Soles of Her Shoes," and an early version of "All Around the World or the Myth of Fingerprints." Graceland has sold more than 14 million copies worldwide.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634586/61k5AjMRieL._SL1389__h5cnh9.jpg', 'Graceland', 19.99, 'MUSIC', 'Paul Simon', 'CD', 'Folk Rock', '1986-08-25', 'Warner Bros. Records'),
-('1b9ca4d1-dab1-4bfd-a723-b6126682c9fc', '2024-06-11', 0, 'Tracks, Welcome to the Jungle; It''s So Easy (Explicit); Nightrain (Explicit); Out Ta Get Me (Explicit); Mr. Brownstone (Explicit); Paradise City; My Michelle (Explicit); Think About You (Explicit); Sweet Child O''Mine; You''re Crazy (Explicit); Anything Goes (Explicit) and Rocket Queen (Explicit). Universal. 2008.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634589/61lRkH4QO0L._SL1000__lmdlck.jpg', 'Appetite for Destruction', 21.50, 'MUSIC', 'Guns N\' Roses', 'Vinyl', 'Hard Rock', '1987-07-21', 'Geffen Records'),
-('94c517bb-9fe5-4e18-9782-362ae362ae78', '2024-06-11', 0, 'The Eminem Show is the fourth studio album by American rapper Eminem, released on May 28, 2002 by Shady Records, Aftermath Entertainment and Interscope Records. It was the best-selling album of 2002 in the United States, with sales of 7.6 million copies.[1] At the 2003 Grammy Awards it was nominated for Album of the Year and became Eminem''s third LP in four years to win the award for Best Rap Album. On March 7, 2011, the album was certified ten-times-platinum by the Recording Industry Association of America, [2] making it Eminem''s second album to receive a Diamond certification in the United States. Since it''s release in 2002, the album sold 10, 500, 000 copies in the United States and more than 23 million copies worldwide. The Eminem Show is a reflective album, featuring Eminem''s more personal and serious side. This change gives the album a lighter tone, a departure from his previous albums. One of the most noticeable changes is the generally lighter lyrical content.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634756/61jxguiMreL._SL1200__xksnha.jpg', 'The Eminem Show', 17.99, 'MUSIC', 'Eminem', 'CD', 'Hip Hop', '2002-05-26', 'Aftermath Entertainment'),
-('fec38073-f3f7-4aaa-abba-94647d3fefed', '2024-06-11', 0, 'Named as the Greatest Billboard Top 200 Album of All Time, 21 is the second studio album from the multiple Brit, Grammy, Oscar and Golden Globe award-winning, Adele. Available as single CD and single vinyl LP. Released in 2011, 21 is now the best-selling album of the 21st Century, with over 31 million copies sold worldwide. Tracklisting Side A: 1. Rolling in the Deep 2. Rumour Has It 3. Turning Tables 4. Don''t You Remember 5. Set fire to the rain 6. He won''t go side B: 1. Take it all 2. I''ll be waiting 3. One and only 4. Lovesong 5. Someone like you.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634766/61KB57Xfy-L._SL1200__ohsusn.jpg', '21', 18.99, 'MUSIC', 'Adele', 'CD', 'Pop', '2011-01-24', 'XL Recordings'),
-('c4d714d6-94cf-4cd8-abdf-df45be6bc8f4', '2024-06-11', 0, 'This is the first time The BEATLES (‘White Album’) has been remixed and presented with additional demos and session recordings. To create the new stereo and 5.1 surround audio mixes for ‘The White Album,’ Martin and Okell worked with an expert team of engineers and audio restoration specialists at Abbey Road Studios in London. All the new ‘White Album’ releases include Martin’s new stereo album mix, sourced directly from the original four-track and eight-track session tapes. Martin’s new mix is guided by the album’s original stereo mix produced by his father, George Martin', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634773/21oMG2Q6uVL_el9ihj.jpg', 'The Beatles (White Album)', 25.00, 'MUSIC', 'The Beatles', 'Vinyl', 'Rock', '1968-11-22', 'Apple Records'),
-('5230aa67-ec98-4c01-b83c-2f9831398807', '2024-06-11', 0, 'John Bonham, John Paul Jones, Jimmy Page and Robert Plant came together in 1968 as Led Zeppelin. Over the next decade, the band would become one of the most influential, innovative and successful groups in modern music. Their songs are some of the most celebrated in rock n roll history that, to this day, resonate with fans young and old around the globe. Still, no matter how many times you may have listened to their music, you ve never heard Led Zeppelin like this before.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634779/71Otw4r3ifL._SL1425__i41b0a.jpg', 'Led Zeppelin II', 23.99, 'MUSIC', 'Led Zeppelin', 'Vinyl', 'Hard Rock', '1969-10-22', 'Atlantic Records'),
-('74ba80d6-2f9f-4750-b898-9978e7b57ec3', '2024-06-11', 0, '1. Airbag (Remastered), 2. Paranoid Android (Remastered), 3. Subterranean Homesick Alien (Remastered), 4. Exit Music (For A Film) (Remastered), 5. Let Down (Remastered), 6. Karma Police (Remastered), 7. Fitter Happier (Remastered), 8. Electioneering (Remastered), 9. Climbing Up The Walls , (Remastered), 10. No Surprises (Remastered), 11. Lucky (Remastered), 12. The Tourist (Remastered), 13. I Promise, 14. Man Of War, 15. Lift, 16. Lull , (Remastered), 17. Meeting In The Aisle (Remastered), 18. Melatonin (Remastered), 19. A Reminder (Remastered), 20. Polyethylene (Parts 1 & 2), (Remastered), 21. Pearly (Remastered), 22. Palo Alto (Remastered), 23. How I Made My Millions (Remastered).', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634785/71qtTEW46SL._SL1200__o3lv4i.jpg', 'OK Computer', 21.99, 'MUSIC', 'Radiohead', 'Vinyl', 'Alternative Rock', '1997-05-21', 'Parlophone'),
-('325a22a2-95af-4a45-9776-b9bf44dbe6d1', '2024-06-11', 0, 'The Rise and Fall of Ziggy Stardust and the Spiders from Mars is the fifth studio album by David Bowie, which is loosely based on a story of a fictional rock star named Ziggy Stardust.Rhino will be breaking out ‘breaking out’ this albums from the David Bowie ‘Five Years 1969 – 1973’ box as a standalone releases. Available on1LP 180g Audiophile vinyl', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634791/81YLSzm09SL._SL1425__uj29pb.jpg', 'The Rise and Fall of Ziggy Stardust and the Spiders from Mars', 22.99, 'MUSIC', 'David Bowie', 'Vinyl', 'Glam Rock', '1972-06-16', 'RCA Records'),
-('384f9281-5348-4f62-b0c9-7c44e17d7428', '2024-06-11', 0, 'Limited 50th Anniversary vinyl LP pressing in gatefold jacket. Includes digital download. Tapestry is the second studio album by singer-songwriter Carole King, released in 1971 on Ode Records and produced by Lou Adler. It is one of the best-selling albums of all time, with over 25 million copies sold worldwide. In the United States, it has been certified Diamond by the RIAA with more than 10 million copies sold. It received four Grammy Awards in 1972, including Album of the Year. The lead singles from the album-"It''s Too Late" and "I Feel the Earth Move"-spent five weeks at number one on both the Billboard Hot 100 and Easy Listening charts.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634798/51PmM2nj-cL._AC_SL1000__cfqgvd.jpg', 'Tapestry', 19.50, 'MUSIC', 'Carole King', 'Vinyl', 'Soft Rock', '1971-02-10', 'Ode Records'),
-('463c8d1e-562b-4b9f-a164-9ab7ce292a6b', '2024-06-11', 0, 'The Velvet Underground & Nico album, also referred to as "The Banana Album" designed by Andy Warhol (who also produced it) was released in March 1967. Most of the songs were recorded the previous year in a run-down studio before the band even had a record contract. Verve had decided to add alternative music to their label and picked up the group''s recordings. It features the classic tracks "Heroin," "I''m Waiting For The Man," and "Sunday Morning."', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634805/71YJlc9Wb6L._SL1500__u1yj4m.jpg', 'The Velvet Underground & Nico', 20.99, 'MUSIC', 'The Velvet Underground', 'Vinyl', 'Art Rock', '1967-03-12', 'Verve Records'),
-('a24635ab-f245-40d0-a1e4-93154d99e9b3', '2024-06-11', 0, 'Killer double LP from 1979 feat. ''Lost in the Supermarket'',''Guns of Brixton,'' ''Train in Vain'' and many more. Sony. 2016.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634810/71lsBqSZ5zL._SL1000__ghmno0.jpg', 'London Calling', 21.99, 'MUSIC', 'The Clash', 'Vinyl', 'Punk Rock', '1979-12-14', 'CBS Records'),
-('b5f24094-1447-4507-8032-c70b47c5c52a', '2024-06-11', 0, 'Dr. Dre''s iconic debut album, The Chronic, was originally released in 1992 and features the hits "Nuthin'' But A `G'' Thang," "F*ck Wit Dre Day (And Everybody''s Celebratin'')," and "Let Me Ride."', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634817/61gvMbukCwL._SL1280__nqpx3t.jpg', 'The Chronic', 18.99, 'MUSIC', 'Dr. Dre', 'CD', 'Hip Hop', '1992-12-15', 'Death Row Records');
+INSERT INTO products (id, product_discriminator, date_created, is_new_product, description, product_image_url, product_name, product_price, product_type)
+VALUES ('6a65f453-4d4a-41a6-97c9-9e0c4db52eac', 'Music', '2024-06-11', 1, 'The album was recorded in France, at Château d''Hérouville, also known at the time as "Strawberry Studios", which was how the studio was credited in the album''s sleeve; Honky Château, the previous Elton John album, had been recorded there.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634530/71IOa8a6zDL._SL1200__ymkgft.jpg', 'Don''t Shoot Me I''m Only the Piano Player', 79.99, 'MUSIC'),
+('2dc58abf-b93a-4444-a00d-52c5edc9066e', 'Music', '2024-06-11', 1, 'Michael Jackson: The Making of "Thriller" is an illustrated tribute to the King of Pop and his groundbreaking music video, with never-before-seen photos of its creation. The book features over 200 exclusive, behind-the-scenes photographs of the artist on set during the 1983 production of the Grammy award winning video directed by John Landis.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634541/81ogsUqshzL._SL1500__qzibwo.jpg', 'Thriller', 19.99, 'MUSIC'),
+('e0c15ea9-f20c-4a23-a777-b40777b401e9', 'Music', '2024-06-11', 1, 'From their formation in Sydney, Australia in 1973 by brothers Angus and Malcolm Young, AC/DC have made the most visceral and single-minded rock, and inspired generations of rock icons from Def Leppard to Guns N’ Roses and Metallica. The basic blueprint laid down in their early albums with Bon Scott―hard, no-nonsense, riff-driven rock ’n’ roll― has served them well with more than 200 million records sold, including the best-selling rock album of all time―Back in Black.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634546/61sJIfuUSiL._SL1500__k47o2t.jpg', 'Back in Black', 21.99, 'MUSIC'),
+('31a80708-5da8-4e61-9833-c0c4f8175378', 'Music', '2024-06-11', 1, 'March 2023 marks fifty years since the release of Pink Floyd''s classic album The Dark Side Of The Moon. Designed by Pentagram to high specifications, this celebratory publication brims with rare and unseen photographs and reveals the visual conception of the original iconic album artwork. It will be a covetable package for the legions of Floyd fans out there―new and old.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634552/61OBOiVbkeL._SL1500__p1t5xv.jpg', 'The Dark Side of the Moon', 22.99, 'MUSIC'),
+('d2ec7f33-265e-4d34-83ac-2dafece70b0f', 'Music', '2024-06-11', 1, 'One of the great rock classics! This multi-platinum folio includes eleven songs: Second-Hand News * Dreams * The Chain * Oh Daddy * Don''t Stop and more. Plus photos.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634555/819aRTepoJL._SL1500__wwvwat.jpg', 'Rumours', 18.99, 'MUSIC'),
+('6b2a9858-32a5-4f47-bd33-ca69b18059fe', 'Music', '2024-06-11', 1, 'In this wickedly entertaining and thoroughly informed homage to one of rock music''s towering pinnacles, Erik Davis investigates the magic-black or otherwise-that surrounds this album. Carefully peeling the layers from each song, Davis reveals their dark and often mystical roots-and leaves the reader to decide whether [FOUR SYMBOLS] is some form of occult induction or just an inspired, brilliantly played rock album.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634559/81x364UAGAL._SL1425__bwr2zp.jpg', 'Led Zeppelin IV', 23.99, 'MUSIC'),
+('9eb77cce-6be0-4e2c-acff-45e5cb6fe1d1', 'Music', '2024-06-11', 1, '(Piano/Vocal/Guitar Artist Songbook). The Classic Album Editions series highlights the most important albums of our time. A true classic has lasting significance; it may establish a new style or direction, and often, a true classic album may help define an era. Hotel California is a pivotal album in the collection, obtaining overnight popularity and success with album sales reaching over 16 million in the U.S. alone since its debut in 1976. Hotel California became the Eagles'' fifth album to hit the charts, with the singles "New Kid in Town," and "Hotel California," reaching number one on the Billboard Hot 100 chart. To this day, the album receives top rankings on virtually every publication''s list of top albums of all time, including VH1 and Rolling Stone magazine. This songbook features lyrics, melody line, and chord changes with professionally-arranged piano accompaniment. Songs include: Hotel California * New Kid in Town * Life in the Fast Lane * Wasted Time * Wasted Time (Reprise) * Victim of Love * Pretty Maids All in a Row * Try and Love Again * The Last Resort.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634562/71pctS7lG1L._SL1425__ydp7ec.jpg', 'Hotel California', 20.99, 'MUSIC'),
+('f384b6d6-d0e5-4ce9-ac27-ade1452470d0', 'Music', '2024-06-11', 1, '(Guitar Recorded Versions). Guitar tab transcriptions for 12 songs from the legendary smash hit album: Breed * Come As You Are * Drain You * In Bloom * Lithium * Lounge Act * On a Plain * (New Wave) Polly * Smells Like Teen Spirit * Something in the Way * Stay Away * Territorial Pissings.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634566/91G5ndi8yFL._SL1500__ymj7g2.jpg', 'Nevermind', 21.99, 'MUSIC'),
+('c34d4d2b-9017-4460-b0f1-412b118a3855', 'Music', '2024-06-11', 0, '(Guitar Recorded Versions). This iconic concept album by British rock band Pink Floyd spent a staggering 14 years on the Billboard album charts! It''s certainly an album that musicians continue to study and learn from. This folio includes new authentic transcriptions with notes and tablature for all 26 songs from the album, including: Another Brick in the Wall * Bring the Boys Back Home * Comfortably Numb * Empty Spaces * Goodbye Cruel World * Hey You * Is There Anybody Out There? * Nobody Home * Run like Hell * Stop * The Thin Ice * Waiting for the Worms * Young Lust * and more.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634569/71PLBJbUHlL._SL1500__zvd1zs.jpg', 'The Wall', 24.99, 'MUSIC'),
+('ead64b97-0533-4a49-a3ed-75de5d25ede0', 'Music', '2024-06-11', 0, 'Born to Run will be revelatory for anyone who has ever enjoyed Bruce Springsteen, but this book is much more than a legendary rock star''s memoir. This is a book for workers and dreamers, parents and children, lovers and loners, artists, freaks, or anyone who has ever wanted to be baptized in the holy river of rock and roll. Rarely has a performer told his own story with such force and sweep. Like many of his songs ("Thunder Road", "Badlands", "Darkness on the Edge of Town", "The River", "Born in the U.S.A.", "The Rising", and "The Ghost of Tom Joad", to name just a few), Bruce Springsteen''s autobiography is written with the lyricism of a singular songwriter and the wisdom of a man who has thought deeply about his experiences.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634571/71C4fRmt1tS._SL1500__fryew7.jpg', 'Born to Run', 19.99, 'MUSIC'),
+('717fc12a-e655-4ade-89cd-59433060379e', 'Music', '2024-06-11', 0, 'Alongside the 11-track album, the 2CD deluxe edition includes a live recording of The Joshua Tree Tour 1987 MSG concert. Featuring the hit singles "With Or Without You", "I Still Haven''t Found What I''m Looking For" and "Where The Streets Have No Name", The Joshua Tree went to #1 in the U.S and around the world, selling over 25 million albums.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634575/71VmUBCMvfL._SL1500__qcyxf3.jpg', 'The Joshua Tree', 22.50, 'MUSIC'),
+('83505d51-8535-42ef-a0be-b4bdd4af8606', 'Music', '2024-06-11', 0, 'Prince designed "Purple Rain" as the project that would make him a superstar, and surprisingly, that is exactly what happened. Simultaneously more focused and ambitious than any of his previous records, "Purple Rain" finds Prince consolidating his funk and R&B roots while moving boldly into pop, rock, and heavy metal with nine superbly crafted songs. Although Prince''s songwriting is at a peak, the presence of the Revolution pulls the music into sharper focus, giving it a tougher, more aggressive edge. Even with all of his new, but uncompromising, forays into pop Prince hasn''t abandoned funk. Taken together, all of the stylistic experiments add up to a stunning statement of purpose that remains one of the most exciting rock & roll albums ever created.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634578/81twmQBBnQL._SL1500__xcgj96.jpg', 'Purple Rain', 20.00, 'MUSIC'),
+('eb4d5230-21be-4f77-8eed-e7601d411465', 'Music', '2024-06-11', 0, '2014 version of the iconic 1973 Goodbye Yellow Brick Road album mastered for vinyl by Doug Sax and Robert Hadley at the Mastering Lab, California. This is two discs of heavy 180GM audiophile quality vinyl. Selling over 31 million albums worldwide and going platinum in the US seven times over, Goodbye Yellow Brick Road is widely regarded as the album that made Elton John a household name. Includes ''Benny and the Jets'', ''Goodbye Yellow Brick Road'', ''Candle in the Wind'', ''Saturday Night''s All Right for Fighting'' and ''Harmony''.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634581/91zrpOF_aiL._SL1500__o4aktf.jpg', 'Goodbye Yellow Brick Road', 18.50, 'MUSIC'),
+('21f4ce6d-6253-472c-aad0-8be48789da66', 'Music', '2024-06-11', 0, 'Queen''s fourth studio album, A Night at the Opera, was originally released in 1975. It peaked at #4 on the Billboard Albums chart and was their first to be platinum-certified. It includes the iconic singles, "Bohemian Rhapsody," and "You''re My Best Friend," which reached #2 and #7 respectively on the Billboard Hot 100. This LP reissue is pressed on 180-gram vinyl.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634583/71tMvc0xDPL._SL1500__p3vq3p.jpg', 'A Night at the Opera', 22.00, 'MUSIC'),
+('7b3e8b4f-4371-4ad1-88df-2233c93d0c96', 'Music', '2024-06-11', 0, 'Paul Simon''s 1986 masterpiece, Graceland, took home that year''s Album of the Year Grammy on the strength of a collection that included "The Boy In The Bubble," "Diamonds on the Soles of Her Shoes," "You Can Call Me Al," and a title song that won the Record of the Year Grammy. The CD''s bonuses include a demo version of "Homeless," an alternate version of "Diamonds on the Soles of Her Shoes," and an early version of "All Around the World or the Myth of Fingerprints." Graceland has sold more than 14 million copies worldwide.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634586/61k5AjMRieL._SL1389__h5cnh9.jpg', 'Graceland', 19.99, 'MUSIC'),
+('1b9ca4d1-dab1-4bfd-a723-b6126682c9fc', 'Music', '2024-06-11', 0, 'Tracks, Welcome to the Jungle; It''s So Easy (Explicit); Nightrain (Explicit); Out Ta Get Me (Explicit); Mr. Brownstone (Explicit); Paradise City; My Michelle (Explicit); Think About You (Explicit); Sweet Child O''Mine; You''re Crazy (Explicit); Anything Goes (Explicit) and Rocket Queen (Explicit). Universal. 2008.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634589/61lRkH4QO0L._SL1000__lmdlck.jpg', 'Appetite for Destruction', 21.50, 'MUSIC'),
+('94c517bb-9fe5-4e18-9782-362ae362ae78', 'Music', '2024-06-11', 0, 'The Eminem Show is the fourth studio album by American rapper Eminem, released on May 28, 2002 by Shady Records, Aftermath Entertainment and Interscope Records. It was the best-selling album of 2002 in the United States, with sales of 7.6 million copies.[1] At the 2003 Grammy Awards it was nominated for Album of the Year and became Eminem''s third LP in four years to win the award for Best Rap Album. On March 7, 2011, the album was certified ten-times-platinum by the Recording Industry Association of America, [2] making it Eminem''s second album to receive a Diamond certification in the United States. Since it''s release in 2002, the album sold 10, 500, 000 copies in the United States and more than 23 million copies worldwide. The Eminem Show is a reflective album, featuring Eminem''s more personal and serious side. This change gives the album a lighter tone, a departure from his previous albums. One of the most noticeable changes is the generally lighter lyrical content.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634756/61jxguiMreL._SL1200__xksnha.jpg', 'The Eminem Show', 17.99, 'MUSIC'),
+('fec38073-f3f7-4aaa-abba-94647d3fefed', 'Music', '2024-06-11', 0, 'Named as the Greatest Billboard Top 200 Album of All Time, 21 is the second studio album from the multiple Brit, Grammy, Oscar and Golden Globe award-winning, Adele. Available as single CD and single vinyl LP. Released in 2011, 21 is now the best-selling album of the 21st Century, with over 31 million copies sold worldwide. Tracklisting Side A: 1. Rolling in the Deep 2. Rumour Has It 3. Turning Tables 4. Don''t You Remember 5. Set fire to the rain 6. He won''t go side B: 1. Take it all 2. I''ll be waiting 3. One and only 4. Lovesong 5. Someone like you.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634766/61KB57Xfy-L._SL1200__ohsusn.jpg', '21', 18.99, 'MUSIC'),
+('c4d714d6-94cf-4cd8-abdf-df45be6bc8f4', 'Music', '2024-06-11', 0, 'This is the first time The BEATLES (‘White Album’) has been remixed and presented with additional demos and session recordings. To create the new stereo and 5.1 surround audio mixes for ‘The White Album,’ Martin and Okell worked with an expert team of engineers and audio restoration specialists at Abbey Road Studios in London. All the new ‘White Album’ releases include Martin’s new stereo album mix, sourced directly from the original four-track and eight-track session tapes. Martin’s new mix is guided by the album’s original stereo mix produced by his father, George Martin', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634773/21oMG2Q6uVL_el9ihj.jpg', 'The Beatles (White Album)', 25.00, 'MUSIC'),
+('5230aa67-ec98-4c01-b83c-2f9831398807', 'Music', '2024-06-11', 0, 'John Bonham, John Paul Jones, Jimmy Page and Robert Plant came together in 1968 as Led Zeppelin. Over the next decade, the band would become one of the most influential, innovative and successful groups in modern music. Their songs are some of the most celebrated in rock n roll history that, to this day, resonate with fans young and old around the globe. Still, no matter how many times you may have listened to their music, you ve never heard Led Zeppelin like this before.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634779/71Otw4r3ifL._SL1425__i41b0a.jpg', 'Led Zeppelin II', 23.99, 'MUSIC'),
+('74ba80d6-2f9f-4750-b898-9978e7b57ec3', 'Music', '2024-06-11', 0, '1. Airbag (Remastered), 2. Paranoid Android (Remastered), 3. Subterranean Homesick Alien (Remastered), 4. Exit Music (For A Film) (Remastered), 5. Let Down (Remastered), 6. Karma Police (Remastered), 7. Fitter Happier (Remastered), 8. Electioneering (Remastered), 9. Climbing Up The Walls , (Remastered), 10. No Surprises (Remastered), 11. Lucky (Remastered), 12. The Tourist (Remastered), 13. I Promise, 14. Man Of War, 15. Lift, 16. Lull , (Remastered), 17. Meeting In The Aisle (Remastered), 18. Melatonin (Remastered), 19. A Reminder (Remastered), 20. Polyethylene (Parts 1 & 2), (Remastered), 21. Pearly (Remastered), 22. Palo Alto (Remastered), 23. How I Made My Millions (Remastered).', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634785/71qtTEW46SL._SL1200__o3lv4i.jpg', 'OK Computer', 21.99, 'MUSIC'),
+('325a22a2-95af-4a45-9776-b9bf44dbe6d1', 'Music', '2024-06-11', 0, 'The Rise and Fall of Ziggy Stardust and the Spiders from Mars is the fifth studio album by David Bowie, which is loosely based on a story of a fictional rock star named Ziggy Stardust.Rhino will be breaking out ‘breaking out’ this albums from the David Bowie ‘Five Years 1969 – 1973’ box as a standalone releases. Available on1LP 180g Audiophile vinyl', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634791/81YLSzm09SL._SL1425__uj29pb.jpg', 'The Rise and Fall of Ziggy Stardust and the Spiders from Mars', 22.99, 'MUSIC'),
+('384f9281-5348-4f62-b0c9-7c44e17d7428', 'Music', '2024-06-11', 0, 'Limited 50th Anniversary vinyl LP pressing in gatefold jacket. Includes digital download. Tapestry is the second studio album by singer-songwriter Carole King, released in 1971 on Ode Records and produced by Lou Adler. It is one of the best-selling albums of all time, with over 25 million copies sold worldwide. In the United States, it has been certified Diamond by the RIAA with more than 10 million copies sold. It received four Grammy Awards in 1972, including Album of the Year. The lead singles from the album-"It''s Too Late" and "I Feel the Earth Move"-spent five weeks at number one on both the Billboard Hot 100 and Easy Listening charts.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634798/51PmM2nj-cL._AC_SL1000__cfqgvd.jpg', 'Tapestry', 19.50, 'MUSIC'),
+('463c8d1e-562b-4b9f-a164-9ab7ce292a6b', 'Music', '2024-06-11', 0, 'The Velvet Underground & Nico album, also referred to as "The Banana Album" designed by Andy Warhol (who also produced it) was released in March 1967. Most of the songs were recorded the previous year in a run-down studio before the band even had a record contract. Verve had decided to add alternative music to their label and picked up the group''s recordings. It features the classic tracks "Heroin," "I''m Waiting For The Man," and "Sunday Morning."', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634805/71YJlc9Wb6L._SL1500__u1yj4m.jpg', 'The Velvet Underground & Nico', 20.99, 'MUSIC'),
+('a24635ab-f245-40d0-a1e4-93154d99e9b3', 'Music', '2024-06-11', 0, 'Killer double LP from 1979 feat. ''Lost in the Supermarket'',''Guns of Brixton,'' ''Train in Vain'' and many more. Sony. 2016.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634810/71lsBqSZ5zL._SL1000__ghmno0.jpg', 'London Calling', 21.99, 'MUSIC'),
+('b5f24094-1447-4507-8032-c70b47c5c52a', 'Music', '2024-06-11', 0, 'Dr. Dre''s iconic debut album, The Chronic, was originally released in 1992 and features the hits "Nuthin'' But A `G'' Thang," "F*ck Wit Dre Day (And Everybody''s Celebratin'')," and "Let Me Ride."', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718634817/61gvMbukCwL._SL1280__nqpx3t.jpg', 'The Chronic', 18.99, 'MUSIC');
+
+INSERT INTO products_music (id, artist_name, carrier, genre, publication_date, publisher)
+VALUES ('6a65f453-4d4a-41a6-97c9-9e0c4db52eac', 'Elton John', 'Vinyl', 'Pop Rock', '1972-10-27', 'Mercury'),
+('2dc58abf-b93a-4444-a00d-52c5edc9066e', 'Michael Jackson', 'Vinyl', 'Pop', '1982-11-30', 'Epic Records'),
+('e0c15ea9-f20c-4a23-a777-b40777b401e9', 'AC/DC', 'Vinyl', 'Rock', '1980-07-25', 'Atlantic Records'),
+('31a80708-5da8-4e61-9833-c0c4f8175378', 'Pink Floyd', 'Vinyl', 'Progressive Rock', '1973-03-01', 'Harvest Records'),
+('d2ec7f33-265e-4d34-83ac-2dafece70b0f', 'Fleetwood Mac', 'CD', 'Rock', '1977-02-04', 'Warner Bros. Records'),
+('6b2a9858-32a5-4f47-bd33-ca69b18059fe', 'Led Zeppelin', 'Vinyl', 'Hard Rock', '1971-11-08', 'Atlantic Records'),
+('9eb77cce-6be0-4e2c-acff-45e5cb6fe1d1', 'Eagles', 'Vinyl', 'Rock', '1976-12-08', 'Asylum Records'),
+('f384b6d6-d0e5-4ce9-ac27-ade1452470d0', 'Nirvana', 'Vinyl', 'Grunge', '1991-09-24', 'DGC Records'),
+('c34d4d2b-9017-4460-b0f1-412b118a3855', 'Pink Floyd', 'Vinyl', 'Progressive Rock', '1979-11-30', 'Columbia Records'),
+('ead64b97-0533-4a49-a3ed-75de5d25ede0', 'Bruce Springsteen', 'CD', 'Rock', '1975-08-25', 'Columbia Records'),
+('717fc12a-e655-4ade-89cd-59433060379e', 'U2', 'Vinyl', 'Rock', '1987-03-09', 'Island Records'),
+('83505d51-8535-42ef-a0be-b4bdd4af8606', 'Prince', 'Vinyl', 'Pop', '1984-06-25', 'Warner Bros. Records'),
+('eb4d5230-21be-4f77-8eed-e7601d411465', 'Elton John', 'CD', 'Rock', '1973-10-05', 'MCA Records'),
+('21f4ce6d-6253-472c-aad0-8be48789da66', 'Queen', 'Vinyl', 'Rock', '1975-11-21', 'EMI Records'),
+('7b3e8b4f-4371-4ad1-88df-2233c93d0c96', 'Paul Simon', 'CD', 'Folk Rock', '1986-08-25', 'Warner Bros. Records'),
+('1b9ca4d1-dab1-4bfd-a723-b6126682c9fc', 'Guns N\' Roses', 'Vinyl', 'Hard Rock', '1987-07-21', 'Geffen Records'),
+('94c517bb-9fe5-4e18-9782-362ae362ae78', 'Eminem', 'CD', 'Hip Hop', '2002-05-26', 'Aftermath Entertainment'),
+('fec38073-f3f7-4aaa-abba-94647d3fefed', 'Adele', 'CD', 'Pop', '2011-01-24', 'XL Recordings'),
+('c4d714d6-94cf-4cd8-abdf-df45be6bc8f4', 'The Beatles', 'Vinyl', 'Rock', '1968-11-22', 'Apple Records'),
+('5230aa67-ec98-4c01-b83c-2f9831398807', 'Led Zeppelin', 'Vinyl', 'Hard Rock', '1969-10-22', 'Atlantic Records'),
+('74ba80d6-2f9f-4750-b898-9978e7b57ec3', 'Radiohead', 'Vinyl', 'Alternative Rock', '1997-05-21', 'Parlophone'),
+('325a22a2-95af-4a45-9776-b9bf44dbe6d1', 'David Bowie', 'Vinyl', 'Glam Rock', '1972-06-16', 'RCA Records'),
+('384f9281-5348-4f62-b0c9-7c44e17d7428', 'Carole King', 'Vinyl', 'Soft Rock', '1971-02-10', 'Ode Records'),
+('463c8d1e-562b-4b9f-a164-9ab7ce292a6b', 'The Velvet Underground', 'Vinyl', 'Art Rock', '1967-03-12', 'Verve Records'),
+('a24635ab-f245-40d0-a1e4-93154d99e9b3', 'The Clash', 'Vinyl', 'Punk Rock', '1979-12-14', 'CBS Records'),
+('b5f24094-1447-4507-8032-c70b47c5c52a', 'Dr. Dre', 'CD', 'Hip Hop', '1992-12-15', 'Death Row Records');
 
 # INSERT MOVIES
-INSERT INTO products_movies(id, date_created, is_new_product, product_image_url, description, product_name, product_price, product_type, carrier, genre)
-VALUES ('cb87046f-1336-4c41-941c-dcf953e98c07', '2024-06-11', 1, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636270/81tZmQwn2KL._SL1500__wz9vye.jpg', 'From Damien Chazelle, BABYLON is an original epic set in 1920s Los Angeles led by Brad Pitt, Margot Robbie and Diego Calva, with an ensemble cast including Jovan Adepo, Li Jun Li and Jean Smart. A tale of outsized ambition and outrageous excess, it traces the rise and fall of multiple characters during an era of unbridled decadence and depravity in early Hollywood.', 'BABYLON', 19.25, 'MOVIE', 'DVD', 'Drama'),
-('cb67d40a-f554-4d77-92c0-e5376b82cb99', '2024-06-11', 1, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636279/81FlT3v6emL._SL1500__ypnkbq.jpg', 'A landmark film from Quentin Tarantino, Pulp Fiction is a gritty, intertwining crime story that redefined cinema in the 1990s. Known for its sharp dialogue and eclectic soundtrack, it stars John Travolta, Uma Thurman, and Samuel L. Jackson.', 'Pulp Fiction', 11.99, 'MOVIE', 'BluRay', 'Crime, Drama'),
-('29dfb5f5-b163-47ef-8424-66694ef08f2d', '2024-06-11', 1, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636285/71jNApfPttL._SL1500__cttk5o.jpg', 'Christopher Nolan\'s The Dark Knight is a riveting crime drama that pits Batman against his greatest foe, the Joker. With a stellar cast led by Christian Bale and Heath Ledger, this film redefined the superhero genre.', 'The Dark Knight', 14.99, 'MOVIE', 'DVD', 'Action, Crime, Drama'),
-('5cb3927e-5d91-41c2-a060-d6d49b02a187', '2024-06-11', 1, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636292/714Kvax13CL._SL1236__xnrtjj.jpg', 'Forrest Gump, directed by Robert Zemeckis, is a heartwarming tale of an unlikely hero whose simple innocence and extraordinary experiences touch countless lives. Tom Hanks delivers an iconic performance in this beloved classic.', 'Forrest Gump', 9.99, 'MOVIE', 'BluRay', 'Drama, Romance'),
-('2a5a2334-d384-471c-b47d-625e80a6b0ce', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636298/913ccXTcMiL._SL1500__gvljox.jpg', 'Inception, directed by Christopher Nolan, is a mind-bending thriller that dives into the world of dreams. Leonardo DiCaprio leads an ensemble cast in this visually stunning and intellectually stimulating adventure.', 'Inception', 13.99, 'MOVIE', 'DVD', 'Action, Adventure, Sci-Fi'),
-('0babd752-8cec-48db-bd84-ddf27d7eacf2', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636326/810ODVWvc2S._SL1500__mn6fxw.jpg', 'The Shawshank Redemption is a timeless story of hope and friendship, set in a harsh prison environment. Directed by Frank Darabont and starring Tim Robbins and Morgan Freeman, it\'s an enduring favorite among film lovers.', 'The Shawshank Redemption', 12.50, 'MOVIE', 'BluRay', 'Drama'),
-('f4bcaf5f-0b1d-4e2a-aec9-4f4fd77b33ee', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636343/717zeNIUffL._AC_SL1500__qpjdxk.jpg', 'David Fincher\'s Fight Club is a dark, subversive exploration of modern masculinity and identity. Starring Brad Pitt and Edward Norton, this film challenges societal norms and remains a cult favorite.', 'Fight Club', 11.50, 'MOVIE', 'DVD', 'Drama'),
-('27ee2092-17c0-47ec-bc1a-26fc3cf9e3ac', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636354/81CTOywuRaL._AC_SL1500__xvhni2.jpg', 'The Matrix, directed by the Wachowskis, revolutionized the sci-fi genre with its groundbreaking special effects and philosophical storytelling. Keanu Reeves stars as Neo, a hacker who discovers the true nature of reality.', 'The Matrix', 12.00, 'MOVIE', 'BluRay', 'Action, Sci-Fi'),
-('871a621a-6557-45e6-acca-f6ac22963b4a', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636364/81YtZt5QTFL._AC_SL1500__aq0gye.jpg', 'Goodfellas, directed by Martin Scorsese, is a gritty, realistic portrayal of life in the mob. With a powerhouse cast led by Robert De Niro, Ray Liotta, and Joe Pesci, it\'s a must-see for crime drama enthusiasts.', 'Goodfellas', 10.99, 'MOVIE', 'DVD', 'Biography, Crime, Drama'),
-('e021e367-002a-45fd-9716-4cc2ba999a87', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636371/719kmsTK6ZL._AC_SL1500__xxq0j0.jpg', 'Schindler\'s List, directed by Steven Spielberg, is a harrowing and poignant account of the Holocaust. Liam Neeson stars as Oskar Schindler, a man who saved over a thousand Jewish lives. This film is both devastating and uplifting.', 'Schindler\'s List', 13.50, 'MOVIE', 'BluRay', 'Biography, Drama, History'),
-('8a349baf-30db-4ef4-92cc-9820bcda122d', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636385/91LAfx_AZhL._AC_SL1500__likjm4.jpg', 'The Lord of the Rings: The Return of the King, directed by Peter Jackson, is the epic conclusion to the legendary fantasy trilogy. With breathtaking visuals and an unforgettable story, it remains a cinematic milestone.', 'The Lord of the Rings: The Return of the King', 14.00, 'MOVIE', 'DVD', 'Action, Adventure, Drama'),
-('0344d1cf-cbfe-4fba-a992-e5a6e74ebce3', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636392/612h-jwI_EL._SL1200__zoddi3.jpg', 'Star Wars: Episode IV - A New Hope, directed by George Lucas, is the groundbreaking space opera that started it all. Featuring iconic characters and thrilling adventures, it laid the foundation for one of the most beloved franchises in film history.', 'Star Wars: Episode IV - A New Hope', 13.00, 'MOVIE', 'BluRay', 'Action, Adventure, Fantasy'),
-('440b7ddc-aa06-4fcc-869b-97cf83a0a8c3', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636454/91QqHuKHfTL._AC_SL2000__wgivrg.jpg', 'Christopher Nolan\'s Interstellar is a visually stunning and emotionally gripping journey through space and time. Starring Matthew McConaughey and Anne Hathaway, it explores themes of love, sacrifice, and human endurance.', 'Interstellar', 12.99, 'MOVIE', 'DVD', 'Adventure, Drama, Sci-Fi'),
-('2f3c02b5-7640-4c25-8562-94ca8dcb4066', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636458/81UNclZEbtL._AC_SL2000__a75x1s.jpg', 'Ridley Scott\'s Gladiator is a sweeping historical epic that follows the journey of a betrayed Roman general, played by Russell Crowe, who seeks vengeance against the corrupt emperor. It\'s a tale of honor, revenge, and redemption.', 'Gladiator', 11.99, 'MOVIE', 'BluRay', 'Action, Adventure, Drama'),
-('69a29237-0206-4ce0-b271-76743d81f76b', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636497/81Tj46I_86L._SL1500__qgss3x.jpg', 'The Silence of the Lambs, directed by Jonathan Demme, is a chilling psychological thriller featuring Anthony Hopkins as the infamous Hannibal Lecter and Jodie Foster as the determined FBI agent Clarice Starling.', 'The Silence of the Lambs', 10.99, 'MOVIE', 'DVD', 'Crime, Drama, Thriller'),
-('8ec47b6d-1653-46fb-9b32-3a4c3516121d', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636504/81QTNOmE7RL._SL2000__gh7qoh.jpg', 'Se7en, directed by David Fincher, is a dark and gripping mystery thriller that follows two detectives, played by Brad Pitt and Morgan Freeman, as they hunt a serial killer who uses the seven deadly sins as his modus operandi.', 'Se7en', 12.50, 'MOVIE', 'BluRay', 'Crime, Drama, Mystery'),
-('a0a7a572-e7c3-4898-a458-401c8e8321c9', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636508/711OlQRobBL._SL1500__xhj48o.jpg', 'Steven Spielberg\'s Saving Private Ryan is a powerful and realistic depiction of the horrors of World War II. Starring Tom Hanks, it follows a group of soldiers on a mission to rescue a paratrooper behind enemy lines.', 'Saving Private Ryan', 13.50, 'MOVIE', 'DVD', 'Drama, War'),
-('8968d074-93a6-4ca5-a0eb-86b2b67fc812', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636518/7146s0GzEUL._SL1500__lpoflk.jpg', 'Jurassic Park, directed by Steven Spielberg, brings dinosaurs to life with groundbreaking special effects and thrilling storytelling. This adventure film, based on Michael Crichton\'s novel, captivates audiences of all ages.', 'Jurassic Park', 11.99, 'MOVIE', 'BluRay', 'Adventure, Sci-Fi, Thriller'),
-('f0ff3e14-3b33-420f-9624-cc3bcc19afd0', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636526/81UpMuhj86L._SL1500__csv0xr.jpg', 'The Lion King is a beloved Disney animated classic that tells the coming-of-age story of Simba, a lion cub destined to be king. Featuring memorable music and stunning animation, it\'s a timeless tale for all ages.', 'The Lion King', 10.50, 'MOVIE', 'DVD', 'Animation, Adventure, Drama'),
-('0cb4ebab-1923-40ce-9bd6-2711cb1bace9', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636534/71osmBH30GL._SL1500__xgxm1f.jpg', 'James Cameron\'s Titanic is an epic romance and disaster film that tells the tragic story of the ill-fated RMS Titanic. Starring Leonardo DiCaprio and Kate Winslet, it combines historical events with a poignant love story.', 'Titanic', 13.00, 'MOVIE', 'BluRay', 'Drama, Romance'),
-('95fece8a-787a-4e32-b211-0a636fa3d265', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636534/71osmBH30GL._SL1500__xgxm1f.jpg', 'The Departed, directed by Martin Scorsese, is a tense and gripping crime thriller set in Boston. Featuring Leonardo DiCaprio, Matt Damon, and Jack Nicholson, it explores themes of identity and deception within the world of crime and law enforcement.', 'The Departed', 12.99, 'MOVIE', 'DVD', 'Crime, Drama, Thriller'),
-('285d1eb3-8cae-4064-9916-a2e5938b195a', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636544/71Q6YhYVSKL._SL1500__otokvh.jpg', 'The Green Mile, directed by Frank Darabont, is a deeply moving drama set on Death Row. Starring Tom Hanks and Michael Clarke Duncan, it tells the story of a miraculous inmate with a mysterious gift.', 'The Green Mile', 11.50, 'MOVIE', 'BluRay', 'Crime, Drama, Fantasy'),
-('528aa80d-cae7-4789-8ee1-a804653db227', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636591/81dqgVudIDL._SL1500__lbcghz.jpg', 'Mel Gibson\'s Braveheart is an epic tale of the legendary Scottish hero William Wallace, who leads a rebellion against English tyranny. Known for its grand battle scenes and powerful storytelling, it\'s a historical drama of courage and freedom.', 'Braveheart', 12.00, 'MOVIE', 'DVD', 'Biography, Drama, History'),
-('a76c77fe-5341-4a5c-a0ad-0e40f7417a98', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636597/81zsYe3WUgL._SL_1500__f7vccf.jpg', 'James Cameron\'s Avatar is a groundbreaking sci-fi epic that transports audiences to the alien world of Pandora. With stunning visuals and an engaging story, it follows the journey of a human soldier who integrates with the native Na\'vi people.', 'Avatar', 14.99, 'MOVIE', 'BluRay', 'Action, Adventure, Fantasy'),
-('6917cc85-5cb4-49f1-9851-bcf132fe1770', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636606/8161X6Ai48L._SL1500__ljlvjc.jpg', 'The Avengers, directed by Joss Whedon, is a thrilling superhero ensemble film that brings together characters from the Marvel Universe. Featuring Iron Man, Thor, Hulk, and more, it\'s a high-energy action movie filled with humor and excitement.', 'The Avengers', 13.99, 'MOVIE', 'DVD', 'Action, Adventure, Sci-Fi'),
-('b01ccbed-48b6-4052-9672-1faf57c0406c', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636610/51sjI5_2bCL._SL_1500__idm3rp.jpg', 'The Social Network, directed by David Fincher, tells the gripping story of the creation of Facebook. Starring Jesse Eisenberg as Mark Zuckerberg, it\'s a tale of ambition, betrayal, and the complex dynamics of the tech world.', 'The Social Network', 11.00, 'MOVIE', 'BluRay', 'Biography, Drama'),
-('8513f018-188d-4270-b95f-6f278b7f017b', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636627/81a-hTiPUBL._SL_1500__fxuarz.jpg', 'A Beautiful Mind, directed by Ron Howard, is a biographical drama about the life of mathematician John Nash. Starring Russell Crowe, it explores his brilliance, struggles with mental illness, and eventual triumph.', 'A Beautiful Mind', 10.99, 'MOVIE', 'DVD', 'Biography, Drama'),
-('2150f860-0cba-4b02-af35-bae9f3641191', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636634/81Uq_2COSbL._SL_1500__glcjzq.jpg', 'Django Unchained, directed by Quentin Tarantino, is a stylish and gritty western that follows a freed slave, played by Jamie Foxx, on a quest to rescue his wife. It features intense performances and sharp dialogue.', 'Django Unchained', 12.50, 'MOVIE', 'BluRay', 'Drama, Western'),
-('52d51444-1225-4356-9d9c-ebf51e17fa59', '2024-06-11', 0, 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636647/81XWC2RchiL._SL_1500__poe6zp.jpg', 'The Wolf of Wall Street, directed by Martin Scorsese, is a wild and darkly comedic look at the life of stockbroker Jordan Belfort. Starring Leonardo DiCaprio, it showcases the excesses and corruption of Wall Street.', 'The Wolf of Wall Street', 11.99, 'MOVIE', 'DVD', 'Biography, Crime, Drama');
+INSERT INTO products (id, product_discriminator, date_created, is_new_product, description, product_image_url, product_name, product_price, product_type)
+VALUES ('cb87046f-1336-4c41-941c-dcf953e98c07', 'Movie', '2024-06-11', 1, 'From Damien Chazelle, BABYLON is an original epic set in 1920s Los Angeles led by Brad Pitt, Margot Robbie and Diego Calva, with an ensemble cast including Jovan Adepo, Li Jun Li and Jean Smart. A tale of outsized ambition and outrageous excess, it traces the rise and fall of multiple characters during an era of unbridled decadence and depravity in early Hollywood.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636270/81tZmQwn2KL._SL1500__wz9vye.jpg', 'BABYLON', 19.25, 'MOVIE'),
+('cb67d40a-f554-4d77-92c0-e5376b82cb99', 'Movie', '2024-06-11', 1, 'A landmark film from Quentin Tarantino, Pulp Fiction is a gritty, intertwining crime story that redefined cinema in the 1990s. Known for its sharp dialogue and eclectic soundtrack, it stars John Travolta, Uma Thurman, and Samuel L. Jackson.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636279/81FlT3v6emL._SL1500__ypnkbq.jpg', 'Pulp Fiction', 11.99, 'MOVIE'),
+('29dfb5f5-b163-47ef-8424-66694ef08f2d', 'Movie', '2024-06-11', 1, 'Christopher Nolan\'s The Dark Knight is a riveting crime drama that pits Batman against his greatest foe, the Joker. With a stellar cast led by Christian Bale and Heath Ledger, this film redefined the superhero genre.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636285/71jNApfPttL._SL1500__cttk5o.jpg', 'The Dark Knight', 14.99, 'MOVIE'),
+('5cb3927e-5d91-41c2-a060-d6d49b02a187', 'Movie', '2024-06-11', 1, 'Forrest Gump, directed by Robert Zemeckis, is a heartwarming tale of an unlikely hero whose simple innocence and extraordinary experiences touch countless lives. Tom Hanks delivers an iconic performance in this beloved classic.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636292/714Kvax13CL._SL1236__xnrtjj.jpg', 'Forrest Gump', 9.99, 'MOVIE'),
+('2a5a2334-d384-471c-b47d-625e80a6b0ce', 'Movie', '2024-06-11', 0, 'Inception, directed by Christopher Nolan, is a mind-bending thriller that dives into the world of dreams. Leonardo DiCaprio leads an ensemble cast in this visually stunning and intellectually stimulating adventure.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636298/913ccXTcMiL._SL1500__gvljox.jpg', 'Inception', 13.99, 'MOVIE'),
+('0babd752-8cec-48db-bd84-ddf27d7eacf2', 'Movie', '2024-06-11', 0, 'The Shawshank Redemption is a timeless story of hope and friendship, set in a harsh prison environment. Directed by Frank Darabont and starring Tim Robbins and Morgan Freeman, it\'s an enduring favorite among film lovers.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636326/810ODVWvc2S._SL1500__mn6fxw.jpg', 'The Shawshank Redemption', 12.50, 'MOVIE'),
+('f4bcaf5f-0b1d-4e2a-aec9-4f4fd77b33ee', 'Movie', '2024-06-11', 0, 'David Fincher\'s Fight Club is a dark, subversive exploration of modern masculinity and identity. Starring Brad Pitt and Edward Norton, this film challenges societal norms and remains a cult favorite.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636343/717zeNIUffL._AC_SL1500__qpjdxk.jpg', 'Fight Club', 11.50, 'MOVIE'),
+('27ee2092-17c0-47ec-bc1a-26fc3cf9e3ac', 'Movie', '2024-06-11', 0, 'The Matrix, directed by the Wachowskis, revolutionized the sci-fi genre with its groundbreaking special effects and philosophical storytelling. Keanu Reeves stars as Neo, a hacker who discovers the true nature of reality.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636354/81CTOywuRaL._AC_SL1500__xvhni2.jpg', 'The Matrix', 12.00, 'MOVIE'),
+('871a621a-6557-45e6-acca-f6ac22963b4a', 'Movie', '2024-06-11', 0, 'Goodfellas, directed by Martin Scorsese, is a gritty, realistic portrayal of life in the mob. With a powerhouse cast led by Robert De Niro, Ray Liotta, and Joe Pesci, it\'s a must-see for crime drama enthusiasts.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636364/81YtZt5QTFL._AC_SL1500__aq0gye.jpg', 'Goodfellas', 10.99, 'MOVIE'),
+('e021e367-002a-45fd-9716-4cc2ba999a87', 'Movie', '2024-06-11', 0, 'Schindler\'s List, directed by Steven Spielberg, is a harrowing and poignant account of the Holocaust. Liam Neeson stars as Oskar Schindler, a man who saved over a thousand Jewish lives. This film is both devastating and uplifting.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636371/719kmsTK6ZL._AC_SL1500__xxq0j0.jpg', 'Schindler\'s List', 13.50, 'MOVIE'),
+('8a349baf-30db-4ef4-92cc-9820bcda122d', 'Movie', '2024-06-11', 0, 'The Lord of the Rings: The Return of the King, directed by Peter Jackson, is the epic conclusion to the legendary fantasy trilogy. With breathtaking visuals and an unforgettable story, it remains a cinematic milestone.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636385/91LAfx_AZhL._AC_SL1500__likjm4.jpg', 'The Lord of the Rings: The Return of the King', 14.00, 'MOVIE'),
+('0344d1cf-cbfe-4fba-a992-e5a6e74ebce3', 'Movie', '2024-06-11', 0, 'Star Wars: Episode IV - A New Hope, directed by George Lucas, is the groundbreaking space opera that started it all. Featuring iconic characters and thrilling adventures, it laid the foundation for one of the most beloved franchises in film history.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636392/612h-jwI_EL._SL1200__zoddi3.jpg', 'Star Wars: Episode IV - A New Hope', 13.00, 'MOVIE'),
+('440b7ddc-aa06-4fcc-869b-97cf83a0a8c3', 'Movie', '2024-06-11', 0, 'Christopher Nolan\'s Interstellar is a visually stunning and emotionally gripping journey through space and time. Starring Matthew McConaughey and Anne Hathaway, it explores themes of love, sacrifice, and human endurance.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636454/91QqHuKHfTL._AC_SL2000__wgivrg.jpg', 'Interstellar', 12.99, 'MOVIE'),
+('2f3c02b5-7640-4c25-8562-94ca8dcb4066', 'Movie', '2024-06-11', 0, 'Ridley Scott\'s Gladiator is a sweeping historical epic that follows the journey of a betrayed Roman general, played by Russell Crowe, who seeks vengeance against the corrupt emperor. It\'s a tale of honor, revenge, and redemption.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636458/81UNclZEbtL._AC_SL2000__a75x1s.jpg', 'Gladiator', 11.99, 'MOVIE'),
+('69a29237-0206-4ce0-b271-76743d81f76b', 'Movie', '2024-06-11', 0, 'The Silence of the Lambs, directed by Jonathan Demme, is a chilling psychological thriller featuring Anthony Hopkins as the infamous Hannibal Lecter and Jodie Foster as the determined FBI agent Clarice Starling.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636497/81Tj46I_86L._SL1500__qgss3x.jpg', 'The Silence of the Lambs', 10.99, 'MOVIE'),
+('8ec47b6d-1653-46fb-9b32-3a4c3516121d', 'Movie', '2024-06-11', 0, 'Se7en, directed by David Fincher, is a dark and gripping mystery thriller that follows two detectives, played by Brad Pitt and Morgan Freeman, as they hunt a serial killer who uses the seven deadly sins as his modus operandi.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636504/81QTNOmE7RL._SL2000__gh7qoh.jpg', 'Se7en', 12.50, 'MOVIE'),
+('a0a7a572-e7c3-4898-a458-401c8e8321c9', 'Movie', '2024-06-11', 0, 'Steven Spielberg\'s Saving Private Ryan is a powerful and realistic depiction of the horrors of World War II. Starring Tom Hanks, it follows a group of soldiers on a mission to rescue a paratrooper behind enemy lines.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636508/711OlQRobBL._SL1500__xhj48o.jpg', 'Saving Private Ryan', 13.50, 'MOVIE'),
+('8968d074-93a6-4ca5-a0eb-86b2b67fc812', 'Movie', '2024-06-11', 0, 'Jurassic Park, directed by Steven Spielberg, brings dinosaurs to life with groundbreaking special effects and thrilling storytelling. This adventure film, based on Michael Crichton\'s novel, captivates audiences of all ages.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636518/7146s0GzEUL._SL1500__lpoflk.jpg', 'Jurassic Park', 11.99, 'MOVIE'),
+('f0ff3e14-3b33-420f-9624-cc3bcc19afd0', 'Movie', '2024-06-11', 0, 'The Lion King is a beloved Disney animated classic that tells the coming-of-age story of Simba, a lion cub destined to be king. Featuring memorable music and stunning animation, it\'s a timeless tale for all ages.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636526/81UpMuhj86L._SL1500__csv0xr.jpg', 'The Lion King', 10.50, 'MOVIE'),
+('0cb4ebab-1923-40ce-9bd6-2711cb1bace9', 'Movie', '2024-06-11', 0, 'James Cameron\'s Titanic is an epic romance and disaster film that tells the tragic story of the ill-fated RMS Titanic. Starring Leonardo DiCaprio and Kate Winslet, it combines historical events with a poignant love story.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636534/71osmBH30GL._SL1500__xgxm1f.jpg', 'Titanic', 13.00, 'MOVIE'),
+('95fece8a-787a-4e32-b211-0a636fa3d265', 'Movie', '2024-06-11', 0, 'The Departed, directed by Martin Scorsese, is a tense and gripping crime thriller set in Boston. Featuring Leonardo DiCaprio, Matt Damon, and Jack Nicholson, it explores themes of identity and deception within the world of crime and law enforcement.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636534/71osmBH30GL._SL1500__xgxm1f.jpg', 'The Departed', 12.99, 'MOVIE'),
+('285d1eb3-8cae-4064-9916-a2e5938b195a', 'Movie', '2024-06-11', 0, 'The Green Mile, directed by Frank Darabont, is a deeply moving drama set on Death Row. Starring Tom Hanks and Michael Clarke Duncan, it tells the story of a miraculous inmate with a mysterious gift.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636544/71Q6YhYVSKL._SL1500__otokvh.jpg', 'The Green Mile', 11.50, 'MOVIE'),
+('528aa80d-cae7-4789-8ee1-a804653db227', 'Movie', '2024-06-11', 0, 'Mel Gibson\'s Braveheart is an epic tale of the legendary Scottish hero William Wallace, who leads a rebellion against English tyranny. Known for its grand battle scenes and powerful storytelling, it\'s a historical drama of courage and freedom.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636591/81dqgVudIDL._SL1500__lbcghz.jpg', 'Braveheart', 12.00, 'MOVIE'),
+('a76c77fe-5341-4a5c-a0ad-0e40f7417a98', 'Movie', '2024-06-11', 0, 'James Cameron\'s Avatar is a groundbreaking sci-fi epic that transports audiences to the alien world of Pandora. With stunning visuals and an engaging story, it follows the journey of a human soldier who integrates with the native Na\'vi people.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636597/81zsYe3WUgL._SL_1500__f7vccf.jpg', 'Avatar', 14.99, 'MOVIE'),
+('6917cc85-5cb4-49f1-9851-bcf132fe1770', 'Movie', '2024-06-11', 0, 'The Avengers, directed by Joss Whedon, is a thrilling superhero ensemble film that brings together characters from the Marvel Universe. Featuring Iron Man, Thor, Hulk, and more, it\'s a high-energy action movie filled with humor and excitement.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636606/8161X6Ai48L._SL1500__ljlvjc.jpg', 'The Avengers', 13.99, 'MOVIE'),
+('b01ccbed-48b6-4052-9672-1faf57c0406c', 'Movie', '2024-06-11', 0, 'The Social Network, directed by David Fincher, tells the gripping story of the creation of Facebook. Starring Jesse Eisenberg as Mark Zuckerberg, it\'s a tale of ambition, betrayal, and the complex dynamics of the tech world.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636610/51sjI5_2bCL._SL_1500__idm3rp.jpg', 'The Social Network', 11.00, 'MOVIE'),
+('8513f018-188d-4270-b95f-6f278b7f017b', 'Movie', '2024-06-11', 0, 'A Beautiful Mind, directed by Ron Howard, is a biographical drama about the life of mathematician John Nash. Starring Russell Crowe, it explores his brilliance, struggles with mental illness, and eventual triumph.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636627/81a-hTiPUBL._SL_1500__fxuarz.jpg', 'A Beautiful Mind', 10.99, 'MOVIE'),
+('2150f860-0cba-4b02-af35-bae9f3641191', 'Movie', '2024-06-11', 0, 'Django Unchained, directed by Quentin Tarantino, is a stylish and gritty western that follows a freed slave, played by Jamie Foxx, on a quest to rescue his wife. It features intense performances and sharp dialogue.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636634/81Uq_2COSbL._SL_1500__glcjzq.jpg', 'Django Unchained', 12.50, 'MOVIE'),
+('52d51444-1225-4356-9d9c-ebf51e17fa59', 'Movie', '2024-06-11', 0, 'The Wolf of Wall Street, directed by Martin Scorsese, is a wild and darkly comedic look at the life of stockbroker Jordan Belfort. Starring Leonardo DiCaprio, it showcases the excesses and corruption of Wall Street.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718636647/81XWC2RchiL._SL_1500__poe6zp.jpg', 'The Wolf of Wall Street', 11.99, 'MOVIE');
+
+INSERT INTO products_movies (id, carrier, genre)
+VALUES ('cb87046f-1336-4c41-941c-dcf953e98c07', 'DVD', 'Drama'),
+('cb67d40a-f554-4d77-92c0-e5376b82cb99', 'BluRay', 'Crime, Drama'),
+('29dfb5f5-b163-47ef-8424-66694ef08f2d', 'DVD', 'Action, Crime, Drama'),
+('5cb3927e-5d91-41c2-a060-d6d49b02a187', 'BluRay', 'Drama, Romance'),
+('2a5a2334-d384-471c-b47d-625e80a6b0ce', 'DVD', 'Action, Adventure, Sci-Fi'),
+('0babd752-8cec-48db-bd84-ddf27d7eacf2', 'BluRay', 'Drama'),
+('f4bcaf5f-0b1d-4e2a-aec9-4f4fd77b33ee', 'DVD', 'Drama'),
+('27ee2092-17c0-47ec-bc1a-26fc3cf9e3ac', 'BluRay', 'Action, Sci-Fi'),
+('871a621a-6557-45e6-acca-f6ac22963b4a', 'DVD', 'Biography, Crime, Drama'),
+('e021e367-002a-45fd-9716-4cc2ba999a87', 'BluRay', 'Biography, Drama, History'),
+('8a349baf-30db-4ef4-92cc-9820bcda122d', 'DVD', 'Action, Adventure, Drama'),
+('0344d1cf-cbfe-4fba-a992-e5a6e74ebce3', 'BluRay', 'Action, Adventure, Fantasy'),
+('440b7ddc-aa06-4fcc-869b-97cf83a0a8c3', 'DVD', 'Adventure, Drama, Sci-Fi'),
+('2f3c02b5-7640-4c25-8562-94ca8dcb4066', 'BluRay', 'Action, Adventure, Drama'),
+('69a29237-0206-4ce0-b271-76743d81f76b', 'DVD', 'Crime, Drama, Thriller'),
+('8ec47b6d-1653-46fb-9b32-3a4c3516121d', 'BluRay', 'Crime, Drama, Mystery'),
+('a0a7a572-e7c3-4898-a458-401c8e8321c9', 'DVD', 'Drama, War'),
+('8968d074-93a6-4ca5-a0eb-86b2b67fc812', 'BluRay', 'Adventure, Sci-Fi, Thriller'),
+('f0ff3e14-3b33-420f-9624-cc3bcc19afd0', 'DVD', 'Animation, Adventure, Drama'),
+('0cb4ebab-1923-40ce-9bd6-2711cb1bace9', 'BluRay', 'Drama, Romance'),
+('95fece8a-787a-4e32-b211-0a636fa3d265', 'DVD', 'Crime, Drama, Thriller'),
+('285d1eb3-8cae-4064-9916-a2e5938b195a', 'BluRay', 'Crime, Drama, Fantasy'),
+('528aa80d-cae7-4789-8ee1-a804653db227', 'DVD', 'Biography, Drama, History'),
+('a76c77fe-5341-4a5c-a0ad-0e40f7417a98', 'BluRay', 'Action, Adventure, Fantasy'),
+('6917cc85-5cb4-49f1-9851-bcf132fe1770', 'DVD', 'Action, Adventure, Sci-Fi'),
+('b01ccbed-48b6-4052-9672-1faf57c0406c', 'BluRay', 'Biography, Drama'),
+('8513f018-188d-4270-b95f-6f278b7f017b', 'DVD', 'Biography, Drama'),
+('2150f860-0cba-4b02-af35-bae9f3641191', 'BluRay', 'Drama, Western'),
+('52d51444-1225-4356-9d9c-ebf51e17fa59', 'DVD', 'Biography, Crime, Drama');
+
+INSERT INTO products (id, product_discriminator, date_created, is_new_product, description, product_image_url, product_name, product_price, product_type)
+VALUES ('5b370a35-9219-4160-8954-bbc70b3e4293', 'Toy', '2024-06-11', 1, 'Ultimate Build - Defend the Galaxy and build the largest LEGO Star Wars Millennium Falcon to date! The perfect set for adult Star Wars fans and expert builders, inspiring hours of play recreating the films or can be displayed as a collectible toy model', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637198/81kmuPJ9IOL._AC_SL1468__kbpu1l.jpg', 'LEGO Star Wars Ultimate Millennium Falcon 75192 - Expert Building Set and Starship Model Kit, Movie Collectible, Featuring Classic Figures and Han Solo''s Iconic Ship', 834.99, 'TOY'),
+('0600fefb-710a-466e-a6d0-24f69f9501ab', 'Toy', '2024-06-11', 1, 'Lego 75343 Star Wars Dark Trooper Helmet Collection Wars Buildable Display Stand with Set Nane Logo', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637209/61uVqLTxPML._AC_SL1000__mhriie.jpg', 'Star Wars Dark Trooper Helmet', 190.90, 'TOY'),
+('29a04c1e-ed91-476c-b5c9-593d18be098b', 'Toy', '2024-06-11', 0, 'LEGO Marvel Nano Gauntlet, Iron Man Model with Infinity Stones, 76223 Avengers: Endgame Film Set, Collectable Memorabilia, Gift Idea for Adults and Teens', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637225/81SD23gywyL._AC_SL1500__xzqgvb.jpg', 'Marvel Nano Gauntlet', 69.99, 'TOY'),
+('a49c0d64-b144-405d-b713-9f01315f2ba5', 'Toy', '2024-06-11', 0, 'LEGO Marvel Infinity Gauntlet Set 76191 Collectible Thanos Glove with Infinity Stones, Building Set, Avengers Gift Idea for Adults and Teens, Model Kits for Decoration and Display', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637243/61iPG6i1miL._AC_SL1001__fn5vzm.jpg', 'product_name', 63.99, 'TOY'),
+('45078b00-4537-41f0-9b35-36fc22466b6d', 'Toy', '2024-06-11', 1, 'LEGO Star Wars Darth Vader Helmet Set, Mask Model Kit for Adults to Build and Display, Collectible Star Wars Home Décor, Graduation Gift Idea, 75304', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637260/81ooogrOCEL._AC_SL1500__ibbprt.jpg', 'Star Wars Darth Vader Helmet', 63.89, 'TOY'),
+('bc5903cb-b90e-45e8-90fa-dbba5f7ab68b', 'Toy', '2024-06-11', 1, 'LEGO Star Wars at-at Walker 75313 Buildable Model - Collectible Set for Adults, Ultimate Build and Display Set, 9 Minifigures Including General Veers, Luke Skywalker, Snowtroopers and at-at Drivers', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637279/81ASCxTdsVL._AC_SL1500__zolbza.jpg', 'Star Wars at-at Walker', 839.99, 'TOY'),
+('95f63dd0-8b20-4432-9090-8f2489251106', 'Toy', '2024-06-11', 0, 'POP Marvel Gamerverse: Spider-Man 2 - Venom Funko Vinyl Figure (Bundled with Compatible Box Protector Case), Multicolored, 3.75 inches', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637350/61ryFr67u8L._AC_SL1434__umycuq.jpg', 'Funko POP! Marvel: Spider-Man - Venom (Gamerverse) #972', 14.39, 'TOY'),
+('d41d8762-e75a-4633-8ce5-8c8d6ca447a9', 'Toy', '2024-06-11', 0, 'Funko Pop Stranger Things Vecna GITD Hot Topic Exclusive.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637360/61OBLZQBBcL._AC_SL1200__jzzbet.jpg', 'Funko POP! Television: Stranger Things - Vecna (Glows in the Dark) (Special Edition) #1464', 29.99, 'TOY'),
+('e09f55d1-c6e4-400b-82f0-fbcff07ebf3c', 'Toy', '2024-06-11', 0, 'Funko Pop! Football: Barcelona - Lewandowski', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637371/715IosdKzYL._AC_SL1300__zo6nsd.jpg', 'Funko POP! Sports: Football - Lewandowski (Barcelona) #64', 34.99, 'TOY'),
+('d098ef02-1a99-43bb-b1c7-377b1e1257a4', 'Toy', '2024-06-11', 0, 'POP Marvel Gamerverse: Spider-Man 2 - Peter Parker Advanced Suit 2.0 Funko Vinyl Figure (Bundled with Compatible Box Protector Case), Multicolored, 3.75 inches', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637392/61gUSaii4lL._AC_SL1303__necrxn.jpg', 'Funko POP! Marvel: Spider-Man - Peter Parker (Advanced Suit 2.0) (Gamerverse) #971', 34.99, 'TOY'),
+('37d4ce2c-8ef4-4d15-b791-9bf0f70f0950', 'Toy', '2024-06-11', 0, 'Funko Pop! Racing: Max Verstappen', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637398/71u946nCQ6L._AC_SL1300__hf1fi5.jpg', 'Funko POP! Racing: Formula 1 - Max Verstappen (Oracle Red Bull Racing) #03', 34.99, 'TOY');
 
-INSERT INTO products_toys(id, date_created, is_new_product, description, product_image_url, product_name, product_price, product_type, brand)
-VALUES ('5b370a35-9219-4160-8954-bbc70b3e4293', '2024-06-11', 1, 'Ultimate Build - Defend the Galaxy and build the largest LEGO Star Wars Millennium Falcon to date! The perfect set for adult Star Wars fans and expert builders, inspiring hours of play recreating the films or can be displayed as a collectible toy model', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637198/81kmuPJ9IOL._AC_SL1468__kbpu1l.jpg', 'LEGO Star Wars Ultimate Millennium Falcon 75192 - Expert Building Set and Starship Model Kit, Movie Collectible, Featuring Classic Figures and Han Solo''s Iconic Ship', 834.99, 'TOY', 'LEGO'),
-('0600fefb-710a-466e-a6d0-24f69f9501ab', '2024-06-11', 1, 'Lego 75343 Star Wars Dark Trooper Helmet Collection Wars Buildable Display Stand with Set Nane Logo', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637209/61uVqLTxPML._AC_SL1000__mhriie.jpg', 'Star Wars Dark Trooper Helmet', 190.90, 'TOY', 'LEGO'),
-('29a04c1e-ed91-476c-b5c9-593d18be098b', '2024-06-11', 0, 'LEGO Marvel Nano Gauntlet, Iron Man Model with Infinity Stones, 76223 Avengers: Endgame Film Set, Collectable Memorabilia, Gift Idea for Adults and Teens', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637225/81SD23gywyL._AC_SL1500__xzqgvb.jpg', 'Marvel Nano Gauntlet', 69.99, 'TOY', 'LEGO'),
-('a49c0d64-b144-405d-b713-9f01315f2ba5', '2024-06-11', 0, 'LEGO Marvel Infinity Gauntlet Set 76191 Collectible Thanos Glove with Infinity Stones, Building Set, Avengers Gift Idea for Adults and Teens, Model Kits for Decoration and Display', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637243/61iPG6i1miL._AC_SL1001__fn5vzm.jpg', 'product_name', 63.99, 'TOY', 'LEGO'),
-('45078b00-4537-41f0-9b35-36fc22466b6d', '2024-06-11', 1, 'LEGO Star Wars Darth Vader Helmet Set, Mask Model Kit for Adults to Build and Display, Collectible Star Wars Home Décor, Graduation Gift Idea, 75304', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637260/81ooogrOCEL._AC_SL1500__ibbprt.jpg', 'Star Wars Darth Vader Helmet', 63.89, 'TOY', 'LEGO'),
-('bc5903cb-b90e-45e8-90fa-dbba5f7ab68b', '2024-06-11', 1, 'LEGO Star Wars at-at Walker 75313 Buildable Model - Collectible Set for Adults, Ultimate Build and Display Set, 9 Minifigures Including General Veers, Luke Skywalker, Snowtroopers and at-at Drivers', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637279/81ASCxTdsVL._AC_SL1500__zolbza.jpg', 'Star Wars at-at Walker', 839.99, 'TOY', 'LEGO'),
-('95f63dd0-8b20-4432-9090-8f2489251106', '2024-06-11', 0, 'POP Marvel Gamerverse: Spider-Man 2 - Venom Funko Vinyl Figure (Bundled with Compatible Box Protector Case), Multicolored, 3.75 inches', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637350/61ryFr67u8L._AC_SL1434__umycuq.jpg', 'Funko POP! Marvel: Spider-Man - Venom (Gamerverse) #972', 14.39, 'TOY', 'Funko!'),
-('d41d8762-e75a-4633-8ce5-8c8d6ca447a9', '2024-06-11', 0, 'Funko Pop Stranger Things Vecna GITD Hot Topic Exclusive.', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637360/61OBLZQBBcL._AC_SL1200__jzzbet.jpg', 'Funko POP! Television: Stranger Things - Vecna (Glows in the Dark) (Special Edition) #1464', 29.99, 'TOY', 'Funko!'),
-('e09f55d1-c6e4-400b-82f0-fbcff07ebf3c', '2024-06-11', 0, 'Funko Pop! Football: Barcelona - Lewandowski', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637371/715IosdKzYL._AC_SL1300__zo6nsd.jpg', 'Funko POP! Sports: Football - Lewandowski (Barcelona) #64', 34.99, 'TOY', 'Funko!'),
-('d098ef02-1a99-43bb-b1c7-377b1e1257a4', '2024-06-11', 0, 'POP Marvel Gamerverse: Spider-Man 2 - Peter Parker Advanced Suit 2.0 Funko Vinyl Figure (Bundled with Compatible Box Protector Case), Multicolored, 3.75 inches', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637392/61gUSaii4lL._AC_SL1303__necrxn.jpg', 'Funko POP! Marvel: Spider-Man - Peter Parker (Advanced Suit 2.0) (Gamerverse) #971', 34.99, 'TOY', 'Funko!'),
-('37d4ce2c-8ef4-4d15-b791-9bf0f70f0950', '2024-06-11', 0, 'Funko Pop! Racing: Max Verstappen', 'https://res.cloudinary.com/divhxhqsg/image/upload/v1718637398/71u946nCQ6L._AC_SL1300__hf1fi5.jpg', 'Funko POP! Racing: Formula 1 - Max Verstappen (Oracle Red Bull Racing) #03', 34.99, 'TOY', 'Funko!');
+INSERT INTO products_toys (id, brand)
+VALUES ('5b370a35-9219-4160-8954-bbc70b3e4293', 'LEGO'),
+('0600fefb-710a-466e-a6d0-24f69f9501ab', 'LEGO'),
+('29a04c1e-ed91-476c-b5c9-593d18be098b', 'LEGO'),
+('a49c0d64-b144-405d-b713-9f01315f2ba5', 'LEGO'),
+('45078b00-4537-41f0-9b35-36fc22466b6d', 'LEGO'),
+('bc5903cb-b90e-45e8-90fa-dbba5f7ab68b', 'LEGO'),
+('95f63dd0-8b20-4432-9090-8f2489251106', 'Funko!'),
+('d41d8762-e75a-4633-8ce5-8c8d6ca447a9', 'Funko!'),
+('e09f55d1-c6e4-400b-82f0-fbcff07ebf3c', 'Funko!'),
+('d098ef02-1a99-43bb-b1c7-377b1e1257a4', 'Funko!'),
+('37d4ce2c-8ef4-4d15-b791-9bf0f70f0950', 'Funko!');
 
 
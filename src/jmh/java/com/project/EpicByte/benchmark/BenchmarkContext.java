@@ -0,0 +1,203 @@
+package com.project.EpicByte.benchmark;
+
+import com.project.EpicByte.EpicByteApplication;
+import com.project.EpicByte.model.dto.productDTOs.OrderAddressDTO;
+import com.project.EpicByte.model.entity.UserEntity;
+import com.project.EpicByte.model.entity.enums.UserRolesEnum;
+import com.project.EpicByte.repository.UserRepository;
+import com.project.EpicByte.repository.UserRoleRepository;
+import com.project.EpicByte.service.CartService;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Principal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Boots the whole application against an in-memory H2 database in MySQL mode, seeds it from
+ * EpicByte_populate.sql and copies the seeded products until the catalog holds "catalogSize" products.
+ * The populate script is looked up in the working directory, or at the path in the "epicbyte.populate" property.
+ */
+
+public final class BenchmarkContext {
+    private static final String[] PRODUCT_DETAIL_TABLES =
+            {"products_books", "products_textbooks", "products_music", "products_movies", "products_toys"};
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static BenchmarkContext start(int catalogSize) {
+        ConfigurableApplicationContext context = SpringApplication.run(EpicByteApplication.class,
+                "--spring.datasource.url=jdbc:h2:mem:epicbyte_benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--server.port=0",
+                "--images.storage=local");
+
+        BenchmarkContext benchmarkContext = new BenchmarkContext(context);
+        benchmarkContext.seedCatalog(catalogSize);
+
+        // Messages resolve in English unless a benchmark sets another locale
+        LocaleContextHolder.setLocale(Locale.ENGLISH);
+        return benchmarkContext;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return this.context.getBean(type);
+    }
+
+    // The bean without its transactional proxy, so benchmarks in the same package can reach non-public methods
+    @SuppressWarnings("unchecked")
+    public <T> T getTarget(Class<T> type) {
+        T bean = getBean(type);
+        Object target = AopProxyUtils.getSingletonTarget(bean);
+        return target != null ? (T) target : bean;
+    }
+
+    public void close() {
+        this.context.close();
+    }
+
+    // Registers a customer that placed "orders" orders and has "cartSize" different products in the cart
+    public UserEntity createCustomer(String username, int cartSize, int orders) {
+        UserRepository userRepository = getBean(UserRepository.class);
+
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setPassword("benchmark");
+        user.setEmail(username + "@example.com");
+        user.setFirstName("Benchmark");
+        user.setLastName("User");
+        user.setTermsAndConditionsAgreed(true);
+        user.getRoles().add(getBean(UserRoleRepository.class).findUserRoleByRole(UserRolesEnum.USER));
+        userRepository.save(user);
+
+        CartService cartService = getBean(CartService.class);
+        Principal principal = () -> username;
+        List<UUID> productIds = getProductIds(cartSize);
+
+        for (int i = 0; i < orders; i++) {
+            fillCart(cartService, principal, productIds);
+
+            OrderAddressDTO orderAddressDTO = new OrderAddressDTO();
+            orderAddressDTO.setCity("Sofia");
+            orderAddressDTO.setNeighborhood("Center");
+            orderAddressDTO.setAddress("Benchmark street " + i);
+            orderAddressDTO.setIdempotencyKey(UUID.randomUUID());
+            orderAddressDTO.setCartVersion(userRepository.findUserEntityByUsername(username).getCartVersion());
+            cartService.confirmCheckout(orderAddressDTO, new BeanPropertyBindingResult(orderAddressDTO, "orderAddressDTO"),
+                    principal, new ExtendedModelMap());
+        }
+
+        fillCart(cartService, principal, productIds);
+        return userRepository.findUserEntityByUsername(username);
+    }
+
+    private void fillCart(CartService cartService, Principal principal, List<UUID> productIds) {
+        for (UUID productId : productIds) {
+            cartService.addProductToCart(Map.of("productId", productId), principal);
+        }
+    }
+
+    private List<UUID> getProductIds(int count) {
+        return getBean(JdbcTemplate.class)
+                .queryForList("SELECT id FROM products ORDER BY product_name LIMIT ?", UUID.class, count);
+    }
+
+    private void seedCatalog(int catalogSize) {
+        DataSource dataSource = getBean(DataSource.class);
+
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ByteArrayResource(readPopulateScript()));
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Could not seed the benchmark database", exception);
+        }
+
+        copyProducts(getBean(JdbcTemplate.class), catalogSize);
+    }
+
+    // The populate script is written for MySQL: "#" comments and backslash-escaped quotes are rewritten for H2
+    private byte[] readPopulateScript() {
+        Path path = Path.of(System.getProperty("epicbyte.populate", "EpicByte_populate.sql"));
+
+        try {
+            String script = Files.readAllLines(path, StandardCharsets.UTF_8).stream()
+                    .filter(line -> !line.startsWith("#"))
+                    .map(line -> line.replace("\\'", "''"))
+                    .collect(Collectors.joining("\n"));
+            return script.getBytes(StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not read " + path.toAbsolutePath(), exception);
+        }
+    }
+
+    // Repeats the seeded products (shared row + detail row) under new ids until the catalog is large enough
+    private void copyProducts(JdbcTemplate jdbcTemplate, int catalogSize) {
+        List<Map<String, Object>> products = jdbcTemplate.queryForList("SELECT * FROM products ORDER BY id");
+        Map<Object, Map<String, Object>> details = new HashMap<>();
+        Map<Object, String> detailTables = new HashMap<>();
+
+        for (String table : PRODUCT_DETAIL_TABLES) {
+            for (Map<String, Object> row : jdbcTemplate.queryForList("SELECT * FROM " + table)) {
+                details.put(row.get("id"), row);
+                detailTables.put(row.get("id"), table);
+            }
+        }
+
+        int total = products.size();
+
+        for (int copy = 1; total < catalogSize; copy++) {
+            for (Map<String, Object> product : products) {
+                if (total >= catalogSize) {
+                    break;
+                }
+
+                Object id = product.get("id");
+                UUID copyId = UUID.nameUUIDFromBytes((id + "#" + copy).getBytes(StandardCharsets.UTF_8));
+
+                Map<String, Object> productCopy = new LinkedHashMap<>(product);
+                productCopy.put("id", copyId);
+                productCopy.put("product_name", product.get("product_name") + " #" + copy);
+                insert(jdbcTemplate, "products", productCopy);
+
+                Map<String, Object> detailCopy = new LinkedHashMap<>(details.get(id));
+                detailCopy.put("id", copyId);
+                insert(jdbcTemplate, detailTables.get(id), detailCopy);
+
+                total++;
+            }
+        }
+    }
+
+    private void insert(JdbcTemplate jdbcTemplate, String table, Map<String, Object> row) {
+        String columns = String.join(", ", row.keySet());
+        String placeholders = String.join(", ", Collections.nCopies(row.size(), "?"));
+        jdbcTemplate.update("INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ")",
+                row.values().toArray());
+    }
+}
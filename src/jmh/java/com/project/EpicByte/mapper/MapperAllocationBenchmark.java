@@ -0,0 +1,196 @@
+package com.project.EpicByte.mapper;
+
+import com.project.EpicByte.model.bindingModel.CartItemBindingModel;
+import com.project.EpicByte.model.dto.RESTDTOs.*;
+import com.project.EpicByte.model.entity.UserEntity;
+import com.project.EpicByte.model.entity.UserOrder;
+import com.project.EpicByte.model.entity.UserRoleEntity;
+import com.project.EpicByte.model.entity.enums.LanguageEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.model.entity.enums.UserRolesEnum;
+import com.project.EpicByte.model.entity.productEntities.Book;
+import com.project.EpicByte.model.entity.productEntities.CartItem;
+import com.project.EpicByte.model.entity.productEntities.OrderItem;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request mappings of the cart page, the checkout and the admin users endpoint, done by the
+ * hand-written mappers and by ModelMapper as it was configured before. Run with "-prof gc" and compare
+ * "gc.alloc.rate.norm" (bytes allocated per request) next to the timings:
+ * mvn -Pjmh compile exec:exec -Djmh.args="MapperAllocationBenchmark -prof gc"
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperAllocationBenchmark {
+    @Param({"5", "50"})
+    private int cartSize;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final ProductMapper productMapper = new ProductMapper();
+    private final UserMapper userMapper = new UserMapper();
+
+    private UserEntity user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.user = new UserEntity();
+        this.user.setId(UUID.randomUUID());
+        this.user.setUsername("benchmark");
+        this.user.setPassword("benchmark");
+        this.user.setEmail("benchmark@example.com");
+        this.user.setFirstName("Benchmark");
+        this.user.setLastName("User");
+        this.user.setTermsAndConditionsAgreed(true);
+
+        UserRoleEntity role = new UserRoleEntity();
+        role.setId(UUID.randomUUID());
+        role.setRole(UserRolesEnum.USER);
+        this.user.getRoles().add(role);
+
+        UserOrder order = new UserOrder();
+        order.setId(UUID.randomUUID());
+        order.setUser(this.user);
+        order.setOrderDate(LocalDate.now());
+        order.setCity("Sofia");
+        order.setNeighborhood("Center");
+        order.setAddress("Benchmark street 1");
+        order.setTotalCost(BigDecimal.ZERO);
+
+        for (int i = 0; i < this.cartSize; i++) {
+            Book book = createBook(i);
+
+            CartItem cartItem = new CartItem();
+            cartItem.setId(UUID.randomUUID());
+            cartItem.setUser(this.user);
+            cartItem.setProduct(book);
+            cartItem.setQuantity(1 + i % 3);
+            this.user.getCartItems().add(cartItem);
+
+            OrderItem orderItem = this.productMapper.toOrderItem(book);
+            orderItem.setId(UUID.randomUUID());
+            orderItem.setQuantity(cartItem.getQuantity());
+            orderItem.setTotalProductPrice(book.getProductPrice().multiply(BigDecimal.valueOf(cartItem.getQuantity())));
+            orderItem.setUserOrder(order);
+            order.getOrderItems().add(orderItem);
+        }
+
+        this.user.getUserOrders().add(order);
+    }
+
+    // Cart page: one binding model per cart line
+    @Benchmark
+    public List<CartItemBindingModel> cartLinesModelMapper() {
+        List<CartItemBindingModel> lines = new ArrayList<>(this.cartSize);
+        for (CartItem cartItem : this.user.getCartItems()) {
+            lines.add(this.modelMapper.map(cartItem.getProduct(), CartItemBindingModel.class));
+        }
+        return lines;
+    }
+
+    @Benchmark
+    public List<CartItemBindingModel> cartLinesHandWritten() {
+        List<CartItemBindingModel> lines = new ArrayList<>(this.cartSize);
+        for (CartItem cartItem : this.user.getCartItems()) {
+            lines.add(this.productMapper.toCartItemBindingModel(cartItem.getProduct()));
+        }
+        return lines;
+    }
+
+    // Checkout: one order item per cart line
+    @Benchmark
+    public List<OrderItem> orderItemsModelMapper() {
+        List<OrderItem> orderItems = new ArrayList<>(this.cartSize);
+        for (CartItem cartItem : this.user.getCartItems()) {
+            orderItems.add(this.modelMapper.map(cartItem.getProduct(), OrderItem.class));
+        }
+        return orderItems;
+    }
+
+    @Benchmark
+    public List<OrderItem> orderItemsHandWritten() {
+        List<OrderItem> orderItems = new ArrayList<>(this.cartSize);
+        for (CartItem cartItem : this.user.getCartItems()) {
+            orderItems.add(this.productMapper.toOrderItem(cartItem.getProduct()));
+        }
+        return orderItems;
+    }
+
+    // Admin users endpoint: one user with roles, cart and orders, mapped the way UserRESTServiceImpl does
+    @Benchmark
+    public UserRESTViewDTO userViewModelMapper() {
+        UserRESTViewDTO userRESTViewDTO = this.modelMapper.map(this.user, UserRESTViewDTO.class);
+
+        for (UserRoleEntity role : this.user.getRoles()) {
+            userRESTViewDTO.getRoles().add(this.modelMapper.map(role, UserRoleRESTViewDTO.class));
+        }
+
+        List<CartItemRESTViewDTO> cartItems = new ArrayList<>();
+        for (CartItem cartItem : this.user.getCartItems()) {
+            CartItemRESTViewDTO cartItemRESTViewDTO = this.modelMapper.map(cartItem, CartItemRESTViewDTO.class);
+            cartItemRESTViewDTO.setBaseProduct(this.modelMapper.map(cartItem.getProduct(), BaseProductRESTViewDTO.class));
+            cartItems.add(cartItemRESTViewDTO);
+        }
+        userRESTViewDTO.setCartItems(cartItems);
+
+        for (UserOrder userOrder : this.user.getUserOrders()) {
+            userRESTViewDTO.getUserOrders().add(this.modelMapper.map(userOrder, UserOrderRESTViewDTO.class));
+        }
+
+        return userRESTViewDTO;
+    }
+
+    @Benchmark
+    public UserRESTViewDTO userViewHandWritten() {
+        UserRESTViewDTO userRESTViewDTO = this.userMapper.toUserRESTViewDTO(this.user);
+
+        for (UserRoleEntity role : this.user.getRoles()) {
+            userRESTViewDTO.getRoles().add(this.userMapper.toUserRoleRESTViewDTO(role));
+        }
+
+        List<CartItemRESTViewDTO> cartItems = new ArrayList<>();
+        for (CartItem cartItem : this.user.getCartItems()) {
+            CartItemRESTViewDTO cartItemRESTViewDTO = this.userMapper.toCartItemRESTViewDTO(cartItem);
+            cartItemRESTViewDTO.setBaseProduct(this.productMapper.toBaseProductRESTViewDTO(cartItem.getProduct()));
+            cartItems.add(cartItemRESTViewDTO);
+        }
+        userRESTViewDTO.setCartItems(cartItems);
+
+        for (UserOrder userOrder : this.user.getUserOrders()) {
+            userRESTViewDTO.getUserOrders().add(this.userMapper.toUserOrderRESTViewDTO(userOrder));
+        }
+
+        return userRESTViewDTO;
+    }
+
+    private Book createBook(int index) {
+        Book book = new Book();
+        book.setId(UUID.randomUUID());
+        book.setProductType(ProductTypeEnum.BOOK);
+        book.setProductName("Benchmark book " + index);
+        book.setProductPrice(BigDecimal.valueOf(10 + index));
+        book.setProductImageUrl("https://example.com/images/" + index + ".jpg");
+        book.setDescription("Description of benchmark book " + index);
+        book.setDateCreated(LocalDate.now());
+        book.setNewProduct(index % 2 == 0);
+        book.setAuthorName("Author " + index);
+        book.setPublisher("Publisher");
+        book.setPublicationDate(LocalDate.of(2020, 1, 1));
+        book.setLanguage(LanguageEnum.English);
+        book.setPrintLength(300);
+        book.setDimensions("20 x 15 x 3");
+        return book;
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.EpicByte.service.impl;
+
+import com.project.EpicByte.benchmark.BenchmarkContext;
+import com.project.EpicByte.model.entity.UserEntity;
+import com.project.EpicByte.model.entity.UserOrder;
+import com.project.EpicByte.model.entity.productEntities.CartItem;
+import com.project.EpicByte.model.entity.productEntities.OrderItem;
+import com.project.EpicByte.repository.CartRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.ui.Model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cart page and checkout hot paths: building the cart model (one cart query plus mapping)
+ * and turning the loaded cart rows into order items.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CartServiceBenchmark {
+    @Param({"1000"})
+    private int catalogSize;
+
+    @Param({"5", "50"})
+    private int cartSize;
+
+    private BenchmarkContext context;
+    private CartServiceImpl cartService;
+    private UserEntity user;
+    private List<CartItem> cartItems;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkContext.start(this.catalogSize);
+        this.cartService = this.context.getTarget(CartServiceImpl.class);
+        this.user = this.context.createCustomer("cart-benchmark", this.cartSize, 0);
+        this.cartItems = this.context.getBean(CartRepository.class).findAllByUserIdWithProducts(this.user.getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Model setModelAttributesForCart() {
+        Model model = new ExtendedModelMap();
+        this.cartService.setModelAttributesForCart(this.user, model);
+        return model;
+    }
+
+    @Benchmark
+    public List<OrderItem> createOrderItems() {
+        return this.cartService.createOrderItems(new UserOrder(), this.cartItems);
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.EpicByte.service.impl;
+
+import com.project.EpicByte.benchmark.BenchmarkContext;
+import com.project.EpicByte.model.dto.ProductSuggestionDTO;
+import com.project.EpicByte.model.entity.BaseProduct;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The header search box: "suggest" is one keystroke of the type-ahead, "search" one submitted query.
+ * Both are answered from memory, the products of a search come from the catalog cache.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProductSearchBenchmark {
+    @Param({"5000"})
+    private int catalogSize;
+
+    @Param({"st", "star wa", "the"})
+    private String query;
+
+    private BenchmarkContext context;
+    private ProductSuggestServiceImpl productSuggestService;
+    private ProductSearchServiceImpl productSearchService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.context = BenchmarkContext.start(this.catalogSize);
+        this.productSuggestService = this.context.getTarget(ProductSuggestServiceImpl.class);
+        this.productSearchService = this.context.getTarget(ProductSearchServiceImpl.class);
+
+        // The catalog is seeded after the application is ready, so both are built again from the seeded products
+        this.productSuggestService.buildSuggestions();
+        this.productSearchService.buildIndex();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public List<ProductSuggestionDTO> suggest() {
+        return this.productSuggestService.suggest(this.query, null);
+    }
+
+    @Benchmark
+    public List<BaseProduct> search() {
+        return this.productSearchService.search(this.query, null, null);
+    }
+}
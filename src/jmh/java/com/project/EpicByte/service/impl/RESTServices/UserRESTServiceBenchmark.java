@@ -0,0 +1,77 @@
+package com.project.EpicByte.service.impl.RESTServices;
+
+import com.project.EpicByte.benchmark.BenchmarkContext;
+import com.project.EpicByte.model.dto.RESTDTOs.UserRESTPageDTO;
+import com.project.EpicByte.model.dto.RESTDTOs.UserRESTViewDTO;
+import com.project.EpicByte.model.entity.UserEntity;
+import com.project.EpicByte.repository.UserRepository;
+import com.project.EpicByte.service.UserRESTService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The admin users endpoint: "mapUsers" measures only the mapping of already loaded users,
+ * "getUsersPage" the whole call including the queries.
+ * The number of queries per page is checked by UserRESTServiceImplTest.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserRESTServiceBenchmark {
+    @Param({"1000"})
+    private int catalogSize;
+
+    @Param({"100"})
+    private int users;
+
+    @Param({"3"})
+    private int cartSize;
+
+    @Param({"2"})
+    private int orders;
+
+    private BenchmarkContext context;
+    private UserRESTServiceImpl userRESTService;
+    private UserRESTService transactionalUserRESTService;
+    private List<UserEntity> loadedUsers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkContext.start(this.catalogSize);
+        this.userRESTService = this.context.getTarget(UserRESTServiceImpl.class);
+        this.transactionalUserRESTService = this.context.getBean(UserRESTService.class);
+
+        for (int i = 0; i < this.users; i++) {
+            this.context.createCustomer("rest-benchmark-" + i, this.cartSize, this.orders);
+        }
+
+        UserRepository userRepository = this.context.getBean(UserRepository.class);
+        this.loadedUsers = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class))
+                .execute(status -> this.userRESTService.findUsersWithAssociations(
+                        userRepository.findPageIds(PageRequest.of(0, Integer.MAX_VALUE))));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public List<UserRESTViewDTO> mapUsers() {
+        return this.userRESTService.mapUserEntitiesToUserRESTViewDTOList(this.loadedUsers);
+    }
+
+    @Benchmark
+    public UserRESTPageDTO getUsersPage() {
+        return this.transactionalUserRESTService.getUsersPage(null, this.users);
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.EpicByte.util;
+
+import com.project.EpicByte.benchmark.BenchmarkContext;
+import com.project.EpicByte.service.impl.productServices.BookServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.ui.Model;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The add/update product forms and every product page build their field list and breadcrumbs per request.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FormMetadataBenchmark {
+    @Param({"book", "textbook", "music", "movie", "toy"})
+    private String type;
+
+    @Param({"en", "bg"})
+    private String locale;
+
+    private BenchmarkContext context;
+    private Breadcrumbs productService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkContext.start(0);
+        this.productService = this.context.getTarget(BookServiceImpl.class);
+    }
+
+    // The locale is thread bound, set it on the thread that runs the measurement
+    @Setup(Level.Iteration)
+    public void setLocale() {
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(this.locale));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public List<FieldNamesGenerator.FieldEntity> getFieldNames() {
+        return this.productService.getFieldNames(this.type, false);
+    }
+
+    @Benchmark
+    public Model addProductBreadcrumb() {
+        Model model = new ExtendedModelMap();
+        this.productService.addProductBreadcrumb(model, "/books", "Books", "The Brothers Karamazov");
+        return model;
+    }
+}
@@ -1,11 +1,15 @@
 package com.project.EpicByte.config;
 
 import com.cloudinary.Cloudinary;
+import org.apache.http.impl.client.IdleConnectionEvictor;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class CloudinaryConfig {
@@ -13,22 +17,49 @@ public class CloudinaryConfig {
     private final String CLOUD_NAME;
     private final String API_KEY;
     private final String API_SECRET;
+    private final int MAX_CONNECTIONS;
+    private final Duration KEEP_ALIVE;
 
     public CloudinaryConfig(@Value("${cloudinary.name}") String cloudName,
                             @Value("${cloudinary.api-key}") String apiKey,
-                            @Value("${cloudinary.api-secret}") String apiSecret) {
+                            @Value("${cloudinary.api-secret}") String apiSecret,
+                            @Value("${cloudinary.http.max-connections}") int maxConnections,
+                            @Value("${cloudinary.http.keep-alive}") Duration keepAlive) {
         CLOUD_NAME = cloudName;
         API_KEY = apiKey;
         API_SECRET = apiSecret;
+        MAX_CONNECTIONS = maxConnections;
+        KEEP_ALIVE = keepAlive;
+    }
+
+    // One connection pool for all Cloudinary calls, so bulk uploads reuse open TLS connections instead of
+    // doing a new handshake per image. Every call goes to the same host, so the whole pool is available to that route.
+    @Bean(destroyMethod = "shutdown")
+    public PoolingHttpClientConnectionManager cloudinaryConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(MAX_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS);
+        connectionManager.setValidateAfterInactivity(2000);
+        return connectionManager;
+    }
+
+    // Closes pooled connections that stayed idle longer than the keep-alive, before the server drops them on its side
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public IdleConnectionEvictor cloudinaryIdleConnectionEvictor(PoolingHttpClientConnectionManager cloudinaryConnectionManager) {
+        return new IdleConnectionEvictor(cloudinaryConnectionManager,
+                KEEP_ALIVE.toMillis(), TimeUnit.MILLISECONDS,
+                KEEP_ALIVE.toMillis(), TimeUnit.MILLISECONDS);
     }
 
     @Bean
-    public Cloudinary cloudinary() {
-        Map<String, String> config = Map.of(
+    public Cloudinary cloudinary(PoolingHttpClientConnectionManager cloudinaryConnectionManager) {
+        Map<String, Object> config = Map.of(
                 "cloud_name", CLOUD_NAME,
                 "api_key", API_KEY,
-                "api_secret", API_SECRET
+                "api_secret", API_SECRET,
+                "secure", true,
+                "properties", Map.of("connectionManager", cloudinaryConnectionManager)
         );
         return new Cloudinary(config);
     }
-}
\ No newline at end of file
+}
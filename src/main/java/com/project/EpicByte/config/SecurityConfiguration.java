@@ -1,18 +1,28 @@
 package com.project.EpicByte.config;
 
+import com.project.EpicByte.exceptions.PasswordHashingBusyException;
 import com.project.EpicByte.model.entity.enums.UserRolesEnum;
 import com.project.EpicByte.repository.UserRepository;
 import com.project.EpicByte.service.impl.MyUserServiceDetails;
+import com.project.EpicByte.util.BoundedPasswordEncoder;
+import com.project.EpicByte.util.Pbkdf2CostPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.ForwardAuthenticationFailureHandler;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 
+import java.time.Duration;
+
 import static com.project.EpicByte.util.Constants.*;
 
 @Configuration
@@ -39,8 +49,10 @@ public class SecurityConfiguration {
                                 .requestMatchers("/moderator/**").hasAnyRole(UserRolesEnum.MODERATOR.name(), UserRolesEnum.ADMIN.name())
                                 // All /admin links ara available to MODERATOR and ADMIN
                                 .requestMatchers("/admin/**").hasRole(UserRolesEnum.ADMIN.name())
-                                // All API /admin links ara available to ADMIN
-                                .requestMatchers("/api/admin/**").permitAll()
+                                // Actuator health and metrics (cache hit/miss counters etc.) are available to ADMIN
+                                .requestMatchers("/actuator/**").hasRole(UserRolesEnum.ADMIN.name())
+                                // All API /admin links (users, adding, bulk importing and deleting products) ara available to ADMIN
+                                .requestMatchers("/api/admin/**").hasRole(UserRolesEnum.ADMIN.name())
                                 // All API /user links ara available to everyone
                                 .requestMatchers("/api/user/**").permitAll()
                                 // User cart page, user cart checkout confirmation page, user orders list  page are available to logged-in users only
@@ -56,6 +68,8 @@ public class SecurityConfiguration {
                                 .requestMatchers(LOGIN_ERROR_URL, USER_UNAUTHORIZED_URL).permitAll()
                                 // Books, Textbooks, Music, Movies, Toys pages are available to everyone
                                 .requestMatchers(ALL_BOOKS_URL, ALL_TEXTBOOKS_URL, ALL_MUSIC_URL, ALL_MOVIES_URL, ALL_TOYS_URL).permitAll()
+                                // Product search results page is available to everyone
+                                .requestMatchers(SEARCH_URL).permitAll()
                                 // Terms and Conditions page, Privacy page ara available to everyone
                                 .requestMatchers(TERMS_AND_CONDITIONS_URL, PRIVACY_URL).permitAll()
                                 // All other requests are permitted
@@ -71,8 +85,10 @@ public class SecurityConfiguration {
                                     .passwordParameter(PASSWORD_FIELD)
                                     // Redirect to successful and un-successful logins
                                     .defaultSuccessUrl(INDEX_URL, true)
-                                    .failureForwardUrl(LOGIN_ERROR_URL);
+                                    .failureHandler(loginFailureHandler());
                         }
+                        // REST clients (Postman, curl) send the admin credentials with every request
+                ).httpBasic(Customizer.withDefaults()
                         // LOGOUT logic
                 ).logout(
                         logout -> {
@@ -102,14 +118,39 @@ public class SecurityConfiguration {
         return httpSecurity.build();
     }
 
+    // Declared as MyUserServiceDetails, so Spring Security also finds it as the UserDetailsPasswordService for hash upgrades
     @Bean
-    public UserDetailsService userDetailsService(UserRepository userRepository) {
+    public MyUserServiceDetails userDetailsService(UserRepository userRepository,
+                                                  PasswordEncoder passwordEncoder,
+                                                  MeterRegistry meterRegistry,
+                                                  @Value("${security.user-cache.max-size}") long cacheMaxSize,
+                                                  @Value("${security.user-cache.ttl}") Duration cacheTtl) {
         // Translation between the project Users and Roles to representation which Spring security understands
-        return new MyUserServiceDetails(userRepository, passwordEncoder());
+        return new MyUserServiceDetails(userRepository, passwordEncoder, meterRegistry, cacheMaxSize, cacheTtl);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${security.password-hashing.iterations}") int iterations,
+                                           @Value("${security.password-hashing.workers}") int workers,
+                                           @Value("${security.password-hashing.queue-capacity}") int queueCapacity,
+                                           @Value("${security.password-hashing.timeout}") Duration timeout) {
+        return new BoundedPasswordEncoder(Pbkdf2CostPasswordEncoder.delegatingPasswordEncoder(iterations),
+                workers, queueCapacity, timeout, meterRegistry);
+    }
+
+    // A login that could not get a password hashing slot is answered with 429, every other failure goes to the login error page
+    private AuthenticationFailureHandler loginFailureHandler() {
+        AuthenticationFailureHandler loginErrorHandler = new ForwardAuthenticationFailureHandler(LOGIN_ERROR_URL);
+
+        return (request, response, exception) -> {
+            if (exception instanceof PasswordHashingBusyException) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), exception.getMessage());
+                return;
+            }
+
+            loginErrorHandler.onAuthenticationFailure(request, response, exception);
+        };
     }
 }
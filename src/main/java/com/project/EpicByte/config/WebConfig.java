@@ -1,23 +1,46 @@
 package com.project.EpicByte.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 
+import java.nio.file.Path;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
     private final LocaleChangeInterceptor localeChangeInterceptor;
+    private final String imagesStorage;
+    private final String localImagesDirectory;
+    private final String localImagesUrlPrefix;
 
     @Autowired
-    public WebConfig(LocaleChangeInterceptor localeChangeInterceptor) {
+    public WebConfig(LocaleChangeInterceptor localeChangeInterceptor,
+                     @Value("${images.storage}") String imagesStorage,
+                     @Value("${images.local.directory}") String localImagesDirectory,
+                     @Value("${images.local.url-prefix}") String localImagesUrlPrefix) {
         this.localeChangeInterceptor = localeChangeInterceptor;
+        this.imagesStorage = imagesStorage;
+        this.localImagesDirectory = localImagesDirectory;
+        this.localImagesUrlPrefix = localImagesUrlPrefix;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(localeChangeInterceptor);
     }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // Serve product images stored by LocalProductImagesServiceImpl
+        if ("local".equals(imagesStorage)) {
+            String urlPrefix = localImagesUrlPrefix.endsWith("/") ? localImagesUrlPrefix : localImagesUrlPrefix + "/";
+            registry.addResourceHandler(urlPrefix + "**")
+                    .addResourceLocations("file:" + Path.of(localImagesDirectory).toAbsolutePath() + "/");
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package com.project.EpicByte.event;
+
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Published after a product is added to, changed in or removed from the catalog, so that everything built from catalog
+ * reads (caches, indexes) can drop exactly what the change affects.
+ */
+@Getter
+public class ProductChangedEvent {
+    private final ProductTypeEnum productType;
+    private final UUID productId;
+
+    public ProductChangedEvent(ProductTypeEnum productType, UUID productId) {
+        this.productType = productType;
+        this.productId = productId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.EpicByte.event;
+
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published once per committed chunk of a bulk import, instead of a ProductChangedEvent per product,
+ * so caches and indexes can load and add the whole chunk at once.
+ */
+@Getter
+public class ProductsImportedEvent {
+    private final ProductTypeEnum productType;
+    private final List<UUID> productIds;
+
+    public ProductsImportedEvent(ProductTypeEnum productType, List<UUID> productIds) {
+        this.productType = productType;
+        this.productIds = List.copyOf(productIds);
+    }
+}
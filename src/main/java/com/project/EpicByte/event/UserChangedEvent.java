@@ -0,0 +1,16 @@
+package com.project.EpicByte.event;
+
+import lombok.Getter;
+
+/**
+ * Published when something a user authenticates with changes (roles, username), so that cached user details
+ * of that username are dropped and the next login or remember-me check reads the user again.
+ */
+@Getter
+public class UserChangedEvent {
+    private final String username;
+
+    public UserChangedEvent(String username) {
+        this.username = username;
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.EpicByte.exceptions;
+
+public class CartChangedException extends RuntimeException {
+    public CartChangedException() {
+        super("The cart changed since it was priced.");
+    }
+
+    public CartChangedException(String message) {
+        super(message);
+    }
+
+    public CartChangedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.EpicByte.exceptions;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+// An AuthenticationException, so a saturated login reaches the form login failure handler instead of the error page
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+    public PasswordHashingBusyException() {
+        super("Too many password checks in progress, try again shortly.");
+    }
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.EpicByte.exceptions;
+
+public class UnknownProductFieldException extends RuntimeException {
+    public UnknownProductFieldException() {
+        super("Unknown product field.");
+    }
+
+    public UnknownProductFieldException(String message) {
+        super(message);
+    }
+
+    public UnknownProductFieldException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.EpicByte.mapper;
+
+import com.project.EpicByte.model.bindingModel.CartItemBindingModel;
+import com.project.EpicByte.model.dto.BaseAddDTO;
+import com.project.EpicByte.model.dto.RESTDTOs.BaseProductRESTViewDTO;
+import com.project.EpicByte.model.dto.productDTOs.*;
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.LanguageEnum;
+import com.project.EpicByte.model.entity.enums.MovieCarrierEnum;
+import com.project.EpicByte.model.entity.enums.MusicCarrierEnum;
+import com.project.EpicByte.model.entity.productEntities.*;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Plain getter/setter mappings between the product entities and their DTOs and binding models.
+ * Each method copies exactly the properties the two classes share, there is no reflection at runtime.
+ */
+
+@Component
+public class ProductMapper {
+
+    public Book toBook(BookAddDTO bookAddDTO) {
+        Book book = new Book();
+        copyBaseFields(bookAddDTO, book);
+        book.setAuthorName(bookAddDTO.getAuthorName());
+        book.setPublisher(bookAddDTO.getPublisher());
+        book.setPublicationDate(bookAddDTO.getPublicationDate());
+        book.setLanguage(toEnum(LanguageEnum.class, bookAddDTO.getLanguage()));
+        book.setPrintLength(bookAddDTO.getPrintLength());
+        book.setDimensions(bookAddDTO.getDimensions());
+        return book;
+    }
+
+    public Textbook toTextbook(TextbookAddDTO textbookAddDTO) {
+        Textbook textbook = new Textbook();
+        copyBaseFields(textbookAddDTO, textbook);
+        textbook.setAuthorName(textbookAddDTO.getAuthorName());
+        textbook.setPublisher(textbookAddDTO.getPublisher());
+        textbook.setPublicationDate(textbookAddDTO.getPublicationDate());
+        textbook.setLanguage(toEnum(LanguageEnum.class, textbookAddDTO.getLanguage()));
+        textbook.setPrintLength(textbookAddDTO.getPrintLength());
+        textbook.setDimensions(textbookAddDTO.getDimensions());
+        return textbook;
+    }
+
+    public Music toMusic(MusicAddDTO musicAddDTO) {
+        Music music = new Music();
+        copyBaseFields(musicAddDTO, music);
+        music.setArtistName(musicAddDTO.getArtistName());
+        music.setPublisher(musicAddDTO.getPublisher());
+        music.setPublicationDate(musicAddDTO.getPublicationDate());
+        music.setCarrier(toEnum(MusicCarrierEnum.class, musicAddDTO.getCarrier()));
+        music.setGenre(musicAddDTO.getGenre());
+        return music;
+    }
+
+    public Movie toMovie(MovieAddDTO movieAddDTO) {
+        Movie movie = new Movie();
+        copyBaseFields(movieAddDTO, movie);
+        movie.setGenre(movieAddDTO.getGenre());
+        movie.setCarrier(toEnum(MovieCarrierEnum.class, movieAddDTO.getCarrier()));
+        return movie;
+    }
+
+    public Toy toToy(ToyAddDTO toyAddDTO) {
+        Toy toy = new Toy();
+        copyBaseFields(toyAddDTO, toy);
+        toy.setBrand(toyAddDTO.getBrand());
+        return toy;
+    }
+
+    // Quantity and totals are set by the caller
+    public CartItemBindingModel toCartItemBindingModel(BaseProduct product) {
+        CartItemBindingModel cartItemBindingModel = new CartItemBindingModel();
+        cartItemBindingModel.setId(product.getId());
+        cartItemBindingModel.setProductType(product.getProductType() == null ? null : product.getProductType().name());
+        cartItemBindingModel.setProductImageUrl(product.getProductImageUrl());
+        cartItemBindingModel.setProductName(product.getProductName());
+        cartItemBindingModel.setProductPrice(product.getProductPrice());
+        return cartItemBindingModel;
+    }
+
+    // Snapshot of the product at the time of ordering, the id, quantity and totals are set by the caller
+    public OrderItem toOrderItem(BaseProduct product) {
+        OrderItem orderItem = new OrderItem();
+        orderItem.setProductType(product.getProductType());
+        orderItem.setProductImageUrl(product.getProductImageUrl());
+        orderItem.setProductName(product.getProductName());
+        orderItem.setProductPrice(product.getProductPrice());
+        return orderItem;
+    }
+
+    public BaseProductRESTViewDTO toBaseProductRESTViewDTO(BaseProduct product) {
+        BaseProductRESTViewDTO baseProductRESTViewDTO = new BaseProductRESTViewDTO();
+        baseProductRESTViewDTO.setDateCreated(product.getDateCreated());
+        baseProductRESTViewDTO.setNewProduct(product.isNewProduct());
+        baseProductRESTViewDTO.setProductType(product.getProductType());
+        baseProductRESTViewDTO.setProductImageUrl(product.getProductImageUrl());
+        baseProductRESTViewDTO.setProductName(product.getProductName());
+        baseProductRESTViewDTO.setProductPrice(product.getProductPrice());
+        baseProductRESTViewDTO.setDescription(product.getDescription());
+        return baseProductRESTViewDTO;
+    }
+
+    // Support methods
+    private void copyBaseFields(BaseAddDTO baseAddDTO, BaseProduct product) {
+        product.setProductImageUrl(baseAddDTO.getProductImageUrl());
+        product.setProductName(baseAddDTO.getProductName());
+        product.setProductPrice(baseAddDTO.getProductPrice() == null ? null : BigDecimal.valueOf(baseAddDTO.getProductPrice()));
+        product.setDescription(baseAddDTO.getDescription());
+    }
+
+    private <E extends Enum<E>> E toEnum(Class<E> enumType, String value) {
+        return value == null ? null : Enum.valueOf(enumType, value);
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.EpicByte.mapper;
+
+import com.project.EpicByte.model.dto.RESTDTOs.*;
+import com.project.EpicByte.model.dto.SubscriberDTO;
+import com.project.EpicByte.model.dto.UserRegisterDTO;
+import com.project.EpicByte.model.dto.UserUpdateDTO;
+import com.project.EpicByte.model.entity.Subscriber;
+import com.project.EpicByte.model.entity.UserEntity;
+import com.project.EpicByte.model.entity.UserOrder;
+import com.project.EpicByte.model.entity.UserRoleEntity;
+import com.project.EpicByte.model.entity.productEntities.CartItem;
+import com.project.EpicByte.model.entity.productEntities.OrderItem;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain getter/setter mappings between the user, order and subscriber entities and their DTOs.
+ */
+
+@Component
+public class UserMapper {
+
+    // The password is encoded and the roles are assigned by the caller
+    public UserEntity toUserEntity(UserRegisterDTO userRegisterDTO) {
+        UserEntity userEntity = new UserEntity();
+        userEntity.setFirstName(userRegisterDTO.getFirstName());
+        userEntity.setLastName(userRegisterDTO.getLastName());
+        userEntity.setUsername(userRegisterDTO.getUsername());
+        userEntity.setEmail(userRegisterDTO.getEmail());
+        userEntity.setPassword(userRegisterDTO.getPassword());
+        userEntity.setTermsAndConditionsAgreed(userRegisterDTO.isTermsAndConditionsAgreed());
+        return userEntity;
+    }
+
+    public UserUpdateDTO toUserUpdateDTO(UserEntity userEntity) {
+        UserUpdateDTO userUpdateDTO = new UserUpdateDTO();
+        userUpdateDTO.setId(userEntity.getId());
+        userUpdateDTO.setFirstName(userEntity.getFirstName());
+        userUpdateDTO.setLastName(userEntity.getLastName());
+        userUpdateDTO.setUsername(userEntity.getUsername());
+        userUpdateDTO.setEmail(userEntity.getEmail());
+        return userUpdateDTO;
+    }
+
+    // Roles, cart items and orders are mapped by the caller
+    public UserRESTViewDTO toUserRESTViewDTO(UserEntity userEntity) {
+        UserRESTViewDTO userRESTViewDTO = new UserRESTViewDTO();
+        userRESTViewDTO.setId(userEntity.getId());
+        userRESTViewDTO.setUsername(userEntity.getUsername());
+        userRESTViewDTO.setEmail(userEntity.getEmail());
+        userRESTViewDTO.setFirstName(userEntity.getFirstName());
+        userRESTViewDTO.setLastName(userEntity.getLastName());
+        userRESTViewDTO.setTermsAndConditionsAgreed(userEntity.isTermsAndConditionsAgreed());
+        userRESTViewDTO.setImageUrl(userEntity.getImageUrl());
+        return userRESTViewDTO;
+    }
+
+    public UserRoleRESTViewDTO toUserRoleRESTViewDTO(UserRoleEntity userRoleEntity) {
+        UserRoleRESTViewDTO userRoleRESTViewDTO = new UserRoleRESTViewDTO();
+        userRoleRESTViewDTO.setId(userRoleEntity.getId());
+        userRoleRESTViewDTO.setRole(userRoleEntity.getRole());
+        return userRoleRESTViewDTO;
+    }
+
+    // The product is mapped by the caller
+    public CartItemRESTViewDTO toCartItemRESTViewDTO(CartItem cartItem) {
+        CartItemRESTViewDTO cartItemRESTViewDTO = new CartItemRESTViewDTO();
+        cartItemRESTViewDTO.setId(cartItem.getId());
+        cartItemRESTViewDTO.setQuantity(cartItem.getQuantity());
+        return cartItemRESTViewDTO;
+    }
+
+    public UserOrderRESTViewDTO toUserOrderRESTViewDTO(UserOrder userOrder) {
+        UserOrderRESTViewDTO userOrderRESTViewDTO = new UserOrderRESTViewDTO();
+        userOrderRESTViewDTO.setId(userOrder.getId());
+        userOrderRESTViewDTO.setOrderDate(userOrder.getOrderDate());
+        userOrderRESTViewDTO.setCity(userOrder.getCity());
+        userOrderRESTViewDTO.setNeighborhood(userOrder.getNeighborhood());
+        userOrderRESTViewDTO.setAddress(userOrder.getAddress());
+        userOrderRESTViewDTO.setTotalCost(userOrder.getTotalCost());
+        userOrderRESTViewDTO.setComplete(userOrder.isComplete());
+
+        List<OrderItemRESTViewDTO> orderItems = new ArrayList<>(userOrder.getOrderItems().size());
+        for (OrderItem orderItem : userOrder.getOrderItems()) {
+            orderItems.add(toOrderItemRESTViewDTO(orderItem));
+        }
+        userOrderRESTViewDTO.setOrderItems(orderItems);
+
+        return userOrderRESTViewDTO;
+    }
+
+    // Order items are product snapshots without a product reference, "baseProduct" stays empty
+    public OrderItemRESTViewDTO toOrderItemRESTViewDTO(OrderItem orderItem) {
+        OrderItemRESTViewDTO orderItemRESTViewDTO = new OrderItemRESTViewDTO();
+        orderItemRESTViewDTO.setId(orderItem.getId());
+        orderItemRESTViewDTO.setQuantity(orderItem.getQuantity());
+        orderItemRESTViewDTO.setTotalProductPrice(orderItem.getTotalProductPrice());
+        return orderItemRESTViewDTO;
+    }
+
+    public Subscriber toSubscriber(SubscriberDTO subscriberDTO) {
+        Subscriber subscriber = new Subscriber();
+        subscriber.setName(subscriberDTO.getName());
+        subscriber.setEmail(subscriberDTO.getEmail());
+        return subscriber;
+    }
+}
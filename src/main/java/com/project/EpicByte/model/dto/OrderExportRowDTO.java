@@ -0,0 +1,34 @@
+package com.project.EpicByte.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// One order item with its order, the column order of the CSV export
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@JsonPropertyOrder({"orderId", "orderDate", "complete", "username", "city", "neighborhood", "address", "totalCost",
+        "itemId", "productType", "productName", "productPrice", "quantity", "totalProductPrice"})
+public class OrderExportRowDTO {
+    private UUID orderId;
+    private LocalDate orderDate;
+    private boolean complete;
+    private String username;
+    private String city;
+    private String neighborhood;
+    private String address;
+    private BigDecimal totalCost;
+    private UUID itemId;
+    private ProductTypeEnum productType;
+    private String productName;
+    private BigDecimal productPrice;
+    private Integer quantity;
+    private BigDecimal totalProductPrice;
+}
@@ -0,0 +1,16 @@
+package com.project.EpicByte.model.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+public class ProductFacetDTO {
+    // Request parameter name of the filter
+    private String name;
+    private String label;
+    private List<ProductFacetOptionDTO> options;
+}
@@ -0,0 +1,15 @@
+package com.project.EpicByte.model.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter @Setter
+@NoArgsConstructor
+public class ProductFacetOptionDTO {
+    private String value;
+    private String label;
+    // Products matching this option together with the options selected in the other filters
+    private int count;
+    private boolean selected;
+}
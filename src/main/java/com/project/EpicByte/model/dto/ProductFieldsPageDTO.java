@@ -0,0 +1,21 @@
+package com.project.EpicByte.model.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+// A ProductPageDTO with only the requested fields of each product ("?fields=id,productName,...")
+@Getter @Setter
+@NoArgsConstructor
+public class ProductFieldsPageDTO {
+    private List<Map<String, Object>> content;
+    private String sort;
+    private int size;
+    private boolean first;
+    private boolean hasNext;
+    // Opaque token to pass as "after" to get the next page, null on the last page
+    private String nextCursor;
+}
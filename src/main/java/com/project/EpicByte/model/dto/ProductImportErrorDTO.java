@@ -0,0 +1,16 @@
+package com.project.EpicByte.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// A rejected row of a bulk import, by its line in the uploaded file
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class ProductImportErrorDTO {
+    private long line;
+    private List<String> messages;
+}
@@ -0,0 +1,18 @@
+package com.project.EpicByte.model.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+public class ProductImportReportDTO {
+    private int imported;
+    private int failed;
+    // The first rejected rows only, "failed" counts all of them
+    private List<ProductImportErrorDTO> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,20 @@
+package com.project.EpicByte.model.dto;
+
+import com.project.EpicByte.model.entity.BaseProduct;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+public class ProductPageDTO {
+    private List<BaseProduct> content;
+    private String sort;
+    private int size;
+    private boolean first;
+    private boolean hasNext;
+    // Opaque token to pass as "after" to get the next page, null on the last page
+    private String nextCursor;
+}
@@ -0,0 +1,17 @@
+package com.project.EpicByte.model.dto;
+
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class ProductSuggestionDTO {
+    private UUID id;
+    private ProductTypeEnum productType;
+    private String productName;
+}
@@ -9,4 +9,5 @@ import java.util.UUID;
 public class CartItemRESTViewDTO {
     private UUID id;
     private BaseProductRESTViewDTO baseProduct;
+    private int quantity;
 }
@@ -0,0 +1,18 @@
+package com.project.EpicByte.model.dto.RESTDTOs;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor
+public class UserRESTPageDTO {
+    private List<UserRESTViewDTO> content;
+    private int size;
+    private boolean first;
+    private boolean hasNext;
+    // Opaque token to pass as "after" to get the next page, null on the last page
+    private String nextCursor;
+}
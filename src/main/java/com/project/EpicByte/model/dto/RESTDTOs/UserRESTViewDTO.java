@@ -10,7 +10,6 @@ import java.util.*;
 public class UserRESTViewDTO {
     private UUID id;
     private String username;
-    private String password;
     private String email;
     private String firstName;
     private String lastName;
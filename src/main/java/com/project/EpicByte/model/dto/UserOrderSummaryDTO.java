@@ -0,0 +1,24 @@
+package com.project.EpicByte.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// An order as shown in the order lists, without its items
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class UserOrderSummaryDTO {
+    private UUID id;
+    private LocalDate orderDate;
+    private String city;
+    private String neighborhood;
+    private String address;
+    private BigDecimal totalCost;
+    private boolean isComplete;
+    private long itemCount;
+}
@@ -0,0 +1,20 @@
+package com.project.EpicByte.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+// A user as listed in the admin privilege console
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class UserPrivilegeDTO {
+    private UUID id;
+    private String username;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private boolean moderator;
+}
@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.UUID;
+
 @Getter @Setter @NoArgsConstructor
 public class OrderAddressDTO {
     @NotEmpty(message = "{address.error.text}")
@@ -15,4 +17,10 @@ public class OrderAddressDTO {
 
     @NotEmpty(message = "{neighborhood.error.text}")
     private String neighborhood;
+
+    // Hidden fields of the checkout form: a token per rendered form and the cart version it was priced at.
+    // A form without both is never placed, see CartServiceImpl.confirmCheckout
+    private UUID idempotencyKey;
+
+    private Long cartVersion;
 }
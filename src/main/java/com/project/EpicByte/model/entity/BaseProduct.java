@@ -1,5 +1,6 @@
 package com.project.EpicByte.model.entity;
 
+import com.project.EpicByte.model.entity.enums.ProductImageStatusEnum;
 import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -9,8 +10,20 @@ import lombok.Setter;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+/**
+ * Shared product header. Every product type keeps its common columns in the "products" table, keyed by id,
+ * while the type-specific columns live in a detail table (products_books, products_movies, ...) joined by the same id.
+ * This way a product can be resolved by its UUID with a single primary key lookup, regardless of its type.
+ * The (product_type, sortKey, id) indexes back the keyset-paginated listing pages, one per sorting option.
+ */
+
 @Entity
-@Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_type_new", columnList = "product_type, is_new_product, id"),
+        @Index(name = "idx_products_type_name", columnList = "product_type, product_name, id"),
+        @Index(name = "idx_products_type_price", columnList = "product_type, product_price, id")
+})
+@Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "product_discriminator", discriminatorType = DiscriminatorType.STRING)
 @Getter @Setter @NoArgsConstructor
 public abstract class BaseProduct extends BaseEntity {
@@ -27,6 +40,11 @@ public abstract class BaseProduct extends BaseEntity {
     @Column(name = "product_image_url")
     private String productImageUrl;
 
+    // PENDING while the image is still being copied to the image storage, the original URL is shown meanwhile
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_status")
+    private ProductImageStatusEnum imageStatus;
+
     @Column(name = "product_name")
     private String productName;
 
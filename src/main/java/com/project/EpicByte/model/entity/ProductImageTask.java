@@ -0,0 +1,63 @@
+package com.project.EpicByte.model.entity;
+
+import com.project.EpicByte.model.entity.enums.ImageTaskOperationEnum;
+import com.project.EpicByte.model.entity.enums.ImageTaskStatusEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox row for an image upload or removal that still has to reach the image storage.
+ * Rows are written next to the product change and deleted once the worker pool has completed them,
+ * so whatever is left in the table after a restart is simply picked up again. A claimed (IN_PROGRESS) row records
+ * who claimed it and when, and goes back to PENDING only once that claim is older than the lease timeout.
+ */
+
+@Entity
+@Table(name = "product_image_tasks", indexes = {
+        @Index(name = "idx_product_image_tasks_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter @Setter @NoArgsConstructor
+public class ProductImageTask extends BaseEntity {
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false)
+    private ImageTaskOperationEnum operation;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ImageTaskStatusEnum status;
+
+    @Column(name = "product_id")
+    private UUID productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "product_type")
+    private ProductTypeEnum productType;
+
+    @Column(name = "image_url", columnDefinition = "TEXT", nullable = false)
+    private String imageUrl;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // Random id of the claim that owns the task, a worker only runs the task while its claim still holds
+    @Column(name = "claim_id")
+    private UUID claimId;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -12,7 +12,11 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "user")
+// Username and e-mail prefix search of the admin privilege console
+@Table(name = "user", indexes = {
+        @Index(name = "idx_user_username", columnList = "username"),
+        @Index(name = "idx_user_email", columnList = "email")
+})
 @Getter @Setter @NoArgsConstructor
 public class UserEntity extends BaseEntity {
     @Column(name = "username")
@@ -45,6 +49,11 @@ public class UserEntity extends BaseEntity {
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CartItem> cartItems = new ArrayList<>();
 
+    // Bumped on every cart change. A checkout only goes through for the cart version that was priced on the checkout page.
+    // Only changed by the UPDATE statements of UserRepository, so saving a loaded user never writes back an older version.
+    @Column(name = "cart_version", nullable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long cartVersion;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<UserOrder> userOrders = new HashSet<>();
 }
\ No newline at end of file
@@ -10,12 +10,21 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @Entity
-@Table(name = "user_order")
+@Table(name = "user_order",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_user_order_user_idempotency_key", columnNames = {"user_id", "idempotency_key"}),
+        indexes = {
+                // The moderator order queue: open orders, oldest first
+                @Index(name = "idx_user_order_complete_date", columnList = "is_complete, date_ordered"),
+                // The order history of a user, newest first
+                @Index(name = "idx_user_order_user_date", columnList = "user_id, date_ordered")
+        })
 @Getter @Setter @NoArgsConstructor
 public class UserOrder extends BaseEntity {
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="user_id", nullable=false)
     private UserEntity user;
 
@@ -37,6 +46,11 @@ public class UserOrder extends BaseEntity {
     @Column(name = "is_complete")
     private boolean isComplete;
 
-    @OneToMany(mappedBy = "userOrder", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    // Token of the checkout form that created this order, a repeated submission of the same form finds it here
+    @Column(name = "idempotency_key")
+    private UUID idempotencyKey;
+
+    // Loaded only for the order details page, the order lists use UserOrderSummaryDTO
+    @OneToMany(mappedBy = "userOrder", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems = new ArrayList<>();
 }
@@ -0,0 +1,38 @@
+package com.project.EpicByte.model.entity.enums;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formats of the streamed exports. JSON is a single array, NDJSON one JSON document per line,
+ * which a client can process record by record without parsing the whole response first.
+ */
+public enum ExportFormatEnum {
+    JSON("json", MediaType.APPLICATION_JSON),
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+    private final String value;
+    private final MediaType mediaType;
+
+    ExportFormatEnum(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    // Unknown or missing values fall back to a plain JSON array
+    public static ExportFormatEnum fromValue(String value) {
+        for (ExportFormatEnum format : values()) {
+            if (format.value.equalsIgnoreCase(String.valueOf(value))) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+}
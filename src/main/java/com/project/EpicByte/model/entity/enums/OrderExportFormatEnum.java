@@ -0,0 +1,38 @@
+package com.project.EpicByte.model.entity.enums;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formats of the moderator order export. CSV has one row per order item, with the order columns repeated,
+ * NDJSON one JSON document per order, with its items nested.
+ */
+public enum OrderExportFormatEnum {
+    CSV("csv", MediaType.parseMediaType("text/csv")),
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+    private final String value;
+    private final MediaType mediaType;
+
+    OrderExportFormatEnum(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    // Unknown or missing values fall back to CSV, the format the orders are reconciled in
+    public static OrderExportFormatEnum fromValue(String value) {
+        for (OrderExportFormatEnum format : values()) {
+            if (format.value.equalsIgnoreCase(String.valueOf(value))) {
+                return format;
+            }
+        }
+        return CSV;
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.EpicByte.model.entity.enums;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Filters of the product listing pages. The value is the request parameter name (and part of the label message key),
+ * "ranked" facets have free text values (names) and only show their most common options.
+ * Toys have no age field, so they are filtered by brand instead.
+ */
+public enum ProductFacetEnum {
+    PRICE("price", false, EnumSet.allOf(ProductTypeEnum.class)),
+    NEW_PRODUCT("new", false, EnumSet.allOf(ProductTypeEnum.class)),
+    LANGUAGE("language", false, EnumSet.of(ProductTypeEnum.BOOK, ProductTypeEnum.TEXTBOOK)),
+    CARRIER("carrier", false, EnumSet.of(ProductTypeEnum.MOVIE, ProductTypeEnum.MUSIC)),
+    AUTHOR("author", true, EnumSet.of(ProductTypeEnum.BOOK, ProductTypeEnum.TEXTBOOK)),
+    PUBLISHER("publisher", true, EnumSet.of(ProductTypeEnum.BOOK, ProductTypeEnum.TEXTBOOK, ProductTypeEnum.MUSIC)),
+    BRAND("brand", true, EnumSet.of(ProductTypeEnum.TOY));
+
+    private final String value;
+    private final boolean ranked;
+    private final Set<ProductTypeEnum> productTypes;
+
+    ProductFacetEnum(String value, boolean ranked, Set<ProductTypeEnum> productTypes) {
+        this.value = value;
+        this.ranked = ranked;
+        this.productTypes = productTypes;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isRanked() {
+        return ranked;
+    }
+
+    public boolean appliesTo(ProductTypeEnum productType) {
+        return productTypes.contains(productType);
+    }
+}
@@ -0,0 +1,44 @@
+package com.project.EpicByte.model.entity.enums;
+
+/**
+ * Sorting options of the product listing pages. Every option orders by its sort key and then by id in the same
+ * direction, so that (sortKey, id) is unique and a page can continue right after the last product of the previous one.
+ */
+public enum ProductSortEnum {
+    DEFAULT("default", "isNewProduct", true),
+    ALPHABETICAL("alphabetical", "productName", false),
+    LOWEST("lowest", "productPrice", false),
+    HIGHEST("highest", "productPrice", true);
+
+    private final String value;
+    private final String sortField;
+    private final boolean descending;
+
+    ProductSortEnum(String value, String sortField, boolean descending) {
+        this.value = value;
+        this.sortField = sortField;
+        this.descending = descending;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getSortField() {
+        return sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    // Unknown or missing values fall back to the default sorting, as the listing pages always did
+    public static ProductSortEnum fromValue(String value) {
+        for (ProductSortEnum sort : values()) {
+            if (sort.value.equals(value)) {
+                return sort;
+            }
+        }
+        return DEFAULT;
+    }
+}
@@ -3,14 +3,20 @@ package com.project.EpicByte.model.entity.productEntities;
 import com.project.EpicByte.model.entity.BaseEntity;
 import com.project.EpicByte.model.entity.BaseProduct;
 import com.project.EpicByte.model.entity.UserEntity;
-import jakarta.persistence.Entity;
-import jakarta.persistence.JoinColumn;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * A single cart line. Each (user, product) pair is stored once, and repeated "add to cart" clicks
+ * increment the quantity of the existing row instead of inserting a new one.
+ * Databases that still hold one row per unit are merged by EpicByte_migrate_cart_quantity.sql.
+ */
+
 @Entity
+@Table(name = "cart_item",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cart_item_user_product", columnNames = {"user_id", "product_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,4 +28,7 @@ public class CartItem extends BaseEntity {
     @ManyToOne
     @JoinColumn(name = "product_id")
     private BaseProduct product;
-}
\ No newline at end of file
+
+    @Column(name = "quantity", columnDefinition = "INT NOT NULL DEFAULT 1")
+    private int quantity;
+}
@@ -2,21 +2,37 @@ package com.project.EpicByte.repository;
 
 import com.project.EpicByte.model.entity.productEntities.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CartRepository extends JpaRepository<CartItem, UUID> {
-    CartItem findByProductId(UUID productId);
-    List<CartItem> findAllByUserId(UUID id);
+    @Query("SELECT ci FROM CartItem ci JOIN FETCH ci.product p WHERE ci.user.id = :userId ORDER BY p.productName")
+    List<CartItem> findAllByUserIdWithProducts(@Param("userId") UUID userId);
 
-    @Query("SELECT ci FROM CartItem ci WHERE ci.user.id = :userId AND ci.product.id = :productId")
-    List<CartItem> findAllByUserIdAndProductId(@Param("userId") UUID userId, @Param("productId") UUID productId);
+    @Transactional
+    @Modifying
+    @Query("UPDATE CartItem ci SET ci.quantity = ci.quantity + 1 WHERE ci.user.id = :userId AND ci.product.id = :productId")
+    int incrementQuantity(@Param("userId") UUID userId, @Param("productId") UUID productId);
 
-    @Query("SELECT ci FROM CartItem ci WHERE ci.product.id = :productId")
-    List<CartItem> findAllByProductId(@Param("productId") UUID productId);
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.user.id = :userId AND ci.product.id = :productId")
+    int deleteByUserIdAndProductId(@Param("userId") UUID userId, @Param("productId") UUID productId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.product.id = :productId")
+    int deleteAllByProductId(@Param("productId") UUID productId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") UUID userId);
 }
@@ -0,0 +1,58 @@
+package com.project.EpicByte.repository;
+
+import com.project.EpicByte.model.entity.ProductImageTask;
+import com.project.EpicByte.model.entity.enums.ImageTaskStatusEnum;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProductImageTaskRepository extends JpaRepository<ProductImageTask, UUID> {
+    @Query("SELECT t.id FROM ProductImageTask t WHERE t.status = :status AND t.nextAttemptAt <= :now ORDER BY t.nextAttemptAt")
+    List<UUID> findDueTaskIds(@Param("status") ImageTaskStatusEnum status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // Moves a task from one status to another only if nobody else did it first; 1 means this caller owns the task
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductImageTask t SET t.status = :newStatus WHERE t.id = :taskId AND t.status = :expectedStatus")
+    int updateStatus(@Param("taskId") UUID taskId,
+                     @Param("expectedStatus") ImageTaskStatusEnum expectedStatus,
+                     @Param("newStatus") ImageTaskStatusEnum newStatus);
+
+    // Claims a task in expectedStatus for the claimId; 1 means this caller owns the task
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductImageTask t SET t.status = :newStatus, t.claimId = :claimId, t.claimedAt = :claimedAt " +
+            "WHERE t.id = :taskId AND t.status = :expectedStatus")
+    int claim(@Param("taskId") UUID taskId,
+              @Param("expectedStatus") ImageTaskStatusEnum expectedStatus,
+              @Param("newStatus") ImageTaskStatusEnum newStatus,
+              @Param("claimId") UUID claimId,
+              @Param("claimedAt") LocalDateTime claimedAt);
+
+    // Restarts the lease of a claim; 0 means the claim expired and the task was handed to someone else
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductImageTask t SET t.claimedAt = :claimedAt WHERE t.id = :taskId AND t.status = :status AND t.claimId = :claimId")
+    int renewClaim(@Param("taskId") UUID taskId,
+                   @Param("status") ImageTaskStatusEnum status,
+                   @Param("claimId") UUID claimId,
+                   @Param("claimedAt") LocalDateTime claimedAt);
+
+    // Claims taken before claimedBefore, or before claims were recorded, are given up and the tasks moved to newStatus
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductImageTask t SET t.status = :newStatus, t.claimId = NULL, t.claimedAt = NULL " +
+            "WHERE t.status = :expectedStatus AND (t.claimedAt IS NULL OR t.claimedAt < :claimedBefore)")
+    int releaseExpiredClaims(@Param("expectedStatus") ImageTaskStatusEnum expectedStatus,
+                             @Param("newStatus") ImageTaskStatusEnum newStatus,
+                             @Param("claimedBefore") LocalDateTime claimedBefore);
+}
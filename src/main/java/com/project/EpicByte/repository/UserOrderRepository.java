@@ -1,18 +1,82 @@
 package com.project.EpicByte.repository;
 
+import com.project.EpicByte.model.dto.OrderExportRowDTO;
+import com.project.EpicByte.model.dto.UserOrderSummaryDTO;
 import com.project.EpicByte.model.entity.UserOrder;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface UserOrderRepository extends JpaRepository<UserOrder, UUID> {
-    Optional<UserOrder> findUserOrderById(UUID id);
-    Set<UserOrder> findUserOrderByUserId(UUID id);
-    @Query("SELECT uo FROM UserOrder uo WHERE uo.isComplete = false")
-    Set<UserOrder> findUserOrdersComplete();
+    @Query("SELECT uo FROM UserOrder uo LEFT JOIN FETCH uo.orderItems WHERE uo.id = :id")
+    Optional<UserOrder> findUserOrderWithItemsById(@Param("id") UUID id);
+
+    boolean existsByUserIdAndIdempotencyKey(UUID userId, UUID idempotencyKey);
+
+    // The order history of a user, newest first, read in date order from idx_user_order_user_date
+    @Query("SELECT new com.project.EpicByte.model.dto.UserOrderSummaryDTO(uo.id, uo.orderDate, uo.city, uo.neighborhood, " +
+            "uo.address, uo.totalCost, uo.isComplete, (SELECT COUNT(oi) FROM OrderItem oi WHERE oi.userOrder = uo)) " +
+            "FROM UserOrder uo JOIN uo.user u WHERE u.username = :username ORDER BY uo.orderDate DESC, uo.id DESC")
+    List<UserOrderSummaryDTO> findOrderSummariesByUsername(@Param("username") String username, Pageable pageable);
+
+    @Query("SELECT new com.project.EpicByte.model.dto.UserOrderSummaryDTO(uo.id, uo.orderDate, uo.city, uo.neighborhood, " +
+            "uo.address, uo.totalCost, uo.isComplete, (SELECT COUNT(oi) FROM OrderItem oi WHERE oi.userOrder = uo)) " +
+            "FROM UserOrder uo JOIN uo.user u WHERE u.username = :username " +
+            "AND (uo.orderDate < :orderDate OR (uo.orderDate = :orderDate AND uo.id < :lastId)) " +
+            "ORDER BY uo.orderDate DESC, uo.id DESC")
+    List<UserOrderSummaryDTO> findOrderSummariesByUsernameBefore(@Param("username") String username,
+                                                                 @Param("orderDate") LocalDate orderDate,
+                                                                 @Param("lastId") UUID lastId,
+                                                                 Pageable pageable);
+
+    // The moderator order queue, open orders oldest first, read in date order from idx_user_order_complete_date.
+    // The item count is a subquery per returned order, on the order_id index of order_item.
+    @Query("SELECT new com.project.EpicByte.model.dto.UserOrderSummaryDTO(uo.id, uo.orderDate, uo.city, uo.neighborhood, " +
+            "uo.address, uo.totalCost, uo.isComplete, (SELECT COUNT(oi) FROM OrderItem oi WHERE oi.userOrder = uo)) " +
+            "FROM UserOrder uo WHERE uo.isComplete = false ORDER BY uo.orderDate, uo.id")
+    List<UserOrderSummaryDTO> findOpenOrderSummaries(Pageable pageable);
+
+    @Query("SELECT new com.project.EpicByte.model.dto.UserOrderSummaryDTO(uo.id, uo.orderDate, uo.city, uo.neighborhood, " +
+            "uo.address, uo.totalCost, uo.isComplete, (SELECT COUNT(oi) FROM OrderItem oi WHERE oi.userOrder = uo)) " +
+            "FROM UserOrder uo WHERE uo.isComplete = false " +
+            "AND (uo.orderDate > :orderDate OR (uo.orderDate = :orderDate AND uo.id > :lastId)) " +
+            "ORDER BY uo.orderDate, uo.id")
+    List<UserOrderSummaryDTO> findOpenOrderSummariesAfter(@Param("orderDate") LocalDate orderDate,
+                                                          @Param("lastId") UUID lastId,
+                                                          Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserOrder uo SET uo.isComplete = true WHERE uo.id = :id")
+    int completeUserOrder(@Param("id") UUID id);
+
+    // One row per order item, read through a cursor 500 rows at a time. The rows of an order are consecutive,
+    // so the export can group them without holding more than one order. Missing filters match every order.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.project.EpicByte.model.dto.OrderExportRowDTO(uo.id, uo.orderDate, uo.isComplete, u.username, " +
+            "uo.city, uo.neighborhood, uo.address, uo.totalCost, " +
+            "oi.id, oi.productType, oi.productName, oi.productPrice, oi.quantity, oi.totalProductPrice) " +
+            "FROM UserOrder uo JOIN uo.user u LEFT JOIN uo.orderItems oi " +
+            "WHERE (:dateFrom IS NULL OR uo.orderDate >= :dateFrom) " +
+            "AND (:dateTo IS NULL OR uo.orderDate <= :dateTo) " +
+            "AND (:complete IS NULL OR uo.isComplete = :complete) " +
+            "ORDER BY uo.orderDate, uo.id")
+    Stream<OrderExportRowDTO> streamExportRows(@Param("dateFrom") LocalDate dateFrom,
+                                               @Param("dateTo") LocalDate dateTo,
+                                               @Param("complete") Boolean complete);
 }
@@ -1,11 +1,16 @@
 package com.project.EpicByte.repository;
 
+import com.project.EpicByte.model.dto.UserPrivilegeDTO;
 import com.project.EpicByte.model.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,21 +22,75 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
     UserEntity findUserEntityById(UUID id);
     boolean existsByUsername(String username);
 
+    @Query("SELECT u.username FROM UserEntity u WHERE u.id = :id")
+    Optional<String> findUsernameById(@Param("id") UUID id);
+
+    // The admin privilege console, users whose username or e-mail starts with the prefix (a LIKE pattern with "!" as escape),
+    // by username. The moderator flag is resolved here, so the roles of the listed users are never loaded.
+    @Query("SELECT new com.project.EpicByte.model.dto.UserPrivilegeDTO(u.id, u.username, u.firstName, u.lastName, u.email, " +
+            "CASE WHEN EXISTS (SELECT r FROM UserEntity m JOIN m.roles r WHERE m.id = u.id " +
+            "AND r.role = com.project.EpicByte.model.entity.enums.UserRolesEnum.MODERATOR) THEN true ELSE false END) " +
+            "FROM UserEntity u WHERE (u.username LIKE :prefix ESCAPE '!' OR u.email LIKE :prefix ESCAPE '!') " +
+            "ORDER BY u.username, u.id")
+    List<UserPrivilegeDTO> findPrivilegesPage(@Param("prefix") String prefix, Pageable pageable);
+
+    @Query("SELECT new com.project.EpicByte.model.dto.UserPrivilegeDTO(u.id, u.username, u.firstName, u.lastName, u.email, " +
+            "CASE WHEN EXISTS (SELECT r FROM UserEntity m JOIN m.roles r WHERE m.id = u.id " +
+            "AND r.role = com.project.EpicByte.model.entity.enums.UserRolesEnum.MODERATOR) THEN true ELSE false END) " +
+            "FROM UserEntity u WHERE (u.username LIKE :prefix ESCAPE '!' OR u.email LIKE :prefix ESCAPE '!') " +
+            "AND (u.username > :username OR (u.username = :username AND u.id > :lastId)) " +
+            "ORDER BY u.username, u.id")
+    List<UserPrivilegeDTO> findPrivilegesPageAfter(@Param("prefix") String prefix,
+                                                   @Param("username") String username,
+                                                   @Param("lastId") UUID lastId,
+                                                   Pageable pageable);
+
     @Query("SELECT u FROM UserEntity u JOIN FETCH u.userOrders")
     List<UserEntity> findAllUsersWithInitializedOrders();
 
+    // The admin users API: one page of ids, then one query per association of all the users of the page,
+    // each initializing that association in the persistence context (a fixed number of queries per page).
+    // No DISTINCT, Hibernate already returns each fetch-joined user once, and in SQL it would compare whole product rows.
+    @Query("SELECT u.id FROM UserEntity u ORDER BY u.id")
+    List<UUID> findPageIds(Pageable pageable);
+
+    @Query("SELECT u.id FROM UserEntity u WHERE u.id > :lastId ORDER BY u.id")
+    List<UUID> findPageIdsAfter(@Param("lastId") UUID lastId, Pageable pageable);
+
+    @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.roles WHERE u.id IN :ids")
+    List<UserEntity> findAllWithRolesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.cartItems ci LEFT JOIN FETCH ci.product WHERE u.id IN :ids")
+    List<UserEntity> fetchCartItemsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.userOrders uo LEFT JOIN FETCH uo.orderItems WHERE u.id IN :ids")
+    List<UserEntity> fetchUserOrdersByIdIn(@Param("ids") Collection<UUID> ids);
+
     @Query("SELECT u FROM UserEntity u JOIN FETCH u.cartItems")
     List<UserEntity> findAllUsersWithInitializedCartItems();
 
     @Query("SELECT u FROM UserEntity u JOIN FETCH u.cartItems WHERE u.username = :username")
     UserEntity findUserByUsernameWithInitializedCartItems(@Param("username") String username);
 
-    @Query("SELECT u FROM UserEntity u JOIN FETCH u.userOrders WHERE u.username = :username")
-    UserEntity findUserByUsernameWithInitializedOrders(@Param("username") String username);
-
     @Query("SELECT u FROM UserEntity u JOIN FETCH u.cartItems WHERE u.id = :userId")
     UserEntity findUserByIdWithInitializedCartItems(@Param("userId") UUID userId);
 
     @Query("SELECT u FROM UserEntity u JOIN FETCH u.userOrders WHERE u.id = :userId")
     UserEntity findUserByIdWithInitializedOrders(@Param("userId") UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.cartVersion = u.cartVersion + 1 WHERE u.id = :userId")
+    int incrementCartVersion(@Param("userId") UUID userId);
+
+    // Compare-and-set on the cart version, 0 means the cart changed since expectedVersion
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.cartVersion = u.cartVersion + 1 WHERE u.id = :userId AND u.cartVersion = :expectedVersion")
+    int incrementCartVersionIfUnchanged(@Param("userId") UUID userId, @Param("expectedVersion") long expectedVersion);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.password = :password WHERE u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
 }
@@ -3,11 +3,31 @@ package com.project.EpicByte.repository;
 import com.project.EpicByte.model.entity.UserRoleEntity;
 import com.project.EpicByte.model.entity.enums.UserRolesEnum;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 @Repository
 public interface UserRoleRepository extends JpaRepository<UserRoleEntity, UUID> {
     UserRoleEntity findUserRoleByRole(UserRolesEnum userRolesEnum);
+
+    // One row in the join table, without loading the user. Granting a role the user already has changes nothing.
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO users_roles (user_id, role_id) " +
+            "SELECT :userId, r.id FROM roles r WHERE r.role = :role " +
+            "AND NOT EXISTS (SELECT 1 FROM users_roles ur WHERE ur.user_id = :userId AND ur.role_id = r.id)",
+            nativeQuery = true)
+    int grantRole(@Param("userId") UUID userId, @Param("role") String role);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM users_roles " +
+            "WHERE user_id = :userId AND role_id IN (SELECT r.id FROM roles r WHERE r.role = :role)",
+            nativeQuery = true)
+    int revokeRole(@Param("userId") UUID userId, @Param("role") String role);
 }
@@ -0,0 +1,54 @@
+package com.project.EpicByte.repository.productRepositories;
+
+import com.project.EpicByte.model.dto.ProductSuggestionDTO;
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ProductImageStatusEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface ProductRepository extends JpaRepository<BaseProduct, UUID>, ProductRepositoryCustom {
+    @Query("SELECT p FROM BaseProduct p WHERE p.id = :productId")
+    BaseProduct findProductById(@Param("productId") UUID productId);
+
+    // Only the columns the type-ahead suggestions need, without touching the detail tables or the descriptions
+    @Query("SELECT new com.project.EpicByte.model.dto.ProductSuggestionDTO(p.id, p.productType, p.productName) FROM BaseProduct p")
+    List<ProductSuggestionDTO> findAllSuggestions();
+
+    @Query("SELECT new com.project.EpicByte.model.dto.ProductSuggestionDTO(p.id, p.productType, p.productName) FROM BaseProduct p WHERE p.id = :productId")
+    ProductSuggestionDTO findSuggestionById(@Param("productId") UUID productId);
+
+    @Query("SELECT new com.project.EpicByte.model.dto.ProductSuggestionDTO(p.id, p.productType, p.productName) FROM BaseProduct p WHERE p.id IN :productIds")
+    List<ProductSuggestionDTO> findSuggestionsByIds(@Param("productIds") Collection<UUID> productIds);
+
+    // Read through a cursor, a fetch size at a time, for the streamed exports. Has to be consumed inside a transaction.
+    // Read-only, so Hibernate keeps no snapshots of the loaded products for dirty checking.
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM BaseProduct p WHERE p.productType = :productType ORDER BY p.id")
+    Stream<BaseProduct> streamAllByProductType(@Param("productType") ProductTypeEnum productType);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BaseProduct p SET p.productImageUrl = :imageUrl, p.imageStatus = :imageStatus WHERE p.id = :productId")
+    int updateImage(@Param("productId") UUID productId,
+                    @Param("imageUrl") String imageUrl,
+                    @Param("imageStatus") ProductImageStatusEnum imageStatus);
+}
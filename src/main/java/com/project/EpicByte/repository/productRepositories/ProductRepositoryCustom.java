@@ -0,0 +1,18 @@
+package com.project.EpicByte.repository.productRepositories;
+
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ProductSortEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.util.ProductPageCursor;
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface ProductRepositoryCustom {
+    List<BaseProduct> findPage(ProductTypeEnum productType, ProductSortEnum sort, ProductPageCursor after, int limit);
+    List<Tuple> findPageFields(ProductTypeEnum productType, ProductSortEnum sort, ProductPageCursor after, int limit, List<String> fields);
+    Stream<Tuple> streamFields(ProductTypeEnum productType, List<String> fields);
+    Set<String> getFieldNames(ProductTypeEnum productType);
+}
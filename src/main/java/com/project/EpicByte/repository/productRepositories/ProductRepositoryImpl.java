@@ -0,0 +1,154 @@
+package com.project.EpicByte.repository.productRepositories;
+
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ProductSortEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.model.entity.productEntities.*;
+import com.project.EpicByte.util.ProductPageCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static com.project.EpicByte.util.ProductFields.CURSOR_ID_ALIAS;
+import static com.project.EpicByte.util.ProductFields.CURSOR_VALUE_ALIAS;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+/**
+ * Keyset pagination over a single product type. Instead of an OFFSET, each page continues strictly after the
+ * (sortKey, id) of the last product already shown, so the database walks the matching
+ * (product_type, sortKey, id) index from that point and reads only "limit" rows, no matter how deep the page is.
+ * The "fields" variants select only the given columns into tuples, without loading the entities.
+ */
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // JSON property name -> entity attribute name, per product type
+    private final Map<ProductTypeEnum, Map<String, String>> fieldAttributes = new ConcurrentHashMap<>();
+
+    @Override
+    public List<BaseProduct> findPage(ProductTypeEnum productType, ProductSortEnum sort, ProductPageCursor after, int limit) {
+        String jpql = "SELECT p" + getPageQuery(productType, sort, after);
+
+        TypedQuery<BaseProduct> query = entityManager.createQuery(jpql, BaseProduct.class)
+                .setParameter("productType", productType)
+                .setMaxResults(limit);
+        setCursorParameters(query, after);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Tuple> findPageFields(ProductTypeEnum productType, ProductSortEnum sort, ProductPageCursor after, int limit, List<String> fields) {
+        String jpql = "SELECT p.id AS " + CURSOR_ID_ALIAS + ", p." + sort.getSortField() + " AS " + CURSOR_VALUE_ALIAS
+                + getSelectedFields(productType, fields) + getPageQuery(productType, sort, after);
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("productType", productType)
+                .setMaxResults(limit);
+        setCursorParameters(query, after);
+
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<Tuple> streamFields(ProductTypeEnum productType, List<String> fields) {
+        // Skip the leading comma of the selected fields
+        String jpql = "SELECT " + getSelectedFields(productType, fields).substring(1)
+                + " FROM " + getEntityClass(productType).getSimpleName() + " p"
+                + " WHERE p.productType = :productType ORDER BY p.id";
+
+        return entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("productType", productType)
+                .setHint(HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public Set<String> getFieldNames(ProductTypeEnum productType) {
+        return getFieldAttributes(productType).keySet();
+    }
+
+    // Support methods
+    private String getPageQuery(ProductTypeEnum productType, ProductSortEnum sort, ProductPageCursor after) {
+        String field = "p." + sort.getSortField();
+        String direction = sort.isDescending() ? "DESC" : "ASC";
+        String comparison = sort.isDescending() ? "<" : ">";
+
+        StringBuilder jpql = new StringBuilder()
+                .append(" FROM ").append(getEntityClass(productType).getSimpleName()).append(" p")
+                .append(" WHERE p.productType = :productType");
+
+        if (after != null) {
+            jpql.append(" AND (").append(field).append(' ').append(comparison).append(" :sortValue")
+                    .append(" OR (").append(field).append(" = :sortValue AND p.id ").append(comparison).append(" :lastId))");
+        }
+
+        jpql.append(" ORDER BY ").append(field).append(' ').append(direction)
+                .append(", p.id ").append(direction);
+
+        return jpql.toString();
+    }
+
+    private void setCursorParameters(TypedQuery<?> query, ProductPageCursor after) {
+        if (after != null) {
+            query.setParameter("sortValue", after.getSortValue());
+            query.setParameter("lastId", after.getLastId());
+        }
+    }
+
+    // ", p.productName AS productName, p.isNewProduct AS newProduct, ..."
+    private String getSelectedFields(ProductTypeEnum productType, List<String> fields) {
+        Map<String, String> attributes = getFieldAttributes(productType);
+
+        StringBuilder select = new StringBuilder();
+        for (String field : fields) {
+            String attribute = attributes.get(field);
+            if (attribute == null) {
+                throw new IllegalArgumentException("Unknown product field: " + field);
+            }
+            select.append(", p.").append(attribute).append(" AS ").append(field);
+        }
+        return select.toString();
+    }
+
+    private Map<String, String> getFieldAttributes(ProductTypeEnum productType) {
+        return this.fieldAttributes.computeIfAbsent(productType, type -> {
+            Map<String, String> attributes = new TreeMap<>();
+            for (SingularAttribute<?, ?> attribute : entityManager.getMetamodel().entity(getEntityClass(type)).getSingularAttributes()) {
+                if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+                    attributes.put(getJsonName(attribute), attribute.getName());
+                }
+            }
+            return Collections.unmodifiableMap(attributes);
+        });
+    }
+
+    // Jackson names boolean "isX" fields after their Lombok getter, e.g. isNewProduct -> newProduct
+    private static String getJsonName(SingularAttribute<?, ?> attribute) {
+        String name = attribute.getName();
+        if (attribute.getJavaType() == boolean.class && name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2))) {
+            return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+        }
+        return name;
+    }
+
+    private Class<? extends BaseProduct> getEntityClass(ProductTypeEnum productType) {
+        return switch (productType) {
+            case BOOK -> Book.class;
+            case TEXTBOOK -> Textbook.class;
+            case MOVIE -> Movie.class;
+            case MUSIC -> Music.class;
+            case TOY -> Toy.class;
+        };
+    }
+}
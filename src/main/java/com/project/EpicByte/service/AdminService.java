@@ -5,7 +5,7 @@ import org.springframework.ui.Model;
 import java.util.UUID;
 
 public interface AdminService {
-     String displayAdminManagePrivilegesPage (Model model);
+     String displayAdminManagePrivilegesPage (Model model, String query, String after);
      String giveModeratorPrivilegesToUser (UUID id, Model model);
      String removeModeratorPrivileges (UUID id, Model model);
 }
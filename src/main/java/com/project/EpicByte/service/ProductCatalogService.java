@@ -0,0 +1,17 @@
+package com.project.EpicByte.service;
+
+import com.project.EpicByte.model.dto.ProductFieldsPageDTO;
+import com.project.EpicByte.model.dto.ProductPageDTO;
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ProductCatalogService {
+    ProductPageDTO getPage(ProductTypeEnum productType, String sort, String after, Integer size);
+    ProductFieldsPageDTO getFieldsPage(ProductTypeEnum productType, String sort, String after, Integer size, String fields);
+    <T extends BaseProduct> T getProduct(UUID id, Class<T> productClass);
+    Map<UUID, BaseProduct> getProducts(Collection<UUID> ids);
+}
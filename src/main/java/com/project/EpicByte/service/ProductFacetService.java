@@ -0,0 +1,14 @@
+package com.project.EpicByte.service;
+
+import com.project.EpicByte.model.dto.ProductFacetDTO;
+import com.project.EpicByte.model.dto.ProductPageDTO;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+
+public interface ProductFacetService {
+    ProductPageDTO getPage(ProductTypeEnum productType, MultiValueMap<String, String> filters, String sort, String after, Integer size);
+    List<ProductFacetDTO> getFacets(ProductTypeEnum productType, MultiValueMap<String, String> filters);
+    String getPageUrl(String listingUrl, ProductTypeEnum productType, MultiValueMap<String, String> filters);
+}
@@ -0,0 +1,11 @@
+package com.project.EpicByte.service;
+
+import com.project.EpicByte.model.entity.BaseProduct;
+
+import java.util.Collection;
+
+public interface ProductImagePipelineService {
+    void enqueueUpload(BaseProduct product);
+    void enqueueRemoval(BaseProduct product);
+    void enqueueUploads(Collection<? extends BaseProduct> products);
+}
@@ -0,0 +1,12 @@
+package com.project.EpicByte.service;
+
+import com.project.EpicByte.model.dto.ProductImportReportDTO;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ProductImportService {
+    ProductImportReportDTO importProducts(ProductTypeEnum productType, MediaType contentType, InputStream inputStream) throws IOException;
+}
@@ -1,19 +1,22 @@
 package com.project.EpicByte.service;
 
+import com.project.EpicByte.model.dto.ProductFieldsPageDTO;
+import com.project.EpicByte.model.dto.ProductPageDTO;
 import com.project.EpicByte.model.dto.productDTOs.*;
 import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
 import com.project.EpicByte.model.entity.productEntities.*;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ProductRESTService {
-    List<? extends BaseProduct> getAll(String productType);
-    BaseProduct getProduct(UUID uuid, String productType);
+    ProductPageDTO getPage(ProductTypeEnum productType, String sort, String after, Integer size);
+    ProductFieldsPageDTO getFieldsPage(ProductTypeEnum productType, String sort, String after, Integer size, String fields);
+    BaseProduct getProduct(UUID uuid);
     Book saveBook(BookAddDTO bookAddDTO);
     Textbook saveTextbook(TextbookAddDTO textbookAddDTO);
     Music saveMusic(MusicAddDTO musicAddDTO);
     Movie saveMovie(MovieAddDTO movieAddDTO);
     Toy saveToy(ToyAddDTO toyAddDTO);
-    boolean deleteProduct(UUID uuid, String productType);
+    boolean deleteProduct(UUID uuid);
 }
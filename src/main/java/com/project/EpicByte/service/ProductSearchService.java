@@ -0,0 +1,12 @@
+package com.project.EpicByte.service;
+
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import org.springframework.ui.Model;
+
+import java.util.List;
+
+public interface ProductSearchService {
+    List<BaseProduct> search(String query, ProductTypeEnum productType, Integer size);
+    String displaySearchResultsPage(Model model, String query);
+}
@@ -0,0 +1,9 @@
+package com.project.EpicByte.service;
+
+import com.project.EpicByte.model.entity.enums.ExportFormatEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ProductStreamService {
+    StreamingResponseBody streamProducts(ProductTypeEnum productType, ExportFormatEnum format, String fields);
+}
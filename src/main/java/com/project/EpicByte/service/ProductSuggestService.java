@@ -0,0 +1,9 @@
+package com.project.EpicByte.service;
+
+import com.project.EpicByte.model.dto.ProductSuggestionDTO;
+
+import java.util.List;
+
+public interface ProductSuggestService {
+    List<ProductSuggestionDTO> suggest(String prefix, Integer size);
+}
@@ -0,0 +1,13 @@
+package com.project.EpicByte.service;
+
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.UUID;
+
+public interface ProductVersionService {
+    boolean checkListingPageNotModified(WebRequest webRequest, ProductTypeEnum productType);
+    boolean checkProductPageNotModified(WebRequest webRequest, ProductTypeEnum productType, UUID productId);
+    boolean checkListingNotModified(WebRequest webRequest, ProductTypeEnum productType);
+    boolean checkProductNotModified(WebRequest webRequest, ProductTypeEnum productType, UUID productId);
+}
@@ -6,8 +6,8 @@ import java.security.Principal;
 import java.util.UUID;
 
 public interface UserOrderService {
-    String displayUserOrders(Model model, Principal principal);
-    String displayAdminAllUserOrders(Model model);
+    String displayUserOrders(Model model, Principal principal, String after);
+    String displayAdminAllUserOrders(Model model, String after);
     String completeUserOrder (UUID id);
     String displayUserOrderDetails (UUID id, Model model);
 }
@@ -0,0 +1,10 @@
+package com.project.EpicByte.service;
+
+import com.project.EpicByte.model.entity.enums.OrderExportFormatEnum;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+public interface UserOrderStreamService {
+    StreamingResponseBody streamOrders(LocalDate dateFrom, LocalDate dateTo, Boolean complete, OrderExportFormatEnum format);
+}
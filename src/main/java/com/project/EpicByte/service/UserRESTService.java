@@ -1,11 +1,14 @@
 package com.project.EpicByte.service;
 
+import com.project.EpicByte.model.dto.RESTDTOs.UserRESTPageDTO;
 import com.project.EpicByte.model.dto.RESTDTOs.UserRESTViewDTO;
+import com.project.EpicByte.model.entity.enums.ExportFormatEnum;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface UserRESTService {
-    List<UserRESTViewDTO> getAllUsers();
+    UserRESTPageDTO getUsersPage(String after, Integer size);
+    StreamingResponseBody streamUsers(ExportFormatEnum format);
     UserRESTViewDTO getUserById(UUID uuid);
 }
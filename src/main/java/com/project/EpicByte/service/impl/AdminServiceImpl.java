@@ -1,14 +1,17 @@
 package com.project.EpicByte.service.impl;
 
+import com.project.EpicByte.event.UserChangedEvent;
 import com.project.EpicByte.exceptions.UsernameIsEmptyException;
-import com.project.EpicByte.model.entity.UserEntity;
-import com.project.EpicByte.model.entity.UserRoleEntity;
+import com.project.EpicByte.model.dto.UserPrivilegeDTO;
 import com.project.EpicByte.repository.UserRepository;
 import com.project.EpicByte.repository.UserRoleRepository;
 import com.project.EpicByte.service.AdminService;
+import com.project.EpicByte.util.UserPageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
 
 import java.util.*;
@@ -20,29 +23,48 @@ import static com.project.EpicByte.util.Constants.*;
 public class AdminServiceImpl implements AdminService {
     private final UserRepository userRepository;
     private final UserRoleRepository userRoleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public AdminServiceImpl(UserRepository userRepository,
-                            UserRoleRepository userRoleRepository) {
+                            UserRoleRepository userRoleRepository,
+                            ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.userRoleRepository = userRoleRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
-    public String displayAdminManagePrivilegesPage(Model model) {
-        LinkedHashMap<UserEntity, String> userEntityMap = getUserEntityMap();
-        model.addAttribute("userMap", userEntityMap);
+    public String displayAdminManagePrivilegesPage(Model model, String query, String after) {
+        String prefix = query == null ? "" : query.strip();
+        UserPageCursor cursor = UserPageCursor.decode(after);
+
+        // Ask for one extra user to know whether there is a next page without counting the matches
+        String pattern = toPrefixPattern(prefix);
+        Pageable limit = PageRequest.of(0, USERS_PAGE_SIZE + 1);
+        List<UserPrivilegeDTO> users = cursor == null
+                ? this.userRepository.findPrivilegesPage(pattern, limit)
+                : this.userRepository.findPrivilegesPageAfter(pattern, cursor.getUsername(), cursor.getLastId(), limit);
+
+        boolean hasNext = users.size() > USERS_PAGE_SIZE;
+        if (hasNext) {
+            users = users.subList(0, USERS_PAGE_SIZE);
+        }
+
+        UserPrivilegeDTO last = users.isEmpty() ? null : users.get(users.size() - 1);
+        model.addAttribute("users", users);
+        model.addAttribute("query", prefix);
+        model.addAttribute("isFirstPage", cursor == null);
+        model.addAttribute("nextCursor", hasNext ? UserPageCursor.encode(last.getUsername(), last.getId()) : null);
         return USER_PRIVILEGE_CONTROLLER_HTML;
     }
 
     @Override
-    @Transactional
     public String giveModeratorPrivilegesToUser(UUID id, Model model) {
         try {
-            UserEntity userEntity = getUserEntityById(id);
-            UserRoleEntity userRole = this.userRoleRepository.findUserRoleByRole(MODERATOR);
-            userEntity.getRoles().add(userRole);
-            userRepository.saveAndFlush(userEntity);
+            String username = getUsernameById(id);
+            this.userRoleRepository.grantRole(id, MODERATOR.name());
+            this.eventPublisher.publishEvent(new UserChangedEvent(username));
             return "redirect:" + ADMIN_MANAGE_PRIVILEGES_URL;
         } catch (UsernameIsEmptyException e) {
             return returnErrorPage(model);
@@ -50,13 +72,11 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Override
-    @Transactional
     public String removeModeratorPrivileges(UUID id, Model model) {
         try {
-            UserEntity userEntity = getUserEntityById(id);
-            UserRoleEntity userRole = this.userRoleRepository.findUserRoleByRole(MODERATOR);
-            userEntity.getRoles().remove(userRole);
-            userRepository.saveAndFlush(userEntity);
+            String username = getUsernameById(id);
+            this.userRoleRepository.revokeRole(id, MODERATOR.name());
+            this.eventPublisher.publishEvent(new UserChangedEvent(username));
             return "redirect:" + ADMIN_MANAGE_PRIVILEGES_URL;
         } catch (UsernameIsEmptyException e) {
             return returnErrorPage(model);
@@ -64,38 +84,16 @@ public class AdminServiceImpl implements AdminService {
     }
 
     // Support Methods
-    @Transactional
-    protected UserEntity getUserEntityById(UUID id) {
-        Optional<UserEntity> user = this.userRepository.findById(id);
-
-        if (user.isEmpty()) {
-            throw new UsernameIsEmptyException();
-        }
-
-        return user.get();
+    private String getUsernameById(UUID id) {
+        return this.userRepository.findUsernameById(id)
+                .orElseThrow(UsernameIsEmptyException::new);
     }
 
-    protected LinkedHashMap<UserEntity, String> getUserEntityMap() {
-        List<UserEntity> users = this.userRepository.findAll();
-
-        LinkedHashMap<UserEntity, String> userMap = new LinkedHashMap<>();
-        UserRoleEntity moderatorRole = this.userRoleRepository.findUserRoleByRole(MODERATOR);
-
-        for (UserEntity user : users) {
-            String role = "USER";
-            Set<UserRoleEntity> userRoles = user.getRoles();
-
-            for (UserRoleEntity userRole : userRoles) {
-                if (userRole.getRole().name().equals(MODERATOR.name())) {
-                    role = "MODERATOR";
-                    break;
-                }
-            }
-
-            userMap.put(user, role);
-        }
-
-        return userMap;
+    // "Starts with" LIKE pattern, with the wildcards typed in the search box matched literally
+    private static String toPrefixPattern(String prefix) {
+        return prefix.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_") + "%";
     }
 
     private String returnErrorPage(Model model) {
@@ -1,26 +1,31 @@
 package com.project.EpicByte.service.impl;
 
+import com.project.EpicByte.exceptions.CartChangedException;
 import com.project.EpicByte.exceptions.CartItemNotFoundException;
 import com.project.EpicByte.exceptions.EmptyCartException;
+import com.project.EpicByte.mapper.ProductMapper;
 import com.project.EpicByte.model.bindingModel.CartItemBindingModel;
 import com.project.EpicByte.model.bindingModel.UserCartBindingModel;
 import com.project.EpicByte.model.dto.productDTOs.OrderAddressDTO;
 import com.project.EpicByte.model.entity.BaseProduct;
 import com.project.EpicByte.model.entity.UserEntity;
 import com.project.EpicByte.model.entity.UserOrder;
-import com.project.EpicByte.model.entity.productEntities.*;
+import com.project.EpicByte.model.entity.productEntities.CartItem;
+import com.project.EpicByte.model.entity.productEntities.OrderItem;
 import com.project.EpicByte.repository.*;
-import com.project.EpicByte.repository.productRepositories.*;
+import com.project.EpicByte.repository.productRepositories.ProductRepository;
 import com.project.EpicByte.service.CartService;
 import com.project.EpicByte.util.Breadcrumbs;
-import org.modelmapper.ModelMapper;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 
@@ -33,32 +38,28 @@ import static com.project.EpicByte.util.Constants.*;
 
 @Service
 public class CartServiceImpl extends Breadcrumbs implements CartService {
-    private final BookRepository bookRepository;
-    private final TextbookRepository textbookRepository;
-    private final MovieRepository movieRepository;
-    private final MusicRepository musicRepository;
-    private final ToyRepository toyRepository;
+    private static final int CHECKOUT_MAX_ATTEMPTS = 3;
+
+    private final ProductRepository productRepository;
 
     private final CartRepository cartRepository;
     private final UserRepository userRepository;
     private final UserOrderRepository userOrderRepository;
 
     private final MessageSource messageSource;
-    private final ModelMapper modelMapper;
-
-    public CartServiceImpl(BookRepository bookRepository, TextbookRepository textbookRepository,
-                           MovieRepository movieRepository, MusicRepository musicRepository,
-                           ToyRepository toyRepository, MessageSource messageSource, CartRepository cartRepository, UserRepository userRepository, UserOrderRepository userOrderRepository, ModelMapper modelMapper) {
-        this.bookRepository = bookRepository;
-        this.textbookRepository = textbookRepository;
-        this.movieRepository = movieRepository;
-        this.musicRepository = musicRepository;
-        this.toyRepository = toyRepository;
+    private final ProductMapper productMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public CartServiceImpl(ProductRepository productRepository, MessageSource messageSource, CartRepository cartRepository,
+                           UserRepository userRepository, UserOrderRepository userOrderRepository, ProductMapper productMapper,
+                           PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
         this.messageSource = messageSource;
         this.cartRepository = cartRepository;
         this.userRepository = userRepository;
         this.userOrderRepository = userOrderRepository;
-        this.modelMapper = modelMapper;
+        this.productMapper = productMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -80,13 +81,8 @@ public class CartServiceImpl extends Breadcrumbs implements CartService {
     @Transactional
     public String deleteItemFromUserCart(UUID productId, String username, Model model) {
         UserEntity userEntity = getUserEntityByUsername(username);
-        List<CartItem> deletionProducts = this.cartRepository
-                .findAllByUserIdAndProductId(userEntity.getId(), productId);
-
-        for (CartItem cartItem : deletionProducts) {
-            userEntity.getCartItems().remove(cartItem);
-            this.cartRepository.delete(cartItem);
-        }
+        this.userRepository.incrementCartVersion(userEntity.getId());
+        this.cartRepository.deleteByUserIdAndProductId(userEntity.getId(), productId);
 
         return "redirect:" + USER_CART_URL;
     }
@@ -95,8 +91,7 @@ public class CartServiceImpl extends Breadcrumbs implements CartService {
     public ResponseEntity<String> addProductToCart(Map<String, Object> payload, Principal principal) {
         try {
             UUID productId = UUID.fromString(payload.get("productId").toString());
-            String productType = payload.get("productType").toString();
-            addToCart(productId, productType, principal);
+            addToCart(productId, principal);
             return ResponseEntity.ok("Product added to cart successfully");
         } catch (UsernameNotFoundException | CartItemNotFoundException exception) {
             return ResponseEntity
@@ -108,9 +103,15 @@ public class CartServiceImpl extends Breadcrumbs implements CartService {
     @Override
     public String showCartCheckoutPage(Principal principal, Model model) {
         try {
+            // The user (and with it the cart version) is read before the cart items,
+            // so a change in between makes the version stale instead of going unnoticed
             UserEntity userEntity = getUserEntityByUsername(principal.getName());
             setModelAttributesForCart(userEntity, model);
-            model.addAttribute("orderAddressDTO", new OrderAddressDTO());
+
+            OrderAddressDTO orderAddressDTO = new OrderAddressDTO();
+            orderAddressDTO.setIdempotencyKey(UUID.randomUUID());
+            orderAddressDTO.setCartVersion(userEntity.getCartVersion());
+            model.addAttribute("orderAddressDTO", orderAddressDTO);
             addProductBreadcrumb(model, USER_CART_URL, "Cart", "Checkout");
             return CART_CHECKOUT_HTML;
         } catch (NullPointerException | UsernameNotFoundException exception) {
@@ -121,8 +122,14 @@ public class CartServiceImpl extends Breadcrumbs implements CartService {
     }
 
     @Override
-    @Transactional
     public String confirmCheckout(OrderAddressDTO orderAddressDTO, BindingResult bindingResult, Principal principal, Model model) {
+        // A form stripped of its token or priced version (or with malformed ones) is not placed with invented values,
+        // the customer gets the newly priced cart with a new token to confirm instead
+        if (bindingResult.hasFieldErrors("idempotencyKey") || bindingResult.hasFieldErrors("cartVersion")
+                || orderAddressDTO.getIdempotencyKey() == null || orderAddressDTO.getCartVersion() == null) {
+            return returnChangedCartPage(copyAddress(orderAddressDTO), principal, model);
+        }
+
         if (bindingResult.hasErrors()) {
             UserEntity userEntity = getUserEntityByUsername(principal.getName());
             setModelAttributesForCart(userEntity, model);
@@ -131,52 +138,92 @@ public class CartServiceImpl extends Breadcrumbs implements CartService {
         }
 
         try {
-            createUserOrder(principal.getName(), orderAddressDTO);
+            createUserOrderWithRetry(principal.getName(), orderAddressDTO);
             model.addAttribute("pageType", "Completed Successfully");
             model.addAttribute("pageText", getLocalizedText("order.successfully.received.text"));
             return DISPLAY_TEXT_HTML;
         } catch (EmptyCartException exception) {
             return returnEmptyCartPage(model);
+        } catch (CartChangedException exception) {
+            return returnChangedCartPage(orderAddressDTO, principal, model);
         }
     }
 
     //Support methods
+    private void createUserOrderWithRetry(String username, OrderAddressDTO orderAddressDTO) {
+        // Every attempt runs in its own short transaction, so no locks are held on the cart while the customer fills in
+        // the form. Only a lost lock or deadlock is retried, a stale cart version would fail the same way every time.
+        for (int attempt = 1; ; attempt++) {
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> createUserOrder(username, orderAddressDTO));
+                return;
+            } catch (PessimisticLockingFailureException exception) {
+                if (attempt >= CHECKOUT_MAX_ATTEMPTS) {
+                    throw new CartChangedException("The cart could not be locked for the checkout.", exception);
+                }
+            } catch (CartChangedException exception) {
+                // The same form submitted twice at once: the other request claimed the cart version and placed the order
+                if (isOrderPlaced(username, orderAddressDTO)) {
+                    return;
+                }
+                throw exception;
+            }
+        }
+    }
+
+    private boolean isOrderPlaced(String username, OrderAddressDTO orderAddressDTO) {
+        UserEntity userEntity = getUserEntityByUsername(username);
+        return this.userOrderRepository.existsByUserIdAndIdempotencyKey(userEntity.getId(), orderAddressDTO.getIdempotencyKey());
+    }
+
     private void createUserOrder(String username, OrderAddressDTO orderAddressDTO) {
         UserEntity userEntity = getUserEntityByUsername(username);
+        UUID idempotencyKey = orderAddressDTO.getIdempotencyKey();
+
+        // The same form was already submitted (double click, refresh, retried request) - the order exists
+        if (this.userOrderRepository.existsByUserIdAndIdempotencyKey(userEntity.getId(), idempotencyKey)) {
+            return;
+        }
+
+        long expectedCartVersion = orderAddressDTO.getCartVersion();
+
+        // Claims the cart version that was priced on the checkout page. The row lock taken here
+        // also holds back concurrent cart changes of this user until the order is committed.
+        if (this.userRepository.incrementCartVersionIfUnchanged(userEntity.getId(), expectedCartVersion) == 0) {
+            throw new CartChangedException("Cart version " + expectedCartVersion + " is stale.");
+        }
+
         UserOrder order = initializeUserOrder(userEntity, orderAddressDTO);
+        order.setIdempotencyKey(idempotencyKey);
 
-        List<BaseProduct> products = fetchUserCartProducts(userEntity);
+        List<CartItem> cartItems = fetchUserCartItems(userEntity);
 
-        if (products.isEmpty()) {
+        if (cartItems.isEmpty()) {
             throw new EmptyCartException();
         }
 
         // Calculate total cost
-        BigDecimal totalCost = products.stream()
-                .map(BaseProduct::getProductPrice)
+        BigDecimal totalCost = cartItems.stream()
+                .map(this::getCartItemTotalPrice)
                 .reduce(order.getTotalCost(), BigDecimal::add);
         order.setTotalCost(totalCost);
 
-        List<OrderItem> orderItems = createOrderItems(order, products);
+        List<OrderItem> orderItems = createOrderItems(order, cartItems);
         order.setOrderItems(orderItems);
         finalizeOrderCreation(order, userEntity);
     }
 
-    private List<OrderItem> createOrderItems(UserOrder userOrder, List<BaseProduct> products) {
-        Map<BaseProduct, Integer> productCountMap = new HashMap<>();
+    List<OrderItem> createOrderItems(UserOrder userOrder, List<CartItem> cartItems) {
+        List<OrderItem> orderItems = new ArrayList<>(cartItems.size());
 
-        for (BaseProduct product : products) {
-            productCountMap.put(product, productCountMap.getOrDefault(product, 0) + 1);
-        }
+        for (CartItem cartItem : cartItems) {
+            OrderItem orderItem = this.productMapper.toOrderItem(cartItem.getProduct());
 
-        List<OrderItem> orderItems = new ArrayList<>();
+            // Every order item gets its own id, it is not the product's
+            orderItem.setId(UUID.randomUUID());
 
-        for (BaseProduct product : productCountMap.keySet()) {
-            OrderItem orderItem = modelMapper.map(product, OrderItem.class);
-
-            int quantity = productCountMap.get(product);
-            orderItem.setQuantity(quantity);
-            orderItem.setTotalProductPrice(product.getProductPrice().multiply(new BigDecimal(quantity)));
+            orderItem.setQuantity(cartItem.getQuantity());
+            orderItem.setTotalProductPrice(getCartItemTotalPrice(cartItem));
             orderItem.setUserOrder(userOrder);
 
             orderItems.add(orderItem);
@@ -186,19 +233,21 @@ public class CartServiceImpl extends Breadcrumbs implements CartService {
     }
 
     protected void finalizeOrderCreation(UserOrder userOrder, UserEntity userEntity) {
+        // The order and its items are written as JDBC batches on flush (see hibernate.jdbc.batch_size),
+        // and the cart is emptied with a single bulk DELETE instead of loading and removing every row
         this.userOrderRepository.save(userOrder);
-        UserEntity user = this.userRepository
-                .findUserByUsernameWithInitializedCartItems(userEntity.getUsername());
-        user.getCartItems().clear();
-        this.userRepository.saveAndFlush(user);
+        this.cartRepository.deleteAllByUserId(userEntity.getId());
     }
 
-    private List<BaseProduct> fetchUserCartProducts(UserEntity userEntity) {
+    private List<CartItem> fetchUserCartItems(UserEntity userEntity) {
         return this.cartRepository
-                .findAllByUserId(userEntity.getId())
-                .stream()
-                .map(CartItem::getProduct)
-                .toList();
+                .findAllByUserIdWithProducts(userEntity.getId());
+    }
+
+    private BigDecimal getCartItemTotalPrice(CartItem cartItem) {
+        return cartItem.getProduct()
+                .getProductPrice()
+                .multiply(BigDecimal.valueOf(cartItem.getQuantity()));
     }
 
     private UserOrder initializeUserOrder(UserEntity userEntity, OrderAddressDTO orderAddressDTO) {
@@ -224,60 +273,84 @@ public class CartServiceImpl extends Breadcrumbs implements CartService {
         return ERROR_PAGE_HTML;
     }
 
+    private String returnChangedCartPage(OrderAddressDTO orderAddressDTO, Principal principal, Model model) {
+        try {
+            UserEntity userEntity = getUserEntityByUsername(principal.getName());
+            setModelAttributesForCart(userEntity, model);
+
+            // Keep the address and the key, the customer confirms the newly priced cart with the same form
+            orderAddressDTO.setCartVersion(userEntity.getCartVersion());
+            model.addAttribute("orderAddressDTO", orderAddressDTO);
+            model.addAttribute("cartChanged", true);
+            addProductBreadcrumb(model, USER_CART_URL, "Cart", "Checkout");
+            return CART_CHECKOUT_HTML;
+        } catch (EmptyCartException e) {
+            return returnEmptyCartPage(model);
+        }
+    }
+
+    // The address of a rejected form, with a new token. The cart version is set by returnChangedCartPage.
+    private static OrderAddressDTO copyAddress(OrderAddressDTO orderAddressDTO) {
+        OrderAddressDTO copy = new OrderAddressDTO();
+        copy.setCity(orderAddressDTO.getCity());
+        copy.setNeighborhood(orderAddressDTO.getNeighborhood());
+        copy.setAddress(orderAddressDTO.getAddress());
+        copy.setIdempotencyKey(UUID.randomUUID());
+        return copy;
+    }
+
     private String returnEmptyCartPage(Model model) {
         model.addAttribute("emptyCart", true);
         addProductBreadcrumb(model, USER_CART_URL, "Cart");
         return CART_HTML;
     }
 
-    public void addToCart(UUID productId, String productType, Principal principal) {
-        CartItem cartItem = new CartItem();
-
+    public void addToCart(UUID productId, Principal principal) {
         if (principal == null) {
             throw new UsernameNotFoundException("Username not found.");
         }
         UserEntity userEntity = getUserEntityByUsername(principal.getName());
 
-        cartItem.setUser(userEntity);
+        this.transactionTemplate.executeWithoutResult(status -> {
+            // Bumping the version first locks the user row, so cart changes of one user run one after another
+            // and an open checkout page for the previous version can no longer be confirmed
+            this.userRepository.incrementCartVersion(userEntity.getId());
 
-        switch (productType) {
-            case "BOOK": cartItem.setProduct(getBookById(productId)); break;
-            case "TEXTBOOK": cartItem.setProduct(getTextbookById(productId)); break;
-            case "MOVIE": cartItem.setProduct(getMovieById(productId)); break;
-            case "MUSIC": cartItem.setProduct(getMusicById(productId)); break;
-            case "TOY": cartItem.setProduct(getToyById(productId)); break;
-        }
+            // The product is already in the cart - bump the quantity of the existing row
+            if (this.cartRepository.incrementQuantity(userEntity.getId(), productId) > 0) {
+                return;
+            }
+
+            BaseProduct product = this.productRepository.findProductById(productId);
 
-        this.cartRepository.saveAndFlush(cartItem);
+            if (product == null) {
+                throw new CartItemNotFoundException();
+            }
+
+            CartItem cartItem = new CartItem();
+            cartItem.setUser(userEntity);
+            cartItem.setProduct(product);
+            cartItem.setQuantity(1);
+            this.cartRepository.save(cartItem);
+        });
     }
 
-    private void setModelAttributesForCart(UserEntity userEntity, Model model) {
-        List<BaseProduct> products = this.cartRepository
-                .findAllByUserId(userEntity.getId())
-                .stream()
-                .map(CartItem::getProduct)
-                .toList();
+    void setModelAttributesForCart(UserEntity userEntity, Model model) {
+        List<CartItem> cartItems = fetchUserCartItems(userEntity);
 
-        if (products.isEmpty()) {
+        if (cartItems.isEmpty()) {
             throw new EmptyCartException();
         }
 
         UserCartBindingModel userCartBindingModel = new UserCartBindingModel();
 
-        // Using a map, count the quantity of each unique product
-        LinkedHashMap<BaseProduct, Integer> productCountMap = new LinkedHashMap<>();
-        for (BaseProduct product : products) {
-            productCountMap.put(product, productCountMap.getOrDefault(product, 0) + 1);
-        }
-
-        // Convert each unique product to CartItemDTO and set the quantity
-        for (BaseProduct product : productCountMap.keySet()) {
-            CartItemBindingModel cartItemBindingModel = this.modelMapper.map(product, CartItemBindingModel.class);
+        // Convert each cart row to CartItemBindingModel, the quantity is already stored in the row
+        for (CartItem cartItem : cartItems) {
+            BaseProduct product = cartItem.getProduct();
+            CartItemBindingModel cartItemBindingModel = this.productMapper.toCartItemBindingModel(product);
             cartItemBindingModel.setProductType(product.getProductType().toString().toLowerCase());
-            int quantity = productCountMap.get(product);
-            cartItemBindingModel.setQuantity(quantity);
-            BigDecimal productPrice = product.getProductPrice();
-            cartItemBindingModel.setTotalPriceOfProduct(productPrice.multiply(BigDecimal.valueOf(quantity)));
+            cartItemBindingModel.setQuantity(cartItem.getQuantity());
+            cartItemBindingModel.setTotalPriceOfProduct(getCartItemTotalPrice(cartItem));
             userCartBindingModel.getCartItems().add(cartItemBindingModel);
         }
 
@@ -292,26 +365,6 @@ public class CartServiceImpl extends Breadcrumbs implements CartService {
         model.addAttribute("cartItemList", userCartBindingModel);
     }
 
-    private Book getBookById(UUID productId) {
-        return this.bookRepository.findBookById(productId);
-    }
-
-    private Textbook getTextbookById(UUID productId) {
-        return this.textbookRepository.findTextbookById(productId);
-    }
-
-    private Movie getMovieById(UUID productId) {
-        return this.movieRepository.findMovieById(productId);
-    }
-
-    private Music getMusicById(UUID productId) {
-        return this.musicRepository.findMusicById(productId);
-    }
-
-    private Toy getToyById(UUID productId) {
-        return this.toyRepository.findToyById(productId);
-    }
-
     private UserEntity getUserEntityByUsername(String username) {
         UserEntity user = this.userRepository
                 .findUserEntityByUsername(username);
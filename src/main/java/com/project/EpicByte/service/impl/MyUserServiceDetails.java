@@ -1,21 +1,37 @@
 package com.project.EpicByte.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.EpicByte.event.UserChangedEvent;
 import com.project.EpicByte.model.entity.UserEntity;
 import com.project.EpicByte.model.entity.UserRoleEntity;
 import com.project.EpicByte.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-public class MyUserServiceDetails implements UserDetailsService {
+import java.time.Duration;
+
+/**
+ * Loads users for form login and remember-me. Found users are cached by username (bounded, with a TTL) and dropped on
+ * a UserChangedEvent, so repeated authentications don't query the database. The admin password is hashed once.
+ * Every call returns a fresh copy, because Spring Security erases the password of the UserDetails it authenticated.
+ * After a successful login with a hash of an older cost, Spring Security hands the re-hashed password to updatePassword.
+ */
+public class MyUserServiceDetails implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
     private PasswordEncoder passwordEncoder;
+    private final Cache<String, UserDetails> userDetailsCache;
 
     @Value("${admin.username}")
     private String adminUsername;
@@ -23,26 +39,66 @@ public class MyUserServiceDetails implements UserDetailsService {
     @Value("${admin.password}")
     private String adminPassword;
 
-    public MyUserServiceDetails(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    private UserDetails adminUserDetails;
+
+    public MyUserServiceDetails(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                                MeterRegistry meterRegistry, long cacheMaxSize, Duration cacheTtl) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+
+        this.userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.userDetailsCache, "userDetails");
+    }
+
+    @PostConstruct
+    public void hashAdminPassword() {
+        this.adminUserDetails = User.withUsername(adminUsername)
+                .password(passwordEncoder.encode(adminPassword))
+                .roles("ADMIN")
+                .build();
     }
 
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        if (username.equals("admin")) {
-            return User.withUsername(adminUsername)
-                    .password(passwordEncoder.encode(adminPassword))
-                    .roles("ADMIN")
-                    .build();
+        UserDetails userDetails;
+
+        if (username.equals(adminUsername)) {
+            userDetails = this.adminUserDetails;
+        } else {
+            userDetails = this.userDetailsCache.get(username, this::loadFromDatabase);
+        }
+
+        return User.withUserDetails(userDetails).build();
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        if (user.getUsername().equals(adminUsername)) {
+            this.adminUserDetails = User.withUserDetails(this.adminUserDetails).password(newPassword).build();
         } else {
-            return userRepository
-                    .findUserByUsername(username)
-                    .map(this::map)
-                    .orElseThrow(
-                            () -> new UsernameNotFoundException("Username " + username + " not found!"));
+            this.userRepository.updatePassword(user.getUsername(), newPassword);
+            this.userDetailsCache.invalidate(user.getUsername());
         }
+
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        this.userDetailsCache.invalidate(event.getUsername());
+    }
+
+    private UserDetails loadFromDatabase(String username) {
+        return userRepository
+                .findUserByUsername(username)
+                .map(this::map)
+                .orElseThrow(
+                        () -> new UsernameNotFoundException("Username " + username + " not found!"));
     }
 
     protected UserDetails map(UserEntity userEntity) {
@@ -0,0 +1,251 @@
+package com.project.EpicByte.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.event.ProductsImportedEvent;
+import com.project.EpicByte.model.dto.ProductFieldsPageDTO;
+import com.project.EpicByte.model.dto.ProductPageDTO;
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ProductSortEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.repository.productRepositories.ProductRepository;
+import com.project.EpicByte.service.ProductCatalogService;
+import com.project.EpicByte.util.ProductFields;
+import com.project.EpicByte.util.ProductPageCursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.Tuple;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.project.EpicByte.util.Constants.*;
+
+/**
+ * Read-through cache in front of the product repositories. The catalog only changes when a moderator or admin
+ * adds or deletes a product, so listing pages (per type, sort mode and cursor) and product details (per id)
+ * are kept in memory until a ProductChangedEvent drops the affected entries or their TTL runs out.
+ * Pages with only some fields ("?fields=") are read by projection queries and cached separately, per field list.
+ * Every product type has a generation, bumped by each change before the invalidation, so a page or product read
+ * before a change committed is never served after it. Callers get copies of the cached products, never the cached ones.
+ */
+@Service
+public class ProductCatalogServiceImpl implements ProductCatalogService {
+    private final ProductRepository productRepository;
+    private final Cache<ProductPageKey, ProductPageDTO> productPageCache;
+    private final Cache<ProductFieldsPageKey, ProductFieldsPageDTO> productFieldsPageCache;
+    private final Cache<UUID, BaseProduct> productDetailsCache;
+    private final Map<ProductTypeEnum, AtomicLong> generations = new EnumMap<>(ProductTypeEnum.class);
+
+    @Autowired
+    public ProductCatalogServiceImpl(ProductRepository productRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${catalog.cache.pages-max-size}") long pagesMaxSize,
+                                     @Value("${catalog.cache.pages-ttl}") Duration pagesTtl,
+                                     @Value("${catalog.cache.details-max-size}") long detailsMaxSize,
+                                     @Value("${catalog.cache.details-ttl}") Duration detailsTtl) {
+        this.productRepository = productRepository;
+        for (ProductTypeEnum productType : ProductTypeEnum.values()) {
+            this.generations.put(productType, new AtomicLong());
+        }
+
+        this.productPageCache = Caffeine.newBuilder()
+                .maximumSize(pagesMaxSize)
+                .expireAfterWrite(pagesTtl)
+                .recordStats()
+                .build();
+        this.productFieldsPageCache = Caffeine.newBuilder()
+                .maximumSize(pagesMaxSize)
+                .expireAfterWrite(pagesTtl)
+                .recordStats()
+                .build();
+        this.productDetailsCache = Caffeine.newBuilder()
+                .maximumSize(detailsMaxSize)
+                .expireAfterWrite(detailsTtl)
+                .recordStats()
+                .build();
+
+        // Hit/miss/eviction counters, exposed under /actuator/metrics/cache.gets etc.
+        CaffeineCacheMetrics.monitor(meterRegistry, this.productPageCache, "productPages");
+        CaffeineCacheMetrics.monitor(meterRegistry, this.productFieldsPageCache, "productFieldsPages");
+        CaffeineCacheMetrics.monitor(meterRegistry, this.productDetailsCache, "productDetails");
+    }
+
+    @Override
+    public ProductPageDTO getPage(ProductTypeEnum productType, String sort, String after, Integer size) {
+        ProductSortEnum sortEnum = ProductSortEnum.fromValue(sort);
+        ProductPageCursor cursor = ProductPageCursor.decode(sortEnum, after);
+        int pageSize = getPageSize(size);
+
+        // A load still running when the type changes is cached under the old generation, which no later request asks for
+        long generation = this.generations.get(productType).get();
+        ProductPageKey key = new ProductPageKey(productType, generation, sortEnum, cursor == null ? null : after, pageSize);
+        return copyOf(this.productPageCache.get(key, k -> loadPage(productType, sortEnum, cursor, pageSize)));
+    }
+
+    @Override
+    public ProductFieldsPageDTO getFieldsPage(ProductTypeEnum productType, String sort, String after, Integer size, String fields) {
+        // An empty field list selects every field, the same products as getPage but without entities
+        List<String> requestedFields = ProductFields.parse(fields, this.productRepository.getFieldNames(productType));
+        List<String> selectedFields = requestedFields != null ? requestedFields : List.copyOf(this.productRepository.getFieldNames(productType));
+
+        ProductSortEnum sortEnum = ProductSortEnum.fromValue(sort);
+        ProductPageCursor cursor = ProductPageCursor.decode(sortEnum, after);
+        int pageSize = getPageSize(size);
+
+        long generation = this.generations.get(productType).get();
+        ProductFieldsPageKey key = new ProductFieldsPageKey(productType, generation, sortEnum, cursor == null ? null : after, pageSize, selectedFields);
+        return copyOf(this.productFieldsPageCache.get(key, k -> loadFieldsPage(productType, sortEnum, cursor, pageSize, selectedFields)));
+    }
+
+    @Override
+    public <T extends BaseProduct> T getProduct(UUID id, Class<T> productClass) {
+        BaseProduct product = getProducts(List.of(id)).get(id);
+        return productClass.isInstance(product) ? productClass.cast(product) : null;
+    }
+
+    // Products missing from the details cache are read with one query and cached, ids of deleted products are left out
+    @Override
+    public Map<UUID, BaseProduct> getProducts(Collection<UUID> ids) {
+        Map<UUID, BaseProduct> products = new HashMap<>(this.productDetailsCache.getAllPresent(ids));
+        List<UUID> missingIds = ids.stream().filter(id -> !products.containsKey(id)).distinct().toList();
+        if (!missingIds.isEmpty()) {
+            products.putAll(loadProducts(missingIds));
+        }
+
+        Map<UUID, BaseProduct> copies = new HashMap<>();
+        products.forEach((id, product) -> copies.put(id, copyOf(product)));
+        return copies;
+    }
+
+    // After the commit, so a reader cannot cache the old rows again between the invalidation and the commit
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        // A new or removed product can shift every page of its type, but no other type and no other product
+        this.generations.get(event.getProductType()).incrementAndGet();
+        this.productDetailsCache.invalidate(event.getProductId());
+        this.productPageCache.asMap().keySet().removeIf(key -> key.productType() == event.getProductType());
+        this.productFieldsPageCache.asMap().keySet().removeIf(key -> key.productType() == event.getProductType());
+    }
+
+    // Only for committed chunks, a chunk rolled back and saved again row by row publishes its own events
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        // New products only, so no cached details to drop
+        this.generations.get(event.getProductType()).incrementAndGet();
+        this.productPageCache.asMap().keySet().removeIf(key -> key.productType() == event.getProductType());
+        this.productFieldsPageCache.asMap().keySet().removeIf(key -> key.productType() == event.getProductType());
+    }
+
+    private Map<UUID, BaseProduct> loadProducts(List<UUID> ids) {
+        Map<ProductTypeEnum, Long> generationsBefore = new EnumMap<>(ProductTypeEnum.class);
+        this.generations.forEach((productType, generation) -> generationsBefore.put(productType, generation.get()));
+
+        Map<UUID, BaseProduct> products = new HashMap<>();
+        for (BaseProduct product : this.productRepository.findAllById(ids)) {
+            products.put(product.getId(), product);
+
+            // Cached first and compared after: a change of its type either bumped the generation before this check,
+            // or invalidates the product after this put
+            this.productDetailsCache.put(product.getId(), product);
+            if (this.generations.get(product.getProductType()).get() != generationsBefore.get(product.getProductType())) {
+                this.productDetailsCache.invalidate(product.getId());
+            }
+        }
+        return products;
+    }
+
+    private ProductPageDTO loadPage(ProductTypeEnum productType, ProductSortEnum sortEnum, ProductPageCursor cursor, int pageSize) {
+        // Ask for one extra product to know whether there is a next page without counting the whole table
+        List<BaseProduct> products = this.productRepository.findPage(productType, sortEnum, cursor, pageSize + 1);
+        boolean hasNext = products.size() > pageSize;
+        if (hasNext) {
+            products = products.subList(0, pageSize);
+        }
+
+        ProductPageDTO page = new ProductPageDTO();
+        page.setContent(List.copyOf(products));
+        page.setSort(sortEnum.getValue());
+        page.setSize(pageSize);
+        page.setFirst(cursor == null);
+        page.setHasNext(hasNext);
+        page.setNextCursor(hasNext ? ProductPageCursor.encode(sortEnum, products.get(products.size() - 1)) : null);
+        return page;
+    }
+
+    private ProductFieldsPageDTO loadFieldsPage(ProductTypeEnum productType, ProductSortEnum sortEnum, ProductPageCursor cursor,
+                                                int pageSize, List<String> fields) {
+        List<Tuple> rows = this.productRepository.findPageFields(productType, sortEnum, cursor, pageSize + 1, fields);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<Map<String, Object>> products = rows.stream()
+                .map(row -> Collections.unmodifiableMap(ProductFields.toMap(row, fields)))
+                .toList();
+
+        ProductFieldsPageDTO page = new ProductFieldsPageDTO();
+        page.setContent(products);
+        page.setSort(sortEnum.getValue());
+        page.setSize(pageSize);
+        page.setFirst(cursor == null);
+        page.setHasNext(hasNext);
+        if (hasNext) {
+            Tuple last = rows.get(rows.size() - 1);
+            page.setNextCursor(ProductPageCursor.encode(last.get(ProductFields.CURSOR_VALUE_ALIAS), last.get(ProductFields.CURSOR_ID_ALIAS, UUID.class)));
+        }
+        return page;
+    }
+
+    // Every field holds an immutable value, so a shallow copy shares nothing a caller could change
+    private static BaseProduct copyOf(BaseProduct product) {
+        BaseProduct copy = BeanUtils.instantiateClass(product.getClass());
+        BeanUtils.copyProperties(product, copy);
+        return copy;
+    }
+
+    private static ProductPageDTO copyOf(ProductPageDTO page) {
+        ProductPageDTO copy = new ProductPageDTO();
+        copy.setContent(page.getContent().stream().map(ProductCatalogServiceImpl::copyOf).toList());
+        copy.setSort(page.getSort());
+        copy.setSize(page.getSize());
+        copy.setFirst(page.isFirst());
+        copy.setHasNext(page.isHasNext());
+        copy.setNextCursor(page.getNextCursor());
+        return copy;
+    }
+
+    // The content is an unmodifiable list of unmodifiable maps, only the page itself is copied
+    private static ProductFieldsPageDTO copyOf(ProductFieldsPageDTO page) {
+        ProductFieldsPageDTO copy = new ProductFieldsPageDTO();
+        copy.setContent(page.getContent());
+        copy.setSort(page.getSort());
+        copy.setSize(page.getSize());
+        copy.setFirst(page.isFirst());
+        copy.setHasNext(page.isHasNext());
+        copy.setNextCursor(page.getNextCursor());
+        return copy;
+    }
+
+    private int getPageSize(Integer size) {
+        if (size == null || size < 1) {
+            return PRODUCTS_PAGE_SIZE;
+        }
+        return Math.min(size, PRODUCTS_MAX_PAGE_SIZE);
+    }
+
+    private record ProductPageKey(ProductTypeEnum productType, long generation, ProductSortEnum sort, String after, int size) {
+    }
+
+    private record ProductFieldsPageKey(ProductTypeEnum productType, long generation, ProductSortEnum sort, String after, int size,
+                                        List<String> fields) {
+    }
+}
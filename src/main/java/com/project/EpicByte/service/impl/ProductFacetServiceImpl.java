@@ -0,0 +1,496 @@
+package com.project.EpicByte.service.impl;
+
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.event.ProductsImportedEvent;
+import com.project.EpicByte.model.dto.ProductFacetDTO;
+import com.project.EpicByte.model.dto.ProductFacetOptionDTO;
+import com.project.EpicByte.model.dto.ProductPageDTO;
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.*;
+import com.project.EpicByte.model.entity.productEntities.*;
+import com.project.EpicByte.repository.productRepositories.ProductRepository;
+import com.project.EpicByte.service.ProductCatalogService;
+import com.project.EpicByte.service.ProductFacetService;
+import com.project.EpicByte.util.ProductPageCursor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.math.BigDecimal;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.project.EpicByte.util.Constants.*;
+
+/**
+ * Filters and option counts of the product listing pages, answered from compressed bitmaps kept in memory.
+ * Every product of a type gets a small int ordinal, and every facet option (price range, language, author, ...)
+ * a RoaringBitmap of the ordinals that have it. A filtered page is the OR of the selected options of each facet,
+ * ANDed across facets, and the count next to an option is its bitmap ANDed with the selections of the other facets.
+ * The bitmaps are built once the application is ready and updated product by product on every ProductChangedEvent.
+ * Unfiltered pages still come from the catalog cache and its keyset queries.
+ */
+@Service
+public class ProductFacetServiceImpl implements ProductFacetService {
+    private static final int[] PRICE_BOUNDS = {10, 20, 50, 100};
+    private static final int RANKED_OPTIONS_SIZE = 10;
+    private static final int REINDEX_BATCH_SIZE = 500;
+    // Names in the order of the database's utf8mb4_0900_ai_ci default collation, which ignores case and accents
+    private static final Collator NAME_COLLATOR = createNameCollator();
+
+    private final ProductRepository productRepository;
+    private final ProductCatalogService productCatalogService;
+    private final MessageSource messageSource;
+    private final Map<ProductTypeEnum, FacetIndex> facetIndexes = new EnumMap<>(ProductTypeEnum.class);
+
+    @Autowired
+    public ProductFacetServiceImpl(ProductRepository productRepository,
+                                   ProductCatalogService productCatalogService,
+                                   MessageSource messageSource) {
+        this.productRepository = productRepository;
+        this.productCatalogService = productCatalogService;
+        this.messageSource = messageSource;
+
+        for (ProductTypeEnum productType : ProductTypeEnum.values()) {
+            this.facetIndexes.put(productType, new FacetIndex(productType));
+        }
+    }
+
+    @Override
+    public ProductPageDTO getPage(ProductTypeEnum productType, MultiValueMap<String, String> filters,
+                                  String sort, String after, Integer size) {
+        Map<ProductFacetEnum, Set<String>> selection = parseFilters(productType, filters);
+        if (selection.isEmpty()) {
+            return this.productCatalogService.getPage(productType, sort, after, size);
+        }
+
+        ProductSortEnum sortEnum = ProductSortEnum.fromValue(sort);
+        ProductPageCursor cursor = ProductPageCursor.decode(sortEnum, after);
+        int pageSize = getPageSize(size);
+
+        // Same order as the keyset queries: sort key, then id, both in the direction of the sorting option
+        Comparator<SortKey> order = sortEnum.isDescending() ? Comparator.<SortKey>naturalOrder().reversed() : Comparator.naturalOrder();
+        FacetIndex facetIndex = this.facetIndexes.get(productType);
+
+        SortKey afterKey = cursor == null ? null : new SortKey(toSortValue(sortEnum, cursor.getSortValue()), cursor.getLastId());
+        List<BaseProduct> products = new ArrayList<>(pageSize + 1);
+        while (products.size() <= pageSize) {
+            // The ids still missing from the page, loaded with one query for the ones not in the details cache
+            int missing = pageSize + 1 - products.size();
+            List<SortKey> next = facetIndex.first(selection, sortEnum, order, afterKey, missing);
+            List<UUID> ids = next.stream().map(SortKey::id).toList();
+
+            // A product deleted since it was indexed is skipped, and the next round takes its place
+            Map<UUID, BaseProduct> loaded = this.productCatalogService.getProducts(ids);
+            for (UUID id : ids) {
+                BaseProduct product = loaded.get(id);
+                if (product != null) {
+                    products.add(product);
+                }
+            }
+
+            if (next.size() < missing) {
+                break;
+            }
+            afterKey = next.get(next.size() - 1);
+        }
+
+        boolean hasNext = products.size() > pageSize;
+        if (hasNext) {
+            products = products.subList(0, pageSize);
+        }
+
+        ProductPageDTO page = new ProductPageDTO();
+        page.setContent(List.copyOf(products));
+        page.setSort(sortEnum.getValue());
+        page.setSize(pageSize);
+        page.setFirst(cursor == null);
+        page.setHasNext(hasNext);
+        page.setNextCursor(hasNext ? ProductPageCursor.encode(sortEnum, products.get(products.size() - 1)) : null);
+        return page;
+    }
+
+    @Override
+    public List<ProductFacetDTO> getFacets(ProductTypeEnum productType, MultiValueMap<String, String> filters) {
+        Map<ProductFacetEnum, Set<String>> selection = parseFilters(productType, filters);
+        Map<ProductFacetEnum, Map<String, Integer>> counts = this.facetIndexes.get(productType).count(selection);
+        Locale locale = LocaleContextHolder.getLocale();
+
+        List<ProductFacetDTO> facets = new ArrayList<>();
+        counts.forEach((facet, optionCounts) -> {
+            Set<String> selectedValues = selection.getOrDefault(facet, Set.of());
+
+            List<ProductFacetOptionDTO> options = new ArrayList<>();
+            optionCounts.forEach((value, count) -> {
+                if (count > 0 || selectedValues.contains(value)) {
+                    options.add(createOption(facet, value, count, selectedValues.contains(value), locale));
+                }
+            });
+
+            if (facet.isRanked()) {
+                // Most common names first, the selected ones are always shown
+                options.sort(Comparator.comparingInt(ProductFacetOptionDTO::getCount).reversed()
+                        .thenComparing(ProductFacetOptionDTO::getLabel));
+                List<ProductFacetOptionDTO> shown = new ArrayList<>(options.subList(0, Math.min(RANKED_OPTIONS_SIZE, options.size())));
+                options.stream().filter(option -> option.isSelected() && !shown.contains(option)).forEach(shown::add);
+                options.retainAll(shown);
+            }
+
+            if (!options.isEmpty()) {
+                ProductFacetDTO facetDTO = new ProductFacetDTO();
+                facetDTO.setName(facet.getValue());
+                facetDTO.setLabel(this.messageSource.getMessage("facet." + facet.getValue() + ".text", null, locale));
+                facetDTO.setOptions(options);
+                facets.add(facetDTO);
+            }
+        });
+
+        return facets;
+    }
+
+    @Override
+    public String getPageUrl(String listingUrl, ProductTypeEnum productType, MultiValueMap<String, String> filters) {
+        UriComponentsBuilder pageUrl = UriComponentsBuilder.fromPath(listingUrl);
+        parseFilters(productType, filters).forEach((facet, values) -> pageUrl.queryParam(facet.getValue(), values.toArray()));
+        return pageUrl.encode().build().toUriString();
+    }
+
+    // Built after the CommandLineRunners, so the products added by the DataInitializer are included
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexes() {
+        Page<BaseProduct> page;
+        int pageNumber = 0;
+        do {
+            page = this.productRepository.findAll(PageRequest.of(pageNumber++, REINDEX_BATCH_SIZE, Sort.by("id")));
+            for (BaseProduct product : page) {
+                this.facetIndexes.get(product.getProductType()).put(product);
+            }
+        } while (page.hasNext());
+    }
+
+    // After the commit, so a product saved or removed by the publishing transaction is read as it was committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        FacetIndex facetIndex = this.facetIndexes.get(event.getProductType());
+        BaseProduct product = this.productRepository.findProductById(event.getProductId());
+
+        if (product == null) {
+            facetIndex.remove(event.getProductId());
+        } else {
+            facetIndex.put(product);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        FacetIndex facetIndex = this.facetIndexes.get(event.getProductType());
+        this.productRepository.findAllById(event.getProductIds()).forEach(facetIndex::put);
+    }
+
+    // Only the facets of this product type, with at least one non-blank value
+    private static Map<ProductFacetEnum, Set<String>> parseFilters(ProductTypeEnum productType, MultiValueMap<String, String> filters) {
+        Map<ProductFacetEnum, Set<String>> selection = new EnumMap<>(ProductFacetEnum.class);
+        if (filters == null) {
+            return selection;
+        }
+
+        for (ProductFacetEnum facet : ProductFacetEnum.values()) {
+            List<String> values = filters.get(facet.getValue());
+            if (!facet.appliesTo(productType) || values == null) {
+                continue;
+            }
+
+            Set<String> selectedValues = new LinkedHashSet<>();
+            values.stream().filter(value -> value != null && !value.isBlank()).forEach(selectedValues::add);
+            if (!selectedValues.isEmpty()) {
+                selection.put(facet, selectedValues);
+            }
+        }
+        return selection;
+    }
+
+    private ProductFacetOptionDTO createOption(ProductFacetEnum facet, String value, int count, boolean selected, Locale locale) {
+        ProductFacetOptionDTO option = new ProductFacetOptionDTO();
+        option.setValue(value);
+        option.setCount(count);
+        option.setSelected(selected);
+        option.setLabel(switch (facet) {
+            case PRICE -> value.endsWith("-") ? value.replace("-", "+ €") : value.replace("-", " - ") + " €";
+            case NEW_PRODUCT -> this.messageSource.getMessage("new.text", null, locale);
+            default -> value;
+        });
+        return option;
+    }
+
+    private static String getFacetValue(ProductFacetEnum facet, BaseProduct product) {
+        return switch (facet) {
+            case PRICE -> getPriceRange(product.getProductPrice());
+            case NEW_PRODUCT -> product.isNewProduct() ? "true" : null;
+            case LANGUAGE -> {
+                if (product instanceof Book book) yield nameOf(book.getLanguage());
+                if (product instanceof Textbook textbook) yield nameOf(textbook.getLanguage());
+                yield null;
+            }
+            case CARRIER -> {
+                if (product instanceof Movie movie) yield nameOf(movie.getCarrier());
+                if (product instanceof Music music) yield nameOf(music.getCarrier());
+                yield null;
+            }
+            case AUTHOR -> {
+                if (product instanceof Book book) yield book.getAuthorName();
+                if (product instanceof Textbook textbook) yield textbook.getAuthorName();
+                yield null;
+            }
+            case PUBLISHER -> {
+                if (product instanceof Book book) yield book.getPublisher();
+                if (product instanceof Textbook textbook) yield textbook.getPublisher();
+                if (product instanceof Music music) yield music.getPublisher();
+                yield null;
+            }
+            case BRAND -> product instanceof Toy toy ? toy.getBrand() : null;
+        };
+    }
+
+    // The options of non-ranked facets, in the order they are shown
+    private static List<String> getFixedValues(ProductFacetEnum facet, ProductTypeEnum productType) {
+        return switch (facet) {
+            case PRICE -> {
+                List<String> priceRanges = new ArrayList<>();
+                int lowerBound = 0;
+                for (int upperBound : PRICE_BOUNDS) {
+                    priceRanges.add(lowerBound + "-" + upperBound);
+                    lowerBound = upperBound;
+                }
+                priceRanges.add(lowerBound + "-");
+                yield priceRanges;
+            }
+            case NEW_PRODUCT -> List.of("true");
+            case LANGUAGE -> Arrays.stream(LanguageEnum.values()).map(Enum::name).toList();
+            case CARRIER -> productType == ProductTypeEnum.MOVIE
+                    ? Arrays.stream(MovieCarrierEnum.values()).map(Enum::name).toList()
+                    : Arrays.stream(MusicCarrierEnum.values()).map(Enum::name).toList();
+            default -> List.of();
+        };
+    }
+
+    // "0-10", "10-20", ... and "100-" for everything above the last bound
+    private static String getPriceRange(BigDecimal price) {
+        if (price == null) {
+            return null;
+        }
+
+        int lowerBound = 0;
+        for (int upperBound : PRICE_BOUNDS) {
+            if (price.compareTo(BigDecimal.valueOf(upperBound)) < 0) {
+                return lowerBound + "-" + upperBound;
+            }
+            lowerBound = upperBound;
+        }
+        return lowerBound + "-";
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    // The cursor holds the plain product name, which is compared by its collation key like the indexed names
+    private static Comparable<?> toSortValue(ProductSortEnum sort, Object sortValue) {
+        return sort == ProductSortEnum.ALPHABETICAL
+                ? NAME_COLLATOR.getCollationKey((String) sortValue)
+                : (Comparable<?>) sortValue;
+    }
+
+    private static Collator createNameCollator() {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+        collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        return collator;
+    }
+
+    private static int getPageSize(Integer size) {
+        if (size == null || size < 1) {
+            return PRODUCTS_PAGE_SIZE;
+        }
+        return Math.min(size, PRODUCTS_MAX_PAGE_SIZE);
+    }
+
+    /**
+     * The bitmaps of one product type. Ordinals of removed products are reused, so the bitmaps stay dense.
+     */
+    private static final class FacetIndex {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final RoaringBitmap allProducts = new RoaringBitmap();
+        private final List<FacetEntry> entries = new ArrayList<>();
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+        private final Map<ProductFacetEnum, Map<String, RoaringBitmap>> optionBitmaps = new EnumMap<>(ProductFacetEnum.class);
+
+        private FacetIndex(ProductTypeEnum productType) {
+            for (ProductFacetEnum facet : ProductFacetEnum.values()) {
+                if (facet.appliesTo(productType)) {
+                    Map<String, RoaringBitmap> bitmaps = new LinkedHashMap<>();
+                    getFixedValues(facet, productType).forEach(value -> bitmaps.put(value, new RoaringBitmap()));
+                    this.optionBitmaps.put(facet, bitmaps);
+                }
+            }
+        }
+
+        private void put(BaseProduct product) {
+            Map<ProductFacetEnum, String> values = new EnumMap<>(ProductFacetEnum.class);
+            for (ProductFacetEnum facet : this.optionBitmaps.keySet()) {
+                String value = getFacetValue(facet, product);
+                if (value != null && !value.isBlank()) {
+                    values.put(facet, value);
+                }
+            }
+            FacetEntry entry = new FacetEntry(product.getId(), NAME_COLLATOR.getCollationKey(Objects.toString(product.getProductName(), "")),
+                    product.getProductPrice() == null ? BigDecimal.ZERO : product.getProductPrice(), product.isNewProduct(), values);
+
+            this.lock.writeLock().lock();
+            try {
+                Integer ordinal = this.ordinals.get(entry.id());
+                if (ordinal != null) {
+                    clearOptions(ordinal);
+                } else {
+                    ordinal = this.freeOrdinals.isEmpty() ? this.entries.size() : this.freeOrdinals.pop();
+                    this.ordinals.put(entry.id(), ordinal);
+                    if (ordinal == this.entries.size()) {
+                        this.entries.add(null);
+                    }
+                }
+
+                this.entries.set(ordinal, entry);
+                this.allProducts.add(ordinal);
+                for (Map.Entry<ProductFacetEnum, String> value : values.entrySet()) {
+                    this.optionBitmaps.get(value.getKey())
+                            .computeIfAbsent(value.getValue(), key -> new RoaringBitmap())
+                            .add(ordinal);
+                }
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(UUID productId) {
+            this.lock.writeLock().lock();
+            try {
+                Integer ordinal = this.ordinals.remove(productId);
+                if (ordinal == null) {
+                    return;
+                }
+
+                clearOptions(ordinal);
+                this.allProducts.remove(ordinal);
+                this.entries.set(ordinal, null);
+                this.freeOrdinals.push(ordinal);
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        }
+
+        // The first "limit" matches after afterKey in the given order, kept in a bounded heap instead of sorting every match
+        private List<SortKey> first(Map<ProductFacetEnum, Set<String>> selection, ProductSortEnum sort,
+                                    Comparator<SortKey> order, SortKey afterKey, int limit) {
+            PriorityQueue<SortKey> firstKeys = new PriorityQueue<>(limit + 1, order.reversed());
+            this.lock.readLock().lock();
+            try {
+                matching(selection, null).forEach((int ordinal) -> {
+                    SortKey key = this.entries.get(ordinal).sortKey(sort);
+                    if (afterKey != null && order.compare(key, afterKey) <= 0) {
+                        return;
+                    }
+
+                    if (firstKeys.size() < limit) {
+                        firstKeys.add(key);
+                    } else if (order.compare(key, firstKeys.peek()) < 0) {
+                        firstKeys.poll();
+                        firstKeys.add(key);
+                    }
+                });
+            } finally {
+                this.lock.readLock().unlock();
+            }
+
+            List<SortKey> keys = new ArrayList<>(firstKeys);
+            keys.sort(order);
+            return keys;
+        }
+
+        private Map<ProductFacetEnum, Map<String, Integer>> count(Map<ProductFacetEnum, Set<String>> selection) {
+            this.lock.readLock().lock();
+            try {
+                Map<ProductFacetEnum, Map<String, Integer>> counts = new EnumMap<>(ProductFacetEnum.class);
+                this.optionBitmaps.forEach((facet, bitmaps) -> {
+                    // An option of a facet adds to the selection of that facet, so only the other facets narrow it
+                    RoaringBitmap others = matching(selection, facet);
+                    Map<String, Integer> optionCounts = new LinkedHashMap<>();
+                    bitmaps.forEach((value, bitmap) -> optionCounts.put(value, (int) RoaringBitmap.andCardinality(bitmap, others)));
+                    counts.put(facet, optionCounts);
+                });
+                return counts;
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        }
+
+        // AND across facets of the OR of each facet's selected options, leaving out the "ignored" facet
+        private RoaringBitmap matching(Map<ProductFacetEnum, Set<String>> selection, ProductFacetEnum ignored) {
+            RoaringBitmap matching = this.allProducts.clone();
+            selection.forEach((facet, values) -> {
+                if (facet == ignored) {
+                    return;
+                }
+
+                Map<String, RoaringBitmap> bitmaps = this.optionBitmaps.get(facet);
+                RoaringBitmap selected = new RoaringBitmap();
+                values.stream().map(bitmaps::get).filter(Objects::nonNull).forEach(selected::or);
+                matching.and(selected);
+            });
+            return matching;
+        }
+
+        private void clearOptions(int ordinal) {
+            FacetEntry previous = this.entries.get(ordinal);
+            previous.values().forEach((facet, value) -> this.optionBitmaps.get(facet).get(value).remove(ordinal));
+        }
+    }
+
+    private record FacetEntry(UUID id, CollationKey name, BigDecimal price, boolean newProduct, Map<ProductFacetEnum, String> values) {
+        private SortKey sortKey(ProductSortEnum sort) {
+            Comparable<?> value = switch (sort) {
+                case DEFAULT -> this.newProduct;
+                case ALPHABETICAL -> this.name;
+                case LOWEST, HIGHEST -> this.price;
+            };
+            return new SortKey(value, this.id);
+        }
+    }
+
+    // Ids are compared as the BINARY(16) column holds them: byte by byte, unsigned
+    private record SortKey(Comparable<?> value, UUID id) implements Comparable<SortKey> {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public int compareTo(SortKey other) {
+            int byValue = ((Comparable) this.value).compareTo(other.value);
+            if (byValue != 0) {
+                return byValue;
+            }
+
+            int byHighBits = Long.compareUnsigned(this.id.getMostSignificantBits(), other.id.getMostSignificantBits());
+            return byHighBits != 0 ? byHighBits : Long.compareUnsigned(this.id.getLeastSignificantBits(), other.id.getLeastSignificantBits());
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.project.EpicByte.service.impl;
+
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.event.ProductsImportedEvent;
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.model.entity.productEntities.*;
+import com.project.EpicByte.repository.productRepositories.ProductRepository;
+import com.project.EpicByte.service.ProductCatalogService;
+import com.project.EpicByte.service.ProductSearchService;
+import com.project.EpicByte.util.Breadcrumbs;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.bg.BulgarianAnalyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.ui.Model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+import static com.project.EpicByte.util.Constants.*;
+
+/**
+ * Full-text product search over an in-memory Lucene index, ranked with BM25. Names and all other searchable text are
+ * indexed twice, with the English and with the Bulgarian analyzer (stemming, stop words), and the names and people
+ * fields once more unstemmed, for prefix (search as you type) and typo tolerant matching.
+ * The index is built from the database once the application is ready and then kept up to date document by document
+ * on every ProductChangedEvent. Queries only return ids, the products themselves come from the catalog cache.
+ */
+@Service
+public class ProductSearchServiceImpl extends Breadcrumbs implements ProductSearchService {
+    private static final String ID_FIELD = "id";
+    private static final String TYPE_FIELD = "type";
+    private static final String NAME_EN_FIELD = "name_en";
+    private static final String NAME_BG_FIELD = "name_bg";
+    private static final String TEXT_EN_FIELD = "text_en";
+    private static final String TEXT_BG_FIELD = "text_bg";
+    private static final String TERMS_FIELD = "terms";
+
+    private static final int REINDEX_BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ProductCatalogService productCatalogService;
+    private final MessageSource messageSource;
+
+    private final Analyzer termsAnalyzer = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+    private final Analyzer analyzer;
+    private final QueryBuilder queryBuilder;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    @Autowired
+    public ProductSearchServiceImpl(ProductRepository productRepository,
+                                    ProductCatalogService productCatalogService,
+                                    MessageSource messageSource) throws IOException {
+        this.productRepository = productRepository;
+        this.productCatalogService = productCatalogService;
+        this.messageSource = messageSource;
+
+        Analyzer englishAnalyzer = new EnglishAnalyzer();
+        Analyzer bulgarianAnalyzer = new BulgarianAnalyzer();
+        this.analyzer = new PerFieldAnalyzerWrapper(this.termsAnalyzer, Map.of(
+                NAME_EN_FIELD, englishAnalyzer,
+                TEXT_EN_FIELD, englishAnalyzer,
+                NAME_BG_FIELD, bulgarianAnalyzer,
+                TEXT_BG_FIELD, bulgarianAnalyzer));
+        this.queryBuilder = new QueryBuilder(this.analyzer);
+
+        IndexWriterConfig config = new IndexWriterConfig(this.analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE)
+                .setSimilarity(new BM25Similarity());
+        this.indexWriter = new IndexWriter(new ByteBuffersDirectory(), config);
+        this.searcherManager = new SearcherManager(this.indexWriter, new SearcherFactory());
+    }
+
+    @Override
+    public List<BaseProduct> search(String query, ProductTypeEnum productType, Integer size) {
+        List<String> tokens = query == null ? List.of() : analyze(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder luceneQuery = new BooleanQuery.Builder();
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            // Every word has to match somewhere, except stop words, which only add to the score
+            BooleanClause.Occur occur = isStopWord(token) ? BooleanClause.Occur.SHOULD : BooleanClause.Occur.MUST;
+            luceneQuery.add(tokenQuery(token, i == tokens.size() - 1), occur);
+        }
+
+        if (productType != null) {
+            luceneQuery.add(new TermQuery(new Term(TYPE_FIELD, productType.name())), BooleanClause.Occur.FILTER);
+        }
+
+        // Best matches first, the products missing from the details cache are loaded with one query
+        List<UUID> ids = searchIds(luceneQuery.build(), getResultsSize(size));
+        Map<UUID, BaseProduct> loaded = this.productCatalogService.getProducts(ids);
+
+        List<BaseProduct> products = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            BaseProduct product = loaded.get(id);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return products;
+    }
+
+    @Override
+    public String displaySearchResultsPage(Model model, String query) {
+        String searchQuery = query == null ? "" : query.trim();
+
+        addProductBreadcrumb(model, SEARCH_URL, "Search", searchQuery);
+        model.addAttribute("productType", this.messageSource.getMessage("search.results.text",
+                new Object[]{searchQuery}, LocaleContextHolder.getLocale()));
+        model.addAttribute("linkType", "search");
+        model.addAttribute("searchQuery", searchQuery);
+        model.addAttribute("productList", search(searchQuery, null, PRODUCTS_PAGE_SIZE));
+        model.addAttribute("isFirstPage", true);
+
+        return PRODUCTS_ALL_HTML;
+    }
+
+    // Built after the CommandLineRunners, so the products added by the DataInitializer are included
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() throws IOException {
+        this.indexWriter.deleteAll();
+
+        Page<BaseProduct> page;
+        int pageNumber = 0;
+        do {
+            page = this.productRepository.findAll(PageRequest.of(pageNumber++, REINDEX_BATCH_SIZE, Sort.by(ID_FIELD)));
+            for (BaseProduct product : page) {
+                this.indexWriter.addDocument(toDocument(product));
+            }
+        } while (page.hasNext());
+
+        this.searcherManager.maybeRefreshBlocking();
+    }
+
+    // After the commit, so a product saved or removed by the publishing transaction is read as it was committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) throws IOException {
+        Term idTerm = new Term(ID_FIELD, event.getProductId().toString());
+        BaseProduct product = this.productRepository.findProductById(event.getProductId());
+
+        if (product == null) {
+            this.indexWriter.deleteDocuments(idTerm);
+        } else {
+            this.indexWriter.updateDocument(idTerm, toDocument(product));
+        }
+
+        this.searcherManager.maybeRefreshBlocking();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) throws IOException {
+        for (BaseProduct product : this.productRepository.findAllById(event.getProductIds())) {
+            this.indexWriter.updateDocument(new Term(ID_FIELD, product.getId().toString()), toDocument(product));
+        }
+
+        this.searcherManager.maybeRefreshBlocking();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        this.searcherManager.close();
+        this.indexWriter.close();
+    }
+
+    // A word matches its stemmed form in either language (names weigh more), a misspelling of a name or person,
+    // and while typing, the start of a name or person
+    private Query tokenQuery(String token, boolean isLastToken) {
+        BooleanQuery.Builder tokenQuery = new BooleanQuery.Builder();
+        addAnalyzedQuery(tokenQuery, NAME_EN_FIELD, token, 3f);
+        addAnalyzedQuery(tokenQuery, NAME_BG_FIELD, token, 3f);
+        addAnalyzedQuery(tokenQuery, TEXT_EN_FIELD, token, 1f);
+        addAnalyzedQuery(tokenQuery, TEXT_BG_FIELD, token, 1f);
+
+        Term term = new Term(TERMS_FIELD, token);
+        tokenQuery.add(new BoostQuery(new TermQuery(term), 2f), BooleanClause.Occur.SHOULD);
+
+        if (token.length() >= 4) {
+            int maxEdits = token.length() >= 8 ? 2 : 1;
+            tokenQuery.add(new BoostQuery(new FuzzyQuery(term, maxEdits, 1), 0.5f), BooleanClause.Occur.SHOULD);
+        }
+
+        if (isLastToken && token.length() >= 2) {
+            tokenQuery.add(new BoostQuery(new PrefixQuery(term), 0.5f), BooleanClause.Occur.SHOULD);
+        }
+
+        return tokenQuery.build();
+    }
+
+    private void addAnalyzedQuery(BooleanQuery.Builder tokenQuery, String field, String token, float boost) {
+        // null when the analyzer drops the word, e.g. an English stop word
+        Query query = this.queryBuilder.createBooleanQuery(field, token);
+        if (query != null) {
+            tokenQuery.add(new BoostQuery(query, boost), BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    private List<UUID> searchIds(Query query, int size) {
+        try {
+            IndexSearcher searcher = this.searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, size);
+                StoredFields storedFields = searcher.storedFields();
+
+                List<UUID> ids = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    ids.add(UUID.fromString(storedFields.document(scoreDoc.doc).get(ID_FIELD)));
+                }
+                return ids;
+            } finally {
+                this.searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+
+        try (TokenStream tokenStream = this.termsAnalyzer.tokenStream(TERMS_FIELD, text)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                tokens.add(termAttribute.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return tokens;
+    }
+
+    private static boolean isStopWord(String token) {
+        return EnglishAnalyzer.ENGLISH_STOP_WORDS_SET.contains(token)
+                || BulgarianAnalyzer.getDefaultStopSet().contains(token);
+    }
+
+    private static Document toDocument(BaseProduct product) {
+        List<String> people = new ArrayList<>();
+        List<String> details = new ArrayList<>();
+
+        if (product instanceof Book book) {
+            people.addAll(Arrays.asList(book.getAuthorName(), book.getPublisher()));
+            details.add(Objects.toString(book.getLanguage(), null));
+        } else if (product instanceof Textbook textbook) {
+            people.addAll(Arrays.asList(textbook.getAuthorName(), textbook.getPublisher()));
+            details.add(Objects.toString(textbook.getLanguage(), null));
+        } else if (product instanceof Music music) {
+            people.addAll(Arrays.asList(music.getArtistName(), music.getPublisher()));
+            details.addAll(Arrays.asList(music.getGenre(), Objects.toString(music.getCarrier(), null)));
+        } else if (product instanceof Movie movie) {
+            details.addAll(Arrays.asList(movie.getGenre(), Objects.toString(movie.getCarrier(), null)));
+        } else if (product instanceof Toy toy) {
+            people.add(toy.getBrand());
+        }
+
+        String name = Objects.toString(product.getProductName(), "");
+        String terms = join(name, join(people));
+        String text = join(terms, join(details), Objects.toString(product.getDescription(), ""));
+
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, product.getId().toString(), Field.Store.YES));
+        document.add(new StringField(TYPE_FIELD, product.getProductType().name(), Field.Store.NO));
+        document.add(new TextField(NAME_EN_FIELD, name, Field.Store.NO));
+        document.add(new TextField(NAME_BG_FIELD, name, Field.Store.NO));
+        document.add(new TextField(TEXT_EN_FIELD, text, Field.Store.NO));
+        document.add(new TextField(TEXT_BG_FIELD, text, Field.Store.NO));
+        document.add(new TextField(TERMS_FIELD, terms, Field.Store.NO));
+        return document;
+    }
+
+    private static String join(String... values) {
+        return join(Arrays.asList(values));
+    }
+
+    private static String join(List<String> values) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                joiner.add(value);
+            }
+        }
+        return joiner.toString();
+    }
+
+    private static int getResultsSize(Integer size) {
+        if (size == null || size < 1) {
+            return PRODUCTS_PAGE_SIZE;
+        }
+        return Math.min(size, PRODUCTS_MAX_PAGE_SIZE);
+    }
+}
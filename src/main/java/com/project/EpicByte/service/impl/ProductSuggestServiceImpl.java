@@ -0,0 +1,146 @@
+package com.project.EpicByte.service.impl;
+
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.event.ProductsImportedEvent;
+import com.project.EpicByte.model.dto.ProductSuggestionDTO;
+import com.project.EpicByte.repository.productRepositories.ProductRepository;
+import com.project.EpicByte.service.ProductSuggestService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+import static com.project.EpicByte.util.Constants.*;
+
+/**
+ * Type-ahead suggestions for the header search box, answered from memory only. Product names are kept in two sorted
+ * maps keyed by their normalized text (lower case, accents removed), one by the whole name and one from the start of
+ * every later word, so a prefix lookup is a range scan over the sorted keys. Names that start with the typed text come
+ * first, then names where a later word does, alphabetically within each group.
+ * Built from the "products" table once the application is ready and kept current on every ProductChangedEvent.
+ */
+@Service
+public class ProductSuggestServiceImpl implements ProductSuggestService {
+    // Separates the name from the id in a key, sorts before every other character so names stay in order
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WORD_START = Pattern.compile("(?<=[^\\p{L}\\p{N}])(?=[\\p{L}\\p{N}])");
+
+    private final ProductRepository productRepository;
+
+    private final NavigableMap<String, ProductSuggestionDTO> namePrefixes = new ConcurrentSkipListMap<>();
+    private final NavigableMap<String, ProductSuggestionDTO> wordPrefixes = new ConcurrentSkipListMap<>();
+    private final Map<UUID, List<String>> wordKeysByProduct = new ConcurrentHashMap<>();
+    private final Map<UUID, String> nameKeyByProduct = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ProductSuggestServiceImpl(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    public List<ProductSuggestionDTO> suggest(String prefix, Integer size) {
+        String normalizedPrefix = prefix == null ? "" : normalize(prefix).stripLeading();
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+
+        int limit = getSuggestionsSize(size);
+        Map<UUID, ProductSuggestionDTO> suggestions = new LinkedHashMap<>();
+        collect(this.namePrefixes, normalizedPrefix, suggestions, limit);
+        collect(this.wordPrefixes, normalizedPrefix, suggestions, limit);
+        return List.copyOf(suggestions.values());
+    }
+
+    // Built after the CommandLineRunners, so the products added by the DataInitializer are included
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSuggestions() {
+        for (ProductSuggestionDTO product : this.productRepository.findAllSuggestions()) {
+            add(product);
+        }
+    }
+
+    // After the commit, so a product saved or removed by the publishing transaction is read as it was committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        remove(event.getProductId());
+
+        ProductSuggestionDTO product = this.productRepository.findSuggestionById(event.getProductId());
+        if (product != null) {
+            add(product);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        for (ProductSuggestionDTO product : this.productRepository.findSuggestionsByIds(event.getProductIds())) {
+            add(product);
+        }
+    }
+
+    private void add(ProductSuggestionDTO product) {
+        if (product.getProductName() == null) {
+            return;
+        }
+
+        String name = normalize(product.getProductName()).strip();
+        String nameKey = name + KEY_SEPARATOR + product.getId();
+        this.namePrefixes.put(nameKey, product);
+        this.nameKeyByProduct.put(product.getId(), nameKey);
+
+        List<String> wordKeys = new ArrayList<>();
+        String[] words = WORD_START.split(name);
+        int wordStart = 0;
+        for (int i = 0; i < words.length; i++) {
+            if (i > 0) {
+                String wordKey = name.substring(wordStart) + KEY_SEPARATOR + product.getId();
+                this.wordPrefixes.put(wordKey, product);
+                wordKeys.add(wordKey);
+            }
+            wordStart += words[i].length();
+        }
+        this.wordKeysByProduct.put(product.getId(), wordKeys);
+    }
+
+    private void remove(UUID productId) {
+        String nameKey = this.nameKeyByProduct.remove(productId);
+        if (nameKey != null) {
+            this.namePrefixes.remove(nameKey);
+        }
+
+        List<String> wordKeys = this.wordKeysByProduct.remove(productId);
+        if (wordKeys != null) {
+            wordKeys.forEach(this.wordPrefixes::remove);
+        }
+    }
+
+    private static void collect(NavigableMap<String, ProductSuggestionDTO> prefixes, String prefix,
+                                Map<UUID, ProductSuggestionDTO> suggestions, int limit) {
+        // Every key starting with the prefix sorts between the prefix itself and the prefix followed by the last char
+        for (ProductSuggestionDTO product : prefixes.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if (suggestions.size() >= limit) {
+                return;
+            }
+            suggestions.putIfAbsent(product.getId(), product);
+        }
+    }
+
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("");
+    }
+
+    private static int getSuggestionsSize(Integer size) {
+        if (size == null || size < 1) {
+            return SUGGESTIONS_SIZE;
+        }
+        return Math.min(size, SUGGESTIONS_MAX_SIZE);
+    }
+}
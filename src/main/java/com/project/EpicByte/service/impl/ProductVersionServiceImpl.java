@@ -0,0 +1,161 @@
+package com.project.EpicByte.service.impl;
+
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.event.ProductsImportedEvent;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.repository.productRepositories.ProductRepository;
+import com.project.EpicByte.service.ProductVersionService;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ETag and Last-Modified of the catalog pages and REST endpoints, answered from memory. Every ProductChangedEvent
+ * bumps the version of the product and of the listing of its type, so a client sending back a current ETag
+ * (If-None-Match) or date (If-Modified-Since) gets a 304 before any query, rendering or serialization happens.
+ * Versions start over on every startup, the startup time in the ETag keeps them from matching those of an earlier run.
+ * Only products that still exist keep a version of their own. Every other id of a type gets the version of the last
+ * removal of that type, so a deleted product never matches a tag sent out while it existed.
+ */
+@Service
+public class ProductVersionServiceImpl implements ProductVersionService {
+    // Pages hold the visitor's menu and CSRF token, so only their own browser may keep them. The REST data is the same for everyone.
+    private static final CacheControl PAGE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final CacheControl API_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+    private final ProductRepository productRepository;
+    private final String startupTag;
+    private final Version startupVersion;
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Map<ProductTypeEnum, Version> listingVersions = new EnumMap<>(ProductTypeEnum.class);
+    private final Map<ProductTypeEnum, Version> removedVersions = new EnumMap<>(ProductTypeEnum.class);
+    private final Map<UUID, Version> productVersions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ProductVersionServiceImpl(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+        Instant startup = Instant.now();
+        this.startupTag = Long.toString(startup.toEpochMilli(), 36);
+        this.startupVersion = new Version(0, startup);
+
+        for (ProductTypeEnum productType : ProductTypeEnum.values()) {
+            this.listingVersions.put(productType, this.startupVersion);
+            this.removedVersions.put(productType, this.startupVersion);
+        }
+    }
+
+    @Override
+    public boolean checkListingPageNotModified(WebRequest webRequest, ProductTypeEnum productType) {
+        return checkNotModified(webRequest, getListingVersion(productType), getPageVariant(webRequest), PAGE_CACHE_CONTROL);
+    }
+
+    @Override
+    public boolean checkProductPageNotModified(WebRequest webRequest, ProductTypeEnum productType, UUID productId) {
+        return checkNotModified(webRequest, getProductVersion(productType, productId), getPageVariant(webRequest), PAGE_CACHE_CONTROL);
+    }
+
+    @Override
+    public boolean checkListingNotModified(WebRequest webRequest, ProductTypeEnum productType) {
+        return checkNotModified(webRequest, getListingVersion(productType), null, API_CACHE_CONTROL);
+    }
+
+    @Override
+    public boolean checkProductNotModified(WebRequest webRequest, ProductTypeEnum productType, UUID productId) {
+        return checkNotModified(webRequest, getProductVersion(productType, productId), null, API_CACHE_CONTROL);
+    }
+
+    // After the commit, so a client never gets the new version together with the data from before the change
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Version version = new Version(this.versionSequence.incrementAndGet(), Instant.now());
+
+        synchronized (this.listingVersions) {
+            this.listingVersions.put(event.getProductType(), version);
+        }
+
+        if (this.productRepository.existsById(event.getProductId())) {
+            this.productVersions.put(event.getProductId(), version);
+            return;
+        }
+
+        // Raised before the entry goes, so the removed product is never answered with an older version meanwhile
+        synchronized (this.removedVersions) {
+            this.removedVersions.put(event.getProductType(), version);
+        }
+        this.productVersions.remove(event.getProductId());
+    }
+
+    // Imported products are new, they have no ETag yet, only their listing changes
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        Version version = new Version(this.versionSequence.incrementAndGet(), Instant.now());
+
+        synchronized (this.listingVersions) {
+            this.listingVersions.put(event.getProductType(), version);
+        }
+    }
+
+    private Version getListingVersion(ProductTypeEnum productType) {
+        synchronized (this.listingVersions) {
+            return this.listingVersions.get(productType);
+        }
+    }
+
+    private Version getProductVersion(ProductTypeEnum productType, UUID productId) {
+        Version version = productId == null ? null : this.productVersions.get(productId);
+        if (version != null) {
+            return version;
+        }
+
+        synchronized (this.removedVersions) {
+            return this.removedVersions.get(productType);
+        }
+    }
+
+    private boolean checkNotModified(WebRequest webRequest, Version version, String variant, CacheControl cacheControl) {
+        if (webRequest instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            servletWebRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        }
+
+        String eTag = "\"" + this.startupTag + "-" + version.number()
+                + (variant == null ? "" : "-" + Integer.toHexString(variant.hashCode())) + "\"";
+
+        // Also sets the ETag and Last-Modified headers, and the 304 status when the client's copy is current
+        return webRequest.checkNotModified(eTag, version.lastModified().toEpochMilli());
+    }
+
+    // A page looks different per session (CSRF token), roles (menus) and language
+    private static String getPageVariant(WebRequest webRequest) {
+        StringBuilder variant = new StringBuilder(LocaleContextHolder.getLocale().toLanguageTag());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            variant.append('|').append(authentication.getName()).append('|').append(authentication.getAuthorities());
+        }
+
+        if (webRequest instanceof ServletWebRequest servletWebRequest) {
+            HttpSession session = servletWebRequest.getRequest().getSession(false);
+            variant.append('|').append(session == null ? "" : session.getId());
+        }
+
+        return variant.toString();
+    }
+
+    private record Version(long number, Instant lastModified) {
+    }
+}
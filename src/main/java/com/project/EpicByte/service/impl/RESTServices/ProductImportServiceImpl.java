@@ -0,0 +1,256 @@
+package com.project.EpicByte.service.impl.RESTServices;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.project.EpicByte.event.ProductsImportedEvent;
+import com.project.EpicByte.mapper.ProductMapper;
+import com.project.EpicByte.model.dto.BaseAddDTO;
+import com.project.EpicByte.model.dto.ProductImportErrorDTO;
+import com.project.EpicByte.model.dto.ProductImportReportDTO;
+import com.project.EpicByte.model.dto.productDTOs.*;
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ProductImageStatusEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.service.ProductImagePipelineService;
+import com.project.EpicByte.service.ProductImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Bulk product import of the admin REST API, from CSV (with a header row naming the *AddDTO fields) or NDJSON.
+ * The upload is read row by row, never as a whole. Every row is validated with the same constraints as the add forms,
+ * the valid ones are saved in chunks, one transaction and a few JDBC batches per chunk, and the rejected ones are
+ * reported by line. Images are only written to the image pipeline outbox and uploaded later by its poller.
+ */
+@Service
+public class ProductImportServiceImpl implements ProductImportService {
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final Validator validator;
+    private final ProductMapper productMapper;
+    private final EntityManager entityManager;
+    private final ProductImagePipelineService productImagePipelineService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    @Autowired
+    public ProductImportServiceImpl(ObjectMapper objectMapper,
+                                    Validator validator,
+                                    ProductMapper productMapper,
+                                    EntityManager entityManager,
+                                    ProductImagePipelineService productImagePipelineService,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${catalog.import.chunk-size}") int chunkSize,
+                                    @Value("${catalog.import.max-reported-errors}") int maxReportedErrors) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.productMapper = productMapper;
+        this.entityManager = entityManager;
+        this.productImagePipelineService = productImagePipelineService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ProductImportReportDTO importProducts(ProductTypeEnum productType, MediaType contentType, InputStream inputStream) throws IOException {
+        ImportRun importRun = new ImportRun(productType);
+
+        if (contentType != null && TEXT_CSV.isCompatibleWith(contentType)) {
+            readCsv(importRun, inputStream);
+        } else {
+            readNdjson(importRun, inputStream);
+        }
+
+        importRun.flush();
+        return importRun.report;
+    }
+
+    private void readNdjson(ImportRun importRun, InputStream inputStream) throws IOException {
+        ObjectReader reader = this.objectMapper.readerFor(getAddDTOClass(importRun.productType));
+        BufferedReader lines = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        long lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                importRun.add(lineNumber, reader.readValue(line));
+            } catch (JsonProcessingException e) {
+                importRun.reject(lineNumber, List.of("Invalid JSON: " + e.getOriginalMessage()));
+            }
+        }
+    }
+
+    private void readCsv(ImportRun importRun, InputStream inputStream) throws IOException {
+        Class<? extends BaseAddDTO> addDTOClass = getAddDTOClass(importRun.productType);
+        ObjectReader reader = this.csvMapper.readerForMapOf(String.class).with(CsvSchema.emptySchema().withHeader());
+
+        long lineNumber = 1;
+        try (MappingIterator<Map<String, String>> rows = reader.readValues(inputStream)) {
+            while (rows.hasNextValue()) {
+                lineNumber = rows.getCurrentLocation().getLineNr();
+                Map<String, String> row = rows.nextValue();
+
+                // Empty cells are missing values, so they fail the @NotNull / @NotEmpty checks like empty form fields
+                row.values().removeIf(String::isBlank);
+                try {
+                    importRun.add(lineNumber, this.objectMapper.convertValue(row, addDTOClass));
+                } catch (IllegalArgumentException e) {
+                    importRun.reject(lineNumber, List.of("Invalid value: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // A broken quote or row leaves nothing to resynchronize on, the rows read so far are still imported
+            importRun.reject(lineNumber, List.of("Invalid CSV, the rest of the file was skipped: " + e.getOriginalMessage()));
+        }
+    }
+
+    private BaseProduct toProduct(ProductTypeEnum productType, BaseAddDTO addDTO) {
+        BaseProduct product = switch (productType) {
+            case BOOK -> this.productMapper.toBook((BookAddDTO) addDTO);
+            case TEXTBOOK -> this.productMapper.toTextbook((TextbookAddDTO) addDTO);
+            case MOVIE -> this.productMapper.toMovie((MovieAddDTO) addDTO);
+            case MUSIC -> this.productMapper.toMusic((MusicAddDTO) addDTO);
+            case TOY -> this.productMapper.toToy((ToyAddDTO) addDTO);
+        };
+
+        // Saved with the original image URL, the upload runs in the background
+        product.setImageStatus(ProductImageStatusEnum.PENDING);
+        product.setDateCreated(LocalDate.now());
+        product.setProductType(productType);
+        return product;
+    }
+
+    private static Class<? extends BaseAddDTO> getAddDTOClass(ProductTypeEnum productType) {
+        return switch (productType) {
+            case BOOK -> BookAddDTO.class;
+            case TEXTBOOK -> TextbookAddDTO.class;
+            case MOVIE -> MovieAddDTO.class;
+            case MUSIC -> MusicAddDTO.class;
+            case TOY -> ToyAddDTO.class;
+        };
+    }
+
+    /**
+     * State of one upload: the report and the valid rows waiting for the next chunk.
+     */
+    private final class ImportRun {
+        private final ProductTypeEnum productType;
+        private final ProductImportReportDTO report = new ProductImportReportDTO();
+        private final List<ImportRow> pendingRows = new ArrayList<>();
+
+        private ImportRun(ProductTypeEnum productType) {
+            this.productType = productType;
+        }
+
+        private void add(long line, BaseAddDTO addDTO) {
+            Set<ConstraintViolation<BaseAddDTO>> violations = validator.validate(addDTO);
+            if (!violations.isEmpty()) {
+                reject(line, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .toList());
+                return;
+            }
+
+            try {
+                this.pendingRows.add(new ImportRow(line, toProduct(this.productType, addDTO)));
+            } catch (IllegalArgumentException e) {
+                // An enum value (language, carrier) that does not exist, reported without the enum's class name
+                reject(line, List.of("Invalid value: " + e.getMessage().replaceFirst("^No enum constant .*\\.", "")));
+                return;
+            }
+
+            if (this.pendingRows.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void reject(long line, List<String> messages) {
+            this.report.setFailed(this.report.getFailed() + 1);
+            if (this.report.getErrors().size() < maxReportedErrors) {
+                this.report.getErrors().add(new ProductImportErrorDTO(line, messages));
+            } else {
+                this.report.setErrorsTruncated(true);
+            }
+        }
+
+        private void flush() {
+            if (this.pendingRows.isEmpty()) {
+                return;
+            }
+
+            List<ImportRow> rows = List.copyOf(this.pendingRows);
+            this.pendingRows.clear();
+
+            try {
+                save(rows);
+                this.report.setImported(this.report.getImported() + rows.size());
+            } catch (PersistenceException | DataAccessException | TransactionException e) {
+                // The whole chunk was rolled back, save its rows one by one to find the ones the database refuses
+                for (ImportRow row : rows) {
+                    row.product().setId(null);
+                    try {
+                        save(List.of(row));
+                        this.report.setImported(this.report.getImported() + 1);
+                    } catch (PersistenceException | DataAccessException | TransactionException rowException) {
+                        reject(row.line(), List.of("Not saved: " + NestedExceptionUtils.getMostSpecificCause(rowException).getMessage()));
+                    }
+                }
+            }
+        }
+
+        private void save(List<ImportRow> rows) {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<BaseProduct> products = rows.stream().map(ImportRow::product).toList();
+                products.forEach(entityManager::persist);
+                productImagePipelineService.enqueueUploads(products);
+
+                // Written in batches here, then dropped, so the persistence context never holds more than a chunk
+                entityManager.flush();
+                entityManager.clear();
+
+                eventPublisher.publishEvent(new ProductsImportedEvent(this.productType,
+                        products.stream().map(BaseProduct::getId).toList()));
+            });
+        }
+    }
+
+    private record ImportRow(long line, BaseProduct product) {
+    }
+}
@@ -1,18 +1,22 @@
 package com.project.EpicByte.service.impl.RESTServices;
 
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.mapper.ProductMapper;
+import com.project.EpicByte.model.dto.ProductFieldsPageDTO;
+import com.project.EpicByte.model.dto.ProductPageDTO;
 import com.project.EpicByte.model.dto.productDTOs.*;
 import com.project.EpicByte.model.entity.BaseProduct;
 import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
 import com.project.EpicByte.model.entity.productEntities.*;
 import com.project.EpicByte.repository.CartRepository;
 import com.project.EpicByte.repository.productRepositories.*;
+import com.project.EpicByte.service.ProductCatalogService;
 import com.project.EpicByte.service.ProductRESTService;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -22,8 +26,11 @@ public class ProductRESTServiceImpl implements ProductRESTService {
     private final MovieRepository movieRepository;
     private final MusicRepository musicRepository;
     private final ToyRepository toyRepository;
+    private final ProductRepository productRepository;
     private final CartRepository cartRepository;
-    private final ModelMapper modelMapper;
+    private final ProductCatalogService productCatalogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProductMapper productMapper;
 
     @Autowired
     public ProductRESTServiceImpl(BookRepository bookRepository,
@@ -31,125 +38,114 @@ public class ProductRESTServiceImpl implements ProductRESTService {
                                   MovieRepository movieRepository,
                                   MusicRepository musicRepository,
                                   ToyRepository toyRepository,
+                                  ProductRepository productRepository,
                                   CartRepository cartRepository,
-                                  ModelMapper modelMapper) {
+                                  ProductCatalogService productCatalogService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ProductMapper productMapper) {
         this.bookRepository = bookRepository;
         this.textbookRepository = textbookRepository;
         this.movieRepository = movieRepository;
         this.musicRepository = musicRepository;
         this.toyRepository = toyRepository;
+        this.productRepository = productRepository;
         this.cartRepository = cartRepository;
-        this.modelMapper = modelMapper;
+        this.productCatalogService = productCatalogService;
+        this.eventPublisher = eventPublisher;
+        this.productMapper = productMapper;
     }
 
     @Override
-    public List<? extends BaseProduct> getAll(String productType) {
-        return switch (productType) {
-            case "BOOKS" -> this.bookRepository.findAll();
-            case "TEXTBOOKS" -> this.textbookRepository.findAll();
-            case "MOVIES" -> this.movieRepository.findAll();
-            case "MUSIC" -> this.musicRepository.findAll();
-            case "TOYS" -> this.toyRepository.findAll();
-            default -> List.of();
-        };
+    public ProductPageDTO getPage(ProductTypeEnum productType, String sort, String after, Integer size) {
+        return this.productCatalogService.getPage(productType, sort, after, size);
     }
 
     @Override
-    public BaseProduct getProduct(UUID uuid, String productType) {
-        return switch (productType) {
-            case "BOOKS" -> this.bookRepository.findBookById(uuid);
-            case "TEXTBOOKS" -> this.textbookRepository.findTextbookById(uuid);
-            case "MOVIES" -> this.movieRepository.findMovieById(uuid);
-            case "MUSIC" -> this.musicRepository.findMusicById(uuid);
-            case "TOYS" -> this.toyRepository.findToyById(uuid);
-            default -> null;
-        };
+    public ProductFieldsPageDTO getFieldsPage(ProductTypeEnum productType, String sort, String after, Integer size, String fields) {
+        return this.productCatalogService.getFieldsPage(productType, sort, after, size, fields);
+    }
+
+    @Override
+    public BaseProduct getProduct(UUID uuid) {
+        return this.productCatalogService.getProduct(uuid, BaseProduct.class);
     }
 
     @Override
     public Book saveBook(BookAddDTO bookAddDTO) {
-        Book book = this.modelMapper.map(bookAddDTO, Book.class);
+        Book book = this.productMapper.toBook(bookAddDTO);
 
         book.setId(UUID.randomUUID());
         book.setDateCreated(LocalDate.now());
         book.setProductType(ProductTypeEnum.BOOK);
 
-        return this.bookRepository.saveAndFlush(book);
+        Book savedBook = this.bookRepository.saveAndFlush(book);
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.BOOK, savedBook.getId()));
+        return savedBook;
     }
 
     @Override
     public Textbook saveTextbook(TextbookAddDTO textbookAddDTO) {
-        Textbook textbook = this.modelMapper.map(textbookAddDTO, Textbook.class);
+        Textbook textbook = this.productMapper.toTextbook(textbookAddDTO);
 
         textbook.setId(UUID.randomUUID());
         textbook.setDateCreated(LocalDate.now());
         textbook.setProductType(ProductTypeEnum.TEXTBOOK);
 
-        return this.textbookRepository.saveAndFlush(textbook);
+        Textbook savedTextbook = this.textbookRepository.saveAndFlush(textbook);
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.TEXTBOOK, savedTextbook.getId()));
+        return savedTextbook;
     }
 
     @Override
     public Music saveMusic(MusicAddDTO musicAddDTO) {
-        Music music = this.modelMapper.map(musicAddDTO, Music.class);
+        Music music = this.productMapper.toMusic(musicAddDTO);
 
         music.setId(UUID.randomUUID());
         music.setDateCreated(LocalDate.now());
         music.setProductType(ProductTypeEnum.MUSIC);
 
-        return this.musicRepository.saveAndFlush(music);
+        Music savedMusic = this.musicRepository.saveAndFlush(music);
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.MUSIC, savedMusic.getId()));
+        return savedMusic;
     }
 
     @Override
     public Movie saveMovie(MovieAddDTO movieAddDTO) {
-        Movie movie = this.modelMapper.map(movieAddDTO, Movie.class);
+        Movie movie = this.productMapper.toMovie(movieAddDTO);
 
         movie.setId(UUID.randomUUID());
         movie.setDateCreated(LocalDate.now());
-        movie.setProductType(ProductTypeEnum.MUSIC);
+        movie.setProductType(ProductTypeEnum.MOVIE);
 
-        return this.movieRepository.saveAndFlush(movie);
+        Movie savedMovie = this.movieRepository.saveAndFlush(movie);
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.MOVIE, savedMovie.getId()));
+        return savedMovie;
     }
 
     @Override
     public Toy saveToy(ToyAddDTO toyAddDTO) {
-        Toy toy = this.modelMapper.map(toyAddDTO, Toy.class);
+        Toy toy = this.productMapper.toToy(toyAddDTO);
 
         toy.setId(UUID.randomUUID());
         toy.setDateCreated(LocalDate.now());
-        toy.setProductType(ProductTypeEnum.MUSIC);
+        toy.setProductType(ProductTypeEnum.TOY);
 
-        return this.toyRepository.saveAndFlush(toy);
+        Toy savedToy = this.toyRepository.saveAndFlush(toy);
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.TOY, savedToy.getId()));
+        return savedToy;
     }
 
     @Override
-    public boolean deleteProduct(UUID uuid, String productType) {
-        return switch (productType) {
-            case "BOOKS" -> {
-                this.bookRepository.deleteById(uuid);
-                this.cartRepository.deleteAll(this.cartRepository.findAllByProductId(uuid));
-                yield true;
-            }
-            case "TEXTBOOKS" -> {
-                this.textbookRepository.deleteById(uuid);
-                this.cartRepository.deleteAll(this.cartRepository.findAllByProductId(uuid));
-                yield true;
-            }
-            case "MOVIES" -> {
-                this.movieRepository.deleteById(uuid);
-                this.cartRepository.deleteAll(this.cartRepository.findAllByProductId(uuid));
-                yield true;
-            }
-            case "MUSIC" -> {
-                this.musicRepository.deleteById(uuid);
-                this.cartRepository.deleteAll(this.cartRepository.findAllByProductId(uuid));
-                yield true;
-            }
-            case "TOYS" -> {
-                this.toyRepository.deleteById(uuid);
-                this.cartRepository.deleteAll(this.cartRepository.findAllByProductId(uuid));
-                yield true;
-            }
-            default -> false;
-        };
+    public boolean deleteProduct(UUID uuid) {
+        BaseProduct product = this.productRepository.findProductById(uuid);
+
+        if (product == null) {
+            return false;
+        }
+
+        this.cartRepository.deleteAllByProductId(uuid);
+        this.productRepository.delete(product);
+        this.eventPublisher.publishEvent(new ProductChangedEvent(product.getProductType(), uuid));
+        return true;
     }
 }
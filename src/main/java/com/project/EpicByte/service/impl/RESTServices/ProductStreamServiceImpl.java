@@ -0,0 +1,105 @@
+package com.project.EpicByte.service.impl.RESTServices;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.EpicByte.model.entity.enums.ExportFormatEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.repository.productRepositories.ProductRepository;
+import com.project.EpicByte.service.ProductStreamService;
+import com.project.EpicByte.util.ProductFields;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Full-catalog exports of the REST API. Products are read from a database cursor and written one by one
+ * through a Jackson generator, so neither the result list nor the response body is ever held in memory,
+ * and the first products reach the client while the rest are still being read.
+ * With "?fields=" only those columns are selected and written, without loading the entities.
+ */
+@Service
+public class ProductStreamServiceImpl implements ProductStreamService {
+    // Products written between two flushes of the response
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ProductStreamServiceImpl(ProductRepository productRepository,
+                                    ObjectMapper objectMapper,
+                                    EntityManager entityManager,
+                                    PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public StreamingResponseBody streamProducts(ProductTypeEnum productType, ExportFormatEnum format, String fields) {
+        // Checked here, so unknown fields are a 400 before the response starts, not an error halfway through it
+        List<String> selectedFields = ProductFields.parse(fields, this.productRepository.getFieldNames(productType));
+
+        // The body is written later, on an async request thread, in its own read-only transaction
+        return outputStream -> this.transactionTemplate.executeWithoutResult(status -> {
+            try {
+                if (selectedFields == null) {
+                    write(this.productRepository.streamAllByProductType(productType), format, outputStream, true);
+                } else {
+                    write(this.productRepository.streamFields(productType, selectedFields).map(row -> ProductFields.toMap(row, selectedFields)), format, outputStream, false);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void write(Stream<?> products, ExportFormatEnum format, OutputStream outputStream, boolean managed) throws IOException {
+        try (products; JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream)) {
+            // The servlet container owns the response stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            if (format == ExportFormatEnum.NDJSON) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+
+            int written = 0;
+            Iterator<?> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                Object product = iterator.next();
+                generator.writeObject(product);
+                if (format == ExportFormatEnum.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+
+                // A written product is not needed anymore, so the persistence context does not grow with the catalog
+                if (managed) {
+                    this.entityManager.detach(product);
+                }
+                if (++written % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+
+            if (format == ExportFormatEnum.JSON) {
+                generator.writeEndArray();
+            }
+        }
+    }
+}
@@ -1,55 +1,193 @@
 package com.project.EpicByte.service.impl.RESTServices;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.EpicByte.mapper.ProductMapper;
+import com.project.EpicByte.mapper.UserMapper;
 import com.project.EpicByte.model.dto.RESTDTOs.*;
 import com.project.EpicByte.model.entity.UserEntity;
 import com.project.EpicByte.model.entity.UserOrder;
 import com.project.EpicByte.model.entity.UserRoleEntity;
+import com.project.EpicByte.model.entity.enums.ExportFormatEnum;
 import com.project.EpicByte.model.entity.productEntities.CartItem;
 import com.project.EpicByte.repository.CartRepository;
 import com.project.EpicByte.repository.UserOrderRepository;
 import com.project.EpicByte.repository.UserRepository;
 import com.project.EpicByte.service.UserRESTService;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.project.EpicByte.util.Constants.USERS_MAX_PAGE_SIZE;
+import static com.project.EpicByte.util.Constants.USERS_PAGE_SIZE;
+
+/**
+ * The admin users API. Users are read a page at a time, by id: one query for the ids of the page, then one
+ * fetch-join query per association (roles, cart items with their products, orders with their items) for all
+ * the users of the page at once. A page costs the same four queries whatever the users have in their carts
+ * and orders. The export streams every user in pages of the largest page size.
+ */
 @Service
 public class UserRESTServiceImpl implements UserRESTService {
     private final UserRepository userRepository;
     private final CartRepository cartRepository;
     private final UserOrderRepository userOrderRepository;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final ProductMapper productMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
 
     public UserRESTServiceImpl(UserRepository userRepository,
                                CartRepository cartRepository,
                                UserOrderRepository userOrderRepository,
-                               ModelMapper modelMapper) {
+                               UserMapper userMapper,
+                               ProductMapper productMapper,
+                               ObjectMapper objectMapper,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.cartRepository = cartRepository;
         this.userOrderRepository = userOrderRepository;
-        this.modelMapper = modelMapper;
+        this.userMapper = userMapper;
+        this.productMapper = productMapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
     }
 
     @Override
     @Transactional
-    public List<UserRESTViewDTO> getAllUsers() {
-        return mapUserEntitiesToUserRESTViewDTOList(
-                this.userRepository
-                        .findAll());
+    public UserRESTPageDTO getUsersPage(String after, Integer size) {
+        int pageSize = getPageSize(size);
+        UUID lastId = parseCursor(after);
+
+        // Ask for one extra id to know whether there is a next page without counting the users
+        List<UUID> ids = findPageIds(lastId, pageSize + 1);
+        boolean hasNext = ids.size() > pageSize;
+        if (hasNext) {
+            ids = ids.subList(0, pageSize);
+        }
+
+        UserRESTPageDTO page = new UserRESTPageDTO();
+        page.setContent(mapUserEntitiesToUserRESTViewDTOList(findUsersWithAssociations(ids)));
+        page.setSize(pageSize);
+        page.setFirst(lastId == null);
+        page.setHasNext(hasNext);
+        page.setNextCursor(hasNext ? ids.get(ids.size() - 1).toString() : null);
+        return page;
+    }
+
+    @Override
+    public StreamingResponseBody streamUsers(ExportFormatEnum format) {
+        // The body is written later, on an async request thread, in its own read-only transaction
+        return outputStream -> this.transactionTemplate.executeWithoutResult(status -> {
+            try {
+                writeUsers(format, outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
 
     @Override
     @Transactional
     public UserRESTViewDTO getUserById(UUID uuid) {
-        return convertUserToUserRESTViewDTO(this.userRepository.findUserEntityById(uuid));
+        List<UserEntity> users = findUsersWithAssociations(List.of(uuid));
+        return users.isEmpty() ? null : convertUserToUserRESTViewDTO(users.get(0));
     }
 
     // Support methods
+    // The users with the given ids, in that order, with their roles, cart items and orders already loaded
+    List<UserEntity> findUsersWithAssociations(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, UserEntity> users = this.userRepository.findAllWithRolesByIdIn(ids).stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity(), (user, sameUser) -> user));
+
+        // Same users, same persistence context: these only initialize the collections of the entities above
+        this.userRepository.fetchCartItemsByIdIn(ids);
+        this.userRepository.fetchUserOrdersByIdIn(ids);
+
+        return ids.stream().map(users::get).filter(Objects::nonNull).toList();
+    }
+
+    private void writeUsers(ExportFormatEnum format, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream)) {
+            // The servlet container owns the response stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            if (format == ExportFormatEnum.NDJSON) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+
+            UUID lastId = null;
+            List<UUID> ids;
+            do {
+                ids = findPageIds(lastId, USERS_MAX_PAGE_SIZE);
+                for (UserRESTViewDTO user : mapUserEntitiesToUserRESTViewDTOList(findUsersWithAssociations(ids))) {
+                    generator.writeObject(user);
+                    if (format == ExportFormatEnum.NDJSON) {
+                        generator.writeRaw('\n');
+                    }
+                }
+                generator.flush();
+
+                // A written page is not needed anymore, so the persistence context does not grow with the user count
+                this.entityManager.clear();
+                lastId = ids.isEmpty() ? null : ids.get(ids.size() - 1);
+            } while (ids.size() == USERS_MAX_PAGE_SIZE);
+
+            if (format == ExportFormatEnum.JSON) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    private List<UUID> findPageIds(UUID lastId, int limit) {
+        return lastId == null
+                ? this.userRepository.findPageIds(PageRequest.of(0, limit))
+                : this.userRepository.findPageIdsAfter(lastId, PageRequest.of(0, limit));
+    }
+
+    // A missing or malformed cursor simply means "start from the first page"
+    private static UUID parseCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+
+        try {
+            return UUID.fromString(after);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int getPageSize(Integer size) {
+        if (size == null || size < 1) {
+            return USERS_PAGE_SIZE;
+        }
+        return Math.min(size, USERS_MAX_PAGE_SIZE);
+    }
+
     // Retrieve a list of UserEntities and return a list of UserDTOs
-    private List<UserRESTViewDTO> mapUserEntitiesToUserRESTViewDTOList(List<UserEntity> users) {
+    List<UserRESTViewDTO> mapUserEntitiesToUserRESTViewDTOList(List<UserEntity> users) {
         List<UserRESTViewDTO> userRESTViewDTOs = new ArrayList<>();
         users.forEach(user -> userRESTViewDTOs.add(convertUserToUserRESTViewDTO(user)));
         return userRESTViewDTOs;
@@ -58,7 +196,7 @@ public class UserRESTServiceImpl implements UserRESTService {
     // Map the UserEntity to UserDTO
     private UserRESTViewDTO convertUserToUserRESTViewDTO(UserEntity user) {
         if (user == null) return null;
-        UserRESTViewDTO userRESTViewDTO = this.modelMapper.map(user, UserRESTViewDTO.class);
+        UserRESTViewDTO userRESTViewDTO = this.userMapper.toUserRESTViewDTO(user);
 
         userRESTViewDTO.setRoles(mapRoles(user.getRoles()));
         userRESTViewDTO.setCartItems(mapCartItems(user));
@@ -70,7 +208,7 @@ public class UserRESTServiceImpl implements UserRESTService {
     // Map the Roles list
     private HashSet<UserRoleRESTViewDTO> mapRoles(Set<UserRoleEntity> roles) {
         return roles.stream()
-                .map(userRole -> modelMapper.map(userRole, UserRoleRESTViewDTO.class))
+                .map(this.userMapper::toUserRoleRESTViewDTO)
                 .collect(Collectors.toCollection(HashSet::new));
     }
 
@@ -79,8 +217,8 @@ public class UserRESTServiceImpl implements UserRESTService {
         List<CartItemRESTViewDTO> cartItemRESTViewDTOs = new ArrayList<>();
 
         for (CartItem cartItem : user.getCartItems()) {
-            CartItemRESTViewDTO cartItemRESTViewDTO = this.modelMapper.map(cartItem, CartItemRESTViewDTO.class);
-            cartItemRESTViewDTO.setBaseProduct(this.modelMapper.map(cartItem.getProduct(), BaseProductRESTViewDTO.class));
+            CartItemRESTViewDTO cartItemRESTViewDTO = this.userMapper.toCartItemRESTViewDTO(cartItem);
+            cartItemRESTViewDTO.setBaseProduct(this.productMapper.toBaseProductRESTViewDTO(cartItem.getProduct()));
             cartItemRESTViewDTOs.add(cartItemRESTViewDTO);
         }
 
@@ -93,8 +231,8 @@ public class UserRESTServiceImpl implements UserRESTService {
 
         for (UserOrder userOrder : user.getUserOrders()) {
             userOrderDTOList .add(
-                    this.modelMapper
-                            .map(userOrder, UserOrderRESTViewDTO.class));
+                    this.userMapper
+                            .toUserOrderRESTViewDTO(userOrder));
         }
 
         return userOrderDTOList;
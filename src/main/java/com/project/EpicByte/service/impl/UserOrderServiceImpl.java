@@ -1,13 +1,14 @@
 package com.project.EpicByte.service.impl;
 
+import com.project.EpicByte.model.dto.UserOrderSummaryDTO;
 import com.project.EpicByte.model.entity.UserOrder;
-import com.project.EpicByte.model.entity.UserEntity;
 import com.project.EpicByte.repository.UserOrderRepository;
-import com.project.EpicByte.repository.UserRepository;
 import com.project.EpicByte.service.UserOrderService;
 import com.project.EpicByte.util.Breadcrumbs;
+import com.project.EpicByte.util.OrderPageCursor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.ui.Model;
 
@@ -19,51 +20,48 @@ import static com.project.EpicByte.util.Constants.*;
 @Service
 public class UserOrderServiceImpl extends Breadcrumbs implements UserOrderService {
     private final UserOrderRepository userOrderRepository;
-    private final UserRepository userRepository;
 
     @Autowired
-    public UserOrderServiceImpl(UserOrderRepository userOrderRepository, UserRepository userRepository) {
+    public UserOrderServiceImpl(UserOrderRepository userOrderRepository) {
         this.userOrderRepository = userOrderRepository;
-        this.userRepository = userRepository;
     }
 
     @Override
-    public String displayUserOrders(Model model, Principal principal) {
-        try {
-            UserEntity user = getUserEntityByUsername(principal.getName());
-            Set<UserOrder> userOrdersSet = this.userOrderRepository.findUserOrderByUserId(user.getId());
-            return returnModelPage(userOrdersSet, model);
-        } catch (NullPointerException | UsernameNotFoundException exception) {
+    public String displayUserOrders(Model model, Principal principal, String after) {
+        if (principal == null) {
             return returnErrorPage(model);
         }
+
+        OrderPageCursor cursor = OrderPageCursor.decode(after);
+        Pageable limit = PageRequest.of(0, ORDERS_PAGE_SIZE + 1);
+        List<UserOrderSummaryDTO> userOrders = cursor == null
+                ? this.userOrderRepository.findOrderSummariesByUsername(principal.getName(), limit)
+                : this.userOrderRepository.findOrderSummariesByUsernameBefore(principal.getName(), cursor.getOrderDate(), cursor.getLastId(), limit);
+
+        return returnOrdersPage(userOrders, cursor == null, USER_ORDERS_URL, model);
     }
 
     @Override
-    public String displayAdminAllUserOrders(Model model) {
-        try {
-            LinkedHashSet<UserOrder> userOrdersSet = new LinkedHashSet<>(userOrderRepository.findUserOrdersComplete());
-            return returnModelPage(userOrdersSet, model);
-        } catch (NullPointerException | UsernameNotFoundException exception) {
-            return returnErrorPage(model);
-        }
+    public String displayAdminAllUserOrders(Model model, String after) {
+        OrderPageCursor cursor = OrderPageCursor.decode(after);
+        Pageable limit = PageRequest.of(0, ORDERS_PAGE_SIZE + 1);
+        List<UserOrderSummaryDTO> userOrders = cursor == null
+                ? this.userOrderRepository.findOpenOrderSummaries(limit)
+                : this.userOrderRepository.findOpenOrderSummariesAfter(cursor.getOrderDate(), cursor.getLastId(), limit);
+
+        model.addAttribute("ordersExportUrl", MODERATOR_ORDERS_EXPORT_URL);
+        return returnOrdersPage(userOrders, cursor == null, MODERATOR_ORDERS_URL, model);
     }
 
     @Override
     public String completeUserOrder(UUID id) {
-        Optional<UserOrder> UserOrder = this.userOrderRepository.findUserOrderById(id);
-
-        if (UserOrder.isPresent()) {
-            UserOrder actualUserOrder = UserOrder.get();
-            actualUserOrder.setComplete(true);
-            userOrderRepository.save(actualUserOrder);
-        }
-
+        this.userOrderRepository.completeUserOrder(id);
         return "redirect:" + MODERATOR_ORDERS_URL;
     }
 
     @Override
     public String displayUserOrderDetails(UUID id, Model model) {
-        Optional<UserOrder> UserOrder = this.userOrderRepository.findUserOrderById(id);
+        Optional<UserOrder> UserOrder = this.userOrderRepository.findUserOrderWithItemsById(id);
 
         if (UserOrder.isPresent()) {
             UserOrder actualUserOrder = UserOrder.get();
@@ -78,17 +76,26 @@ public class UserOrderServiceImpl extends Breadcrumbs implements UserOrderServic
 
     // Support methods
 
-    // Set page model attributes
-    private String returnModelPage(Set<UserOrder> userOrdersSet, Model model) {
+    // Set page model attributes. The queries ask for one extra order, to know whether there is a next page without counting
+    private String returnOrdersPage(List<UserOrderSummaryDTO> userOrders, boolean isFirstPage, String pageUrl, Model model) {
         addProductBreadcrumb(model, USER_ORDERS_URL, "Orders");
 
-        if (userOrdersSet.isEmpty()) {
+        boolean hasNext = userOrders.size() > ORDERS_PAGE_SIZE;
+        if (hasNext) {
+            userOrders = userOrders.subList(0, ORDERS_PAGE_SIZE);
+        }
+
+        if (userOrders.isEmpty()) {
             model.addAttribute("noUserOrders", true);
         } else {
+            UserOrderSummaryDTO last = userOrders.get(userOrders.size() - 1);
             model.addAttribute("noUserOrders", false);
-            model.addAttribute("userOrders", userOrdersSet);
+            model.addAttribute("userOrders", userOrders);
+            model.addAttribute("nextCursor", hasNext ? OrderPageCursor.encode(last.getOrderDate(), last.getId()) : null);
         }
 
+        model.addAttribute("isFirstPage", isFirstPage);
+        model.addAttribute("pageUrl", pageUrl);
         return ORDERS_HTML;
     }
 
@@ -98,16 +105,4 @@ public class UserOrderServiceImpl extends Breadcrumbs implements UserOrderServic
         model.addAttribute("errorText", "Something went wrong!");
         return ERROR_PAGE_HTML;
     }
-
-    // Get user. Transactional, since the collections are prone to errors
-    protected UserEntity getUserEntityByUsername(String username) {
-        UserEntity user = this.userRepository
-                .findUserByUsernameWithInitializedOrders(username);
-
-        if (user == null) {
-            throw new UsernameNotFoundException(username);
-        }
-
-        return user;
-    }
 }
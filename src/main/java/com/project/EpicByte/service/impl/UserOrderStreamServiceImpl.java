@@ -0,0 +1,151 @@
+package com.project.EpicByte.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.EpicByte.model.dto.OrderExportRowDTO;
+import com.project.EpicByte.model.entity.enums.OrderExportFormatEnum;
+import com.project.EpicByte.repository.UserOrderRepository;
+import com.project.EpicByte.service.UserOrderStreamService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Order export of the moderator pages. The orders and their items are read as flat rows from a forward-only database
+ * cursor, without loading the entities, and written to the response as they arrive, so the memory used does not
+ * depend on the number of orders exported.
+ */
+@Service
+public class UserOrderStreamServiceImpl implements UserOrderStreamService {
+    // Rows written between two flushes of the response
+    private static final int FLUSH_INTERVAL = 100;
+
+    private final UserOrderRepository userOrderRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+
+    @Autowired
+    public UserOrderStreamServiceImpl(UserOrderRepository userOrderRepository,
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager) {
+        this.userOrderRepository = userOrderRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public StreamingResponseBody streamOrders(LocalDate dateFrom, LocalDate dateTo, Boolean complete, OrderExportFormatEnum format) {
+        // The body is written later, on an async request thread, in its own read-only transaction
+        return outputStream -> this.transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<OrderExportRowDTO> rows = this.userOrderRepository.streamExportRows(dateFrom, dateTo, complete)) {
+                if (format == OrderExportFormatEnum.NDJSON) {
+                    writeNdjson(rows.iterator(), outputStream);
+                } else {
+                    writeCsv(rows.iterator(), outputStream);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCsv(Iterator<OrderExportRowDTO> rows, OutputStream outputStream) throws IOException {
+        CsvSchema schema = this.csvMapper.schemaFor(OrderExportRowDTO.class).withHeader();
+
+        try (SequenceWriter writer = this.csvMapper.writer(schema).writeValues(outputStream)) {
+            int written = 0;
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+                if (++written % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+    }
+
+    // The rows of an order are consecutive, an order is closed when the next one starts
+    private void writeNdjson(Iterator<OrderExportRowDTO> rows, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream)) {
+            // The servlet container owns the response stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            UUID currentOrderId = null;
+            int written = 0;
+            while (rows.hasNext()) {
+                OrderExportRowDTO row = rows.next();
+
+                if (!row.getOrderId().equals(currentOrderId)) {
+                    if (currentOrderId != null) {
+                        writeOrderEnd(generator);
+                    }
+                    writeOrderStart(generator, row);
+                    currentOrderId = row.getOrderId();
+                }
+
+                // An order without items still has its one row, from the left join
+                if (row.getItemId() != null) {
+                    writeItem(generator, row);
+                }
+                if (++written % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+
+            if (currentOrderId != null) {
+                writeOrderEnd(generator);
+            }
+        }
+    }
+
+    private static void writeOrderStart(JsonGenerator generator, OrderExportRowDTO row) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectField("id", row.getOrderId());
+        generator.writeObjectField("orderDate", row.getOrderDate());
+        generator.writeBooleanField("complete", row.isComplete());
+        generator.writeStringField("username", row.getUsername());
+        generator.writeStringField("city", row.getCity());
+        generator.writeStringField("neighborhood", row.getNeighborhood());
+        generator.writeStringField("address", row.getAddress());
+        generator.writeObjectField("totalCost", row.getTotalCost());
+        generator.writeArrayFieldStart("orderItems");
+    }
+
+    private static void writeItem(JsonGenerator generator, OrderExportRowDTO row) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectField("id", row.getItemId());
+        generator.writeObjectField("productType", row.getProductType());
+        generator.writeStringField("productName", row.getProductName());
+        generator.writeObjectField("productPrice", row.getProductPrice());
+        generator.writeObjectField("quantity", row.getQuantity());
+        generator.writeObjectField("totalProductPrice", row.getTotalProductPrice());
+        generator.writeEndObject();
+    }
+
+    private static void writeOrderEnd(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -1,7 +1,9 @@
 package com.project.EpicByte.service.impl;
 
+import com.project.EpicByte.event.UserChangedEvent;
 import com.project.EpicByte.exceptions.LogoutRequestException;
 import com.project.EpicByte.exceptions.UsernameAlreadyExistsException;
+import com.project.EpicByte.mapper.UserMapper;
 import com.project.EpicByte.model.dto.UserRegisterDTO;
 import com.project.EpicByte.model.dto.UserUpdateDTO;
 import com.project.EpicByte.model.entity.UserEntity;
@@ -13,8 +15,8 @@ import com.project.EpicByte.service.UserService;
 import com.project.EpicByte.util.Breadcrumbs;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,25 +34,28 @@ import static com.project.EpicByte.util.Constants.*;
 @Service
 public class UserServiceImpl extends Breadcrumbs implements UserService{
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
     private final UserRoleRepository userRoleRepository;
     private final PasswordEncoder passwordEncoder;
     private final HttpServletRequest request;
     private final UserDetailsService userDetailsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public UserServiceImpl(UserRepository userRepository,
-                           ModelMapper modelMapper,
+                           UserMapper userMapper,
                            UserRoleRepository userRoleRepository,
                            PasswordEncoder passwordEncoder,
                            HttpServletRequest request,
-                           UserDetailsService userDetailsService1) {
+                           UserDetailsService userDetailsService1,
+                           ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
-        this.modelMapper = modelMapper;
+        this.userMapper = userMapper;
         this.userRoleRepository = userRoleRepository;
         this.passwordEncoder = passwordEncoder;
         this.request = request;
         this.userDetailsService = userDetailsService1;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -134,8 +139,10 @@ public class UserServiceImpl extends Breadcrumbs implements UserService{
         userEntity.setEmail(userUpdateDTO.getEmail());
 
         if (!userEntity.getUsername().equals(userUpdateDTO.getUsername())) {
+            String oldUsername = userEntity.getUsername();
             userEntity.setUsername(userUpdateDTO.getUsername());
             this.userRepository.saveAndFlush(userEntity);
+            this.eventPublisher.publishEvent(new UserChangedEvent(oldUsername));
             try {
                 request.logout();
                 throw new LogoutRequestException();
@@ -148,7 +155,7 @@ public class UserServiceImpl extends Breadcrumbs implements UserService{
     private void saveUserInDatabase(UserRegisterDTO userRegisterDTO) {
         String password = this.passwordEncoder.encode(userRegisterDTO.getPassword());
 
-        UserEntity userEntity = modelMapper.map(userRegisterDTO, UserEntity.class);
+        UserEntity userEntity = this.userMapper.toUserEntity(userRegisterDTO);
         userEntity.setPassword(password);
         userEntity.setRoles(mapUserRoles("USER"));
 
@@ -162,7 +169,7 @@ public class UserServiceImpl extends Breadcrumbs implements UserService{
             throw new UsernameNotFoundException(username);
         }
 
-        return this.modelMapper.map(userEntity, UserUpdateDTO.class);
+        return this.userMapper.toUserUpdateDTO(userEntity);
     }
 
     private Set<UserRoleEntity> mapUserRoles(String role) {
@@ -1,22 +1,26 @@
 package com.project.EpicByte.service.impl.productServices;
 
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.mapper.ProductMapper;
+import com.project.EpicByte.model.dto.ProductPageDTO;
 import com.project.EpicByte.model.dto.productDTOs.BookAddDTO;
-import com.project.EpicByte.model.entity.enums.LanguageEnum;
+import com.project.EpicByte.model.entity.enums.ProductImageStatusEnum;
 import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
 import com.project.EpicByte.model.entity.productEntities.Book;
-import com.project.EpicByte.model.entity.productEntities.CartItem;
 import com.project.EpicByte.repository.CartRepository;
 import com.project.EpicByte.repository.productRepositories.BookRepository;
-import com.project.EpicByte.service.ProductImagesService;
+import com.project.EpicByte.service.ProductImagePipelineService;
+import com.project.EpicByte.service.ProductCatalogService;
+import com.project.EpicByte.service.ProductFacetService;
 import com.project.EpicByte.service.productServices.BookService;
 import com.project.EpicByte.util.Breadcrumbs;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 
 import java.time.LocalDate;
@@ -28,19 +32,28 @@ import static com.project.EpicByte.util.Constants.*;
 public class BookServiceImpl extends Breadcrumbs implements BookService {
     private final BookRepository bookRepository;
     private final CartRepository cartRepository;
-    private final ModelMapper modelMapper;
+    private final ProductMapper productMapper;
     private final MessageSource messageSource;
     // CLOUDINARY
-    private final ProductImagesService productImagesService;
+    private final ProductImagePipelineService productImagePipelineService;
+    private final ProductCatalogService productCatalogService;
+    private final ProductFacetService productFacetService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public BookServiceImpl(BookRepository bookRepository, CartRepository cartRepository, ModelMapper modelMapper, MessageSource messageSource,
-                           ProductImagesService productImagesService) {
+    public BookServiceImpl(BookRepository bookRepository, CartRepository cartRepository, ProductMapper productMapper, MessageSource messageSource,
+                           ProductImagePipelineService productImagePipelineService,
+                           ProductCatalogService productCatalogService,
+                           ProductFacetService productFacetService,
+                           ApplicationEventPublisher eventPublisher) {
         this.bookRepository = bookRepository;
         this.cartRepository = cartRepository;
-        this.modelMapper = modelMapper;
+        this.productMapper = productMapper;
         this.messageSource = messageSource;
-        this.productImagesService = productImagesService;
+        this.productImagePipelineService = productImagePipelineService;
+        this.productCatalogService = productCatalogService;
+        this.productFacetService = productFacetService;
+        this.eventPublisher = eventPublisher;
 
     }
 
@@ -50,7 +63,7 @@ public class BookServiceImpl extends Breadcrumbs implements BookService {
         model.addAttribute("productType", getLocalizedText("book.text"));
         model.addAttribute("product", new BookAddDTO());
         model.addAttribute("fieldsMap", getFieldNames("book", false));
-        model.addAttribute("enumsList", LanguageEnum.values());
+        model.addAttribute("enumsList", getEnumOptions(ProductTypeEnum.BOOK));
         return PRODUCT_ADD_HTML;
     }
 
@@ -61,7 +74,7 @@ public class BookServiceImpl extends Breadcrumbs implements BookService {
 
         if (bindingResult.hasErrors()) {
             model.addAttribute("fieldsMap", getFieldNames("book", false));
-            model.addAttribute("enumsList", LanguageEnum.values());
+            model.addAttribute("enumsList", getEnumOptions(ProductTypeEnum.BOOK));
             return PRODUCT_ADD_HTML;
         }
 
@@ -73,41 +86,32 @@ public class BookServiceImpl extends Breadcrumbs implements BookService {
     }
 
     @Override
-    public String displayAllBooksPage(Model model, String sort) {
+    public String displayAllBooksPage(Model model, String sort, String after, MultiValueMap<String, String> filters) {
         addProductBreadcrumb(model, ALL_BOOKS_URL, "Books");
         model.addAttribute("productType", getLocalizedText("books.text"));
         model.addAttribute("productLinkType", "book");
         model.addAttribute("linkType", "books");
 
-        List<Book> bookList;
-
-        if (sort == null) {
-            bookList = getAllSortedByIsNewProduct();
-        } else if (sort.equals("lowest")) {
-            bookList = getAllSortedByLowestPrice();
-        } else if (sort.equals("highest")) {
-            bookList = getAllSortedByHighestPrice();
-        } else if (sort.equals("alphabetical")) {
-            bookList = getAllSortedAlphabetically();
-        } else {
-            bookList = getAllSortedByIsNewProduct();
-        }
-
-        model.addAttribute("selectedSortingOption", Objects.requireNonNullElse(sort, "default"));
+        ProductPageDTO productPage = this.productFacetService.getPage(ProductTypeEnum.BOOK, filters, sort, after, null);
 
-        model.addAttribute("productList", bookList);
+        model.addAttribute("selectedSortingOption", productPage.getSort());
+        model.addAttribute("productList", productPage.getContent());
+        model.addAttribute("isFirstPage", productPage.isFirst());
+        model.addAttribute("nextCursor", productPage.getNextCursor());
+        model.addAttribute("facets", this.productFacetService.getFacets(ProductTypeEnum.BOOK, filters));
+        model.addAttribute("pageUrl", this.productFacetService.getPageUrl(ALL_BOOKS_URL, ProductTypeEnum.BOOK, filters));
 
         return PRODUCTS_ALL_HTML;
     }
 
     @Override
     public String displayDetailedViewBookPage(UUID id, Model model) {
-        Book book = bookRepository.findBookById(id);
+        Book book = this.productCatalogService.getProduct(id, Book.class);
         if (book == null) return returnErrorPage(model);
 
         addProductBreadcrumb(model, ALL_BOOKS_URL, "Books", book.getProductName());
         model.addAttribute("product", book);
-        model.addAttribute("productDetails", getDetailFields(book));
+        model.addAttribute("productDetails", getDetailFields(ProductTypeEnum.BOOK));
         model.addAttribute("linkType", "books");
 
         return PRODUCT_DETAILS_HTML;
@@ -122,15 +126,16 @@ public class BookServiceImpl extends Breadcrumbs implements BookService {
     private void deleteBookFromDatabase(UUID id) {
         Book book = bookRepository.findBookById(id);
 
-        // Remove the image from Cloudinary
-        this.productImagesService.removeImageURL(book.getProductImageUrl());
+        // Queue the image removal from Cloudinary
+        this.productImagePipelineService.enqueueRemoval(book);
+
+        // Remove the product from all user carts
+        this.cartRepository.deleteAllByProductId(id);
 
         // Remove the image from the repository
         this.bookRepository.delete(book);
 
-        // Remove the product from all user carts
-        List<CartItem> cartItemList = this.cartRepository.findAllByProductId(id);
-        this.cartRepository.deleteAll(cartItemList);
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.BOOK, id));
     }
 
     // Support methods
@@ -140,53 +145,24 @@ public class BookServiceImpl extends Breadcrumbs implements BookService {
         return ERROR_PAGE_HTML;
     }
 
-    private Map<String, String> getDetailFields(Book book) {
-        LinkedHashMap<String , String> fieldsMap = new LinkedHashMap<>();
-
-        fieldsMap.put(getLocalizedText("authorName.text"), book.getAuthorName());
-        fieldsMap.put(getLocalizedText("publisher.text"), book.getPublisher());
-        fieldsMap.put(getLocalizedText("publicationDate.text"), book.getPublicationDate().toString());
-        fieldsMap.put(getLocalizedText("language.text"), book.getLanguage().toString());
-        fieldsMap.put(getLocalizedText("printLength.text"), book.getPrintLength().toString() + " pages");
-        fieldsMap.put(getLocalizedText("dimensions.text"), book.getDimensions());
-
-        return fieldsMap;
-    }
-
     private void addBookToDatabase(BookAddDTO bookAddDTO) {
-        Book book = modelMapper.map(bookAddDTO, Book.class);
+        Book book = this.productMapper.toBook(bookAddDTO);
 
-        // CLOUDINARY
-        book.setProductImageUrl(
-                this.productImagesService
-                        .getImageURL(
-                                bookAddDTO.getProductImageUrl()));
+        // CLOUDINARY: saved with the original image URL, the upload runs in the background
+        book.setImageStatus(ProductImageStatusEnum.PENDING);
 
         book.setNewProduct(true);
         book.setDateCreated(LocalDate.now());
         book.setProductType(ProductTypeEnum.BOOK);
 
         bookRepository.saveAndFlush(book);
+        this.productImagePipelineService.enqueueUpload(book);
+
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.BOOK, book.getId()));
     }
 
     private String getLocalizedText(String text) {
         Locale locale = LocaleContextHolder.getLocale();
         return messageSource.getMessage(text, null, locale);
     }
-
-    private List<Book> getAllSortedByIsNewProduct() {
-        return bookRepository.findAll(Sort.by(Sort.Direction.DESC,"isNewProduct"));
-    }
-
-    private List<Book> getAllSortedByLowestPrice() {
-        return bookRepository.findAll(Sort.by(Sort.Direction.ASC,"productPrice"));
-    }
-
-    private List<Book> getAllSortedByHighestPrice() {
-        return bookRepository.findAll(Sort.by(Sort.Direction.DESC,"productPrice"));
-    }
-
-    private List<Book> getAllSortedAlphabetically() {
-        return bookRepository.findAll(Sort.by(Sort.Direction.ASC,"productName"));
-    }
 }
@@ -0,0 +1,151 @@
+package com.project.EpicByte.service.impl.productServices;
+
+import com.project.EpicByte.service.ProductImagesService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Stores product images in a local directory instead of Cloudinary, for offline environments and benchmarks.
+ * Images keep their original file name (like the Cloudinary upload with use_filename and overwrite)
+ * and are served back from images.local.url-prefix.
+ * Only http(s) images on public hosts are downloaded, never files of this machine or hosts of the private network.
+ */
+@Service
+@ConditionalOnProperty(name = "images.storage", havingValue = "local")
+public class LocalProductImagesServiceImpl implements ProductImagesService {
+    private static final int MAX_REDIRECTS = 5;
+
+    private final Path directory;
+    private final String urlPrefix;
+    private final HttpClient httpClient;
+
+    @Autowired
+    public LocalProductImagesServiceImpl(@Value("${images.local.directory}") String directory,
+                                         @Value("${images.local.url-prefix}") String urlPrefix,
+                                         @Value("${images.local.connect-timeout}") Duration connectTimeout) {
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.urlPrefix = urlPrefix.endsWith("/") ? urlPrefix : urlPrefix + "/";
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                // Redirects are followed by hand, so every hop is checked like the first URL
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Override
+    public String getImageURL(String imageURL) {
+        try {
+            Files.createDirectories(directory);
+            String fileName = getFileName(imageURL);
+
+            try (InputStream imageStream = openImage(imageURL)) {
+                Files.copy(imageStream, resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            return urlPrefix + fileName;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void removeImageURL(String imageURL) {
+        try {
+            Files.deleteIfExists(resolve(getFileName(imageURL)));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private InputStream openImage(String imageURL) throws IOException, InterruptedException {
+        URI uri = toImageURI(imageURL);
+
+        for (int redirects = 0; ; redirects++) {
+            checkPublicHost(uri);
+            HttpResponse<InputStream> response = httpClient.send(
+                    HttpRequest.newBuilder(uri).GET().build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+
+            int status = response.statusCode();
+            if (status == 200) {
+                return response.body();
+            }
+            response.body().close();
+
+            String location = response.headers().firstValue("Location").orElse(null);
+            if (status / 100 != 3 || location == null || redirects >= MAX_REDIRECTS) {
+                throw new IOException("Could not download " + imageURL + ", status " + status);
+            }
+            uri = toImageURI(uri.resolve(location).toString());
+        }
+    }
+
+    private static URI toImageURI(String imageURL) {
+        URI uri;
+        try {
+            uri = URI.create(imageURL);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid image URL: " + imageURL, e);
+        }
+
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!scheme.equals("http") && !scheme.equals("https") || uri.getHost() == null) {
+            throw new IllegalArgumentException("Image URL must be an http(s) URL: " + imageURL);
+        }
+        return uri;
+    }
+
+    // Keeps the download from reaching this machine or the private network (cloud metadata, the database, ...)
+    private static void checkPublicHost(URI uri) throws IOException {
+        for (InetAddress address : InetAddress.getAllByName(uri.getHost())) {
+            if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                    || address.isSiteLocalAddress() || address.isMulticastAddress() || isUniqueLocal(address)) {
+                throw new IllegalArgumentException("Image host is not a public address: " + uri.getHost());
+            }
+        }
+    }
+
+    // IPv6 fc00::/7, the private range InetAddress.isSiteLocalAddress does not cover
+    private static boolean isUniqueLocal(InetAddress address) {
+        byte[] bytes = address.getAddress();
+        return bytes.length == 16 && (bytes[0] & 0xfe) == 0xfc;
+    }
+
+    private String getFileName(String imageURL) {
+        String path = imageURL.split("[?#]")[0];
+        String fileName = path.substring(path.lastIndexOf('/') + 1);
+        fileName = fileName.substring(fileName.lastIndexOf('\\') + 1).replaceAll("[^A-Za-z0-9._-]", "_");
+
+        if (fileName.isBlank() || fileName.startsWith(".")) {
+            throw new IllegalArgumentException("Image URL has no file name: " + imageURL);
+        }
+        return fileName;
+    }
+
+    // Only file names ever reach this point, but keep everything inside the image directory regardless
+    private Path resolve(String fileName) {
+        Path target = directory.resolve(fileName).normalize();
+        if (!target.getParent().equals(directory)) {
+            throw new IllegalArgumentException("Invalid image file name: " + fileName);
+        }
+        return target;
+    }
+}
@@ -1,22 +1,26 @@
 package com.project.EpicByte.service.impl.productServices;
 
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.mapper.ProductMapper;
+import com.project.EpicByte.model.dto.ProductPageDTO;
 import com.project.EpicByte.model.dto.productDTOs.MovieAddDTO;
-import com.project.EpicByte.model.entity.enums.MovieCarrierEnum;
+import com.project.EpicByte.model.entity.enums.ProductImageStatusEnum;
 import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
-import com.project.EpicByte.model.entity.productEntities.CartItem;
 import com.project.EpicByte.model.entity.productEntities.Movie;
 import com.project.EpicByte.repository.CartRepository;
 import com.project.EpicByte.repository.productRepositories.MovieRepository;
-import com.project.EpicByte.service.ProductImagesService;
+import com.project.EpicByte.service.ProductImagePipelineService;
+import com.project.EpicByte.service.ProductCatalogService;
+import com.project.EpicByte.service.ProductFacetService;
 import com.project.EpicByte.service.productServices.MovieService;
 import com.project.EpicByte.util.Breadcrumbs;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 
 import java.time.LocalDate;
@@ -28,19 +32,28 @@ import static com.project.EpicByte.util.Constants.*;
 public class MovieServiceImpl extends Breadcrumbs implements MovieService {
     private final MovieRepository movieRepository;
     private final CartRepository cartRepository;
-    private final ModelMapper modelMapper;
+    private final ProductMapper productMapper;
     private final MessageSource messageSource;
     //CLOUDINARY
-    private final ProductImagesService productImagesService;
+    private final ProductImagePipelineService productImagePipelineService;
+    private final ProductCatalogService productCatalogService;
+    private final ProductFacetService productFacetService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public MovieServiceImpl(MovieRepository movieRepository, CartRepository cartRepository, ModelMapper modelMapper, MessageSource messageSource,
-                            ProductImagesService productImagesService) {
+    public MovieServiceImpl(MovieRepository movieRepository, CartRepository cartRepository, ProductMapper productMapper, MessageSource messageSource,
+                            ProductImagePipelineService productImagePipelineService,
+                            ProductCatalogService productCatalogService,
+                            ProductFacetService productFacetService,
+                            ApplicationEventPublisher eventPublisher) {
         this.movieRepository = movieRepository;
         this.cartRepository = cartRepository;
-        this.modelMapper = modelMapper;
+        this.productMapper = productMapper;
         this.messageSource = messageSource;
-        this.productImagesService = productImagesService;
+        this.productImagePipelineService = productImagePipelineService;
+        this.productCatalogService = productCatalogService;
+        this.productFacetService = productFacetService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -49,7 +62,7 @@ public class MovieServiceImpl extends Breadcrumbs implements MovieService {
         model.addAttribute("productType", getLocalizedText("movie.text"));
         model.addAttribute("product", new MovieAddDTO());
         model.addAttribute("fieldsMap", getFieldNames("movie", false));
-        model.addAttribute("enumsList", MovieCarrierEnum.values());
+        model.addAttribute("enumsList", getEnumOptions(ProductTypeEnum.MOVIE));
         return PRODUCT_ADD_HTML;
     }
 
@@ -60,7 +73,7 @@ public class MovieServiceImpl extends Breadcrumbs implements MovieService {
 
         if (bindingResult.hasErrors()) {
             model.addAttribute("fieldsMap", getFieldNames("movie", false));
-            model.addAttribute("enumsList", MovieCarrierEnum.values());
+            model.addAttribute("enumsList", getEnumOptions(ProductTypeEnum.MOVIE));
             return PRODUCT_ADD_HTML;
         }
 
@@ -72,41 +85,32 @@ public class MovieServiceImpl extends Breadcrumbs implements MovieService {
     }
 
     @Override
-    public String displayAllMoviesPage(Model model, String sort) {
+    public String displayAllMoviesPage(Model model, String sort, String after, MultiValueMap<String, String> filters) {
         addProductBreadcrumb(model, ALL_MOVIES_URL, "Movies");
         model.addAttribute("productType", getLocalizedText("movies.text"));
         model.addAttribute("productLinkType", "movie");
         model.addAttribute("linkType", "movies");
 
-        List<Movie> movieList;
-
-        if (sort == null) {
-            movieList = getAllSortedByIsNewProduct();
-        } else if (sort.equals("lowest")) {
-            movieList = getAllSortedByLowestPrice();
-        } else if (sort.equals("highest")) {
-            movieList = getAllSortedByHighestPrice();
-        } else if (sort.equals("alphabetical")) {
-            movieList = getAllSortedAlphabetically();
-        } else {
-            movieList = getAllSortedByIsNewProduct();
-        }
-
-        model.addAttribute("selectedSortingOption", Objects.requireNonNullElse(sort, "default"));
+        ProductPageDTO productPage = this.productFacetService.getPage(ProductTypeEnum.MOVIE, filters, sort, after, null);
 
-        model.addAttribute("productList", movieList);
+        model.addAttribute("selectedSortingOption", productPage.getSort());
+        model.addAttribute("productList", productPage.getContent());
+        model.addAttribute("isFirstPage", productPage.isFirst());
+        model.addAttribute("nextCursor", productPage.getNextCursor());
+        model.addAttribute("facets", this.productFacetService.getFacets(ProductTypeEnum.MOVIE, filters));
+        model.addAttribute("pageUrl", this.productFacetService.getPageUrl(ALL_MOVIES_URL, ProductTypeEnum.MOVIE, filters));
 
         return PRODUCTS_ALL_HTML;
     }
 
     @Override
     public String displayDetailedViewMoviePage(UUID id, Model model) {
-        Movie movie = movieRepository.findMovieById(id);
+        Movie movie = this.productCatalogService.getProduct(id, Movie.class);
         if (movie == null) return returnErrorPage(model);
 
         addProductBreadcrumb(model, ALL_MOVIES_URL, "Movies", movie.getProductName());
         model.addAttribute("product", movie);
-        model.addAttribute("productDetails", getDetailFields(movie));
+        model.addAttribute("productDetails", getDetailFields(ProductTypeEnum.MOVIE));
         model.addAttribute("linkType", "movies");
 
         return PRODUCT_DETAILS_HTML;
@@ -122,15 +126,16 @@ public class MovieServiceImpl extends Breadcrumbs implements MovieService {
     private void deleteMovieFromDatabase(UUID id) {
         Movie movie = movieRepository.findMovieById(id);
 
-        // Remove the image from Cloudinary
-        this.productImagesService.removeImageURL(movie.getProductImageUrl());
+        // Queue the image removal from Cloudinary
+        this.productImagePipelineService.enqueueRemoval(movie);
+
+        // Remove the product from all user carts
+        this.cartRepository.deleteAllByProductId(id);
 
         // Remove the image from the repository
         this.movieRepository.delete(movie);
 
-        // Remove the product from all user carts
-        List<CartItem> cartItemList = this.cartRepository.findAllByProductId(id);
-        this.cartRepository.deleteAll(cartItemList);
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.MOVIE, id));
     }
 
     private String returnErrorPage(Model model) {
@@ -139,49 +144,24 @@ public class MovieServiceImpl extends Breadcrumbs implements MovieService {
         return ERROR_PAGE_HTML;
     }
 
-    private Map<String, String> getDetailFields(Movie movie) {
-        LinkedHashMap<String , String> fieldsMap = new LinkedHashMap<>();
-
-        fieldsMap.put(getLocalizedText("genre.text"), movie.getGenre());
-        fieldsMap.put(getLocalizedText("carrier.text"), movie.getCarrier().toString());
-
-        return fieldsMap;
-    }
-
     private String getLocalizedText(String text) {
         Locale locale = LocaleContextHolder.getLocale();
         return messageSource.getMessage(text, null, locale);
     }
 
-    private List<Movie> getAllSortedByIsNewProduct() {
-        return movieRepository.findAll(Sort.by(Sort.Direction.DESC,"isNewProduct"));
-    }
-
-    private List<Movie> getAllSortedByLowestPrice() {
-        return movieRepository.findAll(Sort.by(Sort.Direction.ASC,"productPrice"));
-    }
-
-    private List<Movie> getAllSortedByHighestPrice() {
-        return movieRepository.findAll(Sort.by(Sort.Direction.DESC,"productPrice"));
-    }
-
-    private List<Movie> getAllSortedAlphabetically() {
-        return movieRepository.findAll(Sort.by(Sort.Direction.ASC,"productName"));
-    }
-
     private void addMovieToDatabase(MovieAddDTO movieAddDTO) {
-        Movie movie = modelMapper.map(movieAddDTO, Movie.class);
+        Movie movie = this.productMapper.toMovie(movieAddDTO);
 
-        // CLOUDINARY
-        movie.setProductImageUrl(
-                this.productImagesService
-                        .getImageURL(
-                                movieAddDTO.getProductImageUrl()));
+        // CLOUDINARY: saved with the original image URL, the upload runs in the background
+        movie.setImageStatus(ProductImageStatusEnum.PENDING);
 
         movie.setProductType(ProductTypeEnum.MOVIE);
         movie.setDateCreated(LocalDate.now());
         movie.setNewProduct(true);
 
         movieRepository.saveAndFlush(movie);
+        this.productImagePipelineService.enqueueUpload(movie);
+
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.MOVIE, movie.getId()));
     }
 }
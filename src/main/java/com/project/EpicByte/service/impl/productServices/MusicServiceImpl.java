@@ -1,22 +1,26 @@
 package com.project.EpicByte.service.impl.productServices;
 
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.mapper.ProductMapper;
+import com.project.EpicByte.model.dto.ProductPageDTO;
 import com.project.EpicByte.model.dto.productDTOs.MusicAddDTO;
-import com.project.EpicByte.model.entity.enums.MusicCarrierEnum;
+import com.project.EpicByte.model.entity.enums.ProductImageStatusEnum;
 import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
-import com.project.EpicByte.model.entity.productEntities.CartItem;
 import com.project.EpicByte.model.entity.productEntities.Music;
 import com.project.EpicByte.repository.CartRepository;
 import com.project.EpicByte.repository.productRepositories.MusicRepository;
-import com.project.EpicByte.service.ProductImagesService;
+import com.project.EpicByte.service.ProductImagePipelineService;
+import com.project.EpicByte.service.ProductCatalogService;
+import com.project.EpicByte.service.ProductFacetService;
 import com.project.EpicByte.service.productServices.MusicService;
 import com.project.EpicByte.util.Breadcrumbs;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 
 import java.time.LocalDate;
@@ -28,21 +32,30 @@ import static com.project.EpicByte.util.Constants.*;
 public class MusicServiceImpl extends Breadcrumbs implements MusicService {
     private final MusicRepository musicRepository;
     private final CartRepository cartRepository;
-    private final ModelMapper modelMapper;
+    private final ProductMapper productMapper;
     private final MessageSource messageSource;
-    private final ProductImagesService productImagesService;
+    private final ProductImagePipelineService productImagePipelineService;
+    private final ProductCatalogService productCatalogService;
+    private final ProductFacetService productFacetService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public MusicServiceImpl(MusicRepository musicRepository,
                             CartRepository cartRepository,
-                            ModelMapper modelMapper,
+                            ProductMapper productMapper,
                             MessageSource messageSource,
-                            ProductImagesService productImagesService) {
+                            ProductImagePipelineService productImagePipelineService,
+                            ProductCatalogService productCatalogService,
+                            ProductFacetService productFacetService,
+                            ApplicationEventPublisher eventPublisher) {
         this.musicRepository = musicRepository;
         this.cartRepository = cartRepository;
-        this.modelMapper = modelMapper;
+        this.productMapper = productMapper;
         this.messageSource = messageSource;
-        this.productImagesService = productImagesService;
+        this.productImagePipelineService = productImagePipelineService;
+        this.productCatalogService = productCatalogService;
+        this.productFacetService = productFacetService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -51,7 +64,7 @@ public class MusicServiceImpl extends Breadcrumbs implements MusicService {
         model.addAttribute("productType", getLocalizedText("music.text"));
         model.addAttribute("product", new MusicAddDTO());
         model.addAttribute("fieldsMap", getFieldNames("music", false));
-        model.addAttribute("enumsList", MusicCarrierEnum.values());
+        model.addAttribute("enumsList", getEnumOptions(ProductTypeEnum.MUSIC));
         return PRODUCT_ADD_HTML;
     }
 
@@ -62,7 +75,7 @@ public class MusicServiceImpl extends Breadcrumbs implements MusicService {
 
         if (bindingResult.hasErrors()) {
             model.addAttribute("fieldsMap", getFieldNames("music", false));
-            model.addAttribute("enumsList", MusicCarrierEnum.values());
+            model.addAttribute("enumsList", getEnumOptions(ProductTypeEnum.MUSIC));
             return PRODUCT_ADD_HTML;
         }
 
@@ -74,41 +87,32 @@ public class MusicServiceImpl extends Breadcrumbs implements MusicService {
     }
 
     @Override
-    public String displayAllMusicPage(Model model, String sort) {
+    public String displayAllMusicPage(Model model, String sort, String after, MultiValueMap<String, String> filters) {
         addProductBreadcrumb(model, ALL_MUSIC_URL, "Music");
         model.addAttribute("productType", getLocalizedText("music.text"));
         model.addAttribute("productLinkType", "music");
         model.addAttribute("linkType", "music");
 
-        List<Music> musicList;
-
-        if (sort == null) {
-            musicList = getAllSortedByIsNewProduct();
-        } else if (sort.equals("lowest")) {
-            musicList = getAllSortedByLowestPrice();
-        } else if (sort.equals("highest")) {
-            musicList = getAllSortedByHighestPrice();
-        } else if (sort.equals("alphabetical")) {
-            musicList = getAllSortedAlphabetically();
-        } else {
-            musicList = getAllSortedByIsNewProduct();
-        }
-
-        model.addAttribute("selectedSortingOption", Objects.requireNonNullElse(sort, "default"));
+        ProductPageDTO productPage = this.productFacetService.getPage(ProductTypeEnum.MUSIC, filters, sort, after, null);
 
-        model.addAttribute("productList", musicList);
+        model.addAttribute("selectedSortingOption", productPage.getSort());
+        model.addAttribute("productList", productPage.getContent());
+        model.addAttribute("isFirstPage", productPage.isFirst());
+        model.addAttribute("nextCursor", productPage.getNextCursor());
+        model.addAttribute("facets", this.productFacetService.getFacets(ProductTypeEnum.MUSIC, filters));
+        model.addAttribute("pageUrl", this.productFacetService.getPageUrl(ALL_MUSIC_URL, ProductTypeEnum.MUSIC, filters));
 
         return PRODUCTS_ALL_HTML;
     }
 
     @Override
     public String displayDetailedViewMusicPage(UUID id, Model model) {
-        Music music = musicRepository.findMusicById(id);
+        Music music = this.productCatalogService.getProduct(id, Music.class);
         if (music == null) return returnErrorPage(model);
 
         addProductBreadcrumb(model, ALL_MUSIC_URL, "Music", music.getProductName());
         model.addAttribute("product", music);
-        model.addAttribute("productDetails", getDetailFields(music));
+        model.addAttribute("productDetails", getDetailFields(ProductTypeEnum.MUSIC));
         model.addAttribute("linkType", "music");
 
         return PRODUCT_DETAILS_HTML;
@@ -124,15 +128,16 @@ public class MusicServiceImpl extends Breadcrumbs implements MusicService {
     private void deleteMusicFromDatabase(UUID id) {
         Music music = this.musicRepository.findMusicById(id);
 
-        // Remove the image from Cloudinary
-        this.productImagesService.removeImageURL(music.getProductImageUrl());
+        // Queue the image removal from Cloudinary
+        this.productImagePipelineService.enqueueRemoval(music);
+
+        // Remove the product from all user carts
+        this.cartRepository.deleteAllByProductId(id);
 
         // Remove the image from the repository
         this.musicRepository.delete(music);
 
-        // Remove the product from all user carts
-        List<CartItem> cartItemList = this.cartRepository.findAllByProductId(id);
-        this.cartRepository.deleteAll(cartItemList);
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.MUSIC, id));
     }
 
     private String returnErrorPage(Model model) {
@@ -141,53 +146,24 @@ public class MusicServiceImpl extends Breadcrumbs implements MusicService {
         return ERROR_PAGE_HTML;
     }
 
-    private Map<String, String> getDetailFields(Music music) {
-        LinkedHashMap<String , String> fieldsMap = new LinkedHashMap<>();
-
-        fieldsMap.put(getLocalizedText("artistName.text"), music.getArtistName());
-        fieldsMap.put(getLocalizedText("publisher.text"), music.getPublisher());
-        fieldsMap.put(getLocalizedText("publicationDate.text"), music.getPublicationDate().toString());
-        fieldsMap.put(getLocalizedText("carrier.text"), music.getCarrier().toString());
-        fieldsMap.put(getLocalizedText("genre.text"), music.getGenre());
-
-        return fieldsMap;
-    }
-
     private String getLocalizedText(String text) {
         Locale locale = LocaleContextHolder.getLocale();
         return messageSource.getMessage(text, null, locale);
     }
 
-    private List<Music> getAllSortedByIsNewProduct() {
-        return musicRepository.findAll(Sort.by(Sort.Direction.DESC,"isNewProduct"));
-    }
-
-    private List<Music> getAllSortedByLowestPrice() {
-        return musicRepository.findAll(Sort.by(Sort.Direction.ASC,"productPrice"));
-    }
-
-    private List<Music> getAllSortedByHighestPrice() {
-        return musicRepository.findAll(Sort.by(Sort.Direction.DESC,"productPrice"));
-    }
-
-    private List<Music> getAllSortedAlphabetically() {
-        return musicRepository.findAll(Sort.by(Sort.Direction.ASC,"productName"));
-    }
-
     private void addMusicToDatabase(MusicAddDTO musicAddDTO) {
-        Music music = modelMapper.map(musicAddDTO, Music.class);
+        Music music = this.productMapper.toMusic(musicAddDTO);
 
-        // CLOUDINARY
-        music.setProductImageUrl(
-                this.productImagesService
-                        .getImageURL(
-                                musicAddDTO.getProductImageUrl()));
+        // CLOUDINARY: saved with the original image URL, the upload runs in the background
+        music.setImageStatus(ProductImageStatusEnum.PENDING);
 
         music.setProductType(ProductTypeEnum.MUSIC);
         music.setDateCreated(LocalDate.now());
         music.setNewProduct(true);
 
         musicRepository.saveAndFlush(music);
+        this.productImagePipelineService.enqueueUpload(music);
 
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.MUSIC, music.getId()));
     }
 }
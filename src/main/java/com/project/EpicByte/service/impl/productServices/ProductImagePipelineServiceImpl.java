@@ -0,0 +1,235 @@
+package com.project.EpicByte.service.impl.productServices;
+
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.ProductImageTask;
+import com.project.EpicByte.model.entity.enums.ImageTaskOperationEnum;
+import com.project.EpicByte.model.entity.enums.ImageTaskStatusEnum;
+import com.project.EpicByte.model.entity.enums.ProductImageStatusEnum;
+import com.project.EpicByte.repository.ProductImageTaskRepository;
+import com.project.EpicByte.repository.productRepositories.ProductRepository;
+import com.project.EpicByte.service.ProductImagePipelineService;
+import com.project.EpicByte.service.ProductImagesService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves image uploads and removals off the request thread. Every request is first written to the
+ * product_image_tasks outbox table and then handed to a small, bounded worker pool. When the pool queue is full,
+ * the task just stays in the table and the poller dispatches it once a worker frees up, so a burst of new products
+ * never blocks moderators or piles up in memory. Failed tasks are retried with exponential backoff.
+ * A claimed task is leased: if its worker (or the whole instance) dies, the task is given back to the outbox
+ * once the lease times out, while tasks still running on other instances keep their claims.
+ */
+@Service
+public class ProductImagePipelineServiceImpl implements ProductImagePipelineService {
+    private static final int LAST_ERROR_MAX_LENGTH = 1000;
+
+    private final ProductImageTaskRepository productImageTaskRepository;
+    private final ProductRepository productRepository;
+    private final ProductImagesService productImagesService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor imageWorkers;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration leaseTimeout;
+
+    @Autowired
+    public ProductImagePipelineServiceImpl(ProductImageTaskRepository productImageTaskRepository,
+                                           ProductRepository productRepository,
+                                           ProductImagesService productImagesService,
+                                           ApplicationEventPublisher eventPublisher,
+                                           @Value("${images.pipeline.workers}") int workers,
+                                           @Value("${images.pipeline.queue-capacity}") int queueCapacity,
+                                           @Value("${images.pipeline.max-attempts}") int maxAttempts,
+                                           @Value("${images.pipeline.retry-delay}") Duration retryDelay,
+                                           @Value("${images.pipeline.lease-timeout}") Duration leaseTimeout) {
+        this.productImageTaskRepository = productImageTaskRepository;
+        this.productRepository = productRepository;
+        this.productImagesService = productImagesService;
+        this.eventPublisher = eventPublisher;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.leaseTimeout = leaseTimeout;
+
+        // Platform threads, as the project targets Java 17; the work is I/O bound, so a handful of them is enough
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.imageWorkers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-worker-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public void enqueueUpload(BaseProduct product) {
+        ProductImageTask task = createTask(ImageTaskOperationEnum.UPLOAD, product, product.getProductImageUrl());
+        dispatch(task.getId());
+    }
+
+    @Override
+    public void enqueueRemoval(BaseProduct product) {
+        // Pending or failed images never reached the storage. A still queued upload sees that the product is gone.
+        if (product.getImageStatus() == ProductImageStatusEnum.PENDING
+                || product.getImageStatus() == ProductImageStatusEnum.FAILED) {
+            return;
+        }
+
+        ProductImageTask task = createTask(ImageTaskOperationEnum.REMOVE, product, product.getProductImageUrl());
+        dispatch(task.getId());
+    }
+
+    // Bulk imports: only written to the outbox, in the caller's transaction and JDBC batches, the poller uploads them later
+    @Override
+    public void enqueueUploads(Collection<? extends BaseProduct> products) {
+        List<ProductImageTask> tasks = new ArrayList<>(products.size());
+        for (BaseProduct product : products) {
+            tasks.add(newTask(ImageTaskOperationEnum.UPLOAD, product, product.getProductImageUrl()));
+        }
+        this.productImageTaskRepository.saveAll(tasks);
+    }
+
+    // Picks up tasks that did not fit in the worker queue, tasks waiting for a retry and tasks left from a restart
+    @Scheduled(fixedDelayString = "${images.pipeline.poll-interval-ms}")
+    public void dispatchDueTasks() {
+        int freeSlots = this.imageWorkers.getQueue().remainingCapacity();
+        if (freeSlots == 0) {
+            return;
+        }
+
+        List<UUID> taskIds = this.productImageTaskRepository
+                .findDueTaskIds(ImageTaskStatusEnum.PENDING, LocalDateTime.now(), PageRequest.of(0, freeSlots));
+        taskIds.forEach(this::dispatch);
+    }
+
+    // Tasks whose worker stopped (a crash, a restart) without finishing are handed back to the outbox after the lease timeout
+    @Scheduled(fixedDelayString = "${images.pipeline.poll-interval-ms}")
+    public void releaseExpiredClaims() {
+        this.productImageTaskRepository.releaseExpiredClaims(ImageTaskStatusEnum.IN_PROGRESS, ImageTaskStatusEnum.PENDING,
+                LocalDateTime.now().minus(this.leaseTimeout));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.imageWorkers.shutdown();
+    }
+
+    private ProductImageTask createTask(ImageTaskOperationEnum operation, BaseProduct product, String imageUrl) {
+        return this.productImageTaskRepository.saveAndFlush(newTask(operation, product, imageUrl));
+    }
+
+    private static ProductImageTask newTask(ImageTaskOperationEnum operation, BaseProduct product, String imageUrl) {
+        ProductImageTask task = new ProductImageTask();
+        task.setOperation(operation);
+        task.setStatus(ImageTaskStatusEnum.PENDING);
+        task.setProductId(product.getId());
+        task.setProductType(product.getProductType());
+        task.setImageUrl(imageUrl);
+        task.setAttempts(0);
+        task.setCreatedAt(LocalDateTime.now());
+        task.setNextAttemptAt(task.getCreatedAt());
+        return task;
+    }
+
+    private void dispatch(UUID taskId) {
+        // Claim the task first, so the request thread and the poller never run the same task twice
+        UUID claimId = UUID.randomUUID();
+        if (this.productImageTaskRepository.claim(taskId, ImageTaskStatusEnum.PENDING, ImageTaskStatusEnum.IN_PROGRESS,
+                claimId, LocalDateTime.now()) == 0) {
+            return;
+        }
+
+        try {
+            this.imageWorkers.execute(() -> process(taskId, claimId));
+        } catch (RejectedExecutionException e) {
+            // Backpressure: the queue is full, leave the task in the outbox for the poller
+            this.productImageTaskRepository.updateStatus(taskId, ImageTaskStatusEnum.IN_PROGRESS, ImageTaskStatusEnum.PENDING);
+        }
+    }
+
+    private void process(UUID taskId, UUID claimId) {
+        // The lease runs from here, so the time spent in the worker queue does not count against it
+        if (this.productImageTaskRepository.renewClaim(taskId, ImageTaskStatusEnum.IN_PROGRESS, claimId, LocalDateTime.now()) == 0) {
+            return;
+        }
+
+        ProductImageTask task = this.productImageTaskRepository.findById(taskId).orElse(null);
+        if (task == null) {
+            return;
+        }
+
+        try {
+            if (task.getOperation() == ImageTaskOperationEnum.UPLOAD) {
+                upload(task);
+            } else {
+                this.productImagesService.removeImageURL(task.getImageUrl());
+            }
+            this.productImageTaskRepository.delete(task);
+        } catch (RuntimeException e) {
+            handleFailure(task, e);
+        }
+    }
+
+    private void upload(ProductImageTask task) {
+        // The product was deleted before its upload got a turn, nothing to store
+        if (!this.productRepository.existsById(task.getProductId())) {
+            return;
+        }
+
+        String storedImageUrl = this.productImagesService.getImageURL(task.getImageUrl());
+
+        if (this.productRepository.updateImage(task.getProductId(), storedImageUrl, ProductImageStatusEnum.READY) == 0) {
+            // The product was deleted during the upload, so the stored copy belongs to nobody
+            this.productImagesService.removeImageURL(storedImageUrl);
+            return;
+        }
+
+        this.eventPublisher.publishEvent(new ProductChangedEvent(task.getProductType(), task.getProductId()));
+    }
+
+    private void handleFailure(ProductImageTask task, RuntimeException e) {
+        task.setAttempts(task.getAttempts() + 1);
+        task.setLastError(truncate(String.valueOf(e)));
+
+        if (task.getAttempts() >= this.maxAttempts) {
+            task.setStatus(ImageTaskStatusEnum.FAILED);
+
+            // Keep showing the original image URL, but mark it so it can be found and fixed
+            if (task.getOperation() == ImageTaskOperationEnum.UPLOAD
+                    && this.productRepository.updateImage(task.getProductId(), task.getImageUrl(), ProductImageStatusEnum.FAILED) > 0) {
+                this.eventPublisher.publishEvent(new ProductChangedEvent(task.getProductType(), task.getProductId()));
+            }
+        } else {
+            task.setStatus(ImageTaskStatusEnum.PENDING);
+            task.setClaimId(null);
+            task.setClaimedAt(null);
+            // retry-delay, then twice as long, four times as long...
+            task.setNextAttemptAt(LocalDateTime.now().plus(this.retryDelay.multipliedBy(1L << (task.getAttempts() - 1))));
+        }
+
+        this.productImageTaskRepository.save(task);
+    }
+
+    private String truncate(String text) {
+        return text.length() > LAST_ERROR_MAX_LENGTH ? text.substring(0, LAST_ERROR_MAX_LENGTH) : text;
+    }
+}
@@ -3,31 +3,47 @@ package com.project.EpicByte.service.impl.productServices;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
 import com.project.EpicByte.service.ProductImagesService;
-import io.github.cdimascio.dotenv.Dotenv;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
 // CLOUDINARY
 @Service
+@ConditionalOnProperty(name = "images.storage", havingValue = "cloudinary", matchIfMissing = true)
 public class ProductImagesServiceImpl implements ProductImagesService {
     private final Cloudinary cloudinary;
+    private final int connectTimeout;
+    private final int socketTimeout;
 
-    public ProductImagesServiceImpl() {
-        Dotenv dotenv = Dotenv.load();
-        this.cloudinary = new Cloudinary(dotenv.get("CLOUDINARY_URL"));
-        this.cloudinary.config.secure = true;
+    @Autowired
+    public ProductImagesServiceImpl(Cloudinary cloudinary,
+                                    @Value("${cloudinary.http.connect-timeout}") Duration connectTimeout,
+                                    @Value("${cloudinary.http.socket-timeout}") Duration socketTimeout) {
+        this.cloudinary = cloudinary;
+        this.connectTimeout = (int) connectTimeout.toMillis();
+        this.socketTimeout = (int) socketTimeout.toMillis();
     }
 
     @Override
     public String getImageURL(String imageURL) {
+        // The uploader reads anything that is not a remote URL as a file of this machine
+        if (!imageURL.startsWith("http://") && !imageURL.startsWith("https://")) {
+            throw new IllegalArgumentException("Image URL must be an http(s) URL: " + imageURL);
+        }
+
         try {
             Map params1 = ObjectUtils.asMap(
                     "use_filename", true,
                     "unique_filename", false,
-                    "overwrite", true
+                    "overwrite", true,
+                    "connect_timeout", connectTimeout,
+                    "timeout", socketTimeout
             );
 
             return cloudinary.uploader().upload(imageURL, params1).get("url").toString();
@@ -42,7 +58,9 @@ public class ProductImagesServiceImpl implements ProductImagesService {
             Map params1 = ObjectUtils.asMap(
                     "use_filename", true,
                     "unique_filename", false,
-                    "overwrite", true
+                    "overwrite", true,
+                    "connect_timeout", connectTimeout,
+                    "timeout", socketTimeout
             );
 
             cloudinary.uploader().destroy(getPublicID(imageURL), params1);
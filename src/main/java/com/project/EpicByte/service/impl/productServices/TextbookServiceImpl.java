@@ -1,23 +1,27 @@
 package com.project.EpicByte.service.impl.productServices;
 
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.mapper.ProductMapper;
+import com.project.EpicByte.model.dto.ProductPageDTO;
 import com.project.EpicByte.model.dto.productDTOs.TextbookAddDTO;
-import com.project.EpicByte.model.entity.enums.LanguageEnum;
+import com.project.EpicByte.model.entity.enums.ProductImageStatusEnum;
 import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
-import com.project.EpicByte.model.entity.productEntities.CartItem;
 import com.project.EpicByte.model.entity.productEntities.Textbook;
 import com.project.EpicByte.model.entity.productEntities.Toy;
 import com.project.EpicByte.repository.CartRepository;
 import com.project.EpicByte.repository.productRepositories.TextbookRepository;
-import com.project.EpicByte.service.ProductImagesService;
+import com.project.EpicByte.service.ProductImagePipelineService;
+import com.project.EpicByte.service.ProductCatalogService;
+import com.project.EpicByte.service.ProductFacetService;
 import com.project.EpicByte.service.productServices.TextbookService;
 import com.project.EpicByte.util.Breadcrumbs;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 import org.w3c.dom.Text;
 
@@ -30,21 +34,30 @@ import static com.project.EpicByte.util.Constants.*;
 public class TextbookServiceImpl extends Breadcrumbs implements TextbookService {
     private final TextbookRepository textbookRepository;
     private final CartRepository cartRepository;
-    private final ModelMapper modelMapper;
+    private final ProductMapper productMapper;
     private final MessageSource messageSource;
-    private final ProductImagesService productImagesService;
+    private final ProductImagePipelineService productImagePipelineService;
+    private final ProductCatalogService productCatalogService;
+    private final ProductFacetService productFacetService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public TextbookServiceImpl(TextbookRepository textbookRepository,
                                CartRepository cartRepository,
-                               ModelMapper modelMapper,
+                               ProductMapper productMapper,
                                MessageSource messageSource,
-                               ProductImagesService productImagesService) {
+                               ProductImagePipelineService productImagePipelineService,
+                               ProductCatalogService productCatalogService,
+                               ProductFacetService productFacetService,
+                               ApplicationEventPublisher eventPublisher) {
         this.textbookRepository = textbookRepository;
         this.cartRepository = cartRepository;
-        this.modelMapper = modelMapper;
+        this.productMapper = productMapper;
         this.messageSource = messageSource;
-        this.productImagesService = productImagesService;
+        this.productImagePipelineService = productImagePipelineService;
+        this.productCatalogService = productCatalogService;
+        this.productFacetService = productFacetService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -53,7 +66,7 @@ public class TextbookServiceImpl extends Breadcrumbs implements TextbookService
         model.addAttribute("productType", getLocalizedText("textbook.text"));
         model.addAttribute("product", new TextbookAddDTO());
         model.addAttribute("fieldsMap", getFieldNames("textbook", false));
-        model.addAttribute("enumsList", LanguageEnum.values());
+        model.addAttribute("enumsList", getEnumOptions(ProductTypeEnum.TEXTBOOK));
         return PRODUCT_ADD_HTML;
     }
 
@@ -64,7 +77,7 @@ public class TextbookServiceImpl extends Breadcrumbs implements TextbookService
 
         if (bindingResult.hasErrors()) {
             model.addAttribute("fieldsMap", getFieldNames("textbook", false));
-            model.addAttribute("enumsList", LanguageEnum.values());
+            model.addAttribute("enumsList", getEnumOptions(ProductTypeEnum.TEXTBOOK));
             return PRODUCT_ADD_HTML;
         }
 
@@ -76,41 +89,32 @@ public class TextbookServiceImpl extends Breadcrumbs implements TextbookService
     }
 
     @Override
-    public String displayAllTextbooksPage(Model model, String sort) {
+    public String displayAllTextbooksPage(Model model, String sort, String after, MultiValueMap<String, String> filters) {
         addProductBreadcrumb(model, ALL_TEXTBOOKS_URL, "Textbooks");
         model.addAttribute("productType", getLocalizedText("textbooks.text"));
         model.addAttribute("productLinkType", "textbook");
         model.addAttribute("linkType", "textbooks");
 
-        List<Textbook> textbookList;
-
-        if (sort == null) {
-            textbookList = getAllSortedByIsNewProduct();
-        } else if (sort.equals("lowest")) {
-            textbookList = getAllSortedByLowestPrice();
-        } else if (sort.equals("highest")) {
-            textbookList = getAllSortedByHighestPrice();
-        } else if (sort.equals("alphabetical")) {
-            textbookList = getAllSortedAlphabetically();
-        } else {
-            textbookList = getAllSortedByIsNewProduct();
-        }
-
-        model.addAttribute("selectedSortingOption", Objects.requireNonNullElse(sort, "default"));
+        ProductPageDTO productPage = this.productFacetService.getPage(ProductTypeEnum.TEXTBOOK, filters, sort, after, null);
 
-        model.addAttribute("productList", textbookList);
+        model.addAttribute("selectedSortingOption", productPage.getSort());
+        model.addAttribute("productList", productPage.getContent());
+        model.addAttribute("isFirstPage", productPage.isFirst());
+        model.addAttribute("nextCursor", productPage.getNextCursor());
+        model.addAttribute("facets", this.productFacetService.getFacets(ProductTypeEnum.TEXTBOOK, filters));
+        model.addAttribute("pageUrl", this.productFacetService.getPageUrl(ALL_TEXTBOOKS_URL, ProductTypeEnum.TEXTBOOK, filters));
 
         return PRODUCTS_ALL_HTML;
     }
 
     @Override
     public String displayDetailedViewTextbookPage(UUID id, Model model) {
-        Textbook textbook = textbookRepository.findTextbookById(id);
+        Textbook textbook = this.productCatalogService.getProduct(id, Textbook.class);
         if (textbook == null) return returnErrorPage(model);
 
         addProductBreadcrumb(model, ALL_TEXTBOOKS_URL, "Textbooks", textbook.getProductName());
         model.addAttribute("product", textbook);
-        model.addAttribute("productDetails", getDetailFields(textbook));
+        model.addAttribute("productDetails", getDetailFields(ProductTypeEnum.TEXTBOOK));
         model.addAttribute("linkType", "textbooks");
 
 
@@ -127,15 +131,16 @@ public class TextbookServiceImpl extends Breadcrumbs implements TextbookService
     private void deleteTextbookFromDatabase(UUID id) {
         Textbook textbook = textbookRepository.findTextbookById(id);
 
-        // Remove the image from Cloudinary
-        this.productImagesService.removeImageURL(textbook.getProductImageUrl());
+        // Queue the image removal from Cloudinary
+        this.productImagePipelineService.enqueueRemoval(textbook);
+
+        // Remove the product from all user carts
+        this.cartRepository.deleteAllByProductId(id);
 
         // Remove the image from the repository
         this.textbookRepository.delete(textbook);
 
-        // Remove the product from all user carts
-        List<CartItem> cartItemList = this.cartRepository.findAllByProductId(id);
-        this.cartRepository.deleteAll(cartItemList);
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.TEXTBOOK, id));
     }
 
     private String returnErrorPage(Model model) {
@@ -144,53 +149,24 @@ public class TextbookServiceImpl extends Breadcrumbs implements TextbookService
         return ERROR_PAGE_HTML;
     }
 
-    private Map<String, String> getDetailFields(Textbook textbook) {
-        LinkedHashMap<String , String> fieldsMap = new LinkedHashMap<>();
-
-        fieldsMap.put(getLocalizedText("authorName.text"), textbook.getAuthorName());
-        fieldsMap.put(getLocalizedText("publisher.text"), textbook.getPublisher());
-        fieldsMap.put(getLocalizedText("publicationDate.text"), textbook.getPublicationDate().toString());
-        fieldsMap.put(getLocalizedText("language.text"), textbook.getLanguage().toString());
-        fieldsMap.put(getLocalizedText("printLength.text"), textbook.getPrintLength().toString() + " pages");
-        fieldsMap.put(getLocalizedText("dimensions.text"), textbook.getDimensions());
-
-        return fieldsMap;
-    }
 
     private String getLocalizedText(String text) {
         Locale locale = LocaleContextHolder.getLocale();
         return messageSource.getMessage(text, null, locale);
     }
 
-    private List<Textbook> getAllSortedByIsNewProduct() {
-        return textbookRepository.findAll(Sort.by(Sort.Direction.DESC,"isNewProduct"));
-    }
-
-    private List<Textbook> getAllSortedByLowestPrice() {
-        return textbookRepository.findAll(Sort.by(Sort.Direction.ASC,"productPrice"));
-    }
-
-    private List<Textbook> getAllSortedByHighestPrice() {
-        return textbookRepository.findAll(Sort.by(Sort.Direction.DESC,"productPrice"));
-    }
-
-    private List<Textbook> getAllSortedAlphabetically() {
-        return textbookRepository.findAll(Sort.by(Sort.Direction.ASC,"productName"));
-    }
-
     private void addTextbookToDatabase(TextbookAddDTO textbookAddDTO) {
-        Textbook textbook = modelMapper.map(textbookAddDTO, Textbook.class);
+        Textbook textbook = this.productMapper.toTextbook(textbookAddDTO);
 
-        // CLOUDINARY
-        textbook.setProductImageUrl(
-                this.productImagesService
-                        .getImageURL(
-                                textbookAddDTO.getProductImageUrl()));
+        // CLOUDINARY: saved with the original image URL, the upload runs in the background
+        textbook.setImageStatus(ProductImageStatusEnum.PENDING);
         textbook.setProductType(ProductTypeEnum.TEXTBOOK);
         textbook.setDateCreated(LocalDate.now());
         textbook.setNewProduct(true);
 
         textbookRepository.saveAndFlush(textbook);
+        this.productImagePipelineService.enqueueUpload(textbook);
 
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.TEXTBOOK, textbook.getId()));
     }
 }
@@ -1,21 +1,26 @@
 package com.project.EpicByte.service.impl.productServices;
 
+import com.project.EpicByte.event.ProductChangedEvent;
+import com.project.EpicByte.mapper.ProductMapper;
+import com.project.EpicByte.model.dto.ProductPageDTO;
 import com.project.EpicByte.model.dto.productDTOs.ToyAddDTO;
+import com.project.EpicByte.model.entity.enums.ProductImageStatusEnum;
 import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
-import com.project.EpicByte.model.entity.productEntities.CartItem;
 import com.project.EpicByte.model.entity.productEntities.Toy;
 import com.project.EpicByte.repository.CartRepository;
 import com.project.EpicByte.repository.productRepositories.ToyRepository;
-import com.project.EpicByte.service.ProductImagesService;
+import com.project.EpicByte.service.ProductImagePipelineService;
+import com.project.EpicByte.service.ProductCatalogService;
+import com.project.EpicByte.service.ProductFacetService;
 import com.project.EpicByte.service.productServices.ToyService;
 import com.project.EpicByte.util.Breadcrumbs;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 
 import java.time.LocalDate;
@@ -27,21 +32,30 @@ import static com.project.EpicByte.util.Constants.*;
 public class ToyServiceImpl extends Breadcrumbs implements ToyService {
     private final ToyRepository toyRepository;
     private final CartRepository cartRepository;
-    private final ModelMapper modelMapper;
+    private final ProductMapper productMapper;
     private final MessageSource messageSource;
-    private final ProductImagesService productImagesService;
+    private final ProductImagePipelineService productImagePipelineService;
+    private final ProductCatalogService productCatalogService;
+    private final ProductFacetService productFacetService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public ToyServiceImpl(ToyRepository toyRepository,
                           CartRepository cartRepository,
-                          ModelMapper modelMapper,
+                          ProductMapper productMapper,
                           MessageSource messageSource,
-                          ProductImagesService productImagesService) {
+                          ProductImagePipelineService productImagePipelineService,
+                          ProductCatalogService productCatalogService,
+                          ProductFacetService productFacetService,
+                          ApplicationEventPublisher eventPublisher) {
         this.toyRepository = toyRepository;
         this.cartRepository = cartRepository;
-        this.modelMapper = modelMapper;
+        this.productMapper = productMapper;
         this.messageSource = messageSource;
-        this.productImagesService = productImagesService;
+        this.productImagePipelineService = productImagePipelineService;
+        this.productCatalogService = productCatalogService;
+        this.productFacetService = productFacetService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -71,41 +85,32 @@ public class ToyServiceImpl extends Breadcrumbs implements ToyService {
     }
 
     @Override
-    public String displayAllToysPage(Model model, String sort) {
+    public String displayAllToysPage(Model model, String sort, String after, MultiValueMap<String, String> filters) {
         addProductBreadcrumb(model, ALL_TOYS_URL, "Toys");
         model.addAttribute("productType", getLocalizedText("toys.text"));
         model.addAttribute("productLinkType", "toy");
         model.addAttribute("linkType", "toys");
 
-        List<Toy> toyList;
-
-        if (sort == null) {
-            toyList = getAllSortedByIsNewProduct();
-        } else if (sort.equals("lowest")) {
-            toyList = getAllSortedByLowestPrice();
-        } else if (sort.equals("highest")) {
-            toyList = getAllSortedByHighestPrice();
-        } else if (sort.equals("alphabetical")) {
-            toyList = getAllSortedAlphabetically();
-        } else {
-            toyList = getAllSortedByIsNewProduct();
-        }
-
-        model.addAttribute("selectedSortingOption", Objects.requireNonNullElse(sort, "default"));
+        ProductPageDTO productPage = this.productFacetService.getPage(ProductTypeEnum.TOY, filters, sort, after, null);
 
-        model.addAttribute("productList", toyList);
+        model.addAttribute("selectedSortingOption", productPage.getSort());
+        model.addAttribute("productList", productPage.getContent());
+        model.addAttribute("isFirstPage", productPage.isFirst());
+        model.addAttribute("nextCursor", productPage.getNextCursor());
+        model.addAttribute("facets", this.productFacetService.getFacets(ProductTypeEnum.TOY, filters));
+        model.addAttribute("pageUrl", this.productFacetService.getPageUrl(ALL_TOYS_URL, ProductTypeEnum.TOY, filters));
 
         return PRODUCTS_ALL_HTML;
     }
 
     @Override
     public String displayDetailedViewToyPage(UUID id, Model model) {
-        Toy toy = toyRepository.findToyById(id);
+        Toy toy = this.productCatalogService.getProduct(id, Toy.class);
         if (toy == null) return returnErrorPage(model);
 
         addProductBreadcrumb(model, ALL_TOYS_URL, "Toys", toy.getProductName());
         model.addAttribute("product", toy);
-        model.addAttribute("productDetails", getDetailFields(toy)); //TODO: all details
+        model.addAttribute("productDetails", getDetailFields(ProductTypeEnum.TOY)); //TODO: all details
         model.addAttribute("linkType", "toys");
 
         return PRODUCT_DETAILS_HTML;
@@ -120,15 +125,16 @@ public class ToyServiceImpl extends Breadcrumbs implements ToyService {
     private void deleteToyFromDatabase(UUID id) {
         Toy toy = toyRepository.findToyById(id);
 
-        // Remove the image from Cloudinary
-        this.productImagesService.removeImageURL(toy.getProductImageUrl());
+        // Queue the image removal from Cloudinary
+        this.productImagePipelineService.enqueueRemoval(toy);
+
+        // Remove the product from all user carts
+        this.cartRepository.deleteAllByProductId(id);
 
         // Remove the image from the repository
         this.toyRepository.delete(toy);
 
-        // Remove the product from all user carts
-        List<CartItem> cartItemList = this.cartRepository.findAllByProductId(id);
-        this.cartRepository.deleteAll(cartItemList);
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.TOY, id));
     }
 
     // Support methods
@@ -140,48 +146,24 @@ public class ToyServiceImpl extends Breadcrumbs implements ToyService {
         return ERROR_PAGE_HTML;
     }
 
-    private Map<String, String> getDetailFields(Toy toy) {
-        LinkedHashMap<String , String> fieldsMap = new LinkedHashMap<>();
-
-        fieldsMap.put(getLocalizedText("brand.text"), toy.getBrand());
-
-        return fieldsMap;
-    }
-
     private void addToyToDatabase(ToyAddDTO toyAddDTO) {
-        Toy toy = modelMapper.map(toyAddDTO, Toy.class);
+        Toy toy = this.productMapper.toToy(toyAddDTO);
 
-        // CLOUDINARY
-        toy.setProductImageUrl(
-                this.productImagesService
-                        .getImageURL(
-                                toyAddDTO.getProductImageUrl()));
+        // CLOUDINARY: saved with the original image URL, the upload runs in the background
+        toy.setImageStatus(ProductImageStatusEnum.PENDING);
 
         toy.setProductType(ProductTypeEnum.TEXTBOOK);
         toy.setDateCreated(LocalDate.now());
         toy.setProductType(ProductTypeEnum.TOY);
 
         toyRepository.saveAndFlush(toy);
+        this.productImagePipelineService.enqueueUpload(toy);
+
+        this.eventPublisher.publishEvent(new ProductChangedEvent(ProductTypeEnum.TOY, toy.getId()));
     }
 
     private String getLocalizedText(String text) {
         Locale locale = LocaleContextHolder.getLocale();
         return messageSource.getMessage(text, null, locale);
     }
-
-    private List<Toy> getAllSortedByIsNewProduct() {
-        return toyRepository.findAll(Sort.by(Sort.Direction.DESC,"isNewProduct"));
-    }
-
-    private List<Toy> getAllSortedByLowestPrice() {
-        return toyRepository.findAll(Sort.by(Sort.Direction.ASC,"productPrice"));
-    }
-
-    private List<Toy> getAllSortedByHighestPrice() {
-        return toyRepository.findAll(Sort.by(Sort.Direction.DESC,"productPrice"));
-    }
-
-    private List<Toy> getAllSortedAlphabetically() {
-        return toyRepository.findAll(Sort.by(Sort.Direction.ASC,"productName"));
-    }
 }
@@ -2,6 +2,7 @@ package com.project.EpicByte.service.productServices;
 
 import com.project.EpicByte.model.dto.productDTOs.BookAddDTO;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 
 import java.util.UUID;
@@ -9,7 +10,7 @@ import java.util.UUID;
 public interface BookService {
     String displayProductAddBookPage(Model model);
     String handleProductAddBook(BookAddDTO bookAddDTO, BindingResult bindingResult, Model model);
-    String displayAllBooksPage(Model model, String string);
+    String displayAllBooksPage(Model model, String sort, String after, MultiValueMap<String, String> filters);
     String displayDetailedViewBookPage(UUID id, Model model);
     String deleteBook(UUID id);
 }
@@ -2,6 +2,7 @@ package com.project.EpicByte.service.productServices;
 
 import com.project.EpicByte.model.dto.productDTOs.MovieAddDTO;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 
 import java.util.UUID;
@@ -9,7 +10,7 @@ import java.util.UUID;
 public interface MovieService {
     String displayProductAddMoviePage(Model model);
     String handleProductAddMovie(MovieAddDTO movieAddDTO, BindingResult bindingResult, Model model);
-    String displayAllMoviesPage(Model model, String string);
+    String displayAllMoviesPage(Model model, String sort, String after, MultiValueMap<String, String> filters);
     String displayDetailedViewMoviePage(UUID id, Model model);
     String deleteMovie(UUID id);
 }
@@ -2,6 +2,7 @@ package com.project.EpicByte.service.productServices;
 
 import com.project.EpicByte.model.dto.productDTOs.MusicAddDTO;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 
 import java.util.UUID;
@@ -9,7 +10,7 @@ import java.util.UUID;
 public interface MusicService {
     String displayProductAddMusicPage(Model model);
     String handleProductAddMusic(MusicAddDTO musicAddDTO, BindingResult bindingResult, Model model);
-    String displayAllMusicPage(Model model, String string);
+    String displayAllMusicPage(Model model, String sort, String after, MultiValueMap<String, String> filters);
     String displayDetailedViewMusicPage(UUID id, Model model);
     String deleteMusic(UUID id);
 }
@@ -2,6 +2,7 @@ package com.project.EpicByte.service.productServices;
 
 import com.project.EpicByte.model.dto.productDTOs.TextbookAddDTO;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 
 import java.util.UUID;
@@ -9,7 +10,7 @@ import java.util.UUID;
 public interface TextbookService {
     String displayProductAddTextbookPage(Model model);
     String handleProductAddTextbook(TextbookAddDTO textbookAddDTO, BindingResult bindingResult, Model model);
-    String displayAllTextbooksPage(Model model, String string);
+    String displayAllTextbooksPage(Model model, String sort, String after, MultiValueMap<String, String> filters);
     String displayDetailedViewTextbookPage(UUID id, Model model);
     String deleteTextbook(UUID id);
 }
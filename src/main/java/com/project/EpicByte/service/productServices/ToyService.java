@@ -2,6 +2,7 @@ package com.project.EpicByte.service.productServices;
 
 import com.project.EpicByte.model.dto.productDTOs.ToyAddDTO;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 
 import java.util.UUID;
@@ -9,7 +10,7 @@ import java.util.UUID;
 public interface ToyService {
     String displayProductAddToyPage(Model model);
     String handleProductAddToy(ToyAddDTO toyAddDTO, BindingResult bindingResult, Model model);
-    String displayAllToysPage(Model model, String string);
+    String displayAllToysPage(Model model, String sort, String after, MultiValueMap<String, String> filters);
     String displayDetailedViewToyPage(UUID id, Model model);
     String deleteToy(UUID id);
 }
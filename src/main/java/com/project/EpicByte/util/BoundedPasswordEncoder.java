@@ -0,0 +1,111 @@
+package com.project.EpicByte.util;
+
+import com.project.EpicByte.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the hashing of the wrapped encoder on its own fixed pool with a bounded queue, so a burst of logins or
+ * registrations waits for (or is turned away by) a few hashing threads instead of occupying every request thread.
+ * A call that finds the queue full, or waits longer than the timeout, fails with PasswordHashingBusyException.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor hashingWorkers;
+    private final Duration timeout;
+    private final Counter rejectedCounter;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int workers, int queueCapacity, Duration timeout,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.hashingWorkers = executor;
+
+        // executor.* meters (active threads, queued tasks, completed tasks) tagged name=passwordHashing
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing");
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Password hashing requests turned away because the hashing workers were saturated")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hashing")
+                .description("Time from submitting a password hashing request until its result, queueing included")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing")
+                .description("Time from submitting a password hashing request until its result, queueing included")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> this.delegate.encode(rawPassword), this.encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> this.delegate.matches(rawPassword, encodedPassword), this.matchesTimer);
+    }
+
+    // Only reads the stored hash. An upgrade costs an extra encode, so it is postponed while the workers are saturated.
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return this.delegate.upgradeEncoding(encodedPassword)
+                && this.hashingWorkers.getQueue().remainingCapacity() > 0;
+    }
+
+    @Override
+    public void destroy() {
+        this.hashingWorkers.shutdown();
+    }
+
+    private <T> T run(Callable<T> hashing, Timer timer) {
+        long start = System.nanoTime();
+        Future<T> result;
+
+        try {
+            result = this.hashingWorkers.submit(hashing);
+        } catch (RejectedExecutionException e) {
+            this.rejectedCounter.increment();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return result.get(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            this.rejectedCounter.increment();
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Interrupted while waiting for the password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
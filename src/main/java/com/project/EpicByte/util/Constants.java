@@ -35,6 +35,7 @@ public class Constants {
     public static final String ALL_MOVIES_URL = "/movies";
     public static final String ALL_TOYS_URL = "/toys";
     public static final String PRODUCT_DETAILS_URL = "/details";
+    public static final String SEARCH_URL = "/search";
 
     public static final String MODERATOR_PRODUCT_ADD_BOOK_URL = "/moderator/product/add/book";
     public static final String MODERATOR_PRODUCT_ADD_TEXTBOOK_URL = "/moderator/product/add/textbook";
@@ -42,6 +43,7 @@ public class Constants {
     public static final String MODERATOR_PRODUCT_ADD_MUSIC_URL = "/moderator/product/add/music";
     public static final String MODERATOR_PRODUCT_ADD_TOY_URL = "/moderator/product/add/toy";
     public static final String MODERATOR_ORDERS_URL = "/moderator/orders";
+    public static final String MODERATOR_ORDERS_EXPORT_URL = "/moderator/orders/export";
     public static final String MODERATOR_ORDER_COMPLETE_URL = "/moderator/order/complete/";
 
     public static final String MODERATOR_BOOKS_UPDATE_URL = "/moderator/books/update/{id}";
@@ -65,6 +67,14 @@ public class Constants {
     public static final String USERS_CART_CHECKOUT_CONFIRM_URL = "/user/cart/checkout/confirm";
     public static final String ORDER_DETAILS_URL = "/order/details/";
 
+    public static final int PRODUCTS_PAGE_SIZE = 24;
+    public static final int PRODUCTS_MAX_PAGE_SIZE = 100;
+    public static final int ORDERS_PAGE_SIZE = 20;
+    public static final int USERS_PAGE_SIZE = 20;
+    public static final int USERS_MAX_PAGE_SIZE = 100;
+    public static final int SUGGESTIONS_SIZE = 8;
+    public static final int SUGGESTIONS_MAX_SIZE = 20;
+
     public static final String USERNAME_FIELD = "username";
     public static final String PASSWORD_FIELD = "password";
     public static final String REMEMBER_ME_FIELD = "remember-me";
@@ -1,25 +1,14 @@
 package com.project.EpicByte.util;
 
-import com.project.EpicByte.model.entity.BaseProduct;
-import com.project.EpicByte.model.entity.enums.LanguageEnum;
-import com.project.EpicByte.model.entity.enums.MovieCarrierEnum;
-import com.project.EpicByte.model.entity.enums.MusicCarrierEnum;
 import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
-import com.project.EpicByte.model.entity.productEntities.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.MessageSource;
-import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.i18n.LocaleContextHolder;
 
-import java.lang.reflect.Field;
-import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 /**
  * A utility class that extracts several values for each of the products in the store, to help utilize a single html
@@ -34,6 +23,8 @@ import java.util.Locale;
  *  3. "fieldType", is the type of field we have - String, Integer, LocalDate, etc. to determine how what type of
  *      field we would need in Thymeleaf. For example - fieldType: String, would need <input type="text">,
  *      fieldType: LocalDate, would need <input type="date">, and so on.
+
+ *  The values are computed once per product type and locale by {@link ProductMetadataRegistry}.
  */
 
 @Getter @Setter @NoArgsConstructor
@@ -47,63 +38,23 @@ public class FieldNamesGenerator {
     }
 
     @Autowired
-    private MessageSource messageSource;
-    private LocaleContextHolder localeContextHolder;
+    private ProductMetadataRegistry productMetadataRegistry;
 
+    // The type is the lower-case link type of the product, e.g. "book"
     protected List<FieldEntity> getFieldNames(String type, boolean isSimple) {
-        List<FieldEntity> fields = new ArrayList<>();
-        Locale locale = LocaleContextHolder.getLocale();
-
-        if (!isSimple) {
-            for (Field field : BaseProduct.class.getDeclaredFields()) {
-                if (field.getType() == ProductTypeEnum.class || field.getType() == LocalDate.class) {
-                    continue;
-                }
-
-                fields.add(new FieldEntity(
-                        field.getName(),
-                        getPrettyName(field.getName(), locale),
-                        field.getType().getSimpleName()
-                ));
-            }
-        }
-
-        Field[] fieldArray = switch (type) {
-            case "book" -> Book.class.getDeclaredFields();
-            case "textbook" -> Textbook.class.getDeclaredFields();
-            case "music" -> Music.class.getDeclaredFields();
-            case "movie" -> Movie.class.getDeclaredFields();
-            case "toy" -> Toy.class.getDeclaredFields();
-            default -> null;
-        };
-
-        assert fieldArray != null;
-        for (Field field : fieldArray) {
-            String fieldType;
-
-            if (field.getType() == ProductTypeEnum.class || field.getType() == LanguageEnum.class ||
-            field.getType() == MovieCarrierEnum.class || field.getType() == MusicCarrierEnum.class) {
-                fieldType = "Enum";
-            } else {
-                fieldType = field.getType().getSimpleName();
-            }
-
-            fields.add(new FieldEntity(
-                    field.getName(),
-                    getPrettyName(field.getName(), locale),
-                    fieldType));
-        }
+        return getProductFormMetadata(ProductTypeEnum.valueOf(type.toUpperCase()))
+                .getFormFields(isSimple);
+    }
 
-        return fields;
+    protected List<ProductDetailField> getDetailFields(ProductTypeEnum productType) {
+        return getProductFormMetadata(productType).getDetailFields();
     }
 
-    private String getPrettyName(String variableName, Locale locale) {
-        String name = variableName + ".text";
-        try {
-            return messageSource.getMessage(name, null, locale);
-        } catch (NoSuchMessageException e) {
-            return "Unresolved key: " + name;
-        }
+    protected List<String> getEnumOptions(ProductTypeEnum productType) {
+        return getProductFormMetadata(productType).getEnumOptions();
     }
 
+    private ProductFormMetadata getProductFormMetadata(ProductTypeEnum productType) {
+        return this.productMetadataRegistry.get(productType, LocaleContextHolder.getLocale());
+    }
 }
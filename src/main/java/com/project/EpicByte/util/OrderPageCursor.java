@@ -0,0 +1,57 @@
+package com.project.EpicByte.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last order on an order queue page, passed back by the client as an opaque "after" token.
+ * The queue is ordered by order date, then id, so those two values are all the next keyset query needs.
+ */
+public class OrderPageCursor {
+    private static final String SEPARATOR = "~";
+
+    private final LocalDate orderDate;
+    private final UUID lastId;
+
+    private OrderPageCursor(LocalDate orderDate, UUID lastId) {
+        this.orderDate = orderDate;
+        this.lastId = lastId;
+    }
+
+    public LocalDate getOrderDate() {
+        return orderDate;
+    }
+
+    public UUID getLastId() {
+        return lastId;
+    }
+
+    public static String encode(LocalDate orderDate, UUID lastId) {
+        String token = lastId + SEPARATOR + orderDate;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns null for a missing or malformed token, which simply means "start from the first page"
+    public static OrderPageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                return null;
+            }
+
+            UUID lastId = UUID.fromString(decoded.substring(0, separatorIndex));
+            LocalDate orderDate = LocalDate.parse(decoded.substring(separatorIndex + 1));
+            return new OrderPageCursor(orderDate, lastId);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+}
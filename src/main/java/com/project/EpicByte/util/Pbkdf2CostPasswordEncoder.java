@@ -0,0 +1,70 @@
+package com.project.EpicByte.util;
+
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PBKDF2 (HMAC-SHA256, 16 byte salt, as in Spring Security 5.8) whose iteration count is part of the hash id,
+ * e.g. "{pbkdf2@310000}...". A PBKDF2 hash doesn't record its own cost, so the id is what lets a DelegatingPasswordEncoder
+ * notice hashes made with a different iteration count and upgrade them on the next successful login.
+ * Hashes stored before the id was introduced carry no prefix and are checked with the Spring Security 5.8 defaults.
+ */
+public class Pbkdf2CostPasswordEncoder implements PasswordEncoder {
+    private static final String ID_PREFIX = "pbkdf2@";
+    private static final int SALT_LENGTH = 16;
+
+    private final int iterations;
+    private final Map<Integer, Pbkdf2PasswordEncoder> encodersByIterations = new ConcurrentHashMap<>();
+
+    public Pbkdf2CostPasswordEncoder(int iterations) {
+        this.iterations = iterations;
+    }
+
+    // Encodes with the configured cost and matches every PBKDF2 hash this class ever produced
+    public static DelegatingPasswordEncoder delegatingPasswordEncoder(int iterations) {
+        Pbkdf2CostPasswordEncoder pbkdf2 = new Pbkdf2CostPasswordEncoder(iterations);
+        String idForEncode = ID_PREFIX + iterations;
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(idForEncode,
+                Map.of(idForEncode, pbkdf2.encoderFor(iterations)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(pbkdf2);
+        return passwordEncoder;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encoderFor(this.iterations).encode(rawPassword);
+    }
+
+    // Used for every hash without the configured id, so it receives the whole "{id}hash" or an unprefixed hash
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith("{")) {
+            return Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8().matches(rawPassword, encodedPassword);
+        }
+
+        int idEnd = encodedPassword.indexOf('}');
+        String id = idEnd < 0 ? "" : encodedPassword.substring(1, idEnd);
+        if (!id.startsWith(ID_PREFIX)) {
+            return false;
+        }
+
+        int hashIterations;
+        try {
+            hashIterations = Integer.parseInt(id.substring(ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+
+        return encoderFor(hashIterations).matches(rawPassword, encodedPassword.substring(idEnd + 1));
+    }
+
+    private Pbkdf2PasswordEncoder encoderFor(int hashIterations) {
+        return this.encodersByIterations.computeIfAbsent(hashIterations, key -> new Pbkdf2PasswordEncoder(
+                "", SALT_LENGTH, key, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.EpicByte.util;
+
+import com.project.EpicByte.model.entity.BaseProduct;
+import lombok.Getter;
+
+import java.util.function.Function;
+
+/**
+ * One row of the product details table: the localized label, resolved once at startup, and how to read the value
+ * from the product that is being displayed.
+ */
+
+@Getter
+public class ProductDetailField {
+    private final String label;
+    private final Function<BaseProduct, String> valueExtractor;
+
+    public ProductDetailField(String label, Function<BaseProduct, String> valueExtractor) {
+        this.label = label;
+        this.valueExtractor = valueExtractor;
+    }
+
+    public String valueOf(BaseProduct product) {
+        return this.valueExtractor.apply(product);
+    }
+}
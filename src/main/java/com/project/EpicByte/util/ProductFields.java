@@ -0,0 +1,50 @@
+package com.project.EpicByte.util;
+
+import com.project.EpicByte.exceptions.UnknownProductFieldException;
+import jakarta.persistence.Tuple;
+
+import java.util.*;
+
+/**
+ * Sparse fieldsets of the product REST endpoints. The requested fields use the JSON property names of the products
+ * ("id,productName,productPrice"), the projection queries select them under the same aliases, so a result row
+ * becomes a JSON object without going through an entity.
+ */
+public final class ProductFields {
+    // Selected by the paged projection queries for the next page cursor, not part of the returned fields
+    public static final String CURSOR_ID_ALIAS = "cursorId";
+    public static final String CURSOR_VALUE_ALIAS = "cursorValue";
+
+    private ProductFields() {
+    }
+
+    // Returns null when no fields were asked for, which means the full products
+    public static List<String> parse(String fields, Set<String> fieldNames) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String fieldName = field.strip();
+            if (fieldName.isEmpty()) {
+                continue;
+            }
+            if (!fieldNames.contains(fieldName)) {
+                throw new UnknownProductFieldException("Unknown product field \"" + fieldName + "\", expected any of " + fieldNames);
+            }
+            selected.add(fieldName);
+        }
+
+        return selected.isEmpty() ? null : List.copyOf(selected);
+    }
+
+    // The fields in the order they were asked for
+    public static Map<String, Object> toMap(Tuple row, List<String> fields) {
+        Map<String, Object> product = new LinkedHashMap<>();
+        for (String field : fields) {
+            product.put(field, row.get(field));
+        }
+        return product;
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.EpicByte.util;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Everything the add-product form and the product details page need to know about one product type in one locale.
+ * All lists are unmodifiable and shared between requests.
+ */
+
+@Getter
+public class ProductFormMetadata {
+    // Shared product fields followed by the type-specific ones
+    private final List<FieldNamesGenerator.FieldEntity> formFields;
+
+    // Type-specific fields only
+    private final List<FieldNamesGenerator.FieldEntity> simpleFormFields;
+
+    private final List<ProductDetailField> detailFields;
+
+    // Option values of the type's drop-down field, empty when the type has none
+    private final List<String> enumOptions;
+
+    public ProductFormMetadata(List<FieldNamesGenerator.FieldEntity> formFields,
+                               List<FieldNamesGenerator.FieldEntity> simpleFormFields,
+                               List<ProductDetailField> detailFields,
+                               List<String> enumOptions) {
+        this.formFields = List.copyOf(formFields);
+        this.simpleFormFields = List.copyOf(simpleFormFields);
+        this.detailFields = List.copyOf(detailFields);
+        this.enumOptions = List.copyOf(enumOptions);
+    }
+
+    public List<FieldNamesGenerator.FieldEntity> getFormFields(boolean isSimple) {
+        return isSimple ? this.simpleFormFields : this.formFields;
+    }
+}
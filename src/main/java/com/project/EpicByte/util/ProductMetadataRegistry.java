@@ -0,0 +1,168 @@
+package com.project.EpicByte.util;
+
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.*;
+import com.project.EpicByte.model.entity.productEntities.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Product form and details metadata for every product type and supported locale, built once at startup.
+ * The field descriptors come from the entity classes (see {@link FieldNamesGenerator} for what they hold), the labels
+ * from the message bundles, so neither reflection nor message lookups happen while a page is rendered.
+ * Locales other than the supported ones get the English metadata.
+ */
+
+@Component
+public class ProductMetadataRegistry {
+    private static final List<Locale> SUPPORTED_LOCALES = List.of(Locale.ENGLISH, Locale.forLanguageTag("bg"));
+
+    private final MessageSource messageSource;
+    private final Map<ProductTypeEnum, Map<String, ProductFormMetadata>> metadata = new EnumMap<>(ProductTypeEnum.class);
+
+    @Autowired
+    public ProductMetadataRegistry(MessageSource messageSource) {
+        this.messageSource = messageSource;
+
+        for (ProductTypeEnum productType : ProductTypeEnum.values()) {
+            Map<String, ProductFormMetadata> byLanguage = new HashMap<>();
+
+            for (Locale locale : SUPPORTED_LOCALES) {
+                byLanguage.put(locale.getLanguage(), buildMetadata(productType, locale));
+            }
+
+            this.metadata.put(productType, Map.copyOf(byLanguage));
+        }
+    }
+
+    public ProductFormMetadata get(ProductTypeEnum productType, Locale locale) {
+        Map<String, ProductFormMetadata> byLanguage = this.metadata.get(productType);
+        ProductFormMetadata productFormMetadata = byLanguage.get(locale.getLanguage());
+        return productFormMetadata != null ? productFormMetadata : byLanguage.get(Locale.ENGLISH.getLanguage());
+    }
+
+    // Support methods
+    private ProductFormMetadata buildMetadata(ProductTypeEnum productType, Locale locale) {
+        List<FieldNamesGenerator.FieldEntity> simpleFormFields = getTypeFormFields(productType, locale);
+
+        List<FieldNamesGenerator.FieldEntity> formFields = new ArrayList<>(getBaseFormFields(locale));
+        formFields.addAll(simpleFormFields);
+
+        return new ProductFormMetadata(formFields, simpleFormFields,
+                getDetailFields(productType, locale), getEnumOptions(productType));
+    }
+
+    // The shared product fields, without the ones the store fills in itself
+    private List<FieldNamesGenerator.FieldEntity> getBaseFormFields(Locale locale) {
+        List<FieldNamesGenerator.FieldEntity> fields = new ArrayList<>();
+
+        for (Field field : BaseProduct.class.getDeclaredFields()) {
+            if (field.getType() == ProductTypeEnum.class || field.getType() == LocalDate.class ||
+                    field.getType() == ProductImageStatusEnum.class) {
+                continue;
+            }
+
+            fields.add(new FieldNamesGenerator.FieldEntity(
+                    field.getName(),
+                    getPrettyName(field.getName(), locale),
+                    field.getType().getSimpleName()));
+        }
+
+        return fields;
+    }
+
+    private List<FieldNamesGenerator.FieldEntity> getTypeFormFields(ProductTypeEnum productType, Locale locale) {
+        List<FieldNamesGenerator.FieldEntity> fields = new ArrayList<>();
+
+        for (Field field : getProductClass(productType).getDeclaredFields()) {
+            String fieldType = field.getType().isEnum() ? "Enum" : field.getType().getSimpleName();
+
+            fields.add(new FieldNamesGenerator.FieldEntity(
+                    field.getName(),
+                    getPrettyName(field.getName(), locale),
+                    fieldType));
+        }
+
+        return fields;
+    }
+
+    private List<ProductDetailField> getDetailFields(ProductTypeEnum productType, Locale locale) {
+        return switch (productType) {
+            case BOOK -> List.of(
+                    detailField("authorName", locale, Book.class, Book::getAuthorName),
+                    detailField("publisher", locale, Book.class, Book::getPublisher),
+                    detailField("publicationDate", locale, Book.class, book -> toText(book.getPublicationDate())),
+                    detailField("language", locale, Book.class, book -> toText(book.getLanguage())),
+                    detailField("printLength", locale, Book.class, book -> toPages(book.getPrintLength())),
+                    detailField("dimensions", locale, Book.class, Book::getDimensions));
+            case TEXTBOOK -> List.of(
+                    detailField("authorName", locale, Textbook.class, Textbook::getAuthorName),
+                    detailField("publisher", locale, Textbook.class, Textbook::getPublisher),
+                    detailField("publicationDate", locale, Textbook.class, textbook -> toText(textbook.getPublicationDate())),
+                    detailField("language", locale, Textbook.class, textbook -> toText(textbook.getLanguage())),
+                    detailField("printLength", locale, Textbook.class, textbook -> toPages(textbook.getPrintLength())),
+                    detailField("dimensions", locale, Textbook.class, Textbook::getDimensions));
+            case MUSIC -> List.of(
+                    detailField("artistName", locale, Music.class, Music::getArtistName),
+                    detailField("publisher", locale, Music.class, Music::getPublisher),
+                    detailField("publicationDate", locale, Music.class, music -> toText(music.getPublicationDate())),
+                    detailField("carrier", locale, Music.class, music -> toText(music.getCarrier())),
+                    detailField("genre", locale, Music.class, Music::getGenre));
+            case MOVIE -> List.of(
+                    detailField("genre", locale, Movie.class, Movie::getGenre),
+                    detailField("carrier", locale, Movie.class, movie -> toText(movie.getCarrier())));
+            case TOY -> List.of(
+                    detailField("brand", locale, Toy.class, Toy::getBrand));
+        };
+    }
+
+    private List<String> getEnumOptions(ProductTypeEnum productType) {
+        Enum<?>[] options = switch (productType) {
+            case BOOK, TEXTBOOK -> LanguageEnum.values();
+            case MUSIC -> MusicCarrierEnum.values();
+            case MOVIE -> MovieCarrierEnum.values();
+            case TOY -> new Enum<?>[0];
+        };
+
+        return Arrays.stream(options).map(Enum::name).toList();
+    }
+
+    private Class<? extends BaseProduct> getProductClass(ProductTypeEnum productType) {
+        return switch (productType) {
+            case BOOK -> Book.class;
+            case TEXTBOOK -> Textbook.class;
+            case MUSIC -> Music.class;
+            case MOVIE -> Movie.class;
+            case TOY -> Toy.class;
+        };
+    }
+
+    private <T extends BaseProduct> ProductDetailField detailField(String fieldName, Locale locale,
+                                                                   Class<T> productClass, Function<T, String> value) {
+        return new ProductDetailField(getPrettyName(fieldName, locale), product -> value.apply(productClass.cast(product)));
+    }
+
+    private static String toText(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static String toPages(Integer printLength) {
+        return printLength == null ? null : printLength + " pages";
+    }
+
+    private String getPrettyName(String variableName, Locale locale) {
+        String name = variableName + ".text";
+        try {
+            return this.messageSource.getMessage(name, null, locale);
+        } catch (NoSuchMessageException e) {
+            return "Unresolved key: " + name;
+        }
+    }
+}
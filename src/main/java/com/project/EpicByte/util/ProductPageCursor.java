@@ -0,0 +1,79 @@
+package com.project.EpicByte.util;
+
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ProductSortEnum;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last product on a listing page, passed back by the client as an opaque "after" token.
+ * Holds the sort key of that product and its id, which is all the next keyset query needs.
+ */
+public class ProductPageCursor {
+    private static final String SEPARATOR = "~";
+
+    private final Object sortValue;
+    private final UUID lastId;
+
+    private ProductPageCursor(Object sortValue, UUID lastId) {
+        this.sortValue = sortValue;
+        this.lastId = lastId;
+    }
+
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    public UUID getLastId() {
+        return lastId;
+    }
+
+    public static String encode(ProductSortEnum sort, BaseProduct product) {
+        Object sortValue = switch (sort) {
+            case DEFAULT -> product.isNewProduct();
+            case ALPHABETICAL -> product.getProductName();
+            case LOWEST, HIGHEST -> product.getProductPrice();
+        };
+
+        return encode(sortValue, product.getId());
+    }
+
+    // For projections, where the sort key and id are plain selected values
+    public static String encode(Object sortValue, UUID lastId) {
+        String rawValue = sortValue instanceof BigDecimal price ? price.toPlainString() : String.valueOf(sortValue);
+
+        String token = lastId + SEPARATOR + rawValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns null for a missing or malformed token, which simply means "start from the first page"
+    public static ProductPageCursor decode(ProductSortEnum sort, String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                return null;
+            }
+
+            UUID lastId = UUID.fromString(decoded.substring(0, separatorIndex));
+            String rawValue = decoded.substring(separatorIndex + 1);
+
+            Object sortValue = switch (sort) {
+                case DEFAULT -> Boolean.valueOf(rawValue);
+                case ALPHABETICAL -> rawValue;
+                case LOWEST, HIGHEST -> new BigDecimal(rawValue);
+            };
+
+            return new ProductPageCursor(sortValue, lastId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
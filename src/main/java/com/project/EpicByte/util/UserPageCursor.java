@@ -0,0 +1,54 @@
+package com.project.EpicByte.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last user on a page of the privilege console, passed back by the client as an opaque "after" token.
+ * The users are ordered by username, then id, so those two values are all the next keyset query needs.
+ */
+public class UserPageCursor {
+    private static final String SEPARATOR = "~";
+
+    private final String username;
+    private final UUID lastId;
+
+    private UserPageCursor(String username, UUID lastId) {
+        this.username = username;
+        this.lastId = lastId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public UUID getLastId() {
+        return lastId;
+    }
+
+    public static String encode(String username, UUID lastId) {
+        String token = lastId + SEPARATOR + username;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns null for a missing or malformed token, which simply means "start from the first page"
+    public static UserPageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                return null;
+            }
+
+            UUID lastId = UUID.fromString(decoded.substring(0, separatorIndex));
+            return new UserPageCursor(decoded.substring(separatorIndex + 1), lastId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.UUID;
 
@@ -20,8 +21,10 @@ public class AdminController {
     }
 
     @GetMapping(ADMIN_MANAGE_PRIVILEGES_URL)
-    private String displayAdminManagePrivilegesPage(Model model) {
-        return this.adminService.displayAdminManagePrivilegesPage(model);
+    private String displayAdminManagePrivilegesPage(Model model,
+                                                    @RequestParam(value = "q", required = false) String query,
+                                                    @RequestParam(value = "after", required = false) String after) {
+        return this.adminService.displayAdminManagePrivilegesPage(model, query, after);
     }
 
     @PostMapping(ADMIN_GIVE_PRIVILEGES_URL + "{id}")
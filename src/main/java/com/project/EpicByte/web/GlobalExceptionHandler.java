@@ -1,5 +1,8 @@
 package com.project.EpicByte.web;
 
+import com.project.EpicByte.exceptions.PasswordHashingBusyException;
+import com.project.EpicByte.exceptions.UnknownProductFieldException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -16,4 +19,18 @@ public class GlobalExceptionHandler {
         // handle exception here, for instance log it or send notification; return custom message or object
         return ResponseEntity.ok(null);
     }
+
+    // Registration while every password hashing worker is busy, the client can retry shortly
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<String> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    // "?fields=" of the product REST endpoints naming a field the product type does not have
+    @ExceptionHandler(UnknownProductFieldException.class)
+    public ResponseEntity<String> handleUnknownProductField(UnknownProductFieldException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
 }
@@ -1,12 +1,11 @@
 package com.project.EpicByte.web;
 
+import com.project.EpicByte.mapper.UserMapper;
 import com.project.EpicByte.model.dto.SubscriberDTO;
-import com.project.EpicByte.model.entity.Subscriber;
 import com.project.EpicByte.repository.SubscriberRepository;
 import com.project.EpicByte.repository.UserRepository;
 import com.project.EpicByte.util.Breadcrumbs;
 import jakarta.validation.Valid;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
@@ -33,13 +32,13 @@ import static com.project.EpicByte.util.Constants.*;
 public class MiscPageController extends Breadcrumbs {
     private final MessageSource messageSource;
     private final SubscriberRepository subscriberRepository;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
 
     @Autowired
-    public MiscPageController(MessageSource messageSource, SubscriberRepository subscriberRepository, ModelMapper modelMapper) {
+    public MiscPageController(MessageSource messageSource, SubscriberRepository subscriberRepository, UserMapper userMapper) {
         this.messageSource = messageSource;
         this.subscriberRepository = subscriberRepository;
-        this.modelMapper = modelMapper;
+        this.userMapper = userMapper;
     }
 
     @GetMapping("/")
@@ -55,7 +54,7 @@ public class MiscPageController extends Breadcrumbs {
             return INDEX_HTML;
         }
 
-        this.subscriberRepository.save(modelMapper.map(subscriberDTO, Subscriber.class));
+        this.subscriberRepository.save(this.userMapper.toSubscriber(subscriberDTO));
         return "redirect:" + INDEX_URL;
     }
 
@@ -1,38 +1,83 @@
 package com.project.EpicByte.web.RESTControllers;
 
+import com.project.EpicByte.model.dto.ProductImportReportDTO;
 import com.project.EpicByte.model.dto.productDTOs.BookAddDTO;
 import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ExportFormatEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
 import com.project.EpicByte.model.entity.productEntities.Book;
+import com.project.EpicByte.service.ProductImportService;
 import com.project.EpicByte.service.ProductRESTService;
+import com.project.EpicByte.service.ProductStreamService;
+import com.project.EpicByte.service.ProductVersionService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api")
 public class BooksRESTController {
     private final ProductRESTService productRESTService;
+    private final ProductStreamService productStreamService;
+    private final ProductVersionService productVersionService;
+    private final ProductImportService productImportService;
 
     @Autowired
-    public BooksRESTController(ProductRESTService productRESTService) {
+    public BooksRESTController(ProductRESTService productRESTService,
+                               ProductStreamService productStreamService,
+                               ProductVersionService productVersionService,
+                               ProductImportService productImportService) {
         this.productRESTService = productRESTService;
+        this.productStreamService = productStreamService;
+        this.productVersionService = productVersionService;
+        this.productImportService = productImportService;
     }
 
     // ALL BOOKS View
     @GetMapping("/user/books")
-    public ResponseEntity<List<? extends BaseProduct>> getAllBooks() {
-        return ResponseEntity.ok(this.productRESTService.getAll("BOOKS"));
+    public ResponseEntity<?> getAllBooks(@RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "fields", required = false) String fields,
+            WebRequest webRequest) {
+        if (this.productVersionService.checkListingNotModified(webRequest, ProductTypeEnum.BOOK)) {
+            return null;
+        }
+
+        // Only the listed fields, e.g. "fields=id,productName,productPrice", selected by a projection query
+        if (fields != null && !fields.isBlank()) {
+            return ResponseEntity.ok(this.productRESTService.getFieldsPage(ProductTypeEnum.BOOK, sort, after, size, fields));
+        }
+        return ResponseEntity.ok(this.productRESTService.getPage(ProductTypeEnum.BOOK, sort, after, size));
+    }
+
+    // ALL BOOKS export, streamed as a JSON array or as NDJSON ("format=ndjson"), optionally with only some "fields"
+    @GetMapping("/user/books/export")
+    public ResponseEntity<StreamingResponseBody> exportBooks(@RequestParam(name = "format", required = false) String format,
+                                                             @RequestParam(name = "fields", required = false) String fields) {
+        ExportFormatEnum exportFormat = ExportFormatEnum.fromValue(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .body(this.productStreamService.streamProducts(ProductTypeEnum.BOOK, exportFormat, fields));
     }
 
     // SINGLE BOOK View
     @GetMapping("/user/books/{id}")
-    public ResponseEntity<? extends BaseProduct> getBookById(@PathVariable UUID id) {
-        return ResponseEntity.ok(this.productRESTService.getProduct(id, "BOOKS"));
+    public ResponseEntity<? extends BaseProduct> getBookById(@PathVariable UUID id, WebRequest webRequest) {
+        if (this.productVersionService.checkProductNotModified(webRequest, ProductTypeEnum.BOOK, id)) {
+            return null;
+        }
+        return ResponseEntity.ok(this.productRESTService.getProduct(id));
     }
 
     // ADD BOOK
@@ -42,10 +87,17 @@ public class BooksRESTController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedBook);
     }
 
+    // BULK ADD BOOKS, from a CSV file with a header row or from NDJSON, one product per line
+    @PostMapping(value = "/admin/books/bulk", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ProductImportReportDTO> importBooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                              InputStream inputStream) throws IOException {
+        return ResponseEntity.ok(this.productImportService.importProducts(ProductTypeEnum.BOOK, contentType, inputStream));
+    }
+
     // DELETE BOOK
     @DeleteMapping("/admin/books/{id}")
     public ResponseEntity<Book> deleteBook(@PathVariable UUID id) {
-        this.productRESTService.deleteProduct(id, "BOOKS");
+        this.productRESTService.deleteProduct(id);
         return ResponseEntity
                 .noContent()
                 .build();
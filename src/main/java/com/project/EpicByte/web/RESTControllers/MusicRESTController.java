@@ -1,38 +1,83 @@
 package com.project.EpicByte.web.RESTControllers;
 
+import com.project.EpicByte.model.dto.ProductImportReportDTO;
 import com.project.EpicByte.model.dto.productDTOs.MusicAddDTO;
 import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ExportFormatEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
 import com.project.EpicByte.model.entity.productEntities.Music;
+import com.project.EpicByte.service.ProductImportService;
 import com.project.EpicByte.service.ProductRESTService;
+import com.project.EpicByte.service.ProductStreamService;
+import com.project.EpicByte.service.ProductVersionService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api")
 public class MusicRESTController {
     private final ProductRESTService productRESTService;
+    private final ProductStreamService productStreamService;
+    private final ProductVersionService productVersionService;
+    private final ProductImportService productImportService;
 
     @Autowired
-    public MusicRESTController(ProductRESTService productRESTService) {
+    public MusicRESTController(ProductRESTService productRESTService,
+                               ProductStreamService productStreamService,
+                               ProductVersionService productVersionService,
+                               ProductImportService productImportService) {
         this.productRESTService = productRESTService;
+        this.productStreamService = productStreamService;
+        this.productVersionService = productVersionService;
+        this.productImportService = productImportService;
     }
 
     // ALL MUSIC View
     @GetMapping("/user/music")
-    public ResponseEntity<List<? extends BaseProduct>> getAllMusic() {
-        return ResponseEntity.ok(this.productRESTService.getAll("MUSIC"));
+    public ResponseEntity<?> getAllMusic(@RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "fields", required = false) String fields,
+            WebRequest webRequest) {
+        if (this.productVersionService.checkListingNotModified(webRequest, ProductTypeEnum.MUSIC)) {
+            return null;
+        }
+
+        // Only the listed fields, e.g. "fields=id,productName,productPrice", selected by a projection query
+        if (fields != null && !fields.isBlank()) {
+            return ResponseEntity.ok(this.productRESTService.getFieldsPage(ProductTypeEnum.MUSIC, sort, after, size, fields));
+        }
+        return ResponseEntity.ok(this.productRESTService.getPage(ProductTypeEnum.MUSIC, sort, after, size));
+    }
+
+    // ALL MUSIC export, streamed as a JSON array or as NDJSON ("format=ndjson"), optionally with only some "fields"
+    @GetMapping("/user/music/export")
+    public ResponseEntity<StreamingResponseBody> exportMusic(@RequestParam(name = "format", required = false) String format,
+                                                             @RequestParam(name = "fields", required = false) String fields) {
+        ExportFormatEnum exportFormat = ExportFormatEnum.fromValue(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .body(this.productStreamService.streamProducts(ProductTypeEnum.MUSIC, exportFormat, fields));
     }
 
     // SINGLE MUSIC View
     @GetMapping("/user/music/{id}")
-    public ResponseEntity<? extends BaseProduct> getMusicById(@PathVariable UUID id) {
-        return ResponseEntity.ok(this.productRESTService.getProduct(id, "MUSIC"));
+    public ResponseEntity<? extends BaseProduct> getMusicById(@PathVariable UUID id, WebRequest webRequest) {
+        if (this.productVersionService.checkProductNotModified(webRequest, ProductTypeEnum.MUSIC, id)) {
+            return null;
+        }
+        return ResponseEntity.ok(this.productRESTService.getProduct(id));
     }
 
     // ADD MUSIC
@@ -44,10 +89,17 @@ public class MusicRESTController {
                 .body(savedMusic);
     }
 
+    // BULK ADD MUSIC, from a CSV file with a header row or from NDJSON, one product per line
+    @PostMapping(value = "/admin/music/bulk", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ProductImportReportDTO> importMusic(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                              InputStream inputStream) throws IOException {
+        return ResponseEntity.ok(this.productImportService.importProducts(ProductTypeEnum.MUSIC, contentType, inputStream));
+    }
+
     // DELETE MUSIC
     @DeleteMapping("/admin/music/{id}")
     public ResponseEntity<Music> deleteMusic(@PathVariable UUID id) {
-        this.productRESTService.deleteProduct(id, "MUSIC");
+        this.productRESTService.deleteProduct(id);
         return ResponseEntity
                 .noContent()
                 .build();
@@ -0,0 +1,43 @@
+package com.project.EpicByte.web.RESTControllers;
+
+import com.project.EpicByte.model.dto.ProductSuggestionDTO;
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.service.ProductSearchService;
+import com.project.EpicByte.service.ProductSuggestService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/user")
+public class SearchRESTController {
+    private final ProductSearchService productSearchService;
+    private final ProductSuggestService productSuggestService;
+
+    @Autowired
+    public SearchRESTController(ProductSearchService productSearchService, ProductSuggestService productSuggestService) {
+        this.productSearchService = productSearchService;
+        this.productSuggestService = productSuggestService;
+    }
+
+    // SEARCH all product types, or only one with "type" (BOOK, TEXTBOOK, MOVIE, MUSIC, TOY), best matches first
+    @GetMapping("/search")
+    public ResponseEntity<List<BaseProduct>> search(@RequestParam(name = "q") String query,
+            @RequestParam(name = "type", required = false) ProductTypeEnum productType,
+            @RequestParam(name = "size", required = false) Integer size) {
+        return ResponseEntity.ok(this.productSearchService.search(query, productType, size));
+    }
+
+    // SUGGEST product names starting with "q" (or with a word starting with "q") while typing in the search box
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggestionDTO>> suggest(@RequestParam(name = "q") String prefix,
+            @RequestParam(name = "size", required = false) Integer size) {
+        return ResponseEntity.ok(this.productSuggestService.suggest(prefix, size));
+    }
+}
@@ -1,38 +1,83 @@
 package com.project.EpicByte.web.RESTControllers;
 
+import com.project.EpicByte.model.dto.ProductImportReportDTO;
 import com.project.EpicByte.model.dto.productDTOs.TextbookAddDTO;
 import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.enums.ExportFormatEnum;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
 import com.project.EpicByte.model.entity.productEntities.Textbook;
+import com.project.EpicByte.service.ProductImportService;
 import com.project.EpicByte.service.ProductRESTService;
+import com.project.EpicByte.service.ProductStreamService;
+import com.project.EpicByte.service.ProductVersionService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api")
 public class TextbooksRESTController {
     private final ProductRESTService productRESTService;
+    private final ProductStreamService productStreamService;
+    private final ProductVersionService productVersionService;
+    private final ProductImportService productImportService;
 
     @Autowired
-    public TextbooksRESTController(ProductRESTService productRESTService) {
+    public TextbooksRESTController(ProductRESTService productRESTService,
+                                   ProductStreamService productStreamService,
+                                   ProductVersionService productVersionService,
+                                   ProductImportService productImportService) {
         this.productRESTService = productRESTService;
+        this.productStreamService = productStreamService;
+        this.productVersionService = productVersionService;
+        this.productImportService = productImportService;
     }
 
     // ALL TEXTBOOKS View
     @GetMapping("/user/textbooks")
-    public ResponseEntity<List<? extends BaseProduct>> getAllTextbooks() {
-        return ResponseEntity.ok(this.productRESTService.getAll("TEXTBOOKS"));
+    public ResponseEntity<?> getAllTextbooks(@RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "fields", required = false) String fields,
+            WebRequest webRequest) {
+        if (this.productVersionService.checkListingNotModified(webRequest, ProductTypeEnum.TEXTBOOK)) {
+            return null;
+        }
+
+        // Only the listed fields, e.g. "fields=id,productName,productPrice", selected by a projection query
+        if (fields != null && !fields.isBlank()) {
+            return ResponseEntity.ok(this.productRESTService.getFieldsPage(ProductTypeEnum.TEXTBOOK, sort, after, size, fields));
+        }
+        return ResponseEntity.ok(this.productRESTService.getPage(ProductTypeEnum.TEXTBOOK, sort, after, size));
+    }
+
+    // ALL TEXTBOOKS export, streamed as a JSON array or as NDJSON ("format=ndjson"), optionally with only some "fields"
+    @GetMapping("/user/textbooks/export")
+    public ResponseEntity<StreamingResponseBody> exportTextbooks(@RequestParam(name = "format", required = false) String format,
+                                                             @RequestParam(name = "fields", required = false) String fields) {
+        ExportFormatEnum exportFormat = ExportFormatEnum.fromValue(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .body(this.productStreamService.streamProducts(ProductTypeEnum.TEXTBOOK, exportFormat, fields));
     }
 
     // SINGLE TEXTBOOK View
     @GetMapping("/user/textbooks/{id}")
-    public ResponseEntity<? extends BaseProduct> getTextbookById(@PathVariable UUID id) {
-        return ResponseEntity.ok(this.productRESTService.getProduct(id, "TEXTBOOKS"));
+    public ResponseEntity<? extends BaseProduct> getTextbookById(@PathVariable UUID id, WebRequest webRequest) {
+        if (this.productVersionService.checkProductNotModified(webRequest, ProductTypeEnum.TEXTBOOK, id)) {
+            return null;
+        }
+        return ResponseEntity.ok(this.productRESTService.getProduct(id));
     }
 
     // ADD TEXTBOOK
@@ -44,10 +89,17 @@ public class TextbooksRESTController {
                 .body(savedTextbook);
     }
 
+    // BULK ADD TEXTBOOKS, from a CSV file with a header row or from NDJSON, one product per line
+    @PostMapping(value = "/admin/textbooks/bulk", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ProductImportReportDTO> importTextbooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                              InputStream inputStream) throws IOException {
+        return ResponseEntity.ok(this.productImportService.importProducts(ProductTypeEnum.TEXTBOOK, contentType, inputStream));
+    }
+
     // DELETE TEXTBOOK
     @DeleteMapping("/admin/textbooks/{id}")
     public ResponseEntity<Textbook> deleteTextbook(@PathVariable UUID id) {
-        this.productRESTService.deleteProduct(id, "TEXTBOOKS");
+        this.productRESTService.deleteProduct(id);
         return ResponseEntity
                 .noContent()
                 .build();
@@ -1,15 +1,18 @@
 package com.project.EpicByte.web.RESTControllers;
 
+import com.project.EpicByte.model.dto.RESTDTOs.UserRESTPageDTO;
 import com.project.EpicByte.model.dto.RESTDTOs.UserRESTViewDTO;
+import com.project.EpicByte.model.entity.enums.ExportFormatEnum;
 import com.project.EpicByte.service.UserRESTService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -22,13 +25,23 @@ public class UserRESTController {
         this.userRESTService = userRESTService;
     }
 
-    // GET all users from the database
+    // GET a page of users from the database, "after" is the nextCursor of the previous page
     @GetMapping("/users")
-    public ResponseEntity<List<UserRESTViewDTO>> getAllUsers() {
-        List<UserRESTViewDTO> users = userRESTService.getAllUsers();
+    public ResponseEntity<UserRESTPageDTO> getAllUsers(@RequestParam(name = "after", required = false) String after,
+                                                       @RequestParam(name = "size", required = false) Integer size) {
+        UserRESTPageDTO users = userRESTService.getUsersPage(after, size);
         return ResponseEntity.ok(users);
     }
 
+    // GET all users, streamed as a JSON array or as NDJSON ("format=ndjson")
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(name = "format", required = false) String format) {
+        ExportFormatEnum exportFormat = ExportFormatEnum.fromValue(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .body(userRESTService.streamUsers(exportFormat));
+    }
+
     // GET a single user from the database
     @GetMapping("/users/{id}")
     public ResponseEntity<UserRESTViewDTO> getUserById(@PathVariable UUID id) {
@@ -0,0 +1,26 @@
+package com.project.EpicByte.web;
+
+import com.project.EpicByte.service.ProductSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import static com.project.EpicByte.util.Constants.*;
+
+@Controller
+public class SearchController {
+    private final ProductSearchService productSearchService;
+
+    @Autowired
+    public SearchController(ProductSearchService productSearchService) {
+        this.productSearchService = productSearchService;
+    }
+
+    // Display the products matching the search bar query, across all product types
+    @GetMapping(SEARCH_URL)
+    public String displaySearchResultsPage(Model model, @RequestParam(name = "q", required = false) String query) {
+        return this.productSearchService.displaySearchResultsPage(model, query);
+    }
+}
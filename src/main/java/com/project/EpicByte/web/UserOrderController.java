@@ -1,14 +1,23 @@
 package com.project.EpicByte.web;
 
+import com.project.EpicByte.model.entity.enums.OrderExportFormatEnum;
 import com.project.EpicByte.service.UserOrderService;
+import com.project.EpicByte.service.UserOrderStreamService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.Principal;
+import java.time.LocalDate;
 import java.util.UUID;
 
 import static com.project.EpicByte.util.Constants.*;
@@ -16,20 +25,40 @@ import static com.project.EpicByte.util.Constants.*;
 @Controller
 public class UserOrderController {
     private final UserOrderService userOrderService;
+    private final UserOrderStreamService userOrderStreamService;
 
     @Autowired
-    public UserOrderController(UserOrderService userOrderService) {
+    public UserOrderController(UserOrderService userOrderService, UserOrderStreamService userOrderStreamService) {
         this.userOrderService = userOrderService;
+        this.userOrderStreamService = userOrderStreamService;
     }
 
     @GetMapping(USER_ORDERS_URL)
-    public String displayUserOrdersPage(Model model, Principal principal) {
-        return this.userOrderService.displayUserOrders(model, principal);
+    public String displayUserOrdersPage(Model model, Principal principal,
+                                        @RequestParam(value = "after", required = false) String after) {
+        return this.userOrderService.displayUserOrders(model, principal, after);
     }
 
     @GetMapping(MODERATOR_ORDERS_URL)
-    public String displayAdminOrdersPage(Model model) {
-        return this.userOrderService.displayAdminAllUserOrders(model);
+    public String displayAdminOrdersPage(Model model,
+                                         @RequestParam(value = "after", required = false) String after) {
+        return this.userOrderService.displayAdminAllUserOrders(model, after);
+    }
+
+    // Orders ordered between the two dates (both included), complete, open or all of them, as CSV or NDJSON
+    @GetMapping(MODERATOR_ORDERS_EXPORT_URL)
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateFrom,
+                                                              @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dateTo,
+                                                              @RequestParam(value = "complete", required = false) Boolean complete,
+                                                              @RequestParam(value = "format", required = false) String format) {
+        OrderExportFormatEnum exportFormat = OrderExportFormatEnum.fromValue(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders." + exportFormat.getValue())
+                        .build()
+                        .toString())
+                .body(this.userOrderStreamService.streamOrders(dateFrom, dateTo, complete, exportFormat));
     }
 
     @PostMapping(MODERATOR_ORDER_COMPLETE_URL + "{id}")
@@ -1,14 +1,18 @@
 package com.project.EpicByte.web.productControllers;
 
 import com.project.EpicByte.model.dto.productDTOs.BookAddDTO;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.service.ProductVersionService;
 import com.project.EpicByte.service.productServices.BookService;
 import com.project.EpicByte.util.Breadcrumbs;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -17,22 +21,33 @@ import static com.project.EpicByte.util.Constants.*;
 @Controller
 public class BookController extends Breadcrumbs {
     private final BookService bookService;
+    private final ProductVersionService productVersionService;
 
     @Autowired
-    public BookController(BookService bookService) {
+    public BookController(BookService bookService, ProductVersionService productVersionService) {
         this.bookService = bookService;
+        this.productVersionService = productVersionService;
     }
 
     // Display detailed single Book entity page
     @GetMapping("/book" + PRODUCT_DETAILS_URL + "/{id}")
-    public String viewBookProductDetails(@PathVariable UUID id, Model model) {
+    public String viewBookProductDetails(@PathVariable UUID id, Model model, WebRequest webRequest) {
+        if (this.productVersionService.checkProductPageNotModified(webRequest, ProductTypeEnum.BOOK, id)) {
+            return null;
+        }
         return this.bookService.displayDetailedViewBookPage(id, model);
     }
 
     // Display all Books page
     @GetMapping(ALL_BOOKS_URL)
-    public String displayBooksPage(Model model, @RequestParam(name = "sort", required = false) String sort) {
-        return this.bookService.displayAllBooksPage(model, sort);
+    public String displayBooksPage(Model model, @RequestParam(name = "sort", required = false) String sort,
+                              @RequestParam(name = "after", required = false) String after,
+                              @RequestParam MultiValueMap<String, String> filters,
+                              WebRequest webRequest) {
+        if (this.productVersionService.checkListingPageNotModified(webRequest, ProductTypeEnum.BOOK)) {
+            return null;
+        }
+        return this.bookService.displayAllBooksPage(model, sort, after, filters);
     }
 
     // Display Add Book page
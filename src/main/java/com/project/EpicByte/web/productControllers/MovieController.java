@@ -1,13 +1,17 @@
 package com.project.EpicByte.web.productControllers;
 
 import com.project.EpicByte.model.dto.productDTOs.MovieAddDTO;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.service.ProductVersionService;
 import com.project.EpicByte.service.productServices.MovieService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -16,22 +20,33 @@ import static com.project.EpicByte.util.Constants.*;
 @Controller
 public class MovieController {
     private final MovieService movieService;
+    private final ProductVersionService productVersionService;
 
     @Autowired
-    public MovieController(MovieService movieService) {
+    public MovieController(MovieService movieService, ProductVersionService productVersionService) {
         this.movieService = movieService;
+        this.productVersionService = productVersionService;
     }
 
     // Display detailed single Movie entity page
     @GetMapping("/movie" + PRODUCT_DETAILS_URL + "/{id}")
-    public String viewMovieProductDetails(@PathVariable UUID id, Model model) {
+    public String viewMovieProductDetails(@PathVariable UUID id, Model model, WebRequest webRequest) {
+        if (this.productVersionService.checkProductPageNotModified(webRequest, ProductTypeEnum.MOVIE, id)) {
+            return null;
+        }
         return movieService.displayDetailedViewMoviePage(id, model);
     }
 
     // Display all Movies page
     @GetMapping(ALL_MOVIES_URL)
-    public String displayMoviePage(Model model, @RequestParam(name = "sort", required = false) String sort) {
-        return this.movieService.displayAllMoviesPage(model, sort);
+    public String displayMoviePage(Model model, @RequestParam(name = "sort", required = false) String sort,
+                              @RequestParam(name = "after", required = false) String after,
+                              @RequestParam MultiValueMap<String, String> filters,
+                              WebRequest webRequest) {
+        if (this.productVersionService.checkListingPageNotModified(webRequest, ProductTypeEnum.MOVIE)) {
+            return null;
+        }
+        return this.movieService.displayAllMoviesPage(model, sort, after, filters);
     }
 
     // Display Add Movie page
@@ -1,13 +1,17 @@
 package com.project.EpicByte.web.productControllers;
 
 import com.project.EpicByte.model.dto.productDTOs.MusicAddDTO;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.service.ProductVersionService;
 import com.project.EpicByte.service.productServices.MusicService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -16,22 +20,33 @@ import static com.project.EpicByte.util.Constants.*;
 @Controller
 public class MusicController {
     private final MusicService musicService;
+    private final ProductVersionService productVersionService;
 
     @Autowired
-    public MusicController(MusicService musicService) {
+    public MusicController(MusicService musicService, ProductVersionService productVersionService) {
         this.musicService = musicService;
+        this.productVersionService = productVersionService;
     }
 
     // Display detailed single Music entity page
     @GetMapping("/music" + PRODUCT_DETAILS_URL + "/{id}")
-    public String viewMusicProductDetails(@PathVariable UUID id, Model model) {
+    public String viewMusicProductDetails(@PathVariable UUID id, Model model, WebRequest webRequest) {
+        if (this.productVersionService.checkProductPageNotModified(webRequest, ProductTypeEnum.MUSIC, id)) {
+            return null;
+        }
         return musicService.displayDetailedViewMusicPage(id, model);
     }
 
     // Display all Music page
     @GetMapping(ALL_MUSIC_URL)
-    public String displayMusicPage(Model model, @RequestParam(name = "sort", required = false) String sort) {
-        return this.musicService.displayAllMusicPage(model, sort);
+    public String displayMusicPage(Model model, @RequestParam(name = "sort", required = false) String sort,
+                              @RequestParam(name = "after", required = false) String after,
+                              @RequestParam MultiValueMap<String, String> filters,
+                              WebRequest webRequest) {
+        if (this.productVersionService.checkListingPageNotModified(webRequest, ProductTypeEnum.MUSIC)) {
+            return null;
+        }
+        return this.musicService.displayAllMusicPage(model, sort, after, filters);
     }
 
     // Display Add Music page
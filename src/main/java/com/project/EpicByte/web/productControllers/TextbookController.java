@@ -1,13 +1,17 @@
 package com.project.EpicByte.web.productControllers;
 
 import com.project.EpicByte.model.dto.productDTOs.TextbookAddDTO;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.service.ProductVersionService;
 import com.project.EpicByte.service.productServices.TextbookService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -16,22 +20,33 @@ import static com.project.EpicByte.util.Constants.*;
 @Controller
 public class TextbookController {
     private final TextbookService textbookService;
+    private final ProductVersionService productVersionService;
 
     @Autowired
-    public TextbookController(TextbookService textbookService) {
+    public TextbookController(TextbookService textbookService, ProductVersionService productVersionService) {
         this.textbookService = textbookService;
+        this.productVersionService = productVersionService;
     }
 
     // Display detailed single Textbook entity page
     @GetMapping("/textbook" + PRODUCT_DETAILS_URL + "/{id}")
-    public String viewTextbookProductDetails(@PathVariable UUID id, Model model) {
+    public String viewTextbookProductDetails(@PathVariable UUID id, Model model, WebRequest webRequest) {
+        if (this.productVersionService.checkProductPageNotModified(webRequest, ProductTypeEnum.TEXTBOOK, id)) {
+            return null;
+        }
         return textbookService.displayDetailedViewTextbookPage(id, model);
     }
 
     // Display all Textbooks page
     @GetMapping(ALL_TEXTBOOKS_URL)
-    public String displayTextbooksPage(Model model, @RequestParam(name = "sort", required = false) String sort) {
-        return this.textbookService.displayAllTextbooksPage(model, sort);
+    public String displayTextbooksPage(Model model, @RequestParam(name = "sort", required = false) String sort,
+                              @RequestParam(name = "after", required = false) String after,
+                              @RequestParam MultiValueMap<String, String> filters,
+                              WebRequest webRequest) {
+        if (this.productVersionService.checkListingPageNotModified(webRequest, ProductTypeEnum.TEXTBOOK)) {
+            return null;
+        }
+        return this.textbookService.displayAllTextbooksPage(model, sort, after, filters);
     }
 
     // Display Add Textbook page
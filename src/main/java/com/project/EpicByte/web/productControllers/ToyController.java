@@ -1,13 +1,17 @@
 package com.project.EpicByte.web.productControllers;
 
 import com.project.EpicByte.model.dto.productDTOs.ToyAddDTO;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.service.ProductVersionService;
 import com.project.EpicByte.service.productServices.ToyService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.MultiValueMap;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -16,21 +20,32 @@ import static com.project.EpicByte.util.Constants.*;
 @Controller
 public class ToyController {
     private final ToyService toyService;
+    private final ProductVersionService productVersionService;
 
     @Autowired
-    public ToyController(ToyService toyService) {
+    public ToyController(ToyService toyService, ProductVersionService productVersionService) {
         this.toyService = toyService;
+        this.productVersionService = productVersionService;
     }
 
     // Display detailed single Music entity page
     @GetMapping("/toy" + PRODUCT_DETAILS_URL + "/{id}")
-    public String viewToyProductDetails(@PathVariable UUID id, Model model) {
+    public String viewToyProductDetails(@PathVariable UUID id, Model model, WebRequest webRequest) {
+        if (this.productVersionService.checkProductPageNotModified(webRequest, ProductTypeEnum.TOY, id)) {
+            return null;
+        }
         return this.toyService.displayDetailedViewToyPage(id,model);
     }
 
     @GetMapping(ALL_TOYS_URL)
-    public String displayToysPage(Model model, @RequestParam(name = "sort", required = false) String sort) {
-        return this.toyService.displayAllToysPage(model, sort);
+    public String displayToysPage(Model model, @RequestParam(name = "sort", required = false) String sort,
+                              @RequestParam(name = "after", required = false) String after,
+                              @RequestParam MultiValueMap<String, String> filters,
+                              WebRequest webRequest) {
+        if (this.productVersionService.checkListingPageNotModified(webRequest, ProductTypeEnum.TOY)) {
+            return null;
+        }
+        return this.toyService.displayAllToysPage(model, sort, after, filters);
     }
 
     // Display Add Toy page
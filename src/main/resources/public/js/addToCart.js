@@ -6,14 +6,12 @@ $(document).ready(function () {
                 event.preventDefault();
 
                 const productId = $(this).attr('data-product-id');
-                const productType = $(this).attr('data-product-type');
                 const csrfToken = $('meta[name="_csrf"]').attr('content');
                 const successMessage = $(this).attr('data-success-message');
                 const failMessage = $(this).attr('data-fail-message');
 
                 const data = {
-                        productId: productId,
-                        productType: productType
+                        productId: productId
                 };
 
                 $.ajax({
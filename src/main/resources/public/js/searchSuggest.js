@@ -0,0 +1,32 @@
+/*<![CDATA[*/
+$(document).ready(function () {
+        const $searchInput = $('.search-input');
+        const $suggestions = $('#search-suggestions');
+        let pendingRequest = null;
+        let timer = null;
+
+        $searchInput.on('input', function () {
+                const prefix = $(this).val().trim();
+                clearTimeout(timer);
+
+                if (prefix.length < 2) {
+                        $suggestions.empty();
+                        return;
+                }
+
+                // Wait for a short pause in typing, and drop the answer to a prefix that is no longer in the box
+                timer = setTimeout(function () {
+                        if (pendingRequest !== null) {
+                                pendingRequest.abort();
+                        }
+
+                        pendingRequest = $.getJSON('/api/user/suggest', {q: prefix}, function (products) {
+                                $suggestions.empty();
+                                products.forEach(function (product) {
+                                        $suggestions.append($('<option></option>').attr('value', product.productName));
+                                });
+                        });
+                }, 150);
+        });
+});
+/*]]>*/
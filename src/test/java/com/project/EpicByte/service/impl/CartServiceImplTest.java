@@ -0,0 +1,222 @@
+package com.project.EpicByte.service.impl;
+
+import com.project.EpicByte.model.dto.productDTOs.OrderAddressDTO;
+import com.project.EpicByte.model.entity.UserEntity;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.model.entity.enums.UserRolesEnum;
+import com.project.EpicByte.model.entity.productEntities.Toy;
+import com.project.EpicByte.repository.UserOrderRepository;
+import com.project.EpicByte.repository.UserRepository;
+import com.project.EpicByte.repository.UserRoleRepository;
+import com.project.EpicByte.repository.productRepositories.ToyRepository;
+import com.project.EpicByte.service.CartService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.DataBinder;
+
+import java.math.BigDecimal;
+import java.security.Principal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static com.project.EpicByte.util.Constants.CART_CHECKOUT_HTML;
+import static com.project.EpicByte.util.Constants.DISPLAY_TEXT_HTML;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checkout is bound to the form it was priced on: a repeated form places its order once,
+ * a form priced at an older cart version is shown again newly priced, and a form without its token or version is never placed.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:epicbyte_cart_test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "images.storage=local"
+})
+class CartServiceImplTest {
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private UserOrderRepository userOrderRepository;
+
+    @Autowired
+    private ToyRepository toyRepository;
+
+    private Principal principal;
+    private UserEntity user;
+
+    @BeforeEach
+    void createCustomerWithCart() {
+        String username = "cart-test-" + UUID.randomUUID();
+        this.principal = () -> username;
+
+        this.user = new UserEntity();
+        this.user.setUsername(username);
+        this.user.setPassword("test");
+        this.user.setEmail(username + "@example.com");
+        this.user.setFirstName("Test");
+        this.user.setLastName("User");
+        this.user.setTermsAndConditionsAgreed(true);
+        this.user.getRoles().add(this.userRoleRepository.findUserRoleByRole(UserRolesEnum.USER));
+        this.userRepository.save(this.user);
+
+        Toy toy = new Toy();
+        toy.setProductType(ProductTypeEnum.TOY);
+        toy.setProductName("Test toy");
+        toy.setProductPrice(BigDecimal.TEN);
+        toy.setProductImageUrl("https://example.com/images/toy.jpg");
+        toy.setDateCreated(LocalDate.now());
+        toy.setBrand("Test");
+        this.toyRepository.save(toy);
+
+        this.cartService.addProductToCart(Map.of("productId", toy.getId()), this.principal);
+    }
+
+    @Test
+    void repeatedFormPlacesOneOrder() {
+        OrderAddressDTO form = checkoutForm();
+        OrderAddressDTO repeatedForm = copy(form);
+
+        assertEquals(DISPLAY_TEXT_HTML, confirm(form, new ExtendedModelMap()));
+        assertEquals(DISPLAY_TEXT_HTML, confirm(repeatedForm, new ExtendedModelMap()));
+
+        assertEquals(1, countOrders());
+    }
+
+    @Test
+    void concurrentlyRepeatedFormPlacesOneOrder() throws Exception {
+        OrderAddressDTO form = checkoutForm();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<String>> views = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                OrderAddressDTO submittedForm = copy(form);
+                views.add(executor.submit(() -> {
+                    start.await();
+                    return confirm(submittedForm, new ExtendedModelMap());
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> view : views) {
+                assertEquals(DISPLAY_TEXT_HTML, view.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, countOrders());
+    }
+
+    @Test
+    void staleCartVersionShowsTheNewlyPricedCart() {
+        OrderAddressDTO form = checkoutForm();
+        // The cart changes in another tab after the checkout page was rendered
+        this.userRepository.incrementCartVersion(this.user.getId());
+
+        ExtendedModelMap model = new ExtendedModelMap();
+        assertEquals(CART_CHECKOUT_HTML, confirm(form, model));
+        assertEquals(Boolean.TRUE, model.get("cartChanged"));
+        assertEquals(0, countOrders());
+
+        // The re-rendered form carries the current version and the same token, confirming it places the order
+        OrderAddressDTO renderedForm = (OrderAddressDTO) model.get("orderAddressDTO");
+        assertEquals(form.getIdempotencyKey(), renderedForm.getIdempotencyKey());
+        assertEquals(DISPLAY_TEXT_HTML, confirm(renderedForm, new ExtendedModelMap()));
+        assertEquals(1, countOrders());
+    }
+
+    @Test
+    void formWithoutTokenOrVersionIsNotPlaced() {
+        OrderAddressDTO withoutKey = checkoutForm();
+        withoutKey.setIdempotencyKey(null);
+        OrderAddressDTO withoutVersion = checkoutForm();
+        withoutVersion.setCartVersion(null);
+
+        for (OrderAddressDTO form : List.of(withoutKey, withoutVersion)) {
+            ExtendedModelMap model = new ExtendedModelMap();
+            assertEquals(CART_CHECKOUT_HTML, confirm(form, model));
+            assertEquals(Boolean.TRUE, model.get("cartChanged"));
+
+            OrderAddressDTO renderedForm = (OrderAddressDTO) model.get("orderAddressDTO");
+            assertNotNull(renderedForm.getIdempotencyKey());
+            assertEquals(currentCartVersion(), renderedForm.getCartVersion());
+        }
+        assertEquals(0, countOrders());
+    }
+
+    @Test
+    void formWithMalformedTokenIsNotPlaced() {
+        OrderAddressDTO form = new OrderAddressDTO();
+        DataBinder binder = new DataBinder(form, "orderAddressDTO");
+        MutablePropertyValues values = new MutablePropertyValues();
+        values.add("city", "Sofia");
+        values.add("neighborhood", "Center");
+        values.add("address", "Test street");
+        values.add("idempotencyKey", "not-a-uuid");
+        values.add("cartVersion", currentCartVersion());
+        binder.bind(values);
+
+        ExtendedModelMap model = new ExtendedModelMap();
+        assertEquals(CART_CHECKOUT_HTML, this.cartService.confirmCheckout(form, binder.getBindingResult(), this.principal, model));
+        assertEquals(0, countOrders());
+    }
+
+    // The hidden fields as the checkout page renders them
+    private OrderAddressDTO checkoutForm() {
+        ExtendedModelMap model = new ExtendedModelMap();
+        assertEquals(CART_CHECKOUT_HTML, this.cartService.showCartCheckoutPage(this.principal, model));
+
+        OrderAddressDTO form = (OrderAddressDTO) model.get("orderAddressDTO");
+        form.setCity("Sofia");
+        form.setNeighborhood("Center");
+        form.setAddress("Test street");
+        return form;
+    }
+
+    private String confirm(OrderAddressDTO form, ExtendedModelMap model) {
+        return this.cartService.confirmCheckout(form, new BeanPropertyBindingResult(form, "orderAddressDTO"), this.principal, model);
+    }
+
+    private long countOrders() {
+        return this.userOrderRepository.findAll().stream()
+                .filter(order -> order.getUser().getId().equals(this.user.getId()))
+                .count();
+    }
+
+    private long currentCartVersion() {
+        return this.userRepository.findUserEntityByUsername(this.principal.getName()).getCartVersion();
+    }
+
+    private static OrderAddressDTO copy(OrderAddressDTO form) {
+        OrderAddressDTO copy = new OrderAddressDTO();
+        copy.setCity(form.getCity());
+        copy.setNeighborhood(form.getNeighborhood());
+        copy.setAddress(form.getAddress());
+        copy.setIdempotencyKey(form.getIdempotencyKey());
+        copy.setCartVersion(form.getCartVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,173 @@
+package com.project.EpicByte.service.impl.RESTServices;
+
+import com.project.EpicByte.model.dto.RESTDTOs.UserRESTPageDTO;
+import com.project.EpicByte.model.dto.RESTDTOs.UserRESTViewDTO;
+import com.project.EpicByte.model.entity.BaseProduct;
+import com.project.EpicByte.model.entity.UserEntity;
+import com.project.EpicByte.model.entity.UserOrder;
+import com.project.EpicByte.model.entity.enums.ProductTypeEnum;
+import com.project.EpicByte.model.entity.enums.UserRolesEnum;
+import com.project.EpicByte.model.entity.productEntities.CartItem;
+import com.project.EpicByte.model.entity.productEntities.OrderItem;
+import com.project.EpicByte.model.entity.productEntities.Toy;
+import com.project.EpicByte.repository.UserRepository;
+import com.project.EpicByte.repository.UserRoleRepository;
+import com.project.EpicByte.repository.productRepositories.ToyRepository;
+import com.project.EpicByte.service.UserRESTService;
+import com.project.EpicByte.util.QueryCounter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.project.EpicByte.util.Constants.USERS_MAX_PAGE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A page of the admin users endpoint takes the same queries whatever its size and whatever the users hold:
+ * the page of ids, the users with their roles, their cart items with products and their orders with order items.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:epicbyte_test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.project.EpicByte.util.QueryCounter",
+        "images.storage=local"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserRESTServiceImplTest {
+    private static final int QUERIES_PER_PAGE = 4;
+    private static final int USERS = USERS_MAX_PAGE_SIZE + 5;
+    private static final int CART_ITEMS = 2;
+    private static final int ORDERS = 2;
+    private static final int ORDER_ITEMS = 3;
+
+    @Autowired
+    private UserRESTService userRESTService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private ToyRepository toyRepository;
+
+    @BeforeAll
+    void createUsers() {
+        List<Toy> toys = new ArrayList<>();
+        for (int i = 0; i < CART_ITEMS; i++) {
+            toys.add(createToy(i));
+        }
+        this.toyRepository.saveAll(toys);
+
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(createUser(i, toys));
+        }
+        this.userRepository.saveAll(users);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, USERS_MAX_PAGE_SIZE})
+    void usersPageTakesFourQueries(int size) {
+        QueryCounter.reset();
+        UserRESTPageDTO page = this.userRESTService.getUsersPage(null, size);
+        int queries = QueryCounter.count();
+
+        assertEquals(size, page.getContent().size());
+        assertTrue(page.isHasNext());
+        for (UserRESTViewDTO user : page.getContent()) {
+            assertEquals(1, user.getRoles().size());
+            assertEquals(CART_ITEMS, user.getCartItems().size());
+            assertEquals(ORDERS, user.getUserOrders().size());
+            user.getUserOrders().forEach(order -> assertEquals(ORDER_ITEMS, order.getOrderItems().size()));
+        }
+        assertEquals(QUERIES_PER_PAGE, queries, "Queries for a page of " + size + " users");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, USERS_MAX_PAGE_SIZE})
+    void nextUsersPageTakesFourQueries(int size) {
+        UserRESTPageDTO firstPage = this.userRESTService.getUsersPage(null, 1);
+
+        QueryCounter.reset();
+        UserRESTPageDTO page = this.userRESTService.getUsersPage(firstPage.getNextCursor(), size);
+        int queries = QueryCounter.count();
+
+        assertEquals(size, page.getContent().size());
+        assertEquals(QUERIES_PER_PAGE, queries, "Queries for a next page of " + size + " users");
+    }
+
+    private static Toy createToy(int index) {
+        Toy toy = new Toy();
+        toy.setProductType(ProductTypeEnum.TOY);
+        toy.setProductName("Test toy " + index);
+        toy.setProductPrice(BigDecimal.TEN);
+        toy.setProductImageUrl("https://example.com/images/" + index + ".jpg");
+        toy.setDateCreated(LocalDate.now());
+        toy.setBrand("Test");
+        return toy;
+    }
+
+    private UserEntity createUser(int index, List<Toy> toys) {
+        UserEntity user = new UserEntity();
+        user.setUsername("rest-test-" + index);
+        user.setPassword("test");
+        user.setEmail("rest-test-" + index + "@example.com");
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setTermsAndConditionsAgreed(true);
+        user.getRoles().add(this.userRoleRepository.findUserRoleByRole(UserRolesEnum.USER));
+
+        for (BaseProduct product : toys) {
+            CartItem cartItem = new CartItem();
+            cartItem.setUser(user);
+            cartItem.setProduct(product);
+            cartItem.setQuantity(1);
+            user.getCartItems().add(cartItem);
+        }
+
+        for (int i = 0; i < ORDERS; i++) {
+            user.getUserOrders().add(createOrder(user, i));
+        }
+        return user;
+    }
+
+    private static UserOrder createOrder(UserEntity user, int index) {
+        UserOrder order = new UserOrder();
+        order.setUser(user);
+        order.setOrderDate(LocalDate.now().minusDays(index));
+        order.setCity("Sofia");
+        order.setNeighborhood("Center");
+        order.setAddress("Test street " + index);
+        order.setTotalCost(BigDecimal.TEN.multiply(BigDecimal.valueOf(ORDER_ITEMS)));
+
+        for (int i = 0; i < ORDER_ITEMS; i++) {
+            OrderItem orderItem = new OrderItem();
+            orderItem.setId(UUID.randomUUID());
+            orderItem.setProductType(ProductTypeEnum.TOY);
+            orderItem.setProductName("Test toy " + i);
+            orderItem.setProductPrice(BigDecimal.TEN);
+            orderItem.setQuantity(1);
+            orderItem.setTotalProductPrice(BigDecimal.TEN);
+            orderItem.setUserOrder(order);
+            order.getOrderItems().add(orderItem);
+        }
+        return order;
+    }
+}